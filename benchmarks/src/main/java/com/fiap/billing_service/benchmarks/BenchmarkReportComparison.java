@@ -0,0 +1,94 @@
+package com.fiap.billing_service.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON reports (see the {@code benchmark} Makefile target) and prints, per
+ * benchmark, the time per operation and the bytes allocated per operation recorded by {@code -prof
+ * gc}. Exits with status 1 when any of them grew by more than the threshold.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar \
+ *   com.fiap.billing_service.benchmarks.BenchmarkReportComparison base.json current.json [10]
+ * </pre>
+ */
+public final class BenchmarkReportComparison {
+
+  private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+  private BenchmarkReportComparison() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println(
+          "usage: BenchmarkReportComparison <base.json> <current.json> [threshold %]");
+      System.exit(2);
+    }
+    double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+    Map<String, Result> base = read(new File(args[0]));
+    Map<String, Result> current = read(new File(args[1]));
+
+    boolean regression = false;
+    System.out.printf(
+        "%-60s %14s %14s %8s %12s %12s %8s%n",
+        "Benchmark", "base", "current", "time", "base B/op", "B/op", "alloc");
+    for (Map.Entry<String, Result> entry : current.entrySet()) {
+      Result now = entry.getValue();
+      Result before = base.get(entry.getKey());
+      if (before == null) {
+        System.out.printf("%-60s %14s %14.1f %s (new)%n", entry.getKey(), "-", now.score, now.unit);
+        continue;
+      }
+      double timeChange = change(before.score, now.score);
+      double allocationChange = change(before.bytesPerOp, now.bytesPerOp);
+      boolean regressed = timeChange > threshold || allocationChange > threshold;
+      regression |= regressed;
+      System.out.printf(
+          "%-60s %14.1f %14.1f %+7.1f%% %12.0f %12.0f %+7.1f%%%s%n",
+          entry.getKey(),
+          before.score,
+          now.score,
+          timeChange,
+          before.bytesPerOp,
+          now.bytesPerOp,
+          allocationChange,
+          regressed ? "  REGRESSION" : "");
+    }
+    System.exit(regression ? 1 : 0);
+  }
+
+  private static Map<String, Result> read(File report) throws IOException {
+    Map<String, Result> results = new LinkedHashMap<>();
+    for (JsonNode run : new ObjectMapper().readTree(report)) {
+      // Class.method, without the package
+      String name = run.path("benchmark").asText();
+      StringBuilder key =
+          new StringBuilder(name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1));
+      run.path("params").properties().forEach(p -> key.append(':').append(p.getValue().asText()));
+      JsonNode primary = run.path("primaryMetric");
+      JsonNode allocation = run.path("secondaryMetrics").path(ALLOCATION_METRIC);
+      results.put(
+          key.toString(),
+          new Result(
+              primary.path("score").asDouble(),
+              primary.path("scoreUnit").asText(),
+              allocation.path("score").asDouble(Double.NaN)));
+    }
+    return results;
+  }
+
+  /** Relative change in percent; NaN when either side was not measured */
+  private static double change(double before, double now) {
+    if (Double.isNaN(before) || Double.isNaN(now) || before == 0) {
+      return Double.NaN;
+    }
+    return (now - before) / before * 100;
+  }
+
+  private record Result(double score, String unit, double bytesPerOp) {}
+}
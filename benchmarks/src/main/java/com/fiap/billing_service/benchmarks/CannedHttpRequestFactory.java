@@ -0,0 +1,99 @@
+package com.fiap.billing_service.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * {@link ClientHttpRequestFactory} answering every request with the same JSON body, so a {@code
+ * RestTemplate} runs its full serialization and mapping path without any I/O. Request bodies are
+ * written to a discarding stream.
+ */
+class CannedHttpRequestFactory implements ClientHttpRequestFactory {
+
+  private final byte[] responseBody;
+
+  CannedHttpRequestFactory(String responseBody) {
+    this.responseBody = responseBody.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+    return new CannedRequest(uri, httpMethod);
+  }
+
+  private class CannedRequest extends AbstractClientHttpRequest {
+
+    private final URI uri;
+    private final HttpMethod method;
+
+    CannedRequest(URI uri, HttpMethod method) {
+      this.uri = uri;
+      this.method = method;
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+      return method;
+    }
+
+    @Override
+    public URI getURI() {
+      return uri;
+    }
+
+    @Override
+    protected OutputStream getBodyInternal(HttpHeaders headers) {
+      return OutputStream.nullOutputStream();
+    }
+
+    @Override
+    protected ClientHttpResponse executeInternal(HttpHeaders headers) {
+      return new CannedResponse();
+    }
+  }
+
+  private class CannedResponse implements ClientHttpResponse {
+
+    private final HttpHeaders headers = new HttpHeaders();
+
+    CannedResponse() {
+      headers.setContentType(MediaType.APPLICATION_JSON);
+      headers.setContentLength(responseBody.length);
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+      return HttpStatus.OK;
+    }
+
+    @Override
+    public String getStatusText() {
+      return HttpStatus.OK.getReasonPhrase();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+
+    @Override
+    public InputStream getBody() {
+      return new ByteArrayInputStream(responseBody);
+    }
+
+    @Override
+    public void close() {}
+  }
+}
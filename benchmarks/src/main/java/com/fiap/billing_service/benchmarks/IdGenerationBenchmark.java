@@ -0,0 +1,50 @@
+package com.fiap.billing_service.benchmarks;
+
+import com.fiap.billing_service.infrastructure.adapter.out.id.UuidV7IdGenerator;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Id minting under contention: 64 threads share one generator, as the listener and web threads do.
+ *
+ * <p>{@code randomUuid} is the shared {@code SecureRandom} behind {@link UUID#randomUUID()};
+ * {@code uuidV7} is {@link UuidV7IdGenerator} with its per-thread state. {@code uuidV7String}
+ * includes the {@code toString} paid for correlation ids and gateway references.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+public class IdGenerationBenchmark {
+
+  private final UuidV7IdGenerator generator = new UuidV7IdGenerator(Clock.systemUTC());
+
+  @Benchmark
+  public UUID randomUuid() {
+    return UUID.randomUUID();
+  }
+
+  @Benchmark
+  public UUID uuidV7() {
+    return generator.newId();
+  }
+
+  @Benchmark
+  public String uuidV7String() {
+    return generator.newId().toString();
+  }
+}
@@ -0,0 +1,96 @@
+package com.fiap.billing_service.benchmarks;
+
+import com.fiap.billing_service.domain.dto.PaymentResponse;
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
+import com.fiap.billing_service.infrastructure.adapter.out.id.UuidV7IdGenerator;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.GatewayCircuit;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.MercadoPagoAdapter;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.MercadoPagoEndpoints;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.MercadoPagoOrderQueryAdapter;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Mercado Pago adapters without the network: order request building and serialization, response
+ * parsing and status mapping, against a canned Orders API response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MercadoPagoAdapterBenchmark {
+
+  static final String ORDER_RESPONSE =
+      """
+      {
+        "id": "ORD01JABCDEF0123456789",
+        "status": "action_required",
+        "status_detail": "waiting_transfer",
+        "external_reference": "order_ref_6f1c2a9e-8d1b-4f2a-9c3e-1a2b3c4d5e6f",
+        "total_amount": "150.00",
+        "payer": {"email": "test@testuser.com", "first_name": "APRO"},
+        "transactions": {
+          "payments": [
+            {
+              "id": "PAY01JABCDEF0123456789",
+              "status": "action_required",
+              "status_detail": "waiting_transfer",
+              "amount": "150.00",
+              "payment_method": {"id": "pix", "type": "bank_transfer"},
+              "point_of_interaction": {
+                "transaction_data": {
+                  "qr_code": "00020126580014br.gov.bcb.pix0136b76aa9c2-2ec4-4110-954e-ebfe34f05b61520400005303986540515.005802BR5913Test User6009SAO PAULO62070503***6304ABCD",
+                  "qr_code_base64": "iVBORw0KGgoAAAANSUhEUgAAAQAAAAEAAQMAAABmvDolAAAABlBMVEX///8AAABVwtN+AAAA",
+                  "ticket_url": "https://www.mercadopago.com.br/payments/123/ticket"
+                }
+              }
+            }
+          ]
+        }
+      }
+      """;
+
+  private MercadoPagoAdapter gateway;
+  private MercadoPagoOrderQueryAdapter orderQuery;
+  private BigDecimal amount;
+
+  @Setup
+  public void setUp() {
+    // Same converters as the application's RestTemplate bean, without I/O
+    RestTemplate restTemplate = new RestTemplate(new CannedHttpRequestFactory(ORDER_RESPONSE));
+    GatewayCircuit circuit = new GatewayCircuit(5, Duration.ofSeconds(30), Clock.systemUTC());
+    MercadoPagoEndpoints endpoints =
+        new MercadoPagoEndpoints(
+            MercadoPagoEndpoints.DEFAULT_BASE_URL, MercadoPagoEndpoints.DEFAULT_ORDERS_PATH);
+    gateway =
+        new MercadoPagoAdapter(
+            restTemplate, circuit, endpoints, new UuidV7IdGenerator(Clock.systemUTC()));
+    orderQuery = new MercadoPagoOrderQueryAdapter(restTemplate, circuit, endpoints);
+    amount = new BigDecimal("150.00");
+  }
+
+  @Benchmark
+  public PaymentResponse createOrder() {
+    return gateway.processPixPayment(amount, null, "Payment for order 42", "APRO");
+  }
+
+  @Benchmark
+  public OrderStatusSnapshot queryOrder() {
+    return orderQuery.getOrderStatus("ORD01JABCDEF0123456789");
+  }
+}
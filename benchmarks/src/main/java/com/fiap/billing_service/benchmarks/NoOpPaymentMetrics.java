@@ -0,0 +1,25 @@
+package com.fiap.billing_service.benchmarks;
+
+import com.fiap.billing_service.application.port.out.PaymentMetricsPort;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+
+/** Metrics port that records nothing, so benchmarks measure the pipeline alone */
+final class NoOpPaymentMetrics implements PaymentMetricsPort {
+
+  @Override
+  public void paymentStarted() {}
+
+  @Override
+  public void paymentFinished(PaymentStatus outcome) {}
+
+  @Override
+  public void paymentCoalesced() {}
+
+  @Override
+  public long startStage(Stage stage) {
+    return 0L;
+  }
+
+  @Override
+  public void endStage(Stage stage, long startNanos) {}
+}
@@ -0,0 +1,61 @@
+package com.fiap.billing_service.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.MercadoPagoOrderDecoder;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.MercadoPagoOrderDecoder.DecodedOrder;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.dto.MercadoPagoOrderResponse;
+import com.fiap.billing_service.infrastructure.config.JacksonConfig;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Orders API response decoding: the streaming {@link MercadoPagoOrderDecoder} against binding the
+ * whole {@link MercadoPagoOrderResponse} tree and mapping the status with a lower-cased switch, as
+ * the adapters did before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderResponseDecodingBenchmark {
+
+  private byte[] body;
+  private ObjectMapper objectMapper;
+
+  @Setup
+  public void setUp() {
+    body = MercadoPagoAdapterBenchmark.ORDER_RESPONSE.getBytes(StandardCharsets.UTF_8);
+    objectMapper = new JacksonConfig().objectMapper();
+  }
+
+  @Benchmark
+  public DecodedOrder streamingDecoder() throws Exception {
+    return MercadoPagoOrderDecoder.decode(body);
+  }
+
+  @Benchmark
+  public PaymentStatus databindAndSwitch() throws Exception {
+    MercadoPagoOrderResponse response =
+        objectMapper.readValue(body, MercadoPagoOrderResponse.class);
+    MercadoPagoOrderResponse.Payment payment = response.getTransactions().getPayments()[0];
+    return switch (payment.getStatus().toLowerCase()) {
+      case "approved", "processed", "accredited" -> PaymentStatus.APPROVED;
+      case "waiting_transfer", "cancelled" -> PaymentStatus.REJECTED;
+      case "pending", "processing" -> PaymentStatus.PROCESSING;
+      default -> PaymentStatus.REJECTED;
+    };
+  }
+}
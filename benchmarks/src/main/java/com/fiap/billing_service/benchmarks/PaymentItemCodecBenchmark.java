@@ -0,0 +1,73 @@
+package com.fiap.billing_service.benchmarks;
+
+import com.fiap.billing_service.domain.entity.Payment;
+import com.fiap.billing_service.infrastructure.adapter.out.persistence.entity.PaymentEntity;
+import com.fiap.billing_service.infrastructure.adapter.out.persistence.mapper.PaymentMapper;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Payment <-> DynamoDB item encoding: Enhanced Client bean schema against the hand-written
+ * codec in {@link PaymentMapper#toItem}/{@link PaymentMapper#fromItem}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaymentItemCodecBenchmark {
+
+  private PaymentMapper mapper;
+  private TableSchema<PaymentEntity> schema;
+  private Payment payment;
+  private Map<String, AttributeValue> item;
+
+  @Setup
+  public void setUp() {
+    mapper = new PaymentMapper();
+    // Built once, as the repository caches it
+    schema = TableSchema.fromBean(PaymentEntity.class);
+    payment =
+        new Payment(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("150.00"));
+    payment.markAsProcessing(
+        "ext-123", "ORD01JABCDEF", "pix", "00020126580014br.gov.bcb.pix", "iVBORw0KGgo=");
+    payment.markAsApproved();
+    item = mapper.toItem(payment);
+  }
+
+  @Benchmark
+  public Map<String, AttributeValue> encodeBeanSchema() {
+    return schema.itemToMap(mapper.toEntity(payment), true);
+  }
+
+  @Benchmark
+  public Map<String, AttributeValue> encodeCodec() {
+    return mapper.toItem(payment);
+  }
+
+  @Benchmark
+  public Payment decodeBeanSchema() {
+    return mapper.toDomain(schema.mapToItem(item));
+  }
+
+  @Benchmark
+  public Payment decodeCodec() {
+    return mapper.fromItem(item);
+  }
+}
@@ -0,0 +1,83 @@
+package com.fiap.billing_service.benchmarks;
+
+import com.fiap.billing_service.domain.entity.Payment;
+import com.fiap.billing_service.infrastructure.adapter.out.persistence.entity.PaymentEntity;
+import com.fiap.billing_service.infrastructure.adapter.out.persistence.mapper.PaymentMapper;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Payment <-> PaymentEntity mapping cost.
+ *
+ * <p>{@code localDateTimeRoundTrip} reproduces the conversions the entity used to do through
+ * {@code ZoneId.systemDefault()} on every mapping, as a baseline for the epoch-only path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaymentMappingBenchmark {
+
+  private PaymentMapper mapper;
+  private Payment approvedPayment;
+  private PaymentEntity approvedEntity;
+  private long createdAtEpoch;
+  private long processedAtEpoch;
+
+  @Setup
+  public void setUp() {
+    mapper = new PaymentMapper();
+    approvedPayment =
+        new Payment(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("150.00"));
+    approvedPayment.markAsProcessing(
+        "ext-123", "ORD01JABCDEF", "pix", "00020126580014br.gov.bcb.pix", "iVBORw0KGgo=");
+    approvedPayment.markAsApproved();
+    approvedEntity = mapper.toEntity(approvedPayment);
+    createdAtEpoch = approvedEntity.getCreatedAtEpoch();
+    processedAtEpoch = approvedEntity.getProcessedAtEpoch();
+  }
+
+  @Benchmark
+  public PaymentEntity toEntity() {
+    return mapper.toEntity(approvedPayment);
+  }
+
+  @Benchmark
+  public Payment toDomain() {
+    return mapper.toDomain(approvedEntity);
+  }
+
+  @Benchmark
+  public long epochRoundTrip() {
+    Instant created = Instant.ofEpochMilli(createdAtEpoch);
+    Instant processed = Instant.ofEpochMilli(processedAtEpoch);
+    return created.toEpochMilli() + processed.toEpochMilli();
+  }
+
+  @Benchmark
+  public long localDateTimeRoundTrip() {
+    LocalDateTime created =
+        LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAtEpoch), ZoneId.systemDefault());
+    LocalDateTime processed =
+        LocalDateTime.ofInstant(Instant.ofEpochMilli(processedAtEpoch), ZoneId.systemDefault());
+    return Instant.from(created.atZone(ZoneId.systemDefault())).toEpochMilli()
+        + Instant.from(processed.atZone(ZoneId.systemDefault())).toEpochMilli();
+  }
+}
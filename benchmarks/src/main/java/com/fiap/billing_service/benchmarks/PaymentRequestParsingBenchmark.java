@@ -0,0 +1,98 @@
+package com.fiap.billing_service.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.PaymentListenerDrain;
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.PaymentQueueListener;
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.SqsQueueBacklogMonitor;
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.dto.PaymentRequestDto;
+import com.fiap.billing_service.infrastructure.adapter.out.id.UuidV7IdGenerator;
+import com.fiap.billing_service.infrastructure.config.JacksonConfig;
+import com.fiap.billing_service.infrastructure.health.DependencyHealthRefresher;
+import com.timgroup.statsd.NoOpStatsDClient;
+import io.awspring.cloud.sqs.listener.MessageListenerContainerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+/**
+ * SQS payment request handling in {@link PaymentQueueListener}: the JSON parsing alone, and the
+ * whole listener method (tracing lookups, logging, parsing) in front of a no-op use case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaymentRequestParsingBenchmark {
+
+  static final String PAYMENT_REQUEST =
+      """
+      {
+        "workOrderId": "0b7e6d0c-3f5a-4c1e-9a59-6c2f1d8e4b21",
+        "customerId": "5d1f2a3b-7c8e-4d9f-8a1b-2c3d4e5f6a7b",
+        "amount": 150.00,
+        "firstName": "APRO"
+      }
+      """;
+
+  private ObjectMapper objectMapper;
+  private PaymentQueueListener listener;
+  private PaymentRequestDto lastRequest;
+
+  @Setup
+  public void setUp() {
+    // Configured as the application's primary ObjectMapper
+    objectMapper = new JacksonConfig().objectMapper();
+    StaticListableBeanFactory beans = new StaticListableBeanFactory();
+    PaymentListenerDrain drain =
+        new PaymentListenerDrain(
+            beans.getBeanProvider(MessageListenerContainerRegistry.class),
+            beans.getBeanProvider(DependencyHealthRefresher.class),
+            Duration.ZERO);
+    // Disabled monitor never samples the queue, so it needs no SQS client
+    SqsQueueBacklogMonitor backlogMonitor =
+        new SqsQueueBacklogMonitor(
+            null,
+            new SimpleMeterRegistry(),
+            new NoOpStatsDClient(),
+            Clock.systemUTC(),
+            "payment-request-queue",
+            false);
+    listener =
+        new PaymentQueueListener(
+            request -> {
+              // Keeps the parsed request observable so parsing is not optimized away
+              lastRequest = request;
+              return null;
+            },
+            objectMapper,
+            new NoOpPaymentMetrics(),
+            backlogMonitor,
+            drain,
+            new UuidV7IdGenerator(Clock.systemUTC()));
+  }
+
+  @Benchmark
+  public PaymentRequestDto parse() throws Exception {
+    return objectMapper.readValue(PAYMENT_REQUEST, PaymentRequestDto.class);
+  }
+
+  @Benchmark
+  public PaymentRequestDto receive() {
+    listener.receivePaymentRequest(PAYMENT_REQUEST, null, null, null);
+    return lastRequest;
+  }
+}
@@ -0,0 +1,160 @@
+package com.fiap.billing_service.benchmarks;
+
+import com.fiap.billing_service.application.port.out.PaymentGatewayPort;
+import com.fiap.billing_service.application.port.out.PaymentOrderQueryPort;
+import com.fiap.billing_service.application.port.out.PaymentRepositoryPort;
+import com.fiap.billing_service.application.port.out.PaymentResponseMessagePort;
+import com.fiap.billing_service.application.service.ProcessPaymentService;
+import com.fiap.billing_service.domain.dto.PaymentResponse;
+import com.fiap.billing_service.domain.entity.Payment;
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.dto.PaymentRequestDto;
+import com.fiap.billing_service.infrastructure.adapter.out.id.UuidV7IdGenerator;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Full {@link ProcessPaymentService} pipeline with in-memory ports and no status query delay: the
+ * CPU and allocation cost the service adds around DynamoDB, Mercado Pago and SQS round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessPaymentPipelineBenchmark {
+
+  private InMemoryPaymentRepository repository;
+  private ProcessPaymentService service;
+  private PaymentRequestDto newRequest;
+  private PaymentRequestDto duplicateRequest;
+
+  @Setup
+  public void setUp() {
+    repository = new InMemoryPaymentRepository();
+    PaymentResponse gatewayResponse =
+        new PaymentResponse(
+            "PAY01JABCDEF0123456789",
+            "ORD01JABCDEF0123456789",
+            "pix",
+            PaymentStatus.PROCESSING,
+            "00020126580014br.gov.bcb.pix",
+            "iVBORw0KGgo=",
+            null);
+    PaymentGatewayPort gateway = (amount, email, description, firstName) -> gatewayResponse;
+    OrderStatusSnapshot approved =
+        new OrderStatusSnapshot(
+            "ORD01JABCDEF0123456789", "PAY01JABCDEF0123456789", PaymentStatus.APPROVED, null);
+    PaymentOrderQueryPort orderQuery = orderPaymentId -> approved;
+    PaymentResponseMessagePort responses = payment -> {};
+
+    service =
+        new ProcessPaymentService(
+            repository,
+            gateway,
+            orderQuery,
+            responses,
+            Clock.systemUTC(),
+            new NoOpPaymentMetrics(),
+            Duration.ZERO,
+            new UuidV7IdGenerator(Clock.systemUTC()));
+
+    newRequest = request(UUID.randomUUID());
+    duplicateRequest = request(UUID.randomUUID());
+    service.processPayment(duplicateRequest);
+  }
+
+  /** Payment for a work order seen for the first time: read, insert, gateway, query, save */
+  @Benchmark
+  public Payment newPayment() {
+    Payment payment = service.processPayment(newRequest);
+    // Keeps the next invocation on the same path and the store from growing
+    repository.remove(newRequest.getWorkOrderId());
+    return payment;
+  }
+
+  /** Redelivered request for an already finished payment: idempotency read only */
+  @Benchmark
+  public Payment duplicatePayment() {
+    return service.processPayment(duplicateRequest);
+  }
+
+  private static PaymentRequestDto request(UUID workOrderId) {
+    PaymentRequestDto request = new PaymentRequestDto();
+    request.setWorkOrderId(workOrderId);
+    request.setCustomerId(UUID.randomUUID());
+    request.setAmount(new BigDecimal("150.00"));
+    request.setFirstName("APRO");
+    return request;
+  }
+
+  /** Repository keeping payments in a map keyed by work order */
+  static class InMemoryPaymentRepository implements PaymentRepositoryPort {
+
+    private final Map<UUID, Payment> payments = new ConcurrentHashMap<>();
+
+    @Override
+    public Payment save(Payment payment) {
+      payments.put(payment.getWorkOrderId(), payment);
+      return payment;
+    }
+
+    @Override
+    public boolean insertIfAbsent(Payment payment) {
+      return payments.putIfAbsent(payment.getWorkOrderId(), payment) == null;
+    }
+
+    @Override
+    public boolean saveIfStatus(Payment payment, PaymentStatus expectedStatus) {
+      // Callers share the stored instance, so only a different instance can be a stale copy
+      Payment stored =
+          payments.compute(
+              payment.getWorkOrderId(),
+              (id, current) ->
+                  current != null
+                          && (current == payment || current.getStatus() == expectedStatus)
+                      ? payment
+                      : current);
+      return stored == payment;
+    }
+
+    @Override
+    public Optional<Payment> findByWorkOrderId(UUID workOrderId) {
+      return Optional.ofNullable(payments.get(workOrderId));
+    }
+
+    @Override
+    public int getOpenPaymentShardCount() {
+      return 1;
+    }
+
+    @Override
+    public List<UUID> findOpenWorkOrderIds(int shard, Instant createdBefore) {
+      return List.of();
+    }
+
+    void remove(UUID workOrderId) {
+      payments.remove(workOrderId);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+#!/bin/sh
+################################################################################
+# Billing Service - JVM vs native image comparison
+#
+# Starts the JVM image (billing-service) and the native image
+# (billing-service-native) one after the other with docker compose, against the
+# same local dependencies, and reports the Spring Boot startup time and the
+# container memory usage (RSS plus page cache) once started.
+#
+# Usage: docker/compare-native.sh   (images must already be built)
+################################################################################
+
+set -eu
+
+readonly TIMEOUT="${TIMEOUT:-180}"
+readonly SETTLE_SECONDS="${SETTLE_SECONDS:-10}"
+
+# $1 compose service, $2 container name, $3 label
+measure() {
+  docker compose --profile native up -d "$1" > /dev/null
+  waited=0
+  until docker logs "$2" 2>&1 | grep -q "Started BillingServiceApplication in"; do
+    sleep 1
+    waited=$((waited + 1))
+    if [ "$waited" -ge "$TIMEOUT" ]; then
+      echo "$3: not started after ${TIMEOUT}s" >&2
+      docker compose --profile native stop "$1" > /dev/null
+      return 1
+    fi
+  done
+
+  startup=$(docker logs "$2" 2>&1 \
+    | grep -o "Started BillingServiceApplication in [0-9.]* seconds" \
+    | tail -1 | awk '{print $4}')
+  sleep "$SETTLE_SECONDS"
+  memory=$(docker stats --no-stream --format '{{.MemUsage}}' "$2" | cut -d/ -f1)
+
+  printf '%-7s startup: %7ss   memory after %ss: %s\n' "$3" "$startup" "$SETTLE_SECONDS" "$memory"
+  docker compose --profile native stop "$1" > /dev/null
+}
+
+measure billing-service billing-service-app JVM
+measure billing-service-native billing-service-native native
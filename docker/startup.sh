@@ -0,0 +1,66 @@
+#!/bin/sh
+################################################################################
+# Billing Service - Startup archive training and benchmark (container build)
+#
+# Runs the application up to a refreshed Spring context (spring.context.exit=
+# onRefresh): no listener, scheduler or web server starts, so no AWS or Mercado
+# Pago call is made. Placeholder credentials only satisfy required properties.
+#
+# Usage: startup.sh train        - write the AppCDS archive (application.jsa)
+#        startup.sh benchmark N  - average time to refreshed context, N runs
+#                                  with and without the archive
+################################################################################
+
+set -eu
+
+readonly ARCHIVE="application.jsa"
+
+export SPRING_PROFILES_ACTIVE="${SPRING_PROFILES_ACTIVE:-production}"
+export AWS_REGION="${AWS_REGION:-us-east-2}"
+export AWS_ACCESS_KEY="${AWS_ACCESS_KEY:-training}"
+export AWS_SECRET_KEY="${AWS_SECRET_KEY:-training}"
+export MERCADOPAGO_ACCESS_TOKEN="${MERCADOPAGO_ACCESS_TOKEN:-training}"
+export MERCADOPAGO_PUBLIC_KEY="${MERCADOPAGO_PUBLIC_KEY:-training}"
+
+# Centiseconds since boot; busybox date has no sub-second format
+now_cs() {
+  cut -d' ' -f1 /proc/uptime | tr -d .
+}
+
+# Average milliseconds to a refreshed context over $1 runs; extra JVM flags follow
+measure() {
+  runs="$1"
+  shift
+  total=0
+  i=0
+  while [ "$i" -lt "$runs" ]; do
+    start=$(now_cs)
+    java "$@" -Dspring.context.exit=onRefresh -jar application.jar > /dev/null 2>&1
+    end=$(now_cs)
+    total=$((total + (end - start) * 10))
+    i=$((i + 1))
+  done
+  echo $((total / runs))
+}
+
+case "${1:-}" in
+  train)
+    java -XX:ArchiveClassesAtExit="$ARCHIVE" -Dspring.context.exit=onRefresh -jar application.jar
+    ;;
+  benchmark)
+    runs="${2:-3}"
+    if [ "$runs" -le 0 ]; then
+      echo "startup benchmark skipped"
+      exit 0
+    fi
+    without=$(measure "$runs" -Xshare:off)
+    with=$(measure "$runs" -XX:SharedArchiveFile="$ARCHIVE")
+    echo "startup benchmark (time to refreshed context, average of $runs runs)"
+    echo "  without AppCDS: ${without} ms"
+    echo "  with AppCDS:    ${with} ms"
+    ;;
+  *)
+    echo "Usage: $0 train|benchmark [runs]" >&2
+    exit 1
+    ;;
+esac
@@ -3,6 +3,10 @@
 # DynamoDB Local Table Initialization Script
 # Creates the payments table with workOrderId as the only key (partition key)
 # workOrderId is unique per business requirements
+# Adds the sparse open-payments-index GSI (openBucket + createdAtEpoch) used by reconciliation,
+# the sparse archive-due-index GSI (archiveBucket + archiveAtEpoch) used by archival,
+# and enables TTL on expiresAtEpoch (set on archival tombstones only)
+# Local only: the production table is not managed here and needs the same migration (see README)
 
 set -e
 
@@ -56,14 +60,22 @@ if [ -n "$TABLE_EXISTS" ]; then
 fi
 
 # Create payments table with workOrderId as partition key (unique identifier)
+# openBucket is only present on PENDING/PROCESSING payments, so the GSI stays sparse
 echo "Creating table '$TABLE_NAME'..."
 aws dynamodb create-table \
   --endpoint-url "$DYNAMODB_ENDPOINT" \
   --table-name "$TABLE_NAME" \
   --attribute-definitions \
     AttributeName=workOrderId,AttributeType=S \
+    AttributeName=openBucket,AttributeType=S \
+    AttributeName=createdAtEpoch,AttributeType=N \
+    AttributeName=archiveBucket,AttributeType=S \
+    AttributeName=archiveAtEpoch,AttributeType=N \
   --key-schema \
     AttributeName=workOrderId,KeyType=HASH \
+  --global-secondary-indexes \
+    "IndexName=open-payments-index,KeySchema=[{AttributeName=openBucket,KeyType=HASH},{AttributeName=createdAtEpoch,KeyType=RANGE}],Projection={ProjectionType=KEYS_ONLY}" \
+    "IndexName=archive-due-index,KeySchema=[{AttributeName=archiveBucket,KeyType=HASH},{AttributeName=archiveAtEpoch,KeyType=RANGE}],Projection={ProjectionType=KEYS_ONLY}" \
   --billing-mode PAY_PER_REQUEST \
   --region "$REGION" \
   --tags Key=Environment,Value=local Key=Service,Value=billing-service 2>&1 || true
@@ -98,6 +110,14 @@ while true; do
   sleep 1
 done
 
+# Only archival tombstones carry expiresAtEpoch (see payment.retention in application.yml)
+echo "Enabling TTL on expiresAtEpoch..."
+aws dynamodb update-time-to-live \
+  --endpoint-url "$DYNAMODB_ENDPOINT" \
+  --table-name "$TABLE_NAME" \
+  --time-to-live-specification "Enabled=true,AttributeName=expiresAtEpoch" \
+  --region "$REGION" 2>&1 || true
+
 echo ""
 echo "============================================"
 echo "DynamoDB Local initialization complete!"
@@ -0,0 +1,184 @@
+package com.fiap.billing_service.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local stand-in for the Mercado Pago Orders API ({@code POST /v1/orders}, {@code GET
+ * /v1/orders/{id}}). Every call waits a uniformly distributed latency and may be answered with an
+ * injected 429 or 500. Created orders are attributed to their work order through the payer first
+ * name, which the load driver sets to the work order id, so duplicate orders can be counted.
+ */
+class FakeMercadoPago implements AutoCloseable {
+
+  private static final String ORDERS_PATH = "/v1/orders";
+
+  private final ObjectMapper json = new ObjectMapper();
+  private final HttpServer server;
+  private final ExecutorService handlers = Executors.newVirtualThreadPerTaskExecutor();
+  private final long latencyMinMillis;
+  private final long latencyMaxMillis;
+  private final double errorRate;
+  private final double throttleRate;
+  private final double rejectionRate;
+  private final AtomicLong sequence = new AtomicLong();
+  private final Map<String, Boolean> rejectedByOrderId = new ConcurrentHashMap<>();
+  private final Map<String, Integer> ordersByWorkOrder = new ConcurrentHashMap<>();
+  private final LongAdder throttled = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder queries = new LongAdder();
+
+  FakeMercadoPago(LoadTestOptions options) throws IOException {
+    this.latencyMinMillis = options.gatewayLatencyMin().toMillis();
+    this.latencyMaxMillis = Math.max(latencyMinMillis, options.gatewayLatencyMax().toMillis());
+    this.errorRate = options.gatewayErrorRate();
+    this.throttleRate = options.gatewayThrottleRate();
+    this.rejectionRate = options.gatewayRejectionRate();
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    // Injected latency parks a thread per call
+    server.setExecutor(handlers);
+    server.createContext("/", this::handle);
+    server.start();
+  }
+
+  URI endpoint() {
+    return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+  }
+
+  long getOrdersCreated() {
+    return rejectedByOrderId.size();
+  }
+
+  long getQueries() {
+    return queries.sum();
+  }
+
+  long getThrottled() {
+    return throttled.sum();
+  }
+
+  long getErrors() {
+    return errors.sum();
+  }
+
+  /** Orders beyond the first one created for the same work order */
+  long getDuplicateOrders() {
+    return ordersByWorkOrder.values().stream().mapToLong(count -> count - 1).sum();
+  }
+
+  /** Work orders with more than one order */
+  long getWorkOrdersWithDuplicates() {
+    return ordersByWorkOrder.values().stream().filter(count -> count > 1).count();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    handlers.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try {
+      String path = exchange.getRequestURI().getPath();
+      String method = exchange.getRequestMethod();
+      if (!path.startsWith(ORDERS_PATH)) {
+        // Connection warm-up probe and anything else
+        respond(exchange, 404, null);
+        return;
+      }
+      JsonNode request = "POST".equals(method) ? json.readTree(exchange.getRequestBody()) : null;
+      Thread.sleep(ThreadLocalRandom.current().nextLong(latencyMinMillis, latencyMaxMillis + 1));
+
+      double roll = ThreadLocalRandom.current().nextDouble();
+      if (roll < throttleRate) {
+        throttled.increment();
+        respond(exchange, 429, error("too_many_requests"));
+      } else if (roll < throttleRate + errorRate) {
+        errors.increment();
+        respond(exchange, 500, error("internal_error"));
+      } else if ("POST".equals(method) && path.equals(ORDERS_PATH)) {
+        respond(exchange, 201, createOrder(request));
+      } else if ("GET".equals(method)) {
+        queries.increment();
+        String orderId = path.substring(path.lastIndexOf('/') + 1);
+        Boolean rejected = rejectedByOrderId.get(orderId);
+        if (rejected == null) {
+          respond(exchange, 404, error("order_not_found"));
+        } else if (rejected) {
+          respond(exchange, 200, order(orderId, "failed", "rejected"));
+        } else {
+          respond(exchange, 200, order(orderId, "processed", "processed"));
+        }
+      } else {
+        respond(exchange, 405, error("method_not_allowed"));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private ObjectNode createOrder(JsonNode request) {
+    String orderId = "ORD" + sequence.incrementAndGet();
+    rejectedByOrderId.put(orderId, ThreadLocalRandom.current().nextDouble() < rejectionRate);
+    String workOrder = request.path("payer").path("first_name").asText();
+    ordersByWorkOrder.merge(workOrder, 1, Integer::sum);
+
+    ObjectNode order = order(orderId, "processing", "pending");
+    order.set("external_reference", request.path("external_reference"));
+    order.set("total_amount", request.path("total_amount"));
+    return order;
+  }
+
+  private ObjectNode order(String orderId, String orderStatus, String paymentStatus) {
+    ObjectNode order = json.createObjectNode();
+    order.put("id", orderId);
+    order.put("status", orderStatus);
+    order.put("status_detail", paymentStatus);
+    ObjectNode payment = order.putObject("transactions").putArray("payments").addObject();
+    payment.put("id", "PAY" + orderId.substring(3));
+    payment.put("status", paymentStatus);
+    payment.put("status_detail", "rejected".equals(paymentStatus) ? "rejected_by_issuer" : "");
+    payment.putObject("payment_method").put("id", "pix").put("type", "bank_transfer");
+    ObjectNode transactionData =
+        payment.putObject("point_of_interaction").putObject("transaction_data");
+    transactionData.put("qr_code", "00020126580014br.gov.bcb.pix0136" + orderId);
+    transactionData.put("qr_code_base64", "iVBORw0KGgo=");
+    return order;
+  }
+
+  private ObjectNode error(String code) {
+    ObjectNode error = json.createObjectNode();
+    error.putArray("errors").addObject().put("code", code);
+    return error;
+  }
+
+  private void respond(HttpExchange exchange, int status, ObjectNode body) throws IOException {
+    if (body == null) {
+      exchange.sendResponseHeaders(status, -1);
+      return;
+    }
+    byte[] bytes = json.writeValueAsBytes(body);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}
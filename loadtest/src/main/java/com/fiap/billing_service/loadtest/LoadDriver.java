@@ -0,0 +1,141 @@
+package com.fiap.billing_service.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends payment requests to the SQS stub at a fixed rate and matches them with the payment
+ * responses the application sends back, keyed by work order.
+ */
+class LoadDriver {
+
+  private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final LoadTestOptions options;
+  private final SqsStub sqs;
+  private final FakeMercadoPago gateway;
+  private final String requestQueue;
+  private final String successQueue;
+  private final ObjectMapper json = new ObjectMapper();
+  private final Map<UUID, Long> sentAt = new ConcurrentHashMap<>();
+  private final Map<UUID, Long> latencies = new ConcurrentHashMap<>();
+  private final LongAdder successResponses = new LongAdder();
+  private final LongAdder failureResponses = new LongAdder();
+  private final LongAdder extraResponses = new LongAdder();
+  private final AtomicLong lastResponseAt = new AtomicLong(Long.MIN_VALUE);
+  private long duplicateDeliveries;
+
+  LoadDriver(
+      LoadTestOptions options,
+      SqsStub sqs,
+      FakeMercadoPago gateway,
+      String requestQueue,
+      String successQueue) {
+    this.options = options;
+    this.sqs = sqs;
+    this.gateway = gateway;
+    this.requestQueue = requestQueue;
+    this.successQueue = successQueue;
+    sqs.onSend(this::responseSent);
+  }
+
+  LoadReport run() throws InterruptedException {
+    long start = System.nanoTime();
+    long end = start + options.duration().toNanos();
+    long sent = 0;
+    // Paced against the start time, so a late tick catches up instead of lowering the rate
+    for (long now = start; now < end; now = System.nanoTime()) {
+      long due = (long) ((now - start) / 1e9 * options.rate());
+      for (; sent < due; sent++) {
+        send();
+      }
+      TimeUnit.NANOSECONDS.sleep(TICK_NANOS);
+    }
+    System.out.printf("Sent %d payment requests, waiting for responses%n", sentAt.size());
+
+    long drainDeadline = System.nanoTime() + options.drainTimeout().toNanos();
+    while (latencies.size() < sentAt.size() && System.nanoTime() < drainDeadline) {
+      TimeUnit.MILLISECONDS.sleep(100);
+    }
+    return report(start);
+  }
+
+  private void send() {
+    UUID workOrderId = UUID.randomUUID();
+    String body;
+    try {
+      body =
+          json.writeValueAsString(
+              Map.of(
+                  "workOrderId", workOrderId,
+                  "customerId", UUID.randomUUID(),
+                  "amount", 150.00,
+                  // Lets the fake gateway attribute orders to work orders
+                  "firstName", workOrderId.toString()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    sentAt.put(workOrderId, System.nanoTime());
+    sqs.enqueue(requestQueue, body);
+    if (ThreadLocalRandom.current().nextDouble() < options.duplicateRate()) {
+      sqs.enqueue(requestQueue, body);
+      duplicateDeliveries++;
+    }
+  }
+
+  private void responseSent(String queue, String body) {
+    long now = System.nanoTime();
+    UUID workOrderId;
+    try {
+      workOrderId = UUID.fromString(json.readTree(body).path("workOrderId").asText());
+    } catch (IOException | IllegalArgumentException e) {
+      return;
+    }
+    Long sent = sentAt.get(workOrderId);
+    if (sent == null) {
+      return;
+    }
+    if (latencies.putIfAbsent(workOrderId, now - sent) != null) {
+      extraResponses.increment();
+      return;
+    }
+    (queue.equals(successQueue) ? successResponses : failureResponses).increment();
+    lastResponseAt.accumulateAndGet(now, Math::max);
+  }
+
+  private LoadReport report(long start) {
+    long[] sorted =
+        LoadReport.sorted(latencies.values().stream().mapToLong(Long::longValue).toArray());
+    long last = lastResponseAt.get();
+    double elapsedSeconds = ((last != Long.MIN_VALUE ? last : System.nanoTime()) - start) / 1e9;
+    return new LoadReport(
+        sentAt.size(),
+        duplicateDeliveries,
+        sorted.length,
+        successResponses.sum(),
+        failureResponses.sum(),
+        sentAt.size() - sorted.length,
+        extraResponses.sum(),
+        elapsedSeconds,
+        sorted.length / elapsedSeconds,
+        LoadReport.percentile(sorted, 50),
+        LoadReport.percentile(sorted, 99),
+        LoadReport.percentile(sorted, 99.9),
+        LoadReport.percentile(sorted, 100),
+        sqs.getRedeliveries(),
+        gateway.getOrdersCreated(),
+        gateway.getQueries(),
+        gateway.getThrottled(),
+        gateway.getErrors(),
+        gateway.getDuplicateOrders(),
+        gateway.getWorkOrdersWithDuplicates());
+  }
+}
@@ -0,0 +1,68 @@
+package com.fiap.billing_service.loadtest;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * Outcome of a load test run. Latencies go from the request being enqueued to the payment
+ * response being sent, in milliseconds.
+ */
+record LoadReport(
+    long requested,
+    long duplicateDeliveries,
+    long responded,
+    long successResponses,
+    long failureResponses,
+    long withoutResponse,
+    long extraResponses,
+    double elapsedSeconds,
+    double throughputPerSecond,
+    double p50Millis,
+    double p99Millis,
+    double p999Millis,
+    double maxMillis,
+    long sqsRedeliveries,
+    long gatewayOrders,
+    long gatewayQueries,
+    long gatewayThrottled,
+    long gatewayErrors,
+    long duplicateOrders,
+    long workOrdersWithDuplicateOrders) {
+
+  /** Percentile of sorted nanosecond latencies, in milliseconds (nearest rank) */
+  static double percentile(long[] sortedNanos, double percentile) {
+    if (sortedNanos.length == 0) {
+      return Double.NaN;
+    }
+    int rank = (int) Math.ceil(percentile / 100 * sortedNanos.length);
+    return sortedNanos[Math.max(0, rank - 1)] / 1_000_000.0;
+  }
+
+  static long[] sorted(long[] nanos) {
+    long[] copy = nanos.clone();
+    Arrays.sort(copy);
+    return copy;
+  }
+
+  void print(PrintStream out) {
+    out.println();
+    out.println("== Load test report ==");
+    out.printf(
+        "Requests            %d (+%d duplicate deliveries)%n", requested, duplicateDeliveries);
+    out.printf(
+        "Responses           %d (success %d, failure %d), %d without response, %d extra%n",
+        responded, successResponses, failureResponses, withoutResponse, extraResponses);
+    out.printf(
+        "Throughput          %.1f payments/s over %.1fs%n", throughputPerSecond, elapsedSeconds);
+    out.printf(
+        "Latency (ms)        p50 %.1f  p99 %.1f  p99.9 %.1f  max %.1f%n",
+        p50Millis, p99Millis, p999Millis, maxMillis);
+    out.printf("SQS redeliveries    %d%n", sqsRedeliveries);
+    out.printf(
+        "Gateway             %d orders, %d status queries, %d throttled (429), %d errors (500)%n",
+        gatewayOrders, gatewayQueries, gatewayThrottled, gatewayErrors);
+    out.printf(
+        "Duplicate orders    %d (%d work orders)%n",
+        duplicateOrders, workOrdersWithDuplicateOrders);
+  }
+}
@@ -0,0 +1,105 @@
+package com.fiap.billing_service.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fiap.billing_service.BillingServiceApplication;
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.PaymentQueueListener;
+import io.awspring.cloud.sqs.listener.MessageListenerContainer;
+import io.awspring.cloud.sqs.listener.MessageListenerContainerRegistry;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Offline end-to-end load test: runs the billing service in this JVM against an SQS stub, a fake
+ * Mercado Pago and either DynamoDB Local or an in-memory repository, drives payment requests
+ * through {@link PaymentQueueListener} at a fixed rate and reports end-to-end latency, throughput
+ * and duplicate gateway orders. See {@link LoadTestOptions} for the arguments.
+ */
+public final class LoadTest {
+
+  private static final String REQUEST_QUEUE = "loadtest-payment-request-queue";
+  private static final String SUCCESS_QUEUE = "loadtest-payment-response-success-queue";
+  private static final String FAILURE_QUEUE = "loadtest-payment-response-failure-queue";
+
+  private LoadTest() {}
+
+  public static void main(String[] args) throws Exception {
+    LoadTestOptions options = LoadTestOptions.parse(args);
+    LoadReport report;
+    try (SqsStub sqs = new SqsStub(options.visibilityTimeout());
+        FakeMercadoPago gateway = new FakeMercadoPago(options)) {
+      ConfigurableApplicationContext application =
+          new SpringApplicationBuilder(BillingServiceApplication.class, LoadTestConfiguration.class)
+              .run(applicationArgs(options, sqs, gateway));
+      try {
+        awaitListener(application);
+        report = new LoadDriver(options, sqs, gateway, REQUEST_QUEUE, SUCCESS_QUEUE).run();
+      } finally {
+        application.close();
+      }
+    }
+
+    report.print(System.out);
+    if (options.report() != null) {
+      new ObjectMapper()
+          .enable(SerializationFeature.INDENT_OUTPUT)
+          .writeValue(new File(options.report()), report);
+      System.out.println("Report written to " + options.report());
+    }
+    System.exit(0);
+  }
+
+  private static String[] applicationArgs(
+      LoadTestOptions options, SqsStub sqs, FakeMercadoPago gateway) {
+    List<String> args = new ArrayList<>();
+    args.add("--spring.profiles.active=development");
+    args.add("--server.port=0");
+    args.add("--mercadopago.base-url=" + gateway.endpoint());
+    args.add("--aws.sqs.endpoint=" + sqs.endpoint());
+    args.add("--aws.sqs.payment-request-queue=" + REQUEST_QUEUE);
+    args.add("--aws.sqs.payment-response-success-queue=" + SUCCESS_QUEUE);
+    args.add("--aws.sqs.payment-response-failure-queue=" + FAILURE_QUEUE);
+    args.add("--aws.dynamodb.endpoint=" + options.dynamoDbEndpoint());
+    args.add("--aws.access.key=loadtest");
+    args.add("--aws.secret.key=loadtest");
+    args.add("--spring.cloud.aws.credentials.access-key=loadtest");
+    args.add("--spring.cloud.aws.credentials.secret-key=loadtest");
+    args.add("--mercadopago.access-token=loadtest");
+    args.add("--mercadopago.public-key=loadtest");
+    args.add("--dynamodb.table-name=" + options.tableName());
+    if ("memory".equals(options.repository())) {
+      args.add("--dynamodb.repository.mode=memory");
+    }
+    args.add("--payment.status-query.delay=" + options.statusQueryDelay());
+    // Background jobs and dependency checks would only add noise to the measurement
+    args.add("--payment.reconciliation.enabled=false");
+    args.add("--payment.retention.archival-enabled=false");
+    args.add("--management.health.dependencies.enabled=false");
+    args.add("--dd.trace.enabled=false");
+    args.add("--logging.level.root=" + options.appLogLevel());
+    args.add("--logging.level.com.fiap.billing_service=" + options.appLogLevel());
+    args.addAll(List.of(options.applicationArgs()));
+    return args.toArray(String[]::new);
+  }
+
+  /** The listener is started asynchronously once connection warm-up finished */
+  private static void awaitListener(ConfigurableApplicationContext application)
+      throws InterruptedException {
+    MessageListenerContainerRegistry registry =
+        application.getBean(MessageListenerContainerRegistry.class);
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+    while (System.nanoTime() < deadline) {
+      MessageListenerContainer<?> container =
+          registry.getContainerById(PaymentQueueListener.LISTENER_ID);
+      if (container != null && container.isRunning()) {
+        return;
+      }
+      TimeUnit.MILLISECONDS.sleep(100);
+    }
+    throw new IllegalStateException("Payment listener did not start within 60s");
+  }
+}
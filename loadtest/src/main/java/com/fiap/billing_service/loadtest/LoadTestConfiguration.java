@@ -0,0 +1,78 @@
+package com.fiap.billing_service.loadtest;
+
+import com.fiap.billing_service.application.port.out.PaymentRepositoryPort;
+import com.fiap.billing_service.domain.entity.Payment;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Overrides applied to the application under test */
+@Configuration(proxyBeanMethods = false)
+class LoadTestConfiguration {
+
+  @Bean
+  @ConditionalOnProperty(name = "dynamodb.repository.mode", havingValue = "memory")
+  PaymentRepositoryPort inMemoryPaymentRepository() {
+    return new InMemoryPaymentRepository();
+  }
+
+  /** Payments kept in a map keyed by work order, in place of DynamoDB */
+  static class InMemoryPaymentRepository implements PaymentRepositoryPort {
+
+    private final Map<UUID, Payment> payments = new ConcurrentHashMap<>();
+
+    @Override
+    public Payment save(Payment payment) {
+      payments.put(payment.getWorkOrderId(), payment);
+      return payment;
+    }
+
+    @Override
+    public boolean insertIfAbsent(Payment payment) {
+      return payments.putIfAbsent(payment.getWorkOrderId(), payment) == null;
+    }
+
+    @Override
+    public boolean saveIfStatus(Payment payment, PaymentStatus expectedStatus) {
+      // Callers share the stored instance, so only a different instance can be a stale copy
+      Payment stored =
+          payments.compute(
+              payment.getWorkOrderId(),
+              (id, current) ->
+                  current != null
+                          && (current == payment || current.getStatus() == expectedStatus)
+                      ? payment
+                      : current);
+      return stored == payment;
+    }
+
+    @Override
+    public Optional<Payment> findByWorkOrderId(UUID workOrderId) {
+      return Optional.ofNullable(payments.get(workOrderId));
+    }
+
+    @Override
+    public int getOpenPaymentShardCount() {
+      return 1;
+    }
+
+    @Override
+    public List<UUID> findOpenWorkOrderIds(int shard, Instant createdBefore) {
+      return payments.values().stream()
+          .filter(
+              p ->
+                  p.getStatus() == PaymentStatus.PENDING
+                      || p.getStatus() == PaymentStatus.PROCESSING)
+          .filter(p -> p.getCreatedAt().isBefore(createdBefore))
+          .map(Payment::getWorkOrderId)
+          .toList();
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.fiap.billing_service.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, given as {@code --name=value} arguments. Arguments not listed here are passed
+ * to the application as Spring properties, e.g. {@code --aws.client.http.max-connections=200}.
+ *
+ * @param rate payment requests sent per second
+ * @param duration how long requests are sent
+ * @param drainTimeout how long to wait for outstanding responses once sending stopped
+ * @param duplicateRate fraction of requests delivered twice, as SQS at-least-once delivery does
+ * @param repository {@code dynamodb} (DynamoDB Local, see docker-compose) or {@code memory}
+ * @param dynamoDbEndpoint DynamoDB endpoint used by the {@code dynamodb} repository
+ * @param tableName payments table, must exist in DynamoDB Local
+ * @param statusQueryDelay wait before the order status query ({@code payment.status-query.delay})
+ * @param visibilityTimeout SQS stub visibility timeout; slow payments are redelivered after it
+ * @param gatewayLatencyMin lower bound of the fake Mercado Pago latency
+ * @param gatewayLatencyMax upper bound of the fake Mercado Pago latency
+ * @param gatewayErrorRate fraction of fake Mercado Pago calls answered with 500
+ * @param gatewayThrottleRate fraction of fake Mercado Pago calls answered with 429
+ * @param gatewayRejectionRate fraction of orders the fake Mercado Pago rejects
+ * @param appLogLevel root log level of the application under test
+ * @param report optional path of a JSON copy of the report
+ * @param applicationArgs remaining arguments, passed to the application
+ */
+record LoadTestOptions(
+    double rate,
+    Duration duration,
+    Duration drainTimeout,
+    double duplicateRate,
+    String repository,
+    String dynamoDbEndpoint,
+    String tableName,
+    Duration statusQueryDelay,
+    Duration visibilityTimeout,
+    Duration gatewayLatencyMin,
+    Duration gatewayLatencyMax,
+    double gatewayErrorRate,
+    double gatewayThrottleRate,
+    double gatewayRejectionRate,
+    String appLogLevel,
+    String report,
+    String[] applicationArgs) {
+
+  static LoadTestOptions parse(String[] args) {
+    Map<String, String> values = new LinkedHashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (!arg.startsWith("--") || separator < 0) {
+        throw new IllegalArgumentException("Expected --name=value, got " + arg);
+      }
+      values.put(arg.substring(2, separator), arg.substring(separator + 1));
+    }
+    Reader reader = new Reader(values);
+    // Arguments are evaluated in order, so applicationArgs only sees the unknown options
+    return new LoadTestOptions(
+        reader.decimal("rate", 20),
+        reader.duration("duration", "PT30S"),
+        reader.duration("drain-timeout", "PT60S"),
+        reader.decimal("duplicate-rate", 0.0),
+        reader.text("repository", "memory"),
+        reader.text("dynamodb-endpoint", "http://localhost:8000"),
+        reader.text("table-name", "payments-dev"),
+        reader.duration("status-query-delay", "PT0S"),
+        reader.duration("visibility-timeout", "PT300S"),
+        reader.duration("gateway-latency-min", "PT0.05S"),
+        reader.duration("gateway-latency-max", "PT0.25S"),
+        reader.decimal("gateway-error-rate", 0.0),
+        reader.decimal("gateway-throttle-rate", 0.0),
+        reader.decimal("gateway-rejection-rate", 0.0),
+        reader.text("app-log-level", "WARN"),
+        reader.text("report", null),
+        reader.remaining());
+  }
+
+  /** Reads and removes known options, leaving the application arguments behind */
+  private record Reader(Map<String, String> values) {
+
+    String text(String name, String defaultValue) {
+      String value = values.remove(name);
+      return value != null ? value : defaultValue;
+    }
+
+    double decimal(String name, double defaultValue) {
+      String value = values.remove(name);
+      return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    Duration duration(String name, String defaultValue) {
+      return Duration.parse(text(name, defaultValue));
+    }
+
+    String[] remaining() {
+      return values.entrySet().stream()
+          .map(e -> "--" + e.getKey() + "=" + e.getValue())
+          .toArray(String[]::new);
+    }
+  }
+}
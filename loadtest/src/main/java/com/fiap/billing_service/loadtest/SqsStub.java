@@ -0,0 +1,372 @@
+package com.fiap.billing_service.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * In-process SQS endpoint speaking the AWS JSON 1.0 protocol of the SDK clients, limited to the
+ * operations the service calls. Queues are created on first use. A received message stays
+ * invisible for the visibility timeout and is delivered again if it was not deleted by then, so
+ * slow or failed payments are redelivered as on SQS.
+ */
+class SqsStub implements AutoCloseable {
+
+  private static final String ACCOUNT_ID = "000000000000";
+
+  private final ObjectMapper json = new ObjectMapper();
+  private final Map<String, StubQueue> queues = new ConcurrentHashMap<>();
+  private final long visibilityTimeoutMillis;
+  private final HttpServer server;
+  private final ExecutorService handlers = Executors.newVirtualThreadPerTaskExecutor();
+  private final ScheduledExecutorService reaper =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> Thread.ofPlatform().daemon().name("sqs-stub-reaper").unstarted(runnable));
+  private final LongAdder redeliveries = new LongAdder();
+  private volatile BiConsumer<String, String> sendListener = (queue, body) -> {};
+
+  SqsStub(Duration visibilityTimeout) throws IOException {
+    this.visibilityTimeoutMillis = visibilityTimeout.toMillis();
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    // Long polls park a thread each
+    server.setExecutor(handlers);
+    server.createContext("/", this::handle);
+    server.start();
+    reaper.scheduleAtFixedRate(
+        () -> queues.values().forEach(StubQueue::returnExpired), 100, 100, TimeUnit.MILLISECONDS);
+  }
+
+  URI endpoint() {
+    return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+  }
+
+  /** Called with the queue name and body of every message sent by the application */
+  void onSend(BiConsumer<String, String> listener) {
+    this.sendListener = listener;
+  }
+
+  /** Puts a message on a queue directly, as an upstream producer would */
+  void enqueue(String queueName, String body) {
+    queue(queueName).add(new StubMessage(body, null));
+  }
+
+  /** Messages delivered more than once (visibility timeout expired or released) */
+  long getRedeliveries() {
+    return redeliveries.sum();
+  }
+
+  @Override
+  public void close() {
+    reaper.shutdownNow();
+    server.stop(0);
+    handlers.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try {
+      String target = exchange.getRequestHeaders().getFirst("X-Amz-Target");
+      String operation = target != null ? target.substring(target.indexOf('.') + 1) : "";
+      JsonNode request = json.readTree(exchange.getRequestBody());
+      int status = 200;
+      ObjectNode response;
+      try {
+        response = dispatch(operation, request);
+      } catch (IllegalArgumentException e) {
+        status = 400;
+        response = json.createObjectNode();
+        response.put("__type", "com.amazonaws.sqs#InvalidParameterValue");
+        response.put("message", e.getMessage());
+      }
+      byte[] body = json.writeValueAsBytes(response);
+      exchange.getResponseHeaders().set("Content-Type", "application/x-amz-json-1.0");
+      exchange.sendResponseHeaders(status, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private ObjectNode dispatch(String operation, JsonNode request) throws InterruptedException {
+    ObjectNode response = json.createObjectNode();
+    switch (operation) {
+      case "GetQueueUrl", "CreateQueue" -> {
+        String name = request.path("QueueName").asText();
+        queue(name);
+        response.put("QueueUrl", endpoint() + "/" + ACCOUNT_ID + "/" + name);
+      }
+      case "GetQueueAttributes" -> {
+        StubQueue queue = queueOf(request);
+        ObjectNode attributes = response.putObject("Attributes");
+        attributes.put("VisibilityTimeout", String.valueOf(visibilityTimeoutMillis / 1000));
+        attributes.put("ApproximateNumberOfMessages", String.valueOf(queue.visible.size()));
+        attributes.put(
+            "ApproximateNumberOfMessagesNotVisible", String.valueOf(queue.inFlight.size()));
+        attributes.put("ApproximateNumberOfMessagesDelayed", "0");
+        attributes.put("QueueArn", "arn:aws:sqs:us-east-2:" + ACCOUNT_ID + ":" + queue.name);
+      }
+      case "SendMessage" -> {
+        StubQueue queue = queueOf(request);
+        send(queue, request, response);
+      }
+      case "SendMessageBatch" -> {
+        StubQueue queue = queueOf(request);
+        ArrayNode successful = response.putArray("Successful");
+        response.putArray("Failed");
+        for (JsonNode entry : request.path("Entries")) {
+          ObjectNode result = successful.addObject();
+          result.put("Id", entry.path("Id").asText());
+          send(queue, entry, result);
+        }
+      }
+      case "ReceiveMessage" -> {
+        StubQueue queue = queueOf(request);
+        long visibility =
+            request.has("VisibilityTimeout")
+                ? request.path("VisibilityTimeout").asLong() * 1000
+                : visibilityTimeoutMillis;
+        boolean withAttributes = request.path("MessageAttributeNames").size() > 0;
+        ArrayNode messages = response.putArray("Messages");
+        for (Received received :
+            queue.receive(
+                Math.max(1, request.path("MaxNumberOfMessages").asInt(1)),
+                request.path("WaitTimeSeconds").asLong(0) * 1000,
+                visibility)) {
+          StubMessage message = received.message();
+          ObjectNode node = messages.addObject();
+          node.put("MessageId", message.id);
+          node.put("ReceiptHandle", received.receiptHandle());
+          node.put("MD5OfBody", md5(message.body));
+          node.put("Body", message.body);
+          ObjectNode attributes = node.putObject("Attributes");
+          attributes.put("SentTimestamp", String.valueOf(message.sentTimestamp));
+          attributes.put("ApproximateReceiveCount", String.valueOf(received.receiveCount()));
+          if (withAttributes && message.attributes != null && !message.attributes.isEmpty()) {
+            node.set("MessageAttributes", message.attributes);
+            node.put("MD5OfMessageAttributes", md5OfAttributes(message.attributes));
+          }
+        }
+      }
+      case "DeleteMessage" -> queueOf(request).delete(request.path("ReceiptHandle").asText());
+      case "DeleteMessageBatch" -> {
+        StubQueue queue = queueOf(request);
+        ArrayNode successful = response.putArray("Successful");
+        response.putArray("Failed");
+        for (JsonNode entry : request.path("Entries")) {
+          queue.delete(entry.path("ReceiptHandle").asText());
+          successful.addObject().put("Id", entry.path("Id").asText());
+        }
+      }
+      case "ChangeMessageVisibility" ->
+          queueOf(request)
+              .changeVisibility(
+                  request.path("ReceiptHandle").asText(),
+                  request.path("VisibilityTimeout").asLong() * 1000);
+      case "ChangeMessageVisibilityBatch" -> {
+        StubQueue queue = queueOf(request);
+        ArrayNode successful = response.putArray("Successful");
+        response.putArray("Failed");
+        for (JsonNode entry : request.path("Entries")) {
+          queue.changeVisibility(
+              entry.path("ReceiptHandle").asText(),
+              entry.path("VisibilityTimeout").asLong() * 1000);
+          successful.addObject().put("Id", entry.path("Id").asText());
+        }
+      }
+      default -> throw new IllegalArgumentException("Unsupported operation " + operation);
+    }
+    return response;
+  }
+
+  private void send(StubQueue queue, JsonNode request, ObjectNode result) {
+    JsonNode attributes = request.get("MessageAttributes");
+    StubMessage message =
+        new StubMessage(
+            request.path("MessageBody").asText(),
+            attributes instanceof ObjectNode node && !node.isEmpty() ? node : null);
+    queue.add(message);
+    result.put("MessageId", message.id);
+    result.put("MD5OfMessageBody", md5(message.body));
+    if (message.attributes != null) {
+      result.put("MD5OfMessageAttributes", md5OfAttributes(message.attributes));
+    }
+    sendListener.accept(queue.name, message.body);
+  }
+
+  private StubQueue queueOf(JsonNode request) {
+    String url = request.path("QueueUrl").asText();
+    if (url.isEmpty()) {
+      throw new IllegalArgumentException("QueueUrl is required");
+    }
+    return queue(url.substring(url.lastIndexOf('/') + 1));
+  }
+
+  private StubQueue queue(String name) {
+    return queues.computeIfAbsent(name, StubQueue::new);
+  }
+
+  private static String md5(String body) {
+    return HexFormat.of().formatHex(digest().digest(body.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  /** Checksum of message attributes as computed by SQS and verified by the SDK */
+  private static String md5OfAttributes(ObjectNode attributes) {
+    MessageDigest digest = digest();
+    Map<String, JsonNode> sorted = new TreeMap<>();
+    attributes.properties().forEach(e -> sorted.put(e.getKey(), e.getValue()));
+    sorted.forEach(
+        (name, value) -> {
+          updateLengthPrefixed(digest, name.getBytes(StandardCharsets.UTF_8));
+          updateLengthPrefixed(
+              digest, value.path("DataType").asText().getBytes(StandardCharsets.UTF_8));
+          if (value.has("BinaryValue")) {
+            digest.update((byte) 2);
+            updateLengthPrefixed(
+                digest, Base64.getDecoder().decode(value.path("BinaryValue").asText()));
+          } else {
+            digest.update((byte) 1);
+            updateLengthPrefixed(
+                digest, value.path("StringValue").asText().getBytes(StandardCharsets.UTF_8));
+          }
+        });
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static void updateLengthPrefixed(MessageDigest digest, byte[] bytes) {
+    digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+    digest.update(bytes);
+  }
+
+  private static MessageDigest digest() {
+    try {
+      return MessageDigest.getInstance("MD5");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record Received(StubMessage message, String receiptHandle, int receiveCount) {}
+
+  private static final class StubMessage {
+
+    final String id = UUID.randomUUID().toString();
+    final long sentTimestamp = System.currentTimeMillis();
+    final String body;
+    final ObjectNode attributes;
+    // Only touched by the thread currently holding the message
+    int receiveCount;
+
+    StubMessage(String body, ObjectNode attributes) {
+      this.body = body;
+      this.attributes = attributes;
+    }
+  }
+
+  private static final class InFlight {
+
+    final StubMessage message;
+    volatile long deadline;
+
+    InFlight(StubMessage message, long deadline) {
+      this.message = message;
+      this.deadline = deadline;
+    }
+  }
+
+  private final class StubQueue {
+
+    final String name;
+    final LinkedBlockingDeque<StubMessage> visible = new LinkedBlockingDeque<>();
+    final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    StubQueue(String name) {
+      this.name = name;
+    }
+
+    void add(StubMessage message) {
+      visible.add(message);
+    }
+
+    List<Received> receive(int max, long waitMillis, long visibilityMillis)
+        throws InterruptedException {
+      List<StubMessage> messages = new ArrayList<>(max);
+      StubMessage first = visible.poll(waitMillis, TimeUnit.MILLISECONDS);
+      if (first == null) {
+        return List.of();
+      }
+      messages.add(first);
+      visible.drainTo(messages, max - 1);
+
+      long deadline = System.currentTimeMillis() + visibilityMillis;
+      List<Received> received = new ArrayList<>(messages.size());
+      for (StubMessage message : messages) {
+        if (++message.receiveCount > 1) {
+          redeliveries.increment();
+        }
+        String receiptHandle = UUID.randomUUID().toString();
+        inFlight.put(receiptHandle, new InFlight(message, deadline));
+        received.add(new Received(message, receiptHandle, message.receiveCount));
+      }
+      return received;
+    }
+
+    void delete(String receiptHandle) {
+      inFlight.remove(receiptHandle);
+    }
+
+    void changeVisibility(String receiptHandle, long visibilityMillis) {
+      InFlight entry = inFlight.get(receiptHandle);
+      if (entry == null) {
+        return;
+      }
+      if (visibilityMillis == 0) {
+        if (inFlight.remove(receiptHandle, entry)) {
+          visible.addFirst(entry.message);
+        }
+      } else {
+        entry.deadline = System.currentTimeMillis() + visibilityMillis;
+      }
+    }
+
+    void returnExpired() {
+      long now = System.currentTimeMillis();
+      inFlight.forEach(
+          (receiptHandle, entry) -> {
+            if (entry.deadline <= now && inFlight.remove(receiptHandle, entry)) {
+              visible.add(entry.message);
+            }
+          });
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package com.fiap.billing_service.application.port.in;
+
+/**
+ * Input port for archiving terminal payments before their hot-table TTL expires
+ */
+public interface ArchiveExpiringPaymentsUseCase {
+    /**
+     * @return number of payments archived
+     */
+    int archiveExpiringPayments();
+}
@@ -0,0 +1,22 @@
+package com.fiap.billing_service.application.port.in;
+
+import com.fiap.billing_service.domain.dto.PaymentExportResult;
+import java.util.Optional;
+
+/**
+ * Input port for the admin-triggered bulk export of payments
+ */
+public interface ExportPaymentsUseCase {
+    /**
+     * Starts an export in the background
+     *
+     * @return the export in RUNNING state
+     * @throws IllegalStateException if another export is still running
+     */
+    PaymentExportResult startExport();
+
+    /**
+     * @return the most recent export, if any was started
+     */
+    Optional<PaymentExportResult> getLastExport();
+}
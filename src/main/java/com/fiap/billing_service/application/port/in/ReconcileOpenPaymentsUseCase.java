@@ -0,0 +1,13 @@
+package com.fiap.billing_service.application.port.in;
+
+/**
+ * Input port for reconciling payments stuck in PENDING or PROCESSING
+ */
+public interface ReconcileOpenPaymentsUseCase {
+    /**
+     * Re-polls the payment gateway for every open payment and persists final statuses
+     *
+     * @return number of payments moved to a terminal status
+     */
+    int reconcileOpenPayments();
+}
@@ -0,0 +1,10 @@
+package com.fiap.billing_service.application.port.out;
+
+import java.util.UUID;
+
+/** Output port for minting identifiers: payment ids, gateway references and request ids */
+public interface IdGeneratorPort {
+
+  /** A new unique identifier */
+  UUID newId();
+}
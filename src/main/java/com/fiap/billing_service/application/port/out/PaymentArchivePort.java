@@ -0,0 +1,26 @@
+package com.fiap.billing_service.application.port.out;
+
+import java.time.Instant;
+
+/** Output port for moving expiring payments from the hot store to the archive */
+public interface PaymentArchivePort {
+
+  /**
+   * Outcome of one archival batch
+   *
+   * @param loaded payments due for archival that were read for this batch
+   * @param archived payments copied to the archive and replaced by a tombstone
+   */
+  record ArchiveBatch(int loaded, int archived) {}
+
+  /**
+   * Copy terminal payments whose hot retention ends before the given instant to the archive and
+   * replace them with tombstones that still answer lookups by work order ID. Tombstones are only
+   * written once the archive copy is stored durably.
+   *
+   * @param expiresBefore archive payments expiring at or before this instant
+   * @param maxItems upper bound on payments loaded in this call
+   * @return how many payments were loaded and how many were archived
+   */
+  ArchiveBatch archiveExpiringBefore(Instant expiresBefore, int maxItems);
+}
@@ -0,0 +1,23 @@
+package com.fiap.billing_service.application.port.out;
+
+import com.fiap.billing_service.domain.dto.PaymentExportResult;
+
+/** Output port for bulk export of stored payments */
+public interface PaymentExportPort {
+
+  /**
+   * Target location the next export with the given ID is written to
+   *
+   * @param exportId unique export identifier
+   * @return location of the export file
+   */
+  String locationFor(String exportId);
+
+  /**
+   * Export every stored payment, blocking until the export completes
+   *
+   * @param exportId unique export identifier
+   * @return the completed export
+   */
+  PaymentExportResult export(String exportId);
+}
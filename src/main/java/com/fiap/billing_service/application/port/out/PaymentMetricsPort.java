@@ -0,0 +1,56 @@
+package com.fiap.billing_service.application.port.out;
+
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+
+/**
+ * Output port for payment pipeline metrics.
+ *
+ * <p>Each stage is timed with {@link #startStage(Stage)} / {@link #endStage(Stage, long)}; the
+ * pair also tracks how many payments are currently inside the stage, so {@code endStage} must be
+ * called from a finally block.
+ */
+public interface PaymentMetricsPort {
+
+  /** Stages of the payment pipeline, in processing order */
+  enum Stage {
+    PARSE,
+    IDEMPOTENCY_READ,
+    INSERT,
+    GATEWAY_CREATE,
+    STATUS_QUERY,
+    FINAL_SAVE,
+    PUBLISH
+  }
+
+  /** A payment request entered the pipeline */
+  void paymentStarted();
+
+  /**
+   * A payment request left the pipeline
+   *
+   * @param outcome status of the returned payment, FAILED when processing threw
+   */
+  void paymentFinished(PaymentStatus outcome);
+
+  /**
+   * A payment request joined the processing of the same work order already running on this
+   * instance; it does not enter the pipeline
+   */
+  void paymentCoalesced();
+
+  /**
+   * Start timing a stage
+   *
+   * @param stage the stage being entered
+   * @return start timestamp to pass to {@link #endStage(Stage, long)}
+   */
+  long startStage(Stage stage);
+
+  /**
+   * Stop timing a stage and record its latency
+   *
+   * @param stage the stage being left
+   * @param startNanos value returned by {@link #startStage(Stage)}
+   */
+  void endStage(Stage stage, long startNanos);
+}
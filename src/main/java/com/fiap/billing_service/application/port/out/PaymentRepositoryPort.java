@@ -1,6 +1,9 @@
 package com.fiap.billing_service.application.port.out;
 
 import com.fiap.billing_service.domain.entity.Payment;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -8,6 +11,25 @@ import java.util.UUID;
 public interface PaymentRepositoryPort {
   Payment save(Payment payment);
 
+  /**
+   * Save a new payment only if no payment is stored for its work order yet, so concurrent
+   * deliveries of the same request on different instances create a single payment
+   *
+   * @param payment the payment to insert
+   * @return true if the payment was written, false if the work order already had a payment
+   */
+  boolean insertIfAbsent(Payment payment);
+
+  /**
+   * Save a payment only if the stored item still has the status it was read with, so a stale copy
+   * never overwrites a concurrent update
+   *
+   * @param payment the payment to save
+   * @param expectedStatus status the stored item must still have
+   * @return true if the payment was written, false if the stored status had changed
+   */
+  boolean saveIfStatus(Payment payment, PaymentStatus expectedStatus);
+
   /**
    * Find payment by work order ID
    *
@@ -15,4 +37,20 @@ public interface PaymentRepositoryPort {
    * @return Optional containing the payment if found, empty otherwise
    */
   Optional<Payment> findByWorkOrderId(UUID workOrderId);
+
+  /**
+   * Number of shards the open (PENDING/PROCESSING) payments are spread over
+   *
+   * @return shard count, shards are numbered from 0
+   */
+  int getOpenPaymentShardCount();
+
+  /**
+   * Find work orders whose payment is still open in one shard, oldest first
+   *
+   * @param shard shard number in [0, {@link #getOpenPaymentShardCount()})
+   * @param createdBefore only payments created strictly before this instant are returned
+   * @return work order IDs of open payments in the shard
+   */
+  List<UUID> findOpenWorkOrderIds(int shard, Instant createdBefore);
 }
@@ -0,0 +1,58 @@
+package com.fiap.billing_service.application.service;
+
+import com.fiap.billing_service.application.port.in.ArchiveExpiringPaymentsUseCase;
+import com.fiap.billing_service.application.port.out.PaymentArchivePort;
+import com.fiap.billing_service.application.port.out.PaymentArchivePort.ArchiveBatch;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Archives terminal payments whose hot period ends within {@code lead}. Only the tombstones left
+ * behind carry the TTL, so DynamoDB never deletes a payment that was not copied to the archive.
+ *
+ * <p>Batches are requested until one comes back short of {@code batchSize}. Items skipped because
+ * another instance archived them first do not end the run; only a full batch in which nothing
+ * could be archived does, so a lagging index cannot keep the loop spinning.
+ */
+@Service
+@ConditionalOnProperty(name = "payment.retention.archival-enabled", havingValue = "true")
+public class ArchiveExpiringPaymentsService implements ArchiveExpiringPaymentsUseCase {
+
+  private static final Logger log = LoggerFactory.getLogger(ArchiveExpiringPaymentsService.class);
+
+  private final PaymentArchivePort paymentArchive;
+  private final Clock clock;
+  private final Duration lead;
+  private final int batchSize;
+
+  public ArchiveExpiringPaymentsService(
+      PaymentArchivePort paymentArchive,
+      Clock clock,
+      @Value("${payment.retention.archive-lead:P7D}") Duration lead,
+      @Value("${payment.retention.archive-batch-size:1000}") int batchSize) {
+    this.paymentArchive = paymentArchive;
+    this.clock = clock;
+    this.lead = lead;
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public int archiveExpiringPayments() {
+    Instant expiresBefore = clock.instant().plus(lead);
+    int total = 0;
+    ArchiveBatch batch;
+    do {
+      batch = paymentArchive.archiveExpiringBefore(expiresBefore, batchSize);
+      total += batch.archived();
+    } while (batch.loaded() == batchSize && batch.archived() > 0);
+
+    log.info("Archived {} payments expiring before {}", total, expiresBefore);
+    return total;
+  }
+}
@@ -0,0 +1,79 @@
+package com.fiap.billing_service.application.service;
+
+import com.fiap.billing_service.application.port.in.ExportPaymentsUseCase;
+import com.fiap.billing_service.application.port.out.PaymentExportPort;
+import com.fiap.billing_service.domain.dto.PaymentExportResult;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs payment exports one at a time in the background and keeps track of the latest one.
+ * Only active with payment.export.enabled=true.
+ */
+@Service
+@ConditionalOnProperty(name = "payment.export.enabled", havingValue = "true")
+public class ExportPaymentsService implements ExportPaymentsUseCase {
+
+  private static final Logger log = LoggerFactory.getLogger(ExportPaymentsService.class);
+  private static final DateTimeFormatter EXPORT_ID_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+  private final PaymentExportPort paymentExport;
+  private final Clock clock;
+  private final ExecutorService executor;
+  private final AtomicReference<PaymentExportResult> lastExport = new AtomicReference<>();
+
+  public ExportPaymentsService(PaymentExportPort paymentExport, Clock clock) {
+    this.paymentExport = paymentExport;
+    this.clock = clock;
+    this.executor = Executors.newSingleThreadExecutor();
+  }
+
+  @Override
+  public synchronized PaymentExportResult startExport() {
+    PaymentExportResult previous = lastExport.get();
+    if (previous != null && previous.getState() == PaymentExportResult.State.RUNNING) {
+      throw new IllegalStateException("Export " + previous.getExportId() + " is still running");
+    }
+
+    Instant startedAt = clock.instant();
+    String exportId = "payments-" + EXPORT_ID_FORMAT.format(startedAt);
+    PaymentExportResult running =
+        PaymentExportResult.running(exportId, paymentExport.locationFor(exportId), startedAt);
+    lastExport.set(running);
+
+    executor.execute(
+        () -> {
+          try {
+            lastExport.set(paymentExport.export(exportId));
+          } catch (Exception e) {
+            log.error("Payment export {} failed", exportId, e);
+            lastExport.set(running.failed(e.getMessage(), clock.instant()));
+          }
+        });
+
+    log.info("Payment export {} started, writing to {}", exportId, running.getLocation());
+    return running;
+  }
+
+  @Override
+  public Optional<PaymentExportResult> getLastExport() {
+    return Optional.ofNullable(lastExport.get());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
@@ -1,17 +1,29 @@
 package com.fiap.billing_service.application.service;
 
 import com.fiap.billing_service.application.port.in.ProcessPaymentUseCase;
+import com.fiap.billing_service.application.port.out.IdGeneratorPort;
 import com.fiap.billing_service.application.port.out.PaymentGatewayPort;
+import com.fiap.billing_service.application.port.out.PaymentMetricsPort;
+import com.fiap.billing_service.application.port.out.PaymentMetricsPort.Stage;
 import com.fiap.billing_service.application.port.out.PaymentOrderQueryPort;
 import com.fiap.billing_service.application.port.out.PaymentRepositoryPort;
 import com.fiap.billing_service.application.port.out.PaymentResponseMessagePort;
+import com.fiap.billing_service.domain.dto.PaymentResponse;
 import com.fiap.billing_service.domain.entity.Payment;
 import com.fiap.billing_service.domain.exception.PaymentProcessingException;
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
 import com.fiap.billing_service.domain.valueobject.PaymentStatus;
 import com.fiap.billing_service.infrastructure.adapter.in.messaging.dto.PaymentRequestDto;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 
@@ -24,24 +36,120 @@ public class ProcessPaymentService implements ProcessPaymentUseCase {
   private final PaymentGatewayPort paymentGateway;
   private final PaymentOrderQueryPort paymentOrderQuery;
   private final PaymentResponseMessagePort paymentResponseMessage;
+  private final Clock clock;
+  private final PaymentMetricsPort metrics;
+  private final long statusQueryDelayMillis;
+  private final IdGeneratorPort idGenerator;
+  private final ConcurrentHashMap<UUID, CompletableFuture<Payment>> inFlight =
+      new ConcurrentHashMap<>();
 
+  /**
+   * @param statusQueryDelay wait between order creation and the status query, giving the gateway
+   *     time to settle the PIX order; zero skips the wait
+   * @param idGenerator mints the ids of new payments
+   */
   public ProcessPaymentService(
       PaymentRepositoryPort paymentRepository,
       PaymentGatewayPort paymentGateway,
       PaymentOrderQueryPort paymentOrderQuery,
-      PaymentResponseMessagePort paymentResponseMessage) {
+      PaymentResponseMessagePort paymentResponseMessage,
+      Clock clock,
+      PaymentMetricsPort metrics,
+      @Value("${payment.status-query.delay:PT5S}") Duration statusQueryDelay,
+      IdGeneratorPort idGenerator) {
     this.paymentRepository = paymentRepository;
     this.paymentGateway = paymentGateway;
     this.paymentOrderQuery = paymentOrderQuery;
     this.paymentResponseMessage = paymentResponseMessage;
+    this.clock = clock;
+    this.metrics = metrics;
+    this.statusQueryDelayMillis = statusQueryDelay.toMillis();
+    this.idGenerator = idGenerator;
   }
 
+  /**
+   * Processes the request, or joins the processing of the same work order already running on this
+   * instance.
+   *
+   * <p>Duplicate SQS deliveries handled by concurrent listener threads would each read, insert and
+   * call Mercado Pago before any of them persisted the payment. The first request for a work order
+   * registers a future in {@link #inFlight}; concurrent duplicates wait for it and return the same
+   * payment, or fail with the same cause, without repeating the DynamoDB and gateway round trips.
+   * The entry is removed when processing ends, so later duplicates go through the idempotency
+   * read as before. Coalescing is per instance; across pods the initial insert is conditional, so
+   * only one pod creates the payment and the others return the stored one.
+   */
   @Override
   public Payment processPayment(PaymentRequestDto paymentRequest) {
     UUID workOrderId = paymentRequest.getWorkOrderId();
+    if (workOrderId == null) {
+      return processMetered(paymentRequest);
+    }
+    CompletableFuture<Payment> flight = new CompletableFuture<>();
+    CompletableFuture<Payment> running = inFlight.putIfAbsent(workOrderId, flight);
+    if (running != null) {
+      return awaitRunning(workOrderId, running);
+    }
+    try {
+      Payment payment = processMetered(paymentRequest);
+      flight.complete(payment);
+      return payment;
+    } catch (RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(workOrderId, flight);
+    }
+  }
+
+  private Payment awaitRunning(UUID workOrderId, CompletableFuture<Payment> running) {
+    metrics.paymentCoalesced();
+    log.debug("Payment for workOrderId {} already in progress, awaiting it", workOrderId);
+    try {
+      return running.get();
+    } catch (ExecutionException e) {
+      throw new PaymentProcessingException(
+          "Failed to process payment for order " + workOrderId, e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PaymentProcessingException(
+          "Interrupted while awaiting payment for order " + workOrderId, e);
+    }
+  }
+
+  private Payment processMetered(PaymentRequestDto paymentRequest) {
+    metrics.paymentStarted();
+    PaymentStatus outcome = PaymentStatus.FAILED;
+    try {
+      Payment payment = process(paymentRequest);
+      outcome = payment.getStatus();
+      return payment;
+    } finally {
+      metrics.paymentFinished(outcome);
+    }
+  }
+
+  private Payment findConcurrentPayment(UUID workOrderId) {
+    return paymentRepository
+        .findByWorkOrderId(workOrderId)
+        .orElseThrow(
+            () ->
+                new PaymentProcessingException(
+                    "Payment saving failed but payment not found for workOrderId: "
+                        + workOrderId));
+  }
+
+  private Payment process(PaymentRequestDto paymentRequest) {
+    UUID workOrderId = paymentRequest.getWorkOrderId();
 
     // Check for existing payment (idempotency - first line of defense)
-    var existingPayment = paymentRepository.findByWorkOrderId(workOrderId);
+    long stageStart = metrics.startStage(Stage.IDEMPOTENCY_READ);
+    Optional<Payment> existingPayment;
+    try {
+      existingPayment = paymentRepository.findByWorkOrderId(workOrderId);
+    } finally {
+      metrics.endStage(Stage.IDEMPOTENCY_READ, stageStart);
+    }
     if (existingPayment.isPresent()) {
       Payment payment = existingPayment.get();
       log.warn(
@@ -62,16 +170,29 @@ public class ProcessPaymentService implements ProcessPaymentUseCase {
     // Create payment entity
     var payment =
         new Payment(
-            UUID.randomUUID(),
+            idGenerator.newId(),
             workOrderId,
             paymentRequest.getCustomerId(),
-            paymentRequest.getAmount());
-    log.info("Created payment entity: {}", payment);
+            paymentRequest.getAmount(),
+            clock);
+    log.debug("Created payment entity: {}", payment);
 
     // Save initial payment (DynamoDB constraint validation - first persistence check)
+    // A new work order is inserted only if no item exists yet; a PENDING retry only replaces an
+    // item that is still PENDING. Losing either race means another pod owns the payment.
+    stageStart = metrics.startStage(Stage.INSERT);
     try {
-      payment = paymentRepository.save(payment);
-      log.info(
+      boolean written =
+          existingPayment.isPresent()
+              ? paymentRepository.saveIfStatus(payment, PaymentStatus.PENDING)
+              : paymentRepository.insertIfAbsent(payment);
+      if (!written) {
+        log.info(
+            "Concurrent duplicate detected for workOrderId: {}. Fetching existing payment.",
+            workOrderId);
+        return findConcurrentPayment(workOrderId);
+      }
+      log.debug(
           "Payment created successfully: paymentId={}, workOrderId={}",
           payment.getId(),
           workOrderId);
@@ -80,25 +201,27 @@ public class ProcessPaymentService implements ProcessPaymentUseCase {
       log.info(
           "Concurrent duplicate or constraint violation detected for workOrderId: {}. Fetching existing payment.",
           workOrderId);
-      return paymentRepository
-          .findByWorkOrderId(workOrderId)
-          .orElseThrow(
-              () ->
-                  new PaymentProcessingException(
-                      "Payment saving failed but payment not found for workOrderId: "
-                          + workOrderId));
+      return findConcurrentPayment(workOrderId);
+    } finally {
+      metrics.endStage(Stage.INSERT, stageStart);
     }
 
     try {
       // Process payment through Mercado Pago (PIX)
-      var processedPayment =
-          paymentGateway.processPixPayment(
-              paymentRequest.getAmount(),
-              null,
-              paymentRequest.getDescription() != null
-                  ? paymentRequest.getDescription()
-                  : "Payment for order " + paymentRequest.getWorkOrderId(),
-              paymentRequest.getFirstName());
+      PaymentResponse processedPayment;
+      stageStart = metrics.startStage(Stage.GATEWAY_CREATE);
+      try {
+        processedPayment =
+            paymentGateway.processPixPayment(
+                paymentRequest.getAmount(),
+                null,
+                paymentRequest.getDescription() != null
+                    ? paymentRequest.getDescription()
+                    : "Payment for order " + paymentRequest.getWorkOrderId(),
+                paymentRequest.getFirstName());
+      } finally {
+        metrics.endStage(Stage.GATEWAY_CREATE, stageStart);
+      }
 
       // Update payment with gateway response
       payment.markAsProcessing(
@@ -110,23 +233,25 @@ public class ProcessPaymentService implements ProcessPaymentUseCase {
 
       // Query payment order status to get most up-to-date information
       try {
-        log.info("Querying order status from Mercado Pago for payment: {}", payment.getId());
-        Thread.sleep(5000);
-        Payment queryResult =
-            paymentOrderQuery.getOrderStatus(processedPayment.getOrderPaymentId());
+        log.debug("Querying order status from Mercado Pago for payment: {}", payment.getId());
+        if (statusQueryDelayMillis > 0) {
+          Thread.sleep(statusQueryDelayMillis);
+        }
+        OrderStatusSnapshot queryResult;
+        stageStart = metrics.startStage(Stage.STATUS_QUERY);
+        try {
+          queryResult = paymentOrderQuery.getOrderStatus(processedPayment.getOrderPaymentId());
+        } finally {
+          metrics.endStage(Stage.STATUS_QUERY, stageStart);
+        }
 
-        log.info(
-            "status query result for payment {}: {}", payment.getId(), queryResult.getStatus());
+        log.debug(
+            "status query result for payment {}: {}", payment.getId(), queryResult.status());
 
-        // Update payment with queried status
-        if (queryResult.getStatus() == PaymentStatus.APPROVED) {
-          payment.markAsApproved();
-          log.info("Payment approved after status query: {}", payment.getId());
-        } else if (queryResult.getStatus() == PaymentStatus.REJECTED) {
-          payment.markAsRejected(queryResult.getErrorMessage());
-          log.info("Payment rejected after status query: {}", payment.getId());
+        // Update payment with queried status; if status is PROCESSING, keep current state
+        if (payment.applyOrderStatus(queryResult)) {
+          log.info("Payment {} after status query: {}", payment.getStatus(), payment.getId());
         }
-        // If status is PROCESSING, keep current state
       } catch (Exception e) {
         log.warn("Failed to query payment status, using initial response status", e);
         // Fallback to initial gateway response if query fails
@@ -138,10 +263,20 @@ public class ProcessPaymentService implements ProcessPaymentUseCase {
       }
 
       // Save updated payment
-      payment = paymentRepository.save(payment);
+      stageStart = metrics.startStage(Stage.FINAL_SAVE);
+      try {
+        payment = paymentRepository.save(payment);
+      } finally {
+        metrics.endStage(Stage.FINAL_SAVE, stageStart);
+      }
 
       // Send payment response to message queue
-      paymentResponseMessage.sendPaymentResponse(payment);
+      stageStart = metrics.startStage(Stage.PUBLISH);
+      try {
+        paymentResponseMessage.sendPaymentResponse(payment);
+      } finally {
+        metrics.endStage(Stage.PUBLISH, stageStart);
+      }
 
       return payment;
 
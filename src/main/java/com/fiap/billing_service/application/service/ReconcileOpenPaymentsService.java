@@ -0,0 +1,146 @@
+package com.fiap.billing_service.application.service;
+
+import com.fiap.billing_service.application.port.in.ReconcileOpenPaymentsUseCase;
+import com.fiap.billing_service.application.port.out.PaymentOrderQueryPort;
+import com.fiap.billing_service.application.port.out.PaymentRepositoryPort;
+import com.fiap.billing_service.application.port.out.PaymentResponseMessagePort;
+import com.fiap.billing_service.domain.entity.Payment;
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Re-polls the payment gateway for payments left in PENDING or PROCESSING.
+ *
+ * <p>Open payments are read from the sharded open-payments index, one query per shard, with the
+ * shards queried in parallel on a bounded executor. Only payments older than {@code minAge} are
+ * considered so that payments still being handled by a listener are left alone.
+ *
+ * <p>A reconciled payment is written only if its stored status is still the one that was read,
+ * and the response is published only when that write wins. A listener that finished the payment
+ * meanwhile, or another instance running the same sweep, therefore neither loses its update nor
+ * causes a second response.
+ */
+@Service
+public class ReconcileOpenPaymentsService implements ReconcileOpenPaymentsUseCase {
+
+  private static final Logger log = LoggerFactory.getLogger(ReconcileOpenPaymentsService.class);
+
+  private final PaymentRepositoryPort paymentRepository;
+  private final PaymentOrderQueryPort paymentOrderQuery;
+  private final PaymentResponseMessagePort paymentResponseMessage;
+  private final Clock clock;
+  private final Duration minAge;
+  private final ExecutorService executor;
+
+  public ReconcileOpenPaymentsService(
+      PaymentRepositoryPort paymentRepository,
+      PaymentOrderQueryPort paymentOrderQuery,
+      PaymentResponseMessagePort paymentResponseMessage,
+      Clock clock,
+      @Value("${payment.reconciliation.min-age:PT10M}") Duration minAge,
+      @Value("${payment.reconciliation.parallelism:4}") int parallelism) {
+    this.paymentRepository = paymentRepository;
+    this.paymentOrderQuery = paymentOrderQuery;
+    this.paymentResponseMessage = paymentResponseMessage;
+    this.clock = clock;
+    this.minAge = minAge;
+    this.executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+  }
+
+  @Override
+  public int reconcileOpenPayments() {
+    Instant createdBefore = clock.instant().minus(minAge);
+    int shards = paymentRepository.getOpenPaymentShardCount();
+
+    List<CompletableFuture<Integer>> futures = new ArrayList<>(shards);
+    for (int shard = 0; shard < shards; shard++) {
+      int current = shard;
+      futures.add(
+          CompletableFuture.supplyAsync(() -> reconcileShard(current, createdBefore), executor));
+    }
+
+    int reconciled = 0;
+    for (CompletableFuture<Integer> future : futures) {
+      reconciled += future.join();
+    }
+    log.info("Reconciliation finished: {} open payments moved to a final status", reconciled);
+    return reconciled;
+  }
+
+  private int reconcileShard(int shard, Instant createdBefore) {
+    List<UUID> workOrderIds;
+    try {
+      workOrderIds = paymentRepository.findOpenWorkOrderIds(shard, createdBefore);
+    } catch (Exception e) {
+      log.error("Failed to list open payments for shard {}", shard, e);
+      return 0;
+    }
+
+    int reconciled = 0;
+    for (UUID workOrderId : workOrderIds) {
+      try {
+        if (reconcile(workOrderId)) {
+          reconciled++;
+        }
+      } catch (Exception e) {
+        // One bad payment must not stop the sweep; it stays open and is retried next run
+        log.warn("Failed to reconcile payment for workOrderId: {}", workOrderId, e);
+      }
+    }
+    return reconciled;
+  }
+
+  private boolean reconcile(UUID workOrderId) {
+    var found = paymentRepository.findByWorkOrderId(workOrderId);
+    if (found.isEmpty() || found.get().getStatus().isTerminal()) {
+      // Index is eventually consistent, the payment may have been finished meanwhile
+      return false;
+    }
+
+    Payment payment = found.get();
+    if (payment.getOrderPaymentId() == null) {
+      // Gateway order was never created; SQS redelivery of the request drives these
+      log.debug("Skipping open payment without gateway order: workOrderId={}", workOrderId);
+      return false;
+    }
+
+    PaymentStatus readStatus = payment.getStatus();
+    OrderStatusSnapshot queryResult = paymentOrderQuery.getOrderStatus(payment.getOrderPaymentId());
+    if (!payment.applyOrderStatus(queryResult)) {
+      return false;
+    }
+
+    if (!paymentRepository.saveIfStatus(payment, readStatus)) {
+      log.debug(
+          "Payment for workOrderId {} changed while reconciling, leaving it to the other writer",
+          workOrderId);
+      return false;
+    }
+    paymentResponseMessage.sendPaymentResponse(payment);
+    log.info(
+        "Reconciled payment {} for workOrderId {} to status {}",
+        payment.getId(),
+        workOrderId,
+        payment.getStatus());
+    return true;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
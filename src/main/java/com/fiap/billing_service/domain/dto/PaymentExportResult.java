@@ -0,0 +1,84 @@
+package com.fiap.billing_service.domain.dto;
+
+import java.time.Instant;
+
+/** DTO describing a bulk export of the payments table */
+public class PaymentExportResult {
+
+  public enum State {
+    RUNNING,
+    COMPLETED,
+    FAILED
+  }
+
+  private final String exportId;
+  private final State state;
+  private final String location;
+  private final long rowCount;
+  private final double consumedCapacity;
+  private final Instant startedAt;
+  private final Instant finishedAt;
+  private final String errorMessage;
+
+  public PaymentExportResult(
+      String exportId,
+      State state,
+      String location,
+      long rowCount,
+      double consumedCapacity,
+      Instant startedAt,
+      Instant finishedAt,
+      String errorMessage) {
+    this.exportId = exportId;
+    this.state = state;
+    this.location = location;
+    this.rowCount = rowCount;
+    this.consumedCapacity = consumedCapacity;
+    this.startedAt = startedAt;
+    this.finishedAt = finishedAt;
+    this.errorMessage = errorMessage;
+  }
+
+  public static PaymentExportResult running(String exportId, String location, Instant startedAt) {
+    return new PaymentExportResult(
+        exportId, State.RUNNING, location, 0, 0, startedAt, null, null);
+  }
+
+  public PaymentExportResult failed(String errorMessage, Instant finishedAt) {
+    return new PaymentExportResult(
+        exportId, State.FAILED, location, rowCount, consumedCapacity, startedAt, finishedAt,
+        errorMessage);
+  }
+
+  public String getExportId() {
+    return exportId;
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public String getLocation() {
+    return location;
+  }
+
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  public double getConsumedCapacity() {
+    return consumedCapacity;
+  }
+
+  public Instant getStartedAt() {
+    return startedAt;
+  }
+
+  public Instant getFinishedAt() {
+    return finishedAt;
+  }
+
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+}
@@ -1,8 +1,10 @@
 package com.fiap.billing_service.domain.entity;
 
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
 import com.fiap.billing_service.domain.valueobject.PaymentStatus;
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.UUID;
 
 public class Payment {
@@ -16,17 +18,58 @@ public class Payment {
   private String paymentMethod;
   private String qrCode;
   private String qrCodeBase64;
-  private final LocalDateTime createdAt;
-  private LocalDateTime processedAt;
+  private final Instant createdAt;
+  private Instant processedAt;
   private String errorMessage;
+  private final Clock clock; // Source of createdAt/processedAt, fixed in tests
 
   public Payment(UUID id, UUID workOrderId, UUID customerId, BigDecimal amount) {
+    this(id, workOrderId, customerId, amount, Clock.systemUTC());
+  }
+
+  public Payment(UUID id, UUID workOrderId, UUID customerId, BigDecimal amount, Clock clock) {
     this.id = id;
     this.workOrderId = workOrderId;
     this.customerId = customerId;
     this.amount = amount;
     this.status = PaymentStatus.PENDING;
-    this.createdAt = LocalDateTime.now();
+    this.clock = clock;
+    this.createdAt = clock.instant();
+  }
+
+  /**
+   * Rehydrates a stored payment as it was persisted, without replaying state transitions.
+   * Timestamps are taken as stored; {@code clock} only stamps later transitions.
+   */
+  public Payment(
+      UUID id,
+      UUID workOrderId,
+      UUID customerId,
+      BigDecimal amount,
+      PaymentStatus status,
+      String externalPaymentId,
+      String orderPaymentId,
+      String paymentMethod,
+      String qrCode,
+      String qrCodeBase64,
+      Instant createdAt,
+      Instant processedAt,
+      String errorMessage,
+      Clock clock) {
+    this.id = id;
+    this.workOrderId = workOrderId;
+    this.customerId = customerId;
+    this.amount = amount;
+    this.status = status;
+    this.externalPaymentId = externalPaymentId;
+    this.orderPaymentId = orderPaymentId;
+    this.paymentMethod = paymentMethod;
+    this.qrCode = qrCode;
+    this.qrCodeBase64 = qrCodeBase64;
+    this.createdAt = createdAt;
+    this.processedAt = processedAt;
+    this.errorMessage = errorMessage;
+    this.clock = clock;
   }
 
   public UUID getId() {
@@ -61,11 +104,11 @@ public class Payment {
     return paymentMethod;
   }
 
-  public LocalDateTime getCreatedAt() {
+  public Instant getCreatedAt() {
     return createdAt;
   }
 
-  public LocalDateTime getProcessedAt() {
+  public Instant getProcessedAt() {
     return processedAt;
   }
 
@@ -97,18 +140,36 @@ public class Payment {
 
   public void markAsApproved() {
     this.status = PaymentStatus.APPROVED;
-    this.processedAt = LocalDateTime.now();
+    this.processedAt = clock.instant();
   }
 
   public void markAsRejected(String errorMessage) {
     this.status = PaymentStatus.REJECTED;
     this.errorMessage = errorMessage;
-    this.processedAt = LocalDateTime.now();
+    this.processedAt = clock.instant();
+  }
+
+  /**
+   * Applies a gateway status query: APPROVED and REJECTED finish the payment, any other status
+   * leaves it as it is.
+   *
+   * @return whether the payment was finished
+   */
+  public boolean applyOrderStatus(OrderStatusSnapshot snapshot) {
+    if (snapshot.status() == PaymentStatus.APPROVED) {
+      markAsApproved();
+      return true;
+    }
+    if (snapshot.status() == PaymentStatus.REJECTED) {
+      markAsRejected(snapshot.errorMessage());
+      return true;
+    }
+    return false;
   }
 
   public void markAsFailed(String errorMessage) {
     this.status = PaymentStatus.FAILED;
     this.errorMessage = errorMessage;
-    this.processedAt = LocalDateTime.now();
+    this.processedAt = clock.instant();
   }
 }
@@ -0,0 +1,12 @@
+package com.fiap.billing_service.domain.valueobject;
+
+/**
+ * Status of a gateway order at the time it was queried.
+ *
+ * @param orderPaymentId the gateway order id
+ * @param externalPaymentId the gateway payment id, or the order id when the order has no payment
+ * @param status the mapped order status
+ * @param errorMessage rejection reason, only set when {@code status} is REJECTED
+ */
+public record OrderStatusSnapshot(
+    String orderPaymentId, String externalPaymentId, PaymentStatus status, String errorMessage) {}
@@ -5,5 +5,10 @@ public enum PaymentStatus {
     PROCESSING,
     APPROVED,
     REJECTED,
-    FAILED
+    FAILED;
+
+    /** Terminal statuses are final: the payment will not be polled or updated again. */
+    public boolean isTerminal() {
+        return this == APPROVED || this == REJECTED || this == FAILED;
+    }
 }
@@ -0,0 +1,139 @@
+package com.fiap.billing_service.infrastructure.adapter.in.messaging;
+
+import com.fiap.billing_service.infrastructure.health.DependencyHealthRefresher;
+import io.awspring.cloud.sqs.listener.MessageListenerContainer;
+import io.awspring.cloud.sqs.listener.MessageListenerContainerRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coordinates the graceful drain of the payment request listener on shutdown.
+ *
+ * <p>Runs on {@link ContextClosedEvent}, i.e. before any lifecycle bean is stopped: background
+ * readiness handling is suspended, the listener container stops polling and waits for the
+ * messages it dispatched (listener shutdown timeout), pending acknowledgements are flushed
+ * (acknowledgement shutdown timeout), and finally payments still running in {@link
+ * PaymentQueueListener} are awaited until the drain deadline. Messages delivered after the drain
+ * started are not processed; the listener releases them with a zero visibility timeout so another
+ * pod receives them right away.
+ */
+@Component
+public class PaymentListenerDrain {
+
+  private static final Logger log = LoggerFactory.getLogger(PaymentListenerDrain.class);
+
+  private final ObjectProvider<MessageListenerContainerRegistry> listenerRegistry;
+  private final ObjectProvider<DependencyHealthRefresher> healthRefresher;
+  private final long drainTimeoutMillis;
+  private final AtomicBoolean draining = new AtomicBoolean();
+  private final Object monitor = new Object();
+  private int inFlight;
+
+  public PaymentListenerDrain(
+      ObjectProvider<MessageListenerContainerRegistry> listenerRegistry,
+      ObjectProvider<DependencyHealthRefresher> healthRefresher,
+      @Value("${aws.sqs.shutdown.drain-timeout:PT25S}") Duration drainTimeout) {
+    this.listenerRegistry = listenerRegistry;
+    this.healthRefresher = healthRefresher;
+    this.drainTimeoutMillis = drainTimeout.toMillis();
+  }
+
+  /**
+   * Registers a payment about to be processed
+   *
+   * @return false when the drain already started and the message must be released instead
+   */
+  public boolean tryAcquire() {
+    synchronized (monitor) {
+      if (draining.get()) {
+        return false;
+      }
+      inFlight++;
+      return true;
+    }
+  }
+
+  /** Marks a payment registered with {@link #tryAcquire()} as finished */
+  public void release() {
+    synchronized (monitor) {
+      inFlight--;
+      monitor.notifyAll();
+    }
+  }
+
+  public boolean isDraining() {
+    return draining.get();
+  }
+
+  public int getInFlight() {
+    synchronized (monitor) {
+      return inFlight;
+    }
+  }
+
+  @EventListener(ContextClosedEvent.class)
+  public void onContextClosed() {
+    drain();
+  }
+
+  /**
+   * Stops consumption and waits for in-flight payments until the drain deadline
+   *
+   * @return number of payments still running when the deadline expired
+   */
+  public int drain() {
+    if (!draining.compareAndSet(false, true)) {
+      return getInFlight();
+    }
+    long deadline = System.currentTimeMillis() + drainTimeoutMillis;
+    log.info("Draining payment listener, {} payments in flight", getInFlight());
+
+    // Readiness must not restart the listener behind our back
+    DependencyHealthRefresher refresher = healthRefresher.getIfAvailable();
+    if (refresher != null) {
+      refresher.suspend();
+    }
+
+    MessageListenerContainerRegistry registry = listenerRegistry.getIfAvailable();
+    MessageListenerContainer<?> container =
+        registry != null ? registry.getContainerById(PaymentQueueListener.LISTENER_ID) : null;
+    if (container != null && container.isRunning()) {
+      // Stops polling, waits for dispatched messages and flushes pending acknowledgements
+      container.stop();
+    }
+
+    int remaining = awaitInFlight(deadline);
+    if (remaining > 0) {
+      log.warn(
+          "Drain deadline reached with {} payments in flight; they will be redelivered after the"
+              + " visibility timeout",
+          remaining);
+    } else {
+      log.info("Payment listener drained");
+    }
+    return remaining;
+  }
+
+  private int awaitInFlight(long deadline) {
+    synchronized (monitor) {
+      long now = System.currentTimeMillis();
+      while (inFlight > 0 && now < deadline) {
+        try {
+          monitor.wait(deadline - now);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+        now = System.currentTimeMillis();
+      }
+      return inFlight;
+    }
+  }
+}
@@ -2,12 +2,18 @@ package com.fiap.billing_service.infrastructure.adapter.in.messaging;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.billing_service.application.port.in.ProcessPaymentUseCase;
+import com.fiap.billing_service.application.port.out.IdGeneratorPort;
+import com.fiap.billing_service.application.port.out.PaymentMetricsPort;
+import com.fiap.billing_service.application.port.out.PaymentMetricsPort.Stage;
 import com.fiap.billing_service.infrastructure.adapter.in.messaging.dto.PaymentRequestDto;
+import com.fiap.billing_service.infrastructure.context.MessageContext;
 import io.awspring.cloud.sqs.annotation.SqsListener;
-import io.opentracing.Span;
-import io.opentracing.util.GlobalTracer;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.listener.Visibility;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 /** Adapter for listening to payment requests from SQS queue */
@@ -16,13 +22,32 @@ public class PaymentQueueListener {
 
   private static final Logger log = LoggerFactory.getLogger(PaymentQueueListener.class);
 
+  /** Listener container id, used to pause and resume consumption */
+  public static final String LISTENER_ID = "payment-request-listener";
+
   private final ProcessPaymentUseCase processPaymentUseCase;
   private final ObjectMapper objectMapper;
+  private final PaymentMetricsPort metrics;
+  private final SqsQueueBacklogMonitor backlogMonitor;
+  private final PaymentListenerDrain drain;
+  private final IdGeneratorPort idGenerator;
 
+  /**
+   * @param idGenerator mints the correlation id of messages received without one
+   */
   public PaymentQueueListener(
-      ProcessPaymentUseCase processPaymentUseCase, ObjectMapper objectMapper) {
+      ProcessPaymentUseCase processPaymentUseCase,
+      ObjectMapper objectMapper,
+      PaymentMetricsPort metrics,
+      SqsQueueBacklogMonitor backlogMonitor,
+      PaymentListenerDrain drain,
+      IdGeneratorPort idGenerator) {
     this.processPaymentUseCase = processPaymentUseCase;
     this.objectMapper = objectMapper;
+    this.metrics = metrics;
+    this.backlogMonitor = backlogMonitor;
+    this.drain = drain;
+    this.idGenerator = idGenerator;
   }
 
   /**
@@ -32,26 +57,62 @@ public class PaymentQueueListener {
    * Message returns to queue (becomes visible after timeout) - Idempotency: Duplicate messages are
    * handled safely by ProcessPaymentService
    *
+   * <p>On a FIFO queue (name ending in {@code .fifo}) producers set {@code MessageGroupId} to the
+   * work order id: the container calls this method for one message of a group at a time, in send
+   * order, while different work orders run in parallel. A failed message holds back the rest of
+   * its group until it is redelivered.
+   *
    * @param message JSON message containing payment request data
+   * @param sentTimestamp SentTimestamp system attribute (epoch millis), feeds the backlog age
+   * @param correlationId correlationId message attribute; a new id is minted when absent
+   * @param visibility visibility handle, used to release messages received while draining
    */
-  @SqsListener("${aws.sqs.payment-request-queue}")
-  public void receivePaymentRequest(String message) {
-    Span span = GlobalTracer.get().activeSpan();
-    if (span != null) {
-      span.setTag("operation.type", "receivePaymentRequest");
+  @SqsListener(value = "${aws.sqs.payment-request-queue}", id = LISTENER_ID)
+  public void receivePaymentRequest(
+      String message,
+      @Header(name = SqsHeaders.MessageSystemAttributes.SQS_SENT_TIMESTAMP, required = false)
+          String sentTimestamp,
+      @Header(name = MessageContext.CORRELATION_ID, required = false) String correlationId,
+      Visibility visibility) {
+    if (!drain.tryAcquire()) {
+      // Shutting down: hand the message back to the queue instead of starting a payment
+      if (visibility != null) {
+        visibility.changeTo(0);
+      }
+      throw new IllegalStateException("Listener is draining, payment request released");
+    }
+    if (correlationId == null || correlationId.isEmpty()) {
+      correlationId = idGenerator.newId().toString();
     }
+    try (MessageContext ignored = MessageContext.open(correlationId)) {
+      handlePaymentRequest(message, sentTimestamp);
+    } finally {
+      drain.release();
+    }
+  }
 
-    log.info("Received payment request message from queue");
+  private void handlePaymentRequest(String message, String sentTimestamp) {
+    if (sentTimestamp != null) {
+      backlogMonitor.messageReceived(Long.parseLong(sentTimestamp));
+    }
+
+    MessageContext.tag("operation.type", "receivePaymentRequest");
+
+    log.debug("Received payment request message from queue");
 
     try {
       // Parse the message
-      PaymentRequestDto paymentRequest = objectMapper.readValue(message, PaymentRequestDto.class);
-      log.info("Parsed payment request: {}", paymentRequest);
-
-      if (span != null) {
-        span.setTag("payment.work_order_id", paymentRequest.getWorkOrderId() != null ? paymentRequest.getWorkOrderId().toString() : "unknown");
-        span.setTag("payment.customer_id", paymentRequest.getCustomerId() != null ? paymentRequest.getCustomerId().toString() : "unknown");
+      PaymentRequestDto paymentRequest;
+      long parseStart = metrics.startStage(Stage.PARSE);
+      try {
+        paymentRequest = objectMapper.readValue(message, PaymentRequestDto.class);
+      } finally {
+        metrics.endStage(Stage.PARSE, parseStart);
       }
+      log.debug("Parsed payment request: {}", paymentRequest);
+
+      MessageContext.tag("payment.work_order_id", idOrUnknown(paymentRequest.getWorkOrderId()));
+      MessageContext.tag("payment.customer_id", idOrUnknown(paymentRequest.getCustomerId()));
 
       log.info(
           "Processing payment request - workOrderId: {}, clientId: {}",
@@ -72,4 +133,8 @@ public class PaymentQueueListener {
       throw new RuntimeException("Failed to process payment request", e);
     }
   }
+
+  private static String idOrUnknown(UUID id) {
+    return id != null ? id.toString() : "unknown";
+  }
 }
@@ -0,0 +1,186 @@
+package com.fiap.billing_service.infrastructure.adapter.in.messaging;
+
+import com.timgroup.statsd.StatsDClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+
+/**
+ * Samples the payment request queue backlog and exports it as the autoscaling signal.
+ *
+ * <p>The listener is I/O bound, so CPU never rises while the queue backs up. Every sample reads
+ * the approximate visible, in-flight and delayed message counts with GetQueueAttributes on the
+ * async client, without blocking the scheduler thread. SQS only exposes the age of the oldest
+ * message through CloudWatch, so it is estimated here from the SentTimestamp of the messages the
+ * listener receives: the largest queue wait seen since the previous sample, or, while the queue
+ * holds messages and nothing is received, the previous age plus the time elapsed.
+ *
+ * <p>Values are published as Micrometer gauges (sqs.queue.*) and StatsD gauges
+ * (payment.sqs.queue.*), tagged with the queue name.
+ */
+@Component
+public class SqsQueueBacklogMonitor {
+
+  private static final Logger log = LoggerFactory.getLogger(SqsQueueBacklogMonitor.class);
+
+  private static final List<QueueAttributeName> ATTRIBUTES =
+      List.of(
+          QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES,
+          QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE,
+          QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_DELAYED);
+
+  private final SqsAsyncClient sqsAsyncClient;
+  private final StatsDClient statsDClient;
+  private final Clock clock;
+  private final String queueName;
+  private final boolean enabled;
+  private final String[] statsDTags;
+
+  private final AtomicLong visibleMessages = new AtomicLong();
+  private final AtomicLong inFlightMessages = new AtomicLong();
+  private final AtomicLong delayedMessages = new AtomicLong();
+  private final AtomicLong oldestMessageAgeSeconds = new AtomicLong();
+  private final AtomicLong maxWaitSinceSampleMillis = new AtomicLong(-1);
+  private final AtomicBoolean sampling = new AtomicBoolean();
+  private volatile String queueUrl;
+  private volatile long lastSampleAtMillis;
+
+  public SqsQueueBacklogMonitor(
+      SqsAsyncClient sqsAsyncClient,
+      MeterRegistry meterRegistry,
+      StatsDClient statsDClient,
+      Clock clock,
+      @Value("${aws.sqs.payment-request-queue}") String queueName,
+      @Value("${aws.sqs.backlog.enabled:true}") boolean enabled) {
+    this.sqsAsyncClient = sqsAsyncClient;
+    this.statsDClient = statsDClient;
+    this.clock = clock;
+    this.queueName = queueName;
+    this.enabled = enabled;
+    this.statsDTags = new String[] {"queue:" + queueName};
+    this.lastSampleAtMillis = clock.millis();
+
+    gauge(meterRegistry, "sqs.queue.messages.visible", visibleMessages);
+    gauge(meterRegistry, "sqs.queue.messages.inflight", inFlightMessages);
+    gauge(meterRegistry, "sqs.queue.messages.delayed", delayedMessages);
+    gauge(meterRegistry, "sqs.queue.oldest.message.age.seconds", oldestMessageAgeSeconds);
+  }
+
+  private void gauge(MeterRegistry registry, String name, AtomicLong value) {
+    Gauge.builder(name, value, AtomicLong::get).tag("queue", queueName).register(registry);
+  }
+
+  /**
+   * Records the queue wait of a received message
+   *
+   * @param sentTimestampMillis SentTimestamp system attribute of the message (epoch millis)
+   */
+  public void messageReceived(long sentTimestampMillis) {
+    long waitMillis = Math.max(0, clock.millis() - sentTimestampMillis);
+    maxWaitSinceSampleMillis.accumulateAndGet(waitMillis, Math::max);
+  }
+
+  @Scheduled(
+      initialDelayString = "${aws.sqs.backlog.initial-delay:PT15S}",
+      fixedDelayString = "${aws.sqs.backlog.sample-interval:PT15S}")
+  public void scheduledSample() {
+    sample();
+  }
+
+  /**
+   * Starts one backlog sample; skipped while the previous one is still running
+   *
+   * @return future completed once the gauges are updated
+   */
+  public CompletableFuture<Void> sample() {
+    if (!enabled || !sampling.compareAndSet(false, true)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return resolveQueueUrl()
+        .thenCompose(
+            url ->
+                sqsAsyncClient.getQueueAttributes(
+                    GetQueueAttributesRequest.builder()
+                        .queueUrl(url)
+                        .attributeNames(ATTRIBUTES)
+                        .build()))
+        .thenAccept(response -> update(response.attributes()))
+        .exceptionally(
+            e -> {
+              log.warn("Could not sample backlog of queue {}: {}", queueName, e.getMessage());
+              return null;
+            })
+        .whenComplete((ignored, e) -> sampling.set(false));
+  }
+
+  private CompletableFuture<String> resolveQueueUrl() {
+    String url = queueUrl;
+    if (url != null) {
+      return CompletableFuture.completedFuture(url);
+    }
+    return sqsAsyncClient
+        .getQueueUrl(GetQueueUrlRequest.builder().queueName(queueName).build())
+        .thenApply(
+            response -> {
+              queueUrl = response.queueUrl();
+              return queueUrl;
+            });
+  }
+
+  private void update(Map<QueueAttributeName, String> attributes) {
+    long visible = parse(attributes.get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES));
+    long now = clock.millis();
+    long elapsedMillis = now - lastSampleAtMillis;
+    lastSampleAtMillis = now;
+
+    long maxWaitMillis = maxWaitSinceSampleMillis.getAndSet(-1);
+    long age;
+    if (visible == 0) {
+      age = 0;
+    } else if (maxWaitMillis >= 0) {
+      age = maxWaitMillis / 1000;
+    } else {
+      // Nothing received since the last sample: the oldest message kept aging
+      age = oldestMessageAgeSeconds.get() + elapsedMillis / 1000;
+    }
+
+    visibleMessages.set(visible);
+    inFlightMessages.set(
+        parse(attributes.get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE)));
+    delayedMessages.set(
+        parse(attributes.get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_DELAYED)));
+    oldestMessageAgeSeconds.set(age);
+
+    statsDClient.gauge("sqs.queue.messages.visible", visibleMessages.get(), statsDTags);
+    statsDClient.gauge("sqs.queue.messages.inflight", inFlightMessages.get(), statsDTags);
+    statsDClient.gauge("sqs.queue.messages.delayed", delayedMessages.get(), statsDTags);
+    statsDClient.gauge("sqs.queue.oldest.message.age.seconds", age, statsDTags);
+    log.debug("Queue {} backlog: visible={}, inFlight={}, oldestAge={}s",
+        queueName, visible, inFlightMessages.get(), age);
+  }
+
+  private static long parse(String value) {
+    if (value == null) {
+      return 0;
+    }
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+}
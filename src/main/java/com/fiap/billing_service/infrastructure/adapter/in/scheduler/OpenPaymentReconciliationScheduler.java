@@ -0,0 +1,42 @@
+package com.fiap.billing_service.infrastructure.adapter.in.scheduler;
+
+import com.fiap.billing_service.application.port.in.ReconcileOpenPaymentsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically triggers reconciliation of payments stuck in PENDING or PROCESSING.
+ *
+ * <p>Off unless payment.reconciliation.enabled=true. Enable it on a single instance: every replica
+ * would otherwise list the same shards and query the gateway for the same orders. The sweep also
+ * needs the open-payments-index GSI on the table (see README).
+ */
+@Component
+@ConditionalOnProperty(name = "payment.reconciliation.enabled", havingValue = "true")
+public class OpenPaymentReconciliationScheduler {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(OpenPaymentReconciliationScheduler.class);
+
+  private final ReconcileOpenPaymentsUseCase reconcileOpenPaymentsUseCase;
+
+  public OpenPaymentReconciliationScheduler(
+      ReconcileOpenPaymentsUseCase reconcileOpenPaymentsUseCase) {
+    this.reconcileOpenPaymentsUseCase = reconcileOpenPaymentsUseCase;
+  }
+
+  @Scheduled(
+      initialDelayString = "${payment.reconciliation.initial-delay:PT1M}",
+      fixedDelayString = "${payment.reconciliation.interval:PT5M}")
+  public void reconcile() {
+    log.debug("Starting open payments reconciliation");
+    try {
+      reconcileOpenPaymentsUseCase.reconcileOpenPayments();
+    } catch (Exception e) {
+      log.error("Open payments reconciliation failed", e);
+    }
+  }
+}
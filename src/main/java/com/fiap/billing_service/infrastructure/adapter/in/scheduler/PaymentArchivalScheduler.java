@@ -0,0 +1,39 @@
+package com.fiap.billing_service.infrastructure.adapter.in.scheduler;
+
+import com.fiap.billing_service.application.port.in.ArchiveExpiringPaymentsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically archives terminal payments whose hot period is ending.
+ *
+ * <p>Off unless payment.retention.archival-enabled=true; needs the archive-due-index GSI and TTL on
+ * expiresAtEpoch, which only tombstones carry (see README).
+ */
+@Component
+@ConditionalOnProperty(name = "payment.retention.archival-enabled", havingValue = "true")
+public class PaymentArchivalScheduler {
+
+  private static final Logger log = LoggerFactory.getLogger(PaymentArchivalScheduler.class);
+
+  private final ArchiveExpiringPaymentsUseCase archiveExpiringPaymentsUseCase;
+
+  public PaymentArchivalScheduler(ArchiveExpiringPaymentsUseCase archiveExpiringPaymentsUseCase) {
+    this.archiveExpiringPaymentsUseCase = archiveExpiringPaymentsUseCase;
+  }
+
+  @Scheduled(
+      initialDelayString = "${payment.retention.archival-initial-delay:PT10M}",
+      fixedDelayString = "${payment.retention.archival-interval:PT6H}")
+  public void archive() {
+    log.debug("Starting archival of expiring payments");
+    try {
+      archiveExpiringPaymentsUseCase.archiveExpiringPayments();
+    } catch (Exception e) {
+      log.error("Archival of expiring payments failed", e);
+    }
+  }
+}
@@ -1,7 +1,10 @@
 package com.fiap.billing_service.infrastructure.adapter.in.web;
 
-import java.util.HashMap;
 import java.util.Map;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -9,43 +12,54 @@ import org.springframework.web.bind.annotation.RestController;
 /**
  * Custom Health Check Endpoints for Billing Service
  *
- * <p>Provides additional health check endpoints beyond Spring Boot Actuator defaults
+ * <p>Provides additional health check endpoints beyond Spring Boot Actuator defaults. Responses
+ * are immutable constants, so probes allocate nothing. Readiness follows the application
+ * readiness state, which DependencyHealthRefresher drives from the dependency health checks; a
+ * pod refusing traffic answers 503 so the probe fails.
  */
 @RestController
 @RequestMapping("/api/v1/health")
 public class HealthCheckController {
 
+  private static final Map<String, String> PONG = Map.of("status", "UP", "message", "pong");
+  private static final Map<String, Object> HEALTH =
+      Map.of("status", "UP", "service", "billing-service");
+  private static final Map<String, String> UP = Map.of("status", "UP");
+  private static final ResponseEntity<Map<String, String>> READY = ResponseEntity.ok(UP);
+  private static final ResponseEntity<Map<String, String>> NOT_READY =
+      ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .body(Map.of("status", "OUT_OF_SERVICE"));
+
+  private final ApplicationAvailability availability;
+
+  public HealthCheckController(ApplicationAvailability availability) {
+    this.availability = availability;
+  }
+
   /** Simple ping endpoint for quick health checks */
   @GetMapping("/ping")
   public Map<String, String> ping() {
-    Map<String, String> response = new HashMap<>();
-    response.put("status", "UP");
-    response.put("message", "pong");
-    return response;
+    return PONG;
   }
 
   /** Get basic application health status */
   @GetMapping
   public Map<String, Object> getHealth() {
-    Map<String, Object> response = new HashMap<>();
-    response.put("status", "UP");
-    response.put("service", "billing-service");
-    return response;
+    return HEALTH;
   }
 
   /** Get liveness probe status - Kubernetes uses this to determine if the pod should be restarted */
   @GetMapping("/liveness")
   public Map<String, String> getLiveness() {
-    Map<String, String> response = new HashMap<>();
-    response.put("status", "UP");
-    return response;
+    return UP;
   }
 
   /** Get readiness probe status - Kubernetes uses this to determine if the pod is ready to receive traffic */
   @GetMapping("/readiness")
-  public Map<String, String> getReadiness() {
-    Map<String, String> response = new HashMap<>();
-    response.put("status", "UP");
-    return response;
+  public ResponseEntity<Map<String, String>> getReadiness() {
+    if (availability.getReadinessState() == ReadinessState.REFUSING_TRAFFIC) {
+      return NOT_READY;
+    }
+    return READY;
   }
 }
@@ -10,7 +10,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -22,6 +21,12 @@ public class HealthController {
 
     private static final Logger log = LoggerFactory.getLogger(HealthController.class);
 
+    private static final String STATUS = "UP";
+    private static final String SERVICE = "billing-service";
+    private static final String MESSAGE = "Service is running and polling SQS queue";
+    private static final Map<String, String> RESPONSE =
+            Map.of("status", STATUS, "service", SERVICE, "message", MESSAGE);
+
     @GetMapping
     public ResponseEntity<Map<String, String>> health() {
         Span span = GlobalTracer.get().activeSpan();
@@ -31,15 +36,13 @@ public class HealthController {
         String correlationId = MDC.get("correlationId");
         log.debug("[CorrelationId: {}] Health check requested", correlationId);
         
-        Map<String, String> response = new HashMap<>();
-        response.put("status", "UP");
-        response.put("service", "billing-service");
-        response.put("message", "Service is running and polling SQS queue");
-        
-        if (correlationId != null) {
-            response.put("correlationId", correlationId);
+        if (correlationId == null) {
+            return ResponseEntity.ok(RESPONSE);
         }
-        
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(Map.of(
+                "status", STATUS,
+                "service", SERVICE,
+                "message", MESSAGE,
+                "correlationId", correlationId));
     }
 }
@@ -0,0 +1,52 @@
+package com.fiap.billing_service.infrastructure.adapter.in.web.controller;
+
+import com.fiap.billing_service.application.port.in.ExportPaymentsUseCase;
+import com.fiap.billing_service.domain.dto.PaymentExportResult;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Admin endpoints for the bulk export of the payments table (finance reconciliation).
+ * Requires the X-Admin-Token header (AdminTokenInterceptor); only active with payment.export.enabled=true.
+ */
+@RestController
+@ConditionalOnProperty(name = "payment.export.enabled", havingValue = "true")
+@RequestMapping("/api/v1/admin/payments/exports")
+public class PaymentExportController {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentExportController.class);
+
+    private final ExportPaymentsUseCase exportPaymentsUseCase;
+
+    public PaymentExportController(ExportPaymentsUseCase exportPaymentsUseCase) {
+        this.exportPaymentsUseCase = exportPaymentsUseCase;
+    }
+
+    /** Start a new export; only one export runs at a time */
+    @PostMapping
+    public ResponseEntity<?> startExport() {
+        try {
+            PaymentExportResult export = exportPaymentsUseCase.startExport();
+            return ResponseEntity.accepted().body(export);
+        } catch (IllegalStateException e) {
+            log.warn("Export rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /** Status of the most recent export */
+    @GetMapping("/latest")
+    public ResponseEntity<PaymentExportResult> getLatestExport() {
+        return exportPaymentsUseCase.getLastExport()
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+}
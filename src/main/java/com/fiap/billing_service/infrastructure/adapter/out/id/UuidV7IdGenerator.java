@@ -0,0 +1,63 @@
+package com.fiap.billing_service.infrastructure.adapter.out.id;
+
+import com.fiap.billing_service.application.port.out.IdGeneratorPort;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.stereotype.Component;
+
+/**
+ * Time-ordered version 7 UUIDs (RFC 9562): 48 bits of Unix epoch milliseconds, a 12-bit sequence
+ * and 62 random bits.
+ *
+ * <p>Ids sort by creation time, which keeps log correlation and DynamoDB keys in insertion order.
+ * Each thread keeps its own last timestamp and sequence and draws from {@link ThreadLocalRandom},
+ * so minting an id neither locks nor touches the shared {@code SecureRandom} behind {@link
+ * UUID#randomUUID()}. The sequence starts at a random value in the lower half of its range each
+ * millisecond and counts up within it, keeping a thread's ids strictly increasing even when the
+ * clock stalls or steps back. These ids are unique, not unguessable: do not use them as secrets.
+ */
+@Component
+public class UuidV7IdGenerator implements IdGeneratorPort {
+
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000_0000_0000_0000L;
+  private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+  private static final int MAX_SEQUENCE = 0xFFF;
+  private static final int SEQUENCE_SEED_BOUND = (MAX_SEQUENCE + 1) / 2;
+
+  private final Clock clock;
+  private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+  public UuidV7IdGenerator(Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public UUID newId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    State last = state.get();
+    long now = clock.millis();
+    if (now > last.millis) {
+      last.millis = now;
+      last.sequence = random.nextInt(SEQUENCE_SEED_BOUND);
+    } else if (++last.sequence > MAX_SEQUENCE) {
+      // Sequence exhausted within one millisecond: run ahead of the clock until it catches up
+      last.millis++;
+      last.sequence = random.nextInt(SEQUENCE_SEED_BOUND);
+    }
+    long mostSigBits = (last.millis << 16) | VERSION | last.sequence;
+    long leastSigBits = VARIANT | (random.nextLong() & RANDOM_MASK);
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  /** Epoch milliseconds encoded in a version 7 id */
+  public static long timestampMillis(UUID id) {
+    return id.getMostSignificantBits() >>> 16;
+  }
+
+  private static final class State {
+    long millis = Long.MIN_VALUE;
+    int sequence;
+  }
+}
@@ -3,6 +3,8 @@ package com.fiap.billing_service.infrastructure.adapter.out.messaging;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.billing_service.application.port.out.PaymentResponseMessagePort;
 import com.fiap.billing_service.domain.entity.Payment;
+import com.fiap.billing_service.infrastructure.context.MessageContext;
+import io.awspring.cloud.sqs.FifoUtils;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -11,9 +13,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.services.sqs.SqsClient;
 import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
-/** Messaging adapter for sending payment responses to SQS */
+/**
+ * Messaging adapter for sending payment responses to SQS
+ *
+ * <p>Response queues whose names end in {@code .fifo} receive {@code MessageGroupId} = work order
+ * id and a deduplication id per payment outcome.
+ */
 @Component
 public class PaymentResponseMessageAdapter implements PaymentResponseMessagePort {
 
@@ -40,7 +48,7 @@ public class PaymentResponseMessageAdapter implements PaymentResponseMessagePort
       String queueName =
           isSuccessStatus(payment.getStatus().name()) ? successQueueName : failureQueueName;
 
-      log.info(
+      log.debug(
           "Sending payment response to queue: {} for paymentId={}, status={}",
           queueName,
           payment.getId(),
@@ -60,10 +68,24 @@ public class PaymentResponseMessageAdapter implements PaymentResponseMessagePort
       String messageJson = objectMapper.writeValueAsString(message);
 
       // Send message to SQS
-      SendMessageRequest sendMessageRequest =
-          SendMessageRequest.builder().queueUrl(queueUrl).messageBody(messageJson).build();
-
-      var result = sqsClient.sendMessage(sendMessageRequest);
+      SendMessageRequest.Builder sendMessageRequest =
+          SendMessageRequest.builder().queueUrl(queueUrl).messageBody(messageJson);
+      String correlationId = MessageContext.correlationId();
+      if (correlationId != null) {
+        // Lets consumers of the response join their logs to this payment's
+        MessageAttributeValue attribute =
+            MessageAttributeValue.builder().dataType("String").stringValue(correlationId).build();
+        sendMessageRequest.messageAttributes(Map.of(MessageContext.CORRELATION_ID, attribute));
+      }
+      if (FifoUtils.isFifo(queueName)) {
+        // One group per work order: its responses are consumed in order, other work orders in
+        // parallel. A resend of the same payment outcome is dropped by SQS deduplication.
+        sendMessageRequest
+            .messageGroupId(payment.getWorkOrderId().toString())
+            .messageDeduplicationId(payment.getId() + ":" + payment.getStatus());
+      }
+
+      var result = sqsClient.sendMessage(sendMessageRequest.build());
 
       log.info(
           "Payment response sent successfully to queue: {} with MessageId: {}",
@@ -0,0 +1,123 @@
+package com.fiap.billing_service.infrastructure.adapter.out.metrics;
+
+import com.fiap.billing_service.application.port.out.PaymentMetricsPort;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import com.timgroup.statsd.StatsDClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records payment pipeline metrics to Micrometer (exposed on /actuator/prometheus) and to the
+ * Datadog StatsD client.
+ *
+ * <p>Every meter and every StatsD tag array is created once in the constructor and looked up by
+ * enum ordinal, so recording a value allocates nothing. Meters:
+ *
+ * <ul>
+ *   <li>payment.stage.duration{stage} - stage latency histogram
+ *   <li>payment.stage.inflight{stage} - payments currently inside the stage
+ *   <li>payment.inflight - payments currently in the pipeline
+ *   <li>payment.outcome{status} - finished payments by status
+ *   <li>payment.coalesced - duplicate requests that joined a payment already in progress
+ * </ul>
+ */
+@Component
+public class PaymentPipelineMetricsAdapter implements PaymentMetricsPort {
+
+  private static final Stage[] STAGES = Stage.values();
+  private static final PaymentStatus[] STATUSES = PaymentStatus.values();
+
+  private final StatsDClient statsDClient;
+  private final Timer[] stageTimers = new Timer[STAGES.length];
+  private final AtomicInteger[] stageInFlight = new AtomicInteger[STAGES.length];
+  private final String[][] stageTags = new String[STAGES.length][];
+  private final Counter[] outcomeCounters = new Counter[STATUSES.length];
+  private final String[][] outcomeTags = new String[STATUSES.length][];
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Counter coalescedCounter;
+
+  public PaymentPipelineMetricsAdapter(MeterRegistry registry, StatsDClient statsDClient) {
+    this.statsDClient = statsDClient;
+
+    for (Stage stage : STAGES) {
+      String name = stage.name().toLowerCase(Locale.ROOT);
+      int i = stage.ordinal();
+      stageTimers[i] =
+          Timer.builder("payment.stage.duration")
+              .description("Latency of one payment pipeline stage")
+              .tag("stage", name)
+              .publishPercentileHistogram()
+              .minimumExpectedValue(Duration.ofMillis(1))
+              .maximumExpectedValue(Duration.ofSeconds(30))
+              .register(registry);
+      stageInFlight[i] = new AtomicInteger();
+      Gauge.builder("payment.stage.inflight", stageInFlight[i], AtomicInteger::get)
+          .description("Payments currently inside the stage")
+          .tag("stage", name)
+          .register(registry);
+      stageTags[i] = new String[] {"stage:" + name};
+    }
+
+    for (PaymentStatus status : STATUSES) {
+      String name = status.name().toLowerCase(Locale.ROOT);
+      int i = status.ordinal();
+      outcomeCounters[i] =
+          Counter.builder("payment.outcome")
+              .description("Payments that left the pipeline, by final status")
+              .tag("status", name)
+              .register(registry);
+      outcomeTags[i] = new String[] {"status:" + name};
+    }
+
+    Gauge.builder("payment.inflight", inFlight, AtomicInteger::get)
+        .description("Payments currently in the pipeline")
+        .register(registry);
+
+    coalescedCounter =
+        Counter.builder("payment.coalesced")
+            .description("Duplicate requests that joined a payment already in progress")
+            .register(registry);
+  }
+
+  @Override
+  public void paymentStarted() {
+    statsDClient.gauge("inflight", inFlight.incrementAndGet());
+  }
+
+  @Override
+  public void paymentFinished(PaymentStatus outcome) {
+    statsDClient.gauge("inflight", inFlight.decrementAndGet());
+    int i = outcome.ordinal();
+    outcomeCounters[i].increment();
+    statsDClient.incrementCounter("outcome", outcomeTags[i]);
+  }
+
+  @Override
+  public void paymentCoalesced() {
+    coalescedCounter.increment();
+    statsDClient.incrementCounter("coalesced");
+  }
+
+  @Override
+  public long startStage(Stage stage) {
+    stageInFlight[stage.ordinal()].incrementAndGet();
+    return System.nanoTime();
+  }
+
+  @Override
+  public void endStage(Stage stage, long startNanos) {
+    long elapsed = System.nanoTime() - startNanos;
+    int i = stage.ordinal();
+    stageInFlight[i].decrementAndGet();
+    stageTimers[i].record(elapsed, TimeUnit.NANOSECONDS);
+    statsDClient.recordExecutionTime(
+        "stage.duration", TimeUnit.NANOSECONDS.toMillis(elapsed), stageTags[i]);
+  }
+}
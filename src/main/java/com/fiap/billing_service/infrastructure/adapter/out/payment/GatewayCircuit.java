@@ -0,0 +1,96 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Circuit state of the Mercado Pago gateway, derived from the outcome of real calls.
+ *
+ * <p>The gateway adapters report every call. After {@code failureThreshold} consecutive transport
+ * or 5xx failures the circuit is OPEN; once {@code openDuration} has passed it is HALF_OPEN and
+ * the next call closes it again or re-opens it. Calls are not rejected here: the state feeds the
+ * gateway health indicator, and readiness pauses the listener while the circuit is open.
+ */
+@Component
+public class GatewayCircuit {
+
+  /** Circuit states */
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final int failureThreshold;
+  private final long openDurationMillis;
+  private final Clock clock;
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private final AtomicLong openedAtMillis = new AtomicLong(-1);
+
+  public GatewayCircuit(
+      @Value("${mercadopago.circuit.failure-threshold:5}") int failureThreshold,
+      @Value("${mercadopago.circuit.open-duration:PT30S}") Duration openDuration,
+      Clock clock) {
+    this.failureThreshold = Math.max(1, failureThreshold);
+    this.openDurationMillis = openDuration.toMillis();
+    this.clock = clock;
+  }
+
+  /**
+   * Runs a gateway call and records its outcome. Client errors (4xx) count as success: the
+   * gateway answered.
+   *
+   * @param call the gateway call
+   * @return the call result
+   */
+  public <T> T record(Supplier<T> call) {
+    try {
+      T result = call.get();
+      recordSuccess();
+      return result;
+    } catch (HttpClientErrorException e) {
+      recordSuccess();
+      throw e;
+    } catch (RuntimeException e) {
+      recordFailure();
+      throw e;
+    }
+  }
+
+  /** A gateway call got an answer (including 4xx business errors) */
+  public void recordSuccess() {
+    consecutiveFailures.set(0);
+    openedAtMillis.set(-1);
+  }
+
+  /** A gateway call failed on transport or with a 5xx */
+  public void recordFailure() {
+    if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+      // A failure while half-open restarts the open period
+      openedAtMillis.set(clock.millis());
+    }
+  }
+
+  /**
+   * Current circuit state
+   *
+   * @return CLOSED, OPEN or HALF_OPEN
+   */
+  public State state() {
+    long openedAt = openedAtMillis.get();
+    if (openedAt < 0) {
+      return State.CLOSED;
+    }
+    return clock.millis() - openedAt < openDurationMillis ? State.OPEN : State.HALF_OPEN;
+  }
+
+  public int getConsecutiveFailures() {
+    return consecutiveFailures.get();
+  }
+}
@@ -0,0 +1,63 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Mercado Pago endpoints, parsed once at startup.
+ *
+ * <p>{@code mercadopago.base-url} selects the API host: the public API, a regional or egress proxy
+ * endpoint, or a local stand-in for load tests. The adapters call the {@link URI} overloads of
+ * {@code RestTemplate}, so no URI template is expanded per call; an order URI only appends the
+ * encoded order id to a prepared prefix.
+ */
+@Component
+public class MercadoPagoEndpoints {
+
+  public static final String DEFAULT_BASE_URL = "https://api.mercadopago.com";
+  public static final String DEFAULT_ORDERS_PATH = "/v1/orders";
+
+  private final URI baseUri;
+  private final URI ordersUri;
+  private final String orderUriPrefix;
+
+  public MercadoPagoEndpoints(
+      @Value("${mercadopago.base-url:" + DEFAULT_BASE_URL + "}") String baseUrl,
+      @Value("${mercadopago.orders-path:" + DEFAULT_ORDERS_PATH + "}") String ordersPath) {
+    String base = stripTrailingSlash(baseUrl.trim());
+    this.baseUri = URI.create(base);
+    if (!baseUri.isAbsolute() || baseUri.getHost() == null) {
+      throw new IllegalArgumentException("mercadopago.base-url must be an absolute URL: " + baseUrl);
+    }
+    String path = stripTrailingSlash(ordersPath.trim());
+    String orders = base + (path.startsWith("/") ? path : "/" + path);
+    this.ordersUri = URI.create(orders);
+    this.orderUriPrefix = orders + "/";
+  }
+
+  /** API root, used to warm up the connection */
+  public URI getBaseUri() {
+    return baseUri;
+  }
+
+  /** Orders collection (POST creates an order) */
+  public URI getOrdersUri() {
+    return ordersUri;
+  }
+
+  /**
+   * Single order resource
+   *
+   * @param orderId the gateway order id
+   */
+  public URI orderUri(String orderId) {
+    return URI.create(orderUriPrefix + UriUtils.encodePathSegment(orderId, StandardCharsets.UTF_8));
+  }
+
+  private static String stripTrailingSlash(String value) {
+    return value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+  }
+}
@@ -0,0 +1,180 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import java.io.IOException;
+
+/**
+ * Streaming decoder for Orders API responses, shared by {@link MercadoPagoAdapter} and {@link
+ * MercadoPagoOrderQueryAdapter}.
+ *
+ * <p>Reads the response bytes with a Jackson parser and keeps only the order id, the first
+ * payment's id, status and status detail, and its PIX QR code; the payer, amounts and further
+ * transactions are skipped without being materialized. Statuses are mapped straight from the
+ * parser's character buffer by {@link MercadoPagoStatusTable}.
+ */
+public final class MercadoPagoOrderDecoder {
+
+  private static final JsonFactory JSON = new JsonFactory();
+
+  private MercadoPagoOrderDecoder() {}
+
+  /**
+   * Fields of an order response the adapters use.
+   *
+   * @param orderId order id
+   * @param paymentId first payment id, or the order id when the order has no payment
+   * @param status first payment status, or the order status when the order has no payment
+   * @param statusDetail first payment status detail
+   * @param qrCode PIX copy-and-paste code
+   * @param qrCodeBase64 PIX QR code image
+   */
+  public record DecodedOrder(
+      String orderId,
+      String paymentId,
+      PaymentStatus status,
+      String statusDetail,
+      String qrCode,
+      String qrCodeBase64) {
+
+    /** Rejection reason: the status detail of a rejected payment */
+    public String errorMessage() {
+      return status == PaymentStatus.REJECTED ? statusDetail : null;
+    }
+  }
+
+  /**
+   * @param body Orders API response body
+   * @throws IOException if the body is not a JSON object
+   */
+  public static DecodedOrder decode(byte[] body) throws IOException {
+    try (JsonParser parser = JSON.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Expected an order object");
+      }
+      Builder order = new Builder();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        switch (field) {
+          case "id" -> order.orderId = text(parser, value);
+          case "status" -> order.orderStatus = status(parser, value);
+          case "transactions" -> readTransactions(parser, value, order);
+          default -> parser.skipChildren();
+        }
+      }
+      return order.build();
+    }
+  }
+
+  private static void readTransactions(JsonParser parser, JsonToken token, Builder order)
+      throws IOException {
+    if (token != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if ("payments".equals(field) && value == JsonToken.START_ARRAY) {
+        if (parser.nextToken() == JsonToken.START_OBJECT) {
+          readPayment(parser, order);
+        }
+        // Remaining payments, or the end of an empty array
+        while (parser.currentToken() != JsonToken.END_ARRAY) {
+          parser.skipChildren();
+          parser.nextToken();
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private static void readPayment(JsonParser parser, Builder order) throws IOException {
+    order.hasPayment = true;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      switch (field) {
+        case "id" -> order.paymentId = text(parser, value);
+        case "status" -> order.paymentStatus = status(parser, value);
+        case "status_detail" -> order.statusDetail = text(parser, value);
+        case "point_of_interaction" -> readPointOfInteraction(parser, value, order);
+        default -> parser.skipChildren();
+      }
+    }
+    parser.nextToken();
+  }
+
+  private static void readPointOfInteraction(JsonParser parser, JsonToken token, Builder order)
+      throws IOException {
+    if (token != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if ("transaction_data".equals(field) && value == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String dataField = parser.currentName();
+          JsonToken dataValue = parser.nextToken();
+          switch (dataField) {
+            case "qr_code" -> order.qrCode = text(parser, dataValue);
+            case "qr_code_base64" -> order.qrCodeBase64 = text(parser, dataValue);
+            default -> parser.skipChildren();
+          }
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private static String text(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (!token.isScalarValue()) {
+      parser.skipChildren();
+      return null;
+    }
+    return parser.getText();
+  }
+
+  /** Mapped status, or null when absent */
+  private static PaymentStatus status(JsonParser parser, JsonToken token) throws IOException {
+    if (token != JsonToken.VALUE_STRING) {
+      parser.skipChildren();
+      return null;
+    }
+    return MercadoPagoStatusTable.map(
+        parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+  }
+
+  private static final class Builder {
+    String orderId;
+    PaymentStatus orderStatus;
+    boolean hasPayment;
+    String paymentId;
+    PaymentStatus paymentStatus;
+    String statusDetail;
+    String qrCode;
+    String qrCodeBase64;
+
+    DecodedOrder build() {
+      PaymentStatus status = hasPayment ? paymentStatus : orderStatus;
+      return new DecodedOrder(
+          orderId,
+          hasPayment ? paymentId : orderId,
+          status != null ? status : PaymentStatus.REJECTED,
+          statusDetail,
+          qrCode,
+          qrCodeBase64);
+    }
+  }
+}
@@ -1,15 +1,15 @@
 package com.fiap.billing_service.infrastructure.adapter.out.payment;
 
 import com.fiap.billing_service.application.port.out.PaymentOrderQueryPort;
-import com.fiap.billing_service.domain.entity.Payment;
 import com.fiap.billing_service.domain.exception.PaymentProcessingException;
-import com.fiap.billing_service.domain.valueobject.PaymentStatus;
-import com.fiap.billing_service.infrastructure.adapter.out.payment.dto.MercadoPagoOrderResponse;
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.MercadoPagoOrderDecoder.DecodedOrder;
 import jakarta.annotation.PostConstruct;
-import java.util.UUID;
+import java.net.URI;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -21,18 +21,26 @@ import org.springframework.web.client.RestTemplate;
 
 /** Mercado Pago order query adapter for retrieving payment status from Orders API */
 @Component
+@ConditionalOnProperty(
+    name = "payment.gateway.mode",
+    havingValue = "mercadopago",
+    matchIfMissing = true)
 public class MercadoPagoOrderQueryAdapter implements PaymentOrderQueryPort {
 
   private static final Logger log = LoggerFactory.getLogger(MercadoPagoOrderQueryAdapter.class);
-  private static final String ORDERS_API_URL = "https://api.mercadopago.com/v1/orders";
 
   @Value("${mercadopago.access-token}")
   private String accessToken;
 
   private final RestTemplate restTemplate;
+  private final GatewayCircuit gatewayCircuit;
+  private final MercadoPagoEndpoints endpoints;
 
-  public MercadoPagoOrderQueryAdapter(RestTemplate restTemplate) {
+  public MercadoPagoOrderQueryAdapter(
+      RestTemplate restTemplate, GatewayCircuit gatewayCircuit, MercadoPagoEndpoints endpoints) {
     this.restTemplate = restTemplate;
+    this.gatewayCircuit = gatewayCircuit;
+    this.endpoints = endpoints;
   }
 
   @PostConstruct
@@ -41,8 +49,8 @@ public class MercadoPagoOrderQueryAdapter implements PaymentOrderQueryPort {
   }
 
   @Override
-  public Payment getOrderStatus(String orderPaymentId) {
-    log.info("Querying order status from Mercado Pago: orderPaymentId={}", orderPaymentId);
+  public OrderStatusSnapshot getOrderStatus(String orderPaymentId) {
+    log.debug("Querying order status from Mercado Pago: orderPaymentId={}", orderPaymentId);
 
     try {
       // Set up headers with Authorization
@@ -53,25 +61,28 @@ public class MercadoPagoOrderQueryAdapter implements PaymentOrderQueryPort {
       HttpEntity<?> requestEntity = new HttpEntity<>(headers);
 
       // Make GET API call
-      String url = ORDERS_API_URL + "/" + orderPaymentId;
+      URI url = endpoints.orderUri(orderPaymentId);
       log.debug("Calling Mercado Pago Orders API with GET: {}", url);
 
-      ResponseEntity<MercadoPagoOrderResponse> responseEntity =
-          restTemplate.exchange(url, HttpMethod.GET, requestEntity, MercadoPagoOrderResponse.class);
+      ResponseEntity<byte[]> responseEntity =
+          gatewayCircuit.record(
+              () -> restTemplate.exchange(url, HttpMethod.GET, requestEntity, byte[].class));
 
-      MercadoPagoOrderResponse orderResponse = responseEntity.getBody();
+      byte[] body = responseEntity.getBody();
 
-      if (orderResponse == null) {
+      if (body == null || body.length == 0) {
         throw new PaymentProcessingException(
             "Empty response from Mercado Pago Orders API for orderPaymentId: " + orderPaymentId);
       }
 
+      DecodedOrder order = MercadoPagoOrderDecoder.decode(body);
+
       log.info(
           "Order status retrieved from Mercado Pago: id={}, status={}",
-          orderResponse.getId(),
-          orderResponse.getStatus());
+          order.orderId(),
+          order.status());
 
-      return mapResponseToPayment(orderResponse);
+      return mapResponseToSnapshot(order);
 
     } catch (HttpClientErrorException.NotFound e) {
       log.error("Order not found in Mercado Pago: orderPaymentId={}", orderPaymentId, e);
@@ -89,86 +100,18 @@ public class MercadoPagoOrderQueryAdapter implements PaymentOrderQueryPort {
   }
 
   /**
-   * Maps Mercado Pago order response to domain Payment entity with updated status
+   * Maps a decoded Mercado Pago order to the status snapshot applied to the payment
    *
-   * @param orderResponse the response from Mercado Pago API
-   * @return Payment entity with updated status and payment details
+   * @param order the decoded response from Mercado Pago API
+   * @return the order's current status and payment details
    */
-  private Payment mapResponseToPayment(MercadoPagoOrderResponse orderResponse) {
-    String orderId = orderResponse.getId();
-    String qrCode = null;
-    String qrCodeBase64 = null;
-    String externalPaymentId = orderId;
-    String paymentStatus = orderResponse.getStatus();
-    String errorMessage = null;
-
-    // Extract payment data from first transaction
-    if (orderResponse.getTransactions() != null
-        && orderResponse.getTransactions().getPayments() != null
-        && orderResponse.getTransactions().getPayments().length > 0) {
-
-      MercadoPagoOrderResponse.Payment payment = orderResponse.getTransactions().getPayments()[0];
-      externalPaymentId = payment.getId();
-      paymentStatus = payment.getStatus();
-
-      // Extract QR code if available
-      if (payment.getPointOfInteraction() != null
-          && payment.getPointOfInteraction().getTransactionData() != null) {
-        qrCode = payment.getPointOfInteraction().getTransactionData().getQrCode();
-        qrCodeBase64 = payment.getPointOfInteraction().getTransactionData().getQrCodeBase64();
-      }
-
-      // Extract error message if payment was rejected
-      if (paymentStatus != null && paymentStatus.toLowerCase().contains("rejected")) {
-        errorMessage = payment.getStatusDetail();
-      }
-    }
-
-    // Map status
-    PaymentStatus status = mapStatus(paymentStatus);
-
-    // Create Payment entity with updated information
-    Payment payment =
-        new Payment(
-            UUID.randomUUID(),
-            null, // workOrderId not available from API query
-            null, // clientId not available from API query
-            null); // amount not available from API query
-
-    // Update payment with gateway response
-    payment.markAsProcessing(externalPaymentId, orderId, "pix", qrCode, qrCodeBase64);
-
-    // Apply final status
-    if (status == PaymentStatus.APPROVED) {
-      payment.markAsApproved();
-    } else if (status == PaymentStatus.REJECTED) {
-      payment.markAsRejected(errorMessage);
-    }
-
+  private OrderStatusSnapshot mapResponseToSnapshot(DecodedOrder order) {
     log.debug(
-        "Payment entity mapped from Mercado Pago response: status={}, externalPaymentId={}",
-        status,
-        externalPaymentId);
-
-    return payment;
-  }
-
-  /**
-   * Maps Mercado Pago payment status to domain PaymentStatus enum
-   *
-   * @param mpStatus the status from Mercado Pago API
-   * @return corresponding PaymentStatus
-   */
-  private PaymentStatus mapStatus(String mpStatus) {
-    if (mpStatus == null) {
-      return PaymentStatus.REJECTED;
-    }
+        "Order status mapped from Mercado Pago response: status={}, externalPaymentId={}",
+        order.status(),
+        order.paymentId());
 
-    return switch (mpStatus.toLowerCase()) {
-      case "approved", "processed", "accredited" -> PaymentStatus.APPROVED;
-      case "waiting_transfer", "cancelled" -> PaymentStatus.REJECTED;
-      case "pending", "processing" -> PaymentStatus.PROCESSING;
-      default -> PaymentStatus.REJECTED;
-    };
+    return new OrderStatusSnapshot(
+        order.orderId(), order.paymentId(), order.status(), order.errorMessage());
   }
 }
@@ -0,0 +1,96 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment;
+
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+
+/**
+ * Maps Mercado Pago order and payment statuses to {@link PaymentStatus}.
+ *
+ * <p>The known statuses sit in a perfect-hash table: the multiplier is chosen once, when the class
+ * is loaded, so that every known status lands in its own slot. A lookup hashes the characters with
+ * ASCII case folding and compares them against the single candidate, straight from the parser's
+ * buffer, without allocating or lower-casing a string. Missing and unknown statuses are REJECTED.
+ */
+final class MercadoPagoStatusTable {
+
+  private static final String[] STATUSES = {
+    "approved", "processed", "accredited", "waiting_transfer", "cancelled", "pending", "processing"
+  };
+  private static final PaymentStatus[] MAPPED = {
+    PaymentStatus.APPROVED,
+    PaymentStatus.APPROVED,
+    PaymentStatus.APPROVED,
+    PaymentStatus.REJECTED,
+    PaymentStatus.REJECTED,
+    PaymentStatus.PROCESSING,
+    PaymentStatus.PROCESSING
+  };
+
+  private static final int SLOTS = 16;
+  private static final int MASK = SLOTS - 1;
+  private static final int MULTIPLIER;
+  private static final String[] SLOT_STATUS = new String[SLOTS];
+  private static final PaymentStatus[] SLOT_MAPPED = new PaymentStatus[SLOTS];
+
+  static {
+    int multiplier = 31;
+    while (!collisionFree(multiplier)) {
+      multiplier += 2;
+    }
+    MULTIPLIER = multiplier;
+    for (int i = 0; i < STATUSES.length; i++) {
+      String status = STATUSES[i];
+      int slot = slot(status.toCharArray(), 0, status.length(), MULTIPLIER);
+      SLOT_STATUS[slot] = status;
+      SLOT_MAPPED[slot] = MAPPED[i];
+    }
+  }
+
+  private MercadoPagoStatusTable() {}
+
+  /**
+   * @param text buffer holding the status
+   * @param offset start of the status in {@code text}
+   * @param length status length
+   */
+  static PaymentStatus map(char[] text, int offset, int length) {
+    int slot = slot(text, offset, length, MULTIPLIER);
+    String candidate = SLOT_STATUS[slot];
+    if (candidate == null || candidate.length() != length) {
+      return PaymentStatus.REJECTED;
+    }
+    for (int i = 0; i < length; i++) {
+      if (fold(text[offset + i]) != candidate.charAt(i)) {
+        return PaymentStatus.REJECTED;
+      }
+    }
+    return SLOT_MAPPED[slot];
+  }
+
+  static PaymentStatus map(String status) {
+    return status != null ? map(status.toCharArray(), 0, status.length()) : PaymentStatus.REJECTED;
+  }
+
+  private static int slot(char[] text, int offset, int length, int multiplier) {
+    int hash = length;
+    for (int i = offset; i < offset + length; i++) {
+      hash = hash * multiplier + fold(text[i]);
+    }
+    return (hash ^ (hash >>> 16)) & MASK;
+  }
+
+  private static char fold(char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+
+  private static boolean collisionFree(int multiplier) {
+    boolean[] used = new boolean[SLOTS];
+    for (String status : STATUSES) {
+      int slot = slot(status.toCharArray(), 0, status.length(), multiplier);
+      if (used[slot]) {
+        return false;
+      }
+      used[slot] = true;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,60 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment.simulator;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Log-normal latency given by its median and 99th percentile, the shape gateway latencies usually
+ * have: most calls close to the median and a long right tail.
+ */
+public final class LatencyDistribution {
+
+  /** Standard normal quantile of the 99th percentile */
+  private static final double Z_99 = 2.3263478740408408;
+
+  public static final LatencyDistribution NONE = new LatencyDistribution(0, 0);
+
+  private final double mu;
+  private final double sigma;
+
+  private LatencyDistribution(double mu, double sigma) {
+    this.mu = mu;
+    this.sigma = sigma;
+  }
+
+  /**
+   * @param median latency of half the calls; zero means no latency at all
+   * @param p99 latency exceeded by 1% of the calls; not above the median means a fixed latency
+   */
+  public static LatencyDistribution of(Duration median, Duration p99) {
+    long medianNanos = median.toNanos();
+    if (medianNanos <= 0) {
+      return NONE;
+    }
+    long p99Nanos = p99.toNanos();
+    double sigma = p99Nanos > medianNanos ? Math.log((double) p99Nanos / medianNanos) / Z_99 : 0;
+    return new LatencyDistribution(Math.log(medianNanos), sigma);
+  }
+
+  /** One latency sample in nanoseconds */
+  public long sampleNanos(RandomGenerator random) {
+    if (this == NONE) {
+      return 0;
+    }
+    return (long) Math.exp(mu + sigma * random.nextGaussian());
+  }
+
+  /** Blocks the calling thread for one latency sample */
+  void pause(RandomGenerator random) {
+    long nanos = sampleNanos(random);
+    if (nanos <= 0) {
+      return;
+    }
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment.simulator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Gateway rate limit as a generic cell rate algorithm: calls are admitted at {@code
+ * requestsPerSecond} on average with bursts of up to {@code burst} calls, the rest is throttled.
+ * One CAS per call, no refill thread.
+ */
+public class RequestThrottle {
+
+  public static final RequestThrottle UNLIMITED = new RequestThrottle(0, 0, System::nanoTime);
+
+  private final long intervalNanos;
+  private final long toleranceNanos;
+  private final LongSupplier nanoTime;
+  /** Theoretical arrival time of the next call */
+  private final AtomicLong nextArrival = new AtomicLong(Long.MIN_VALUE);
+
+  /**
+   * @param requestsPerSecond sustained rate; zero or less disables the limit
+   * @param burst calls admitted at once on top of the sustained rate
+   */
+  public RequestThrottle(double requestsPerSecond, int burst, LongSupplier nanoTime) {
+    this.intervalNanos = requestsPerSecond > 0 ? (long) (1_000_000_000L / requestsPerSecond) : 0;
+    this.toleranceNanos = intervalNanos * Math.max(0, burst - 1L);
+    this.nanoTime = nanoTime;
+  }
+
+  /** Whether the call is admitted; a throttled call does not consume capacity */
+  public boolean tryAcquire() {
+    if (intervalNanos == 0) {
+      return true;
+    }
+    long now = nanoTime.getAsLong();
+    while (true) {
+      long current = nextArrival.get();
+      long arrival = current == Long.MIN_VALUE ? now : Math.max(current, now);
+      if (arrival - now > toleranceNanos) {
+        return false;
+      }
+      if (nextArrival.compareAndSet(current, arrival + intervalNanos)) {
+        return true;
+      }
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment.simulator;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Simulated orders packed into one int each, so millions of them fit in a few dozen megabytes.
+ *
+ * <p>Order ids are {@code SIM-<sequence>}; the sequence indexes a ring of {@code capacity} slots
+ * allocated in pages of 64k on first use. A slot holds the settlement time as milliseconds after
+ * the store was created, plus one so zero means empty, negated when the order is rejected. Once
+ * more than {@code capacity} orders were created the oldest ones are overwritten and no longer
+ * found, like orders purged by the gateway.
+ */
+public class SimulatedOrderStore {
+
+  static final String ID_PREFIX = "SIM-";
+
+  private static final int PAGE_BITS = 16;
+  private static final int PAGE_SIZE = 1 << PAGE_BITS;
+  private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+  /** Outcome of a status lookup */
+  public enum Lookup {
+    NOT_FOUND,
+    PROCESSING,
+    APPROVED,
+    REJECTED
+  }
+
+  private final long capacity;
+  private final long baseMillis;
+  private final AtomicReferenceArray<AtomicIntegerArray> pages;
+  private final AtomicLong sequence = new AtomicLong();
+
+  /**
+   * @param capacity orders kept before the oldest are overwritten
+   * @param baseMillis epoch millis settlement times are stored relative to
+   */
+  public SimulatedOrderStore(long capacity, long baseMillis) {
+    if (capacity < 1 || capacity > (long) Integer.MAX_VALUE * PAGE_SIZE) {
+      throw new IllegalArgumentException("Invalid simulated order capacity: " + capacity);
+    }
+    this.capacity = capacity;
+    this.baseMillis = baseMillis;
+    this.pages = new AtomicReferenceArray<>((int) ((capacity + PAGE_SIZE - 1) >>> PAGE_BITS));
+  }
+
+  /**
+   * Records a new order
+   *
+   * @param settlesAtMillis epoch millis at which the order leaves PROCESSING
+   * @param rejected whether it is rejected rather than approved then
+   * @return the order id
+   */
+  public String create(long settlesAtMillis, boolean rejected) {
+    long seq = sequence.getAndIncrement();
+    long offset = Math.clamp(settlesAtMillis - baseMillis, 0, Integer.MAX_VALUE - 1) + 1;
+    long slot = seq % capacity;
+    page(slot).set((int) (slot & PAGE_MASK), (int) (rejected ? -offset : offset));
+    return ID_PREFIX + seq;
+  }
+
+  /**
+   * Status of an order at the given time
+   *
+   * @param orderId the order id returned by {@link #create}
+   * @param nowMillis current epoch millis
+   */
+  public Lookup lookup(String orderId, long nowMillis) {
+    long seq = parseSequence(orderId);
+    long next = sequence.get();
+    if (seq < 0 || seq >= next || seq < next - capacity) {
+      return Lookup.NOT_FOUND;
+    }
+    long slot = seq % capacity;
+    AtomicIntegerArray page = pages.get((int) (slot >>> PAGE_BITS));
+    int value = page != null ? page.get((int) (slot & PAGE_MASK)) : 0;
+    if (value == 0) {
+      // Sequence taken but the slot not written yet
+      return Lookup.NOT_FOUND;
+    }
+    long settlesAtMillis = baseMillis + Math.abs((long) value) - 1;
+    if (nowMillis < settlesAtMillis) {
+      return Lookup.PROCESSING;
+    }
+    return value < 0 ? Lookup.REJECTED : Lookup.APPROVED;
+  }
+
+  /** Orders currently held */
+  public long size() {
+    return Math.min(sequence.get(), capacity);
+  }
+
+  private AtomicIntegerArray page(long slot) {
+    int index = (int) (slot >>> PAGE_BITS);
+    AtomicIntegerArray page = pages.get(index);
+    if (page == null) {
+      pages.compareAndSet(index, null, new AtomicIntegerArray(PAGE_SIZE));
+      page = pages.get(index);
+    }
+    return page;
+  }
+
+  private static long parseSequence(String orderId) {
+    if (orderId == null || !orderId.startsWith(ID_PREFIX)) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(orderId, ID_PREFIX.length(), orderId.length(), 10);
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment.simulator;
+
+import com.fiap.billing_service.application.port.out.PaymentGatewayPort;
+import com.fiap.billing_service.application.port.out.PaymentOrderQueryPort;
+import com.fiap.billing_service.domain.dto.PaymentResponse;
+import com.fiap.billing_service.domain.exception.PaymentProcessingException;
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory stand-in for Mercado Pago, for capacity tests without external calls
+ * ({@code payment.gateway.mode=simulator}, profile {@code gateway-simulator}).
+ *
+ * <p>Orders are created PROCESSING and settle after a sampled approval delay, approved or rejected
+ * at {@code rejection-rate}. Both calls block for a sampled latency and are throttled like the
+ * real API once {@code max-requests-per-second} is exceeded. Failures carry the same exception
+ * types and messages as {@code MercadoPagoAdapter} and {@code MercadoPagoOrderQueryAdapter}.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.gateway.mode", havingValue = "simulator")
+public class SimulatedPaymentGateway implements PaymentGatewayPort, PaymentOrderQueryPort {
+
+  private static final Logger log = LoggerFactory.getLogger(SimulatedPaymentGateway.class);
+
+  static final String REJECTION_DETAIL = "cc_rejected_other_reason";
+
+  private final LatencyDistribution createLatency;
+  private final LatencyDistribution queryLatency;
+  private final LatencyDistribution approvalDelay;
+  private final double rejectionRate;
+  private final RequestThrottle throttle;
+  private final SimulatedOrderStore orders;
+  private final Clock clock;
+
+  @Autowired
+  public SimulatedPaymentGateway(
+      @Value("${payment.gateway.simulator.create-latency.median:PT0.15S}") Duration createMedian,
+      @Value("${payment.gateway.simulator.create-latency.p99:PT0.6S}") Duration createP99,
+      @Value("${payment.gateway.simulator.query-latency.median:PT0.08S}") Duration queryMedian,
+      @Value("${payment.gateway.simulator.query-latency.p99:PT0.3S}") Duration queryP99,
+      @Value("${payment.gateway.simulator.approval-delay.median:PT2S}") Duration approvalMedian,
+      @Value("${payment.gateway.simulator.approval-delay.p99:PT8S}") Duration approvalP99,
+      @Value("${payment.gateway.simulator.rejection-rate:0.05}") double rejectionRate,
+      @Value("${payment.gateway.simulator.max-requests-per-second:0}") double maxRequestsPerSecond,
+      @Value("${payment.gateway.simulator.burst:50}") int burst,
+      @Value("${payment.gateway.simulator.max-orders:10000000}") long maxOrders,
+      Clock clock) {
+    this(
+        LatencyDistribution.of(createMedian, createP99),
+        LatencyDistribution.of(queryMedian, queryP99),
+        LatencyDistribution.of(approvalMedian, approvalP99),
+        rejectionRate,
+        new RequestThrottle(maxRequestsPerSecond, burst, System::nanoTime),
+        new SimulatedOrderStore(maxOrders, clock.millis()),
+        clock);
+    log.info(
+        "Simulated payment gateway enabled: create latency {}/{}, query latency {}/{}, approval"
+            + " delay {}/{} (median/p99), rejection rate {}, max {} req/s, {} orders kept",
+        createMedian,
+        createP99,
+        queryMedian,
+        queryP99,
+        approvalMedian,
+        approvalP99,
+        rejectionRate,
+        maxRequestsPerSecond > 0 ? maxRequestsPerSecond : "unlimited",
+        maxOrders);
+  }
+
+  SimulatedPaymentGateway(
+      LatencyDistribution createLatency,
+      LatencyDistribution queryLatency,
+      LatencyDistribution approvalDelay,
+      double rejectionRate,
+      RequestThrottle throttle,
+      SimulatedOrderStore orders,
+      Clock clock) {
+    this.createLatency = createLatency;
+    this.queryLatency = queryLatency;
+    this.approvalDelay = approvalDelay;
+    this.rejectionRate = rejectionRate;
+    this.throttle = throttle;
+    this.orders = orders;
+    this.clock = clock;
+  }
+
+  @Override
+  public PaymentResponse processPixPayment(
+      BigDecimal amount, String email, String description, String firstName) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    if (!throttle.tryAcquire()) {
+      throw new RuntimeException("Mercado Pago API error: 429 Too Many Requests (simulated)");
+    }
+    createLatency.pause(random);
+
+    long settlesAtMillis = clock.millis() + approvalDelay.sampleNanos(random) / 1_000_000;
+    String orderId = orders.create(settlesAtMillis, random.nextDouble() < rejectionRate);
+    log.debug("Simulated order created: id={}", orderId);
+
+    return new PaymentResponse(
+        orderId,
+        orderId,
+        "pix",
+        PaymentStatus.PROCESSING,
+        "00020126simulated" + orderId,
+        null,
+        null);
+  }
+
+  @Override
+  public OrderStatusSnapshot getOrderStatus(String orderPaymentId) {
+    if (!throttle.tryAcquire()) {
+      throw new PaymentProcessingException(
+          "Failed to query order status from Mercado Pago for ID: "
+              + orderPaymentId
+              + " (429 Too Many Requests, simulated)");
+    }
+    queryLatency.pause(ThreadLocalRandom.current());
+
+    SimulatedOrderStore.Lookup lookup = orders.lookup(orderPaymentId, clock.millis());
+    if (lookup == SimulatedOrderStore.Lookup.NOT_FOUND) {
+      throw new PaymentProcessingException(
+          "Order not found in Mercado Pago with ID: " + orderPaymentId);
+    }
+
+    PaymentStatus status =
+        switch (lookup) {
+          case APPROVED -> PaymentStatus.APPROVED;
+          case REJECTED -> PaymentStatus.REJECTED;
+          default -> PaymentStatus.PROCESSING;
+        };
+    return new OrderStatusSnapshot(
+        orderPaymentId,
+        orderPaymentId,
+        status,
+        status == PaymentStatus.REJECTED ? REJECTION_DETAIL : null);
+  }
+
+  /** Simulated orders currently held */
+  public long getOrderCount() {
+    return orders.size();
+  }
+}
@@ -0,0 +1,201 @@
+package com.fiap.billing_service.infrastructure.adapter.out.persistence;
+
+import com.fiap.billing_service.application.port.out.PaymentRepositoryPort;
+import com.fiap.billing_service.domain.entity.Payment;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import com.fiap.billing_service.infrastructure.adapter.out.persistence.entity.PaymentEntity;
+import com.fiap.billing_service.infrastructure.adapter.out.persistence.entity.PaymentEntity.Attributes;
+import com.fiap.billing_service.infrastructure.adapter.out.persistence.mapper.PaymentMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter for Payment persistence on the plain DynamoDB client.
+ * 
+ * Same table layout and behaviour as PaymentRepositoryAdapter, but items are encoded by
+ * PaymentMapper.toItem()/fromItem() directly as attribute maps instead of going through
+ * the PaymentEntity bean and the Enhanced Client's reflective table schema.
+ * 
+ * Enabled with dynamodb.repository.mode=low-level.
+ */
+@Component
+@ConditionalOnProperty(name = "dynamodb.repository.mode", havingValue = "low-level")
+public class LowLevelPaymentRepositoryAdapter implements PaymentRepositoryPort {
+
+  private static final Logger logger = LoggerFactory.getLogger(LowLevelPaymentRepositoryAdapter.class);
+
+  private static final String OPEN_PAYMENTS_CONDITION =
+      "#bucket = :bucket AND #createdAt < :createdBefore";
+
+  private static final Map<String, String> OPEN_PAYMENTS_NAMES = Map.of(
+      "#bucket", Attributes.OPEN_BUCKET,
+      "#createdAt", Attributes.CREATED_AT_EPOCH);
+
+  private static final String ABSENT_CONDITION = "attribute_not_exists(#workOrderId)";
+
+  private static final Map<String, String> ABSENT_NAMES =
+      Map.of("#workOrderId", Attributes.WORK_ORDER_ID);
+
+  private static final String STATUS_CONDITION = "#status = :expected";
+
+  private static final Map<String, String> STATUS_NAMES = Map.of("#status", Attributes.STATUS);
+
+  private final DynamoDbClient dynamoDbClient;
+  private final PaymentMapper mapper;
+  private final String tableName;
+
+  public LowLevelPaymentRepositoryAdapter(DynamoDbClient dynamoDbClient,
+                                          PaymentMapper mapper,
+                                          @Value("${dynamodb.table-name:payments}") String tableName) {
+    this.dynamoDbClient = dynamoDbClient;
+    this.mapper = mapper;
+    this.tableName = tableName;
+  }
+
+  @Override
+  public Payment save(Payment payment) {
+    try {
+      logger.debug("Saving payment with workOrderId: {} to DynamoDB table: {}",
+                   payment.getWorkOrderId(), tableName);
+
+      dynamoDbClient.putItem(PutItemRequest.builder()
+          .tableName(tableName)
+          .item(mapper.toItem(payment))
+          .build());
+
+      logger.debug("Payment saved successfully with workOrderId: {}", payment.getWorkOrderId());
+      return payment;
+    } catch (DynamoDbException e) {
+      logger.error("Error saving payment with workOrderId: {} - Error: {}",
+                   payment.getWorkOrderId(), e.getMessage(), e);
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean insertIfAbsent(Payment payment) {
+    try {
+      logger.debug("Inserting payment with workOrderId: {} if absent", payment.getWorkOrderId());
+
+      dynamoDbClient.putItem(PutItemRequest.builder()
+          .tableName(tableName)
+          .item(mapper.toItem(payment))
+          .conditionExpression(ABSENT_CONDITION)
+          .expressionAttributeNames(ABSENT_NAMES)
+          .build());
+      return true;
+    } catch (ConditionalCheckFailedException e) {
+      logger.debug("Payment with workOrderId: {} already exists, not inserted",
+                   payment.getWorkOrderId());
+      return false;
+    } catch (DynamoDbException e) {
+      logger.error("Error saving payment with workOrderId: {} - Error: {}",
+                   payment.getWorkOrderId(), e.getMessage(), e);
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean saveIfStatus(Payment payment, PaymentStatus expectedStatus) {
+    try {
+      logger.debug("Saving payment with workOrderId: {} if status is still: {}",
+                   payment.getWorkOrderId(), expectedStatus);
+
+      dynamoDbClient.putItem(PutItemRequest.builder()
+          .tableName(tableName)
+          .item(mapper.toItem(payment))
+          .conditionExpression(STATUS_CONDITION)
+          .expressionAttributeNames(STATUS_NAMES)
+          .expressionAttributeValues(Map.of(":expected", AttributeValue.fromS(expectedStatus.name())))
+          .build());
+      return true;
+    } catch (ConditionalCheckFailedException e) {
+      logger.debug("Payment with workOrderId: {} is no longer {}, not saved",
+                   payment.getWorkOrderId(), expectedStatus);
+      return false;
+    } catch (DynamoDbException e) {
+      logger.error("Error saving payment with workOrderId: {} - Error: {}",
+                   payment.getWorkOrderId(), e.getMessage(), e);
+      throw e;
+    }
+  }
+
+  @Override
+  public Optional<Payment> findByWorkOrderId(UUID workOrderId) {
+    try {
+      logger.debug("Finding payment with workOrderId: {} from DynamoDB table: {}",
+                   workOrderId, tableName);
+
+      GetItemResponse response = dynamoDbClient.getItem(builder -> builder
+          .tableName(tableName)
+          .key(mapper.toKey(workOrderId)));
+
+      if (response.hasItem() && !response.item().isEmpty()) {
+        logger.debug("Payment found with workOrderId: {}", workOrderId);
+        return Optional.of(mapper.fromItem(response.item()));
+      }
+
+      logger.debug("Payment not found with workOrderId: {}", workOrderId);
+      return Optional.empty();
+    } catch (DynamoDbException e) {
+      logger.error("Error finding payment with workOrderId: {} - Error: {}",
+                   workOrderId, e.getMessage(), e);
+      throw e;
+    }
+  }
+
+  @Override
+  public int getOpenPaymentShardCount() {
+    return PaymentEntity.OPEN_BUCKET_SHARDS;
+  }
+
+  @Override
+  public List<UUID> findOpenWorkOrderIds(int shard, Instant createdBefore) {
+    String bucket = PaymentEntity.openBucket(shard);
+    try {
+      logger.debug("Querying open payments in bucket: {} created before: {}", bucket, createdBefore);
+
+      QueryRequest request = QueryRequest.builder()
+          .tableName(tableName)
+          .indexName(PaymentEntity.OPEN_PAYMENTS_INDEX)
+          .keyConditionExpression(OPEN_PAYMENTS_CONDITION)
+          .expressionAttributeNames(OPEN_PAYMENTS_NAMES)
+          .expressionAttributeValues(Map.of(
+              ":bucket", AttributeValue.fromS(bucket),
+              ":createdBefore", AttributeValue.fromN(Long.toString(createdBefore.toEpochMilli()))))
+          .build();
+
+      List<UUID> workOrderIds = new ArrayList<>();
+      for (QueryResponse page : dynamoDbClient.queryPaginator(request)) {
+        for (Map<String, AttributeValue> item : page.items()) {
+          workOrderIds.add(UUID.fromString(item.get(Attributes.WORK_ORDER_ID).s()));
+        }
+      }
+
+      logger.debug("Found {} open payments in bucket: {}", workOrderIds.size(), bucket);
+      return workOrderIds;
+    } catch (DynamoDbException e) {
+      logger.error("Error querying open payments in bucket: {} - Error: {}",
+                   bucket, e.getMessage(), e);
+      throw e;
+    }
+  }
+}
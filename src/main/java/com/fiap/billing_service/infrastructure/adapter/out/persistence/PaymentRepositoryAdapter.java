@@ -2,18 +2,31 @@ package com.fiap.billing_service.infrastructure.adapter.out.persistence;
 
 import com.fiap.billing_service.application.port.out.PaymentRepositoryPort;
 import com.fiap.billing_service.domain.entity.Payment;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
 import com.fiap.billing_service.infrastructure.adapter.out.persistence.entity.PaymentEntity;
 import com.fiap.billing_service.infrastructure.adapter.out.persistence.mapper.PaymentMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,8 +41,13 @@ import java.util.UUID;
  * - Partition Key: workOrderId (ensures uniqueness and distribution)
  * - Sort Key: createdAt (enables temporal range queries)
  * - Global Secondary Indexes: Support queries by clientId, status, and externalPaymentId
+ * - Sparse GSI open-payments-index: openBucket + createdAtEpoch, only non-terminal payments
+ * 
+ * Default repository (dynamodb.repository.mode=enhanced); see LowLevelPaymentRepositoryAdapter
+ * for the variant on the plain client.
  */
 @Component
+@ConditionalOnProperty(name = "dynamodb.repository.mode", havingValue = "enhanced", matchIfMissing = true)
 public class PaymentRepositoryAdapter implements PaymentRepositoryPort {
 
   private static final Logger logger = LoggerFactory.getLogger(PaymentRepositoryAdapter.class);
@@ -55,6 +73,15 @@ public class PaymentRepositoryAdapter implements PaymentRepositoryPort {
     return dynamoDbEnhancedClient.table(tableName, TableSchema.fromBean(PaymentEntity.class));
   }
 
+  /**
+   * Get the sparse open-payments index reference.
+   *
+   * @return DynamoDB index reference
+   */
+  private DynamoDbIndex<PaymentEntity> getOpenPaymentsIndex() {
+    return getPaymentTable().index(PaymentEntity.OPEN_PAYMENTS_INDEX);
+  }
+
   /**
    * Save a payment to DynamoDB.
    * 
@@ -86,6 +113,81 @@ public class PaymentRepositoryAdapter implements PaymentRepositoryPort {
     }
   }
 
+  /**
+   * Insert a payment only if its work order has no item yet.
+   * 
+   * The PutItem carries attribute_not_exists on the partition key, so of two instances racing on
+   * the same work order only the first creates the payment.
+   * 
+   * @param payment Domain entity to insert
+   * @return true if the item was written, false if the work order already had an item
+   * @throws DynamoDbException if the save operation fails for another reason
+   */
+  @Override
+  public boolean insertIfAbsent(Payment payment) {
+    try {
+      logger.debug("Inserting payment with workOrderId: {} if absent", payment.getWorkOrderId());
+
+      Expression condition = Expression.builder()
+          .expression("attribute_not_exists(#workOrderId)")
+          .expressionNames(Map.of("#workOrderId", PaymentEntity.Attributes.WORK_ORDER_ID))
+          .build();
+
+      getPaymentTable().putItem(PutItemEnhancedRequest.builder(PaymentEntity.class)
+          .item(mapper.toEntity(payment))
+          .conditionExpression(condition)
+          .build());
+      return true;
+    } catch (ConditionalCheckFailedException e) {
+      logger.debug("Payment with workOrderId: {} already exists, not inserted",
+                   payment.getWorkOrderId());
+      return false;
+    } catch (DynamoDbException e) {
+      logger.error("Error saving payment with workOrderId: {} - Error: {}", 
+                   payment.getWorkOrderId(), e.getMessage(), e);
+      throw e;
+    }
+  }
+
+  /**
+   * Save a payment only if the stored item still has the expected status.
+   * 
+   * The PutItem carries a condition on the status attribute, so a caller holding a stale copy
+   * (the reconciliation sweep) cannot overwrite an update made meanwhile by the listener.
+   * 
+   * @param payment Domain entity to save
+   * @param expectedStatus Status the stored item must still have
+   * @return true if the item was written, false if the condition failed
+   * @throws DynamoDbException if the save operation fails for another reason
+   */
+  @Override
+  public boolean saveIfStatus(Payment payment, PaymentStatus expectedStatus) {
+    try {
+      logger.debug("Saving payment with workOrderId: {} if status is still: {}",
+                   payment.getWorkOrderId(), expectedStatus);
+
+      Expression condition = Expression.builder()
+          .expression("#status = :expected")
+          .expressionNames(Map.of("#status", PaymentEntity.Attributes.STATUS))
+          .expressionValues(Map.of(":expected", AttributeValue.fromS(expectedStatus.name())))
+          .build();
+
+      getPaymentTable().putItem(PutItemEnhancedRequest.builder(PaymentEntity.class)
+          .item(mapper.toEntity(payment))
+          .conditionExpression(condition)
+          .build());
+      return true;
+    } catch (ConditionalCheckFailedException e) {
+      logger.debug("Payment with workOrderId: {} is no longer {}, not saved",
+                   payment.getWorkOrderId(), expectedStatus);
+      return false;
+    } catch (DynamoDbException e) {
+      logger.error("Error saving payment with workOrderId: {} - Error: {}",
+                   payment.getWorkOrderId(), e.getMessage(), e);
+      throw e;
+    }
+  }
+
   /**
    * Find a payment by work order ID.
    * 
@@ -123,6 +225,48 @@ public class PaymentRepositoryAdapter implements PaymentRepositoryPort {
     }
   }
 
+  @Override
+  public int getOpenPaymentShardCount() {
+    return PaymentEntity.OPEN_BUCKET_SHARDS;
+  }
+
+  /**
+   * Find work orders with an open payment in one shard of the sparse open-payments index.
+   *
+   * The index only contains items that carry openBucket, so the query reads open payments
+   * only and its cost grows with their number, not with the table size. The index projects
+   * keys only; callers load the full item with findByWorkOrderId().
+   *
+   * @param shard Shard number of the openBucket partition
+   * @param createdBefore Upper bound (exclusive) on createdAtEpoch
+   * @return Work order IDs ordered by creation time, oldest first
+   */
+  @Override
+  public List<UUID> findOpenWorkOrderIds(int shard, Instant createdBefore) {
+    String bucket = PaymentEntity.openBucket(shard);
+    try {
+      logger.debug("Querying open payments in bucket: {} created before: {}", bucket, createdBefore);
+
+      QueryConditional condition = QueryConditional.sortLessThan(
+          Key.builder()
+              .partitionValue(bucket)
+              .sortValue(createdBefore.toEpochMilli())
+              .build());
+
+      List<UUID> workOrderIds = new ArrayList<>();
+      getOpenPaymentsIndex()
+          .query(QueryEnhancedRequest.builder().queryConditional(condition).build())
+          .forEach(page -> page.items().forEach(item -> workOrderIds.add(item.getWorkOrderId())));
+
+      logger.debug("Found {} open payments in bucket: {}", workOrderIds.size(), bucket);
+      return workOrderIds;
+    } catch (DynamoDbException e) {
+      logger.error("Error querying open payments in bucket: {} - Error: {}",
+                   bucket, e.getMessage(), e);
+      throw e;
+    }
+  }
+
   /**
    * Update an existing payment in DynamoDB.
    * 
@@ -0,0 +1,216 @@
+package com.fiap.billing_service.infrastructure.adapter.out.persistence.archive;
+
+import com.fiap.billing_service.application.port.out.PaymentArchivePort;
+import com.fiap.billing_service.application.port.out.PaymentArchivePort.ArchiveBatch;
+import com.fiap.billing_service.domain.exception.PaymentProcessingException;
+import com.fiap.billing_service.infrastructure.adapter.out.persistence.entity.PaymentEntity;
+import com.fiap.billing_service.infrastructure.adapter.out.persistence.export.ColumnarCsvWriter;
+import com.fiap.billing_service.infrastructure.adapter.out.persistence.export.PaymentRowFormat;
+import com.fiap.billing_service.infrastructure.adapter.out.persistence.mapper.PaymentMapper;
+import com.fiap.billing_service.infrastructure.adapter.out.storage.S3FileUploader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+
+/**
+ * Archives expiring payments to gzip-compressed columnar files in S3 and leaves tombstones behind.
+ *
+ * <p>Candidates come from the sparse archive-due index (archiveBucket + archiveAtEpoch), so each
+ * run reads only payments that are actually due. Each batch is written to a local staging file and
+ * uploaded to {@code payment.retention.archive-bucket} before any item is touched; only once S3
+ * acknowledged the upload is every item replaced by its tombstone. A failed upload leaves the
+ * items in place, and a crash after the upload archives the batch twice, never loses it.
+ *
+ * <p>Only active with payment.retention.archival-enabled=true; the bucket has no default.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.retention.archival-enabled", havingValue = "true")
+public class DynamoDbPaymentArchiveAdapter implements PaymentArchivePort {
+
+  private static final Logger logger = LoggerFactory.getLogger(DynamoDbPaymentArchiveAdapter.class);
+
+  private static final DateTimeFormatter FILE_TIMESTAMP =
+      DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+  // Tombstone is only replaced if the item still waits for archival
+  private static final Expression STILL_ARCHIVE_DUE =
+      Expression.builder().expression("attribute_exists(archiveBucket)").build();
+
+  private final DynamoDbEnhancedClient dynamoDbEnhancedClient;
+  private final PaymentMapper mapper;
+  private final S3FileUploader uploader;
+  private final Clock clock;
+  private final String tableName;
+  private final String archiveBucket;
+  private final String archivePrefix;
+  private final long tombstoneRetentionSeconds;
+
+  public DynamoDbPaymentArchiveAdapter(
+      DynamoDbEnhancedClient dynamoDbEnhancedClient,
+      PaymentMapper mapper,
+      S3FileUploader uploader,
+      Clock clock,
+      @Value("${dynamodb.table-name:payments}") String tableName,
+      @Value("${payment.retention.archive-bucket}") String archiveBucket,
+      @Value("${payment.retention.archive-prefix:payment-archive/}") String archivePrefix,
+      @Value("${payment.retention.tombstone-period:P730D}") Duration tombstoneRetention) {
+    this.dynamoDbEnhancedClient = dynamoDbEnhancedClient;
+    this.mapper = mapper;
+    this.uploader = uploader;
+    this.clock = clock;
+    this.tableName = tableName;
+    this.archiveBucket = archiveBucket;
+    this.archivePrefix = archivePrefix;
+    this.tombstoneRetentionSeconds = tombstoneRetention.toSeconds();
+  }
+
+  private DynamoDbTable<PaymentEntity> getPaymentTable() {
+    return dynamoDbEnhancedClient.table(tableName, TableSchema.fromBean(PaymentEntity.class));
+  }
+
+  @Override
+  public ArchiveBatch archiveExpiringBefore(Instant expiresBefore, int maxItems) {
+    DynamoDbTable<PaymentEntity> table = getPaymentTable();
+    List<UUID> dueIds = loadDueWorkOrderIds(table, expiresBefore.getEpochSecond(), maxItems);
+    List<PaymentEntity> batch = loadItems(table, dueIds);
+    if (batch.isEmpty()) {
+      return new ArchiveBatch(dueIds.size(), 0);
+    }
+
+    // Throws before any tombstone is written if the archive could not be stored
+    String archiveLocation = writeArchive(batch);
+    logger.info("Archived {} payments to {}", batch.size(), archiveLocation);
+
+    long tombstoneExpiresAt = clock.instant().getEpochSecond() + tombstoneRetentionSeconds;
+    int archived = 0;
+    for (PaymentEntity item : batch) {
+      try {
+        table.putItem(
+            PutItemEnhancedRequest.builder(PaymentEntity.class)
+                .item(mapper.toTombstone(item, tombstoneExpiresAt))
+                .conditionExpression(STILL_ARCHIVE_DUE)
+                .build());
+        archived++;
+      } catch (ConditionalCheckFailedException e) {
+        logger.debug("Payment {} was archived concurrently", item.getWorkOrderId());
+      } catch (DynamoDbException e) {
+        logger.error("Error writing tombstone for workOrderId: {} - Error: {}",
+                     item.getWorkOrderId(), e.getMessage(), e);
+        throw e;
+      }
+    }
+    return new ArchiveBatch(dueIds.size(), archived);
+  }
+
+  private List<UUID> loadDueWorkOrderIds(
+      DynamoDbTable<PaymentEntity> table, long expiresBeforeEpoch, int maxItems) {
+    List<UUID> workOrderIds = new ArrayList<>();
+    for (int shard = 0;
+        shard < PaymentEntity.ARCHIVE_BUCKET_SHARDS && workOrderIds.size() < maxItems;
+        shard++) {
+      QueryConditional condition =
+          QueryConditional.sortLessThanOrEqualTo(
+              Key.builder()
+                  .partitionValue(PaymentEntity.archiveBucket(shard))
+                  .sortValue(expiresBeforeEpoch)
+                  .build());
+      QueryEnhancedRequest request =
+          QueryEnhancedRequest.builder()
+              .queryConditional(condition)
+              .limit(maxItems - workOrderIds.size())
+              .build();
+      for (Page<PaymentEntity> page :
+          table.index(PaymentEntity.ARCHIVE_DUE_INDEX).query(request)) {
+        for (PaymentEntity key : page.items()) {
+          workOrderIds.add(key.getWorkOrderId());
+        }
+        if (workOrderIds.size() >= maxItems) {
+          break;
+        }
+      }
+    }
+    return workOrderIds.subList(0, Math.min(maxItems, workOrderIds.size()));
+  }
+
+  private List<PaymentEntity> loadItems(DynamoDbTable<PaymentEntity> table, List<UUID> workOrderIds) {
+    // The index projects keys only; read the full item consistently before archiving it
+    List<PaymentEntity> items = new ArrayList<>(workOrderIds.size());
+    for (UUID workOrderId : workOrderIds) {
+      PaymentEntity item =
+          table.getItem(
+              GetItemEnhancedRequest.builder()
+                  .key(Key.builder().partitionValue(workOrderId.toString()).build())
+                  .consistentRead(true)
+                  .build());
+      if (item != null && !Boolean.TRUE.equals(item.getArchived())) {
+        items.add(item);
+      }
+    }
+    return items;
+  }
+
+  private String writeArchive(List<PaymentEntity> batch) {
+    String key =
+        archivePrefix
+            + "payments-archive-"
+            + FILE_TIMESTAMP.format(clock.instant())
+            + "-"
+            + UUID.randomUUID().toString().substring(0, 8)
+            + ".pcsv.gz";
+
+    Path staging = null;
+    try {
+      staging = Files.createTempFile("payments-archive-", ".pcsv.gz");
+      try (ColumnarCsvWriter writer =
+          new ColumnarCsvWriter(staging, PaymentRowFormat.ARCHIVE_COLUMNS)) {
+        List<String[]> rows = new ArrayList<>(batch.size());
+        for (PaymentEntity item : batch) {
+          rows.add(PaymentRowFormat.archiveRow(item));
+        }
+        writer.writeRowGroup(rows);
+      }
+      return uploader.upload(archiveBucket, key, staging);
+    } catch (IOException e) {
+      throw new PaymentProcessingException(
+          "Could not write payment archive " + S3FileUploader.location(archiveBucket, key), e);
+    } finally {
+      deleteQuietly(staging);
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    if (path == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      logger.warn("Could not delete archive staging file {}", path, e);
+    }
+  }
+}
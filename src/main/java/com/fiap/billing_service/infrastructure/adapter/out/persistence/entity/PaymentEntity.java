@@ -1,7 +1,6 @@
 package com.fiap.billing_service.infrastructure.adapter.out.persistence.entity;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.UUID;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;
 
@@ -10,10 +9,62 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;
  *
  * <p>Partition Key: workOrderId (provides uniqueness and distribution across partitions) Sort Key:
  * createdAtEpoch (timestamp for ordering and range queries)
+ *
+ * <p>Sparse GSI {@value #OPEN_PAYMENTS_INDEX}: partition key openBucket, sort key createdAtEpoch.
+ * openBucket is only written while the payment is PENDING or PROCESSING, so the index holds open
+ * payments only. It is sharded over {@value #OPEN_BUCKET_SHARDS} buckets to avoid a hot partition.
+ *
+ * <p>Sparse GSI {@value #ARCHIVE_DUE_INDEX} (archiveBucket + archiveAtEpoch) lists terminal
+ * payments that still have to be archived; archiveAtEpoch is when their hot period ends. Once
+ * archived the item is replaced by a small tombstone (archived = true, no QR code) that keeps
+ * answering idempotency lookups. expiresAtEpoch, the table's TTL attribute (epoch seconds), is only
+ * ever set on tombstones: a payment leaves the table only after it was copied to the archive, and
+ * stays there for good while archival is off.
+ *
+ * <p>Timestamps exist only as UTC epoch values, so mapping to and from the domain never consults
+ * the JVM default time zone.
  */
 @DynamoDbBean
 public class PaymentEntity {
 
+  public static final String OPEN_PAYMENTS_INDEX = "open-payments-index";
+
+  // Changing the shard count requires re-writing openBucket on every open payment
+  public static final int OPEN_BUCKET_SHARDS = 8;
+
+  private static final String OPEN_BUCKET_PREFIX = "OPEN#";
+
+  public static final String ARCHIVE_DUE_INDEX = "archive-due-index";
+
+  public static final int ARCHIVE_BUCKET_SHARDS = 8;
+
+  private static final String ARCHIVE_BUCKET_PREFIX = "ARCHIVE#";
+
+  /** Stored attribute names, shared by the bean schema and the low-level item codec. */
+  public static final class Attributes {
+    public static final String ID = "id";
+    public static final String BUDGET_ID = "budgetId";
+    public static final String WORK_ORDER_ID = "workOrderId";
+    public static final String CREATED_AT_EPOCH = "createdAtEpoch";
+    public static final String CUSTOMER_ID = "customerId";
+    public static final String AMOUNT = "amount";
+    public static final String STATUS = "status";
+    public static final String EXTERNAL_PAYMENT_ID = "externalPaymentId";
+    public static final String ORDER_PAYMENT_ID = "orderPaymentId";
+    public static final String PAYMENT_METHOD = "paymentMethod";
+    public static final String QR_CODE = "qrCode";
+    public static final String QR_CODE_BASE64 = "qrCodeBase64";
+    public static final String PROCESSED_AT_EPOCH = "processedAtEpoch";
+    public static final String ERROR_MESSAGE = "errorMessage";
+    public static final String OPEN_BUCKET = "openBucket";
+    public static final String EXPIRES_AT_EPOCH = "expiresAtEpoch";
+    public static final String ARCHIVE_BUCKET = "archiveBucket";
+    public static final String ARCHIVE_AT_EPOCH = "archiveAtEpoch";
+    public static final String ARCHIVED = "archived";
+
+    private Attributes() {}
+  }
+
   // Unique identifier for the payment
   private UUID id;
 
@@ -56,15 +107,26 @@ public class PaymentEntity {
   // Error message if payment failed
   private String errorMessage;
 
-  // Transient fields for convenience (not stored in DynamoDB)
-  private LocalDateTime createdAt;
-  private LocalDateTime processedAt;
+  // Sparse GSI partition key, present only while the payment is non-terminal
+  private String openBucket;
+
+  // TTL attribute: epoch seconds after which DynamoDB deletes the item, set on tombstones only
+  private Long expiresAtEpoch;
+
+  // Sparse GSI partition key, present only on terminal payments not archived yet
+  private String archiveBucket;
+
+  // Sparse GSI sort key: epoch seconds at which the payment is due for archival
+  private Long archiveAtEpoch;
+
+  // True when the item is a tombstone left behind after archival
+  private Boolean archived;
 
   public PaymentEntity() {}
 
   // Getters and Setters
 
-  @DynamoDbAttribute("id")
+  @DynamoDbAttribute(Attributes.ID)
   public UUID getId() {
     return id;
   }
@@ -73,7 +135,7 @@ public class PaymentEntity {
     this.id = id;
   }
 
-  @DynamoDbAttribute("budgetId")
+  @DynamoDbAttribute(Attributes.BUDGET_ID)
   public UUID getBudgetId() {
     return budgetId;
   }
@@ -83,7 +145,7 @@ public class PaymentEntity {
   }
 
   @DynamoDbPartitionKey
-  @DynamoDbAttribute("workOrderId")
+  @DynamoDbAttribute(Attributes.WORK_ORDER_ID)
   public UUID getWorkOrderId() {
     return workOrderId;
   }
@@ -92,22 +154,17 @@ public class PaymentEntity {
     this.workOrderId = workOrderId;
   }
 
-  @DynamoDbAttribute("createdAtEpoch")
+  @DynamoDbSecondarySortKey(indexNames = OPEN_PAYMENTS_INDEX)
+  @DynamoDbAttribute(Attributes.CREATED_AT_EPOCH)
   public Long getCreatedAtEpoch() {
     return createdAtEpoch;
   }
 
   public void setCreatedAtEpoch(Long createdAtEpoch) {
     this.createdAtEpoch = createdAtEpoch;
-    // Auto-convert from epoch milliseconds for convenience
-    if (createdAtEpoch != null) {
-      this.createdAt =
-          java.time.LocalDateTime.ofInstant(
-              java.time.Instant.ofEpochMilli(createdAtEpoch), java.time.ZoneId.systemDefault());
-    }
   }
 
-  @DynamoDbAttribute("customerId")
+  @DynamoDbAttribute(Attributes.CUSTOMER_ID)
   public UUID getCustomerId() {
     return customerId;
   }
@@ -116,7 +173,7 @@ public class PaymentEntity {
     this.customerId = customerId;
   }
 
-  @DynamoDbAttribute("amount")
+  @DynamoDbAttribute(Attributes.AMOUNT)
   public BigDecimal getAmount() {
     return amount;
   }
@@ -125,7 +182,7 @@ public class PaymentEntity {
     this.amount = amount;
   }
 
-  @DynamoDbAttribute("status")
+  @DynamoDbAttribute(Attributes.STATUS)
   public String getStatus() {
     return status;
   }
@@ -134,7 +191,7 @@ public class PaymentEntity {
     this.status = status;
   }
 
-  @DynamoDbAttribute("externalPaymentId")
+  @DynamoDbAttribute(Attributes.EXTERNAL_PAYMENT_ID)
   public String getExternalPaymentId() {
     return externalPaymentId;
   }
@@ -143,7 +200,7 @@ public class PaymentEntity {
     this.externalPaymentId = externalPaymentId;
   }
 
-  @DynamoDbAttribute("orderPaymentId")
+  @DynamoDbAttribute(Attributes.ORDER_PAYMENT_ID)
   public String getOrderPaymentId() {
     return orderPaymentId;
   }
@@ -152,7 +209,7 @@ public class PaymentEntity {
     this.orderPaymentId = orderPaymentId;
   }
 
-  @DynamoDbAttribute("paymentMethod")
+  @DynamoDbAttribute(Attributes.PAYMENT_METHOD)
   public String getPaymentMethod() {
     return paymentMethod;
   }
@@ -161,7 +218,7 @@ public class PaymentEntity {
     this.paymentMethod = paymentMethod;
   }
 
-  @DynamoDbAttribute("qrCode")
+  @DynamoDbAttribute(Attributes.QR_CODE)
   public String getQrCode() {
     return qrCode;
   }
@@ -170,7 +227,7 @@ public class PaymentEntity {
     this.qrCode = qrCode;
   }
 
-  @DynamoDbAttribute("qrCodeBase64")
+  @DynamoDbAttribute(Attributes.QR_CODE_BASE64)
   public String getQrCodeBase64() {
     return qrCodeBase64;
   }
@@ -179,22 +236,16 @@ public class PaymentEntity {
     this.qrCodeBase64 = qrCodeBase64;
   }
 
-  @DynamoDbAttribute("processedAtEpoch")
+  @DynamoDbAttribute(Attributes.PROCESSED_AT_EPOCH)
   public Long getProcessedAtEpoch() {
     return processedAtEpoch;
   }
 
   public void setProcessedAtEpoch(Long processedAtEpoch) {
     this.processedAtEpoch = processedAtEpoch;
-    // Auto-convert from epoch milliseconds for convenience
-    if (processedAtEpoch != null) {
-      this.processedAt =
-          java.time.LocalDateTime.ofInstant(
-              java.time.Instant.ofEpochMilli(processedAtEpoch), java.time.ZoneId.systemDefault());
-    }
   }
 
-  @DynamoDbAttribute("errorMessage")
+  @DynamoDbAttribute(Attributes.ERROR_MESSAGE)
   public String getErrorMessage() {
     return errorMessage;
   }
@@ -203,30 +254,111 @@ public class PaymentEntity {
     this.errorMessage = errorMessage;
   }
 
-  public LocalDateTime getCreatedAt() {
-    return createdAt;
+  @DynamoDbSecondaryPartitionKey(indexNames = OPEN_PAYMENTS_INDEX)
+  @DynamoDbAttribute(Attributes.OPEN_BUCKET)
+  public String getOpenBucket() {
+    return openBucket;
+  }
+
+  public void setOpenBucket(String openBucket) {
+    this.openBucket = openBucket;
+  }
+
+  @DynamoDbAttribute(Attributes.EXPIRES_AT_EPOCH)
+  public Long getExpiresAtEpoch() {
+    return expiresAtEpoch;
+  }
+
+  public void setExpiresAtEpoch(Long expiresAtEpoch) {
+    this.expiresAtEpoch = expiresAtEpoch;
+  }
+
+  @DynamoDbSecondaryPartitionKey(indexNames = ARCHIVE_DUE_INDEX)
+  @DynamoDbAttribute(Attributes.ARCHIVE_BUCKET)
+  public String getArchiveBucket() {
+    return archiveBucket;
+  }
+
+  public void setArchiveBucket(String archiveBucket) {
+    this.archiveBucket = archiveBucket;
+  }
+
+  @DynamoDbSecondarySortKey(indexNames = ARCHIVE_DUE_INDEX)
+  @DynamoDbAttribute(Attributes.ARCHIVE_AT_EPOCH)
+  public Long getArchiveAtEpoch() {
+    return archiveAtEpoch;
+  }
+
+  public void setArchiveAtEpoch(Long archiveAtEpoch) {
+    this.archiveAtEpoch = archiveAtEpoch;
+  }
+
+  @DynamoDbAttribute(Attributes.ARCHIVED)
+  public Boolean getArchived() {
+    return archived;
+  }
+
+  public void setArchived(Boolean archived) {
+    this.archived = archived;
+  }
+
+  /**
+   * Open-payments bucket for a given shard.
+   *
+   * @param shard shard number in [0, {@value #OPEN_BUCKET_SHARDS})
+   * @return the openBucket partition value
+   */
+  public static String openBucket(int shard) {
+    return OPEN_BUCKET_PREFIX + shard;
+  }
+
+  /**
+   * Open-payments bucket a work order is assigned to. Stable for the lifetime of the payment.
+   *
+   * @param workOrderId the work order ID (table partition key)
+   * @return the openBucket partition value
+   */
+  public static String openBucketFor(UUID workOrderId) {
+    return openBucket(openShardFor(workOrderId));
+  }
+
+  /**
+   * Open-payments shard a work order is assigned to.
+   *
+   * @param workOrderId the work order ID (table partition key)
+   * @return shard number in [0, {@value #OPEN_BUCKET_SHARDS})
+   */
+  public static int openShardFor(UUID workOrderId) {
+    return Math.floorMod(workOrderId.hashCode(), OPEN_BUCKET_SHARDS);
   }
 
-  public void setCreatedAt(LocalDateTime createdAt) {
-    this.createdAt = createdAt;
-    // Auto-convert to epoch milliseconds for DynamoDB storage
-    if (createdAt != null) {
-      this.createdAtEpoch =
-          java.time.Instant.from(createdAt.atZone(java.time.ZoneId.systemDefault())).toEpochMilli();
-    }
+  /**
+   * Archive-due bucket for a given shard.
+   *
+   * @param shard shard number in [0, {@value #ARCHIVE_BUCKET_SHARDS})
+   * @return the archiveBucket partition value
+   */
+  public static String archiveBucket(int shard) {
+    return ARCHIVE_BUCKET_PREFIX + shard;
   }
 
-  public LocalDateTime getProcessedAt() {
-    return processedAt;
+  /**
+   * Archive-due bucket a work order is assigned to.
+   *
+   * @param workOrderId the work order ID (table partition key)
+   * @return the archiveBucket partition value
+   */
+  public static String archiveBucketFor(UUID workOrderId) {
+    return archiveBucket(archiveShardFor(workOrderId));
   }
 
-  public void setProcessedAt(LocalDateTime processedAt) {
-    this.processedAt = processedAt;
-    // Auto-convert to epoch milliseconds for DynamoDB storage
-    if (processedAt != null) {
-      this.processedAtEpoch =
-          java.time.Instant.from(processedAt.atZone(java.time.ZoneId.systemDefault()))
-              .toEpochMilli();
-    }
+  /**
+   * Archive-due shard a work order is assigned to.
+   *
+   * @param workOrderId the work order ID (table partition key)
+   * @return shard number in [0, {@value #ARCHIVE_BUCKET_SHARDS})
+   */
+  public static int archiveShardFor(UUID workOrderId) {
+    return Math.floorMod(workOrderId.hashCode(), ARCHIVE_BUCKET_SHARDS);
   }
 }
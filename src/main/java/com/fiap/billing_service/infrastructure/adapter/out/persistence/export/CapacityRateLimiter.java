@@ -0,0 +1,53 @@
+package com.fiap.billing_service.infrastructure.adapter.out.persistence.export;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket limiting the DynamoDB capacity units consumed per second by background jobs.
+ *
+ * <p>Scan cost is only known after a page was read, so callers acquire the consumed units after
+ * each page. The bucket may go into debt; the caller then sleeps until the debt is paid back,
+ * which delays its next request. A non-positive rate disables limiting.
+ */
+public class CapacityRateLimiter {
+
+  private final double unitsPerSecond;
+  private double available;
+  private long lastRefillNanos;
+
+  public CapacityRateLimiter(double unitsPerSecond) {
+    this.unitsPerSecond = unitsPerSecond;
+    this.available = Math.max(unitsPerSecond, 0);
+    this.lastRefillNanos = System.nanoTime();
+  }
+
+  public boolean isUnlimited() {
+    return unitsPerSecond <= 0;
+  }
+
+  /**
+   * Record consumed capacity and wait until the rate limit allows the next request.
+   *
+   * @param units capacity units consumed by the last request
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public void acquire(double units) throws InterruptedException {
+    if (isUnlimited() || units <= 0) {
+      return;
+    }
+
+    long waitNanos;
+    synchronized (this) {
+      long now = System.nanoTime();
+      available =
+          Math.min(unitsPerSecond, available + (now - lastRefillNanos) / 1e9 * unitsPerSecond);
+      lastRefillNanos = now;
+      available -= units;
+      waitNanos = available < 0 ? (long) (-available / unitsPerSecond * 1e9) : 0;
+    }
+
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package com.fiap.billing_service.infrastructure.adapter.out.persistence.export;
+
+import com.fiap.billing_service.application.port.out.PaymentExportPort;
+import com.fiap.billing_service.domain.dto.PaymentExportResult;
+import com.fiap.billing_service.domain.exception.PaymentProcessingException;
+import com.fiap.billing_service.infrastructure.adapter.out.storage.S3FileUploader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.DoubleAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+/**
+ * Exports the payments table with a DynamoDB parallel Scan.
+ *
+ * <p>The table is split into {@code segments} Scan segments read concurrently on a bounded
+ * executor. Only the attributes in {@link PaymentRowFormat#EXPORT_COLUMNS} are projected, so the
+ * QR code blobs never leave DynamoDB. Pages are small and eventually consistent, and the consumed
+ * capacity of every page is charged to a shared {@link CapacityRateLimiter} so the export cannot
+ * starve the live payment traffic of read capacity. Items are read with the low-level client and
+ * turned into rows directly, without a bean schema, so the export also runs in the native image.
+ *
+ * <p>Output is a gzip-compressed columnar CSV file (see {@link ColumnarCsvWriter}), staged in a
+ * local temporary file and uploaded to {@code payment.export.bucket} once every segment completed,
+ * so it survives the pod and is readable regardless of which replica ran the export.
+ *
+ * <p>Only active with payment.export.enabled=true; the bucket has no default.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.export.enabled", havingValue = "true")
+public class DynamoDbPaymentExportAdapter implements PaymentExportPort {
+
+  private static final Logger logger = LoggerFactory.getLogger(DynamoDbPaymentExportAdapter.class);
+
+  private static final String FILE_SUFFIX = ".pcsv.gz";
+
+  // "status" is a DynamoDB reserved word, so every projected column goes through a name placeholder
+  private static final Map<String, String> PROJECTION_NAMES = projectionNames();
+  private static final String PROJECTION = String.join(", ", PROJECTION_NAMES.keySet());
+
+  private final DynamoDbClient dynamoDbClient;
+  private final S3FileUploader uploader;
+  private final Clock clock;
+  private final String tableName;
+  private final String exportBucket;
+  private final String exportPrefix;
+  private final int segments;
+  private final int maxThreads;
+  private final int pageSize;
+  private final int rowGroupSize;
+  private final double maxReadCapacityPerSecond;
+
+  public DynamoDbPaymentExportAdapter(
+      DynamoDbClient dynamoDbClient,
+      S3FileUploader uploader,
+      Clock clock,
+      @Value("${dynamodb.table-name:payments}") String tableName,
+      @Value("${payment.export.bucket}") String exportBucket,
+      @Value("${payment.export.prefix:payment-exports/}") String exportPrefix,
+      @Value("${payment.export.segments:4}") int segments,
+      @Value("${payment.export.max-threads:4}") int maxThreads,
+      @Value("${payment.export.page-size:100}") int pageSize,
+      @Value("${payment.export.row-group-size:1024}") int rowGroupSize,
+      @Value("${payment.export.max-read-capacity-per-second:50}") double maxReadCapacityPerSecond) {
+    this.dynamoDbClient = dynamoDbClient;
+    this.uploader = uploader;
+    this.clock = clock;
+    this.tableName = tableName;
+    this.exportBucket = exportBucket;
+    this.exportPrefix = exportPrefix;
+    this.segments = Math.max(1, segments);
+    this.maxThreads = Math.max(1, maxThreads);
+    this.pageSize = pageSize;
+    this.rowGroupSize = Math.max(1, rowGroupSize);
+    this.maxReadCapacityPerSecond = maxReadCapacityPerSecond;
+  }
+
+  @Override
+  public String locationFor(String exportId) {
+    return S3FileUploader.location(exportBucket, objectKey(exportId));
+  }
+
+  private String objectKey(String exportId) {
+    return exportPrefix + exportId + FILE_SUFFIX;
+  }
+
+  @Override
+  public PaymentExportResult export(String exportId) {
+    Instant startedAt = clock.instant();
+    String location = locationFor(exportId);
+    CapacityRateLimiter rateLimiter = new CapacityRateLimiter(maxReadCapacityPerSecond);
+    DoubleAdder consumedCapacity = new DoubleAdder();
+
+    logger.info(
+        "Exporting table {} with {} scan segments on {} threads to {}",
+        tableName, segments, Math.min(segments, maxThreads), location);
+
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(segments, maxThreads));
+    Path staging = null;
+    try {
+      staging = Files.createTempFile(exportId + "-", FILE_SUFFIX);
+      long rowCount;
+      try (ColumnarCsvWriter writer =
+          new ColumnarCsvWriter(staging, PaymentRowFormat.EXPORT_COLUMNS)) {
+        List<Future<?>> futures = new ArrayList<>(segments);
+        for (int segment = 0; segment < segments; segment++) {
+          int current = segment;
+          futures.add(
+              executor.submit(
+                  () -> {
+                    scanSegment(current, writer, rateLimiter, consumedCapacity);
+                    return null;
+                  }));
+        }
+        for (Future<?> future : futures) {
+          future.get();
+        }
+        rowCount = writer.getRowCount();
+      }
+      uploader.upload(exportBucket, objectKey(exportId), staging);
+
+      logger.info(
+          "Export {} completed: {} rows, {} read capacity units consumed",
+          exportId, rowCount, consumedCapacity.sum());
+      return new PaymentExportResult(
+          exportId,
+          PaymentExportResult.State.COMPLETED,
+          location,
+          rowCount,
+          consumedCapacity.sum(),
+          startedAt,
+          clock.instant(),
+          null);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PaymentProcessingException("Export " + exportId + " interrupted", e);
+    } catch (ExecutionException e) {
+      throw new PaymentProcessingException(
+          "Export " + exportId + " failed: " + e.getCause().getMessage(), e.getCause());
+    } catch (IOException e) {
+      throw new PaymentProcessingException("Export " + exportId + " could not be written", e);
+    } finally {
+      executor.shutdownNow();
+      deleteQuietly(staging);
+    }
+  }
+
+  private void scanSegment(
+      int segment,
+      ColumnarCsvWriter writer,
+      CapacityRateLimiter rateLimiter,
+      DoubleAdder consumedCapacity)
+      throws IOException, InterruptedException {
+    ScanRequest request =
+        ScanRequest.builder()
+            .tableName(tableName)
+            .segment(segment)
+            .totalSegments(segments)
+            .limit(pageSize)
+            .consistentRead(false)
+            .projectionExpression(PROJECTION)
+            .expressionAttributeNames(PROJECTION_NAMES)
+            .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+            .build();
+
+    List<String[]> rowGroup = new ArrayList<>(rowGroupSize);
+    for (ScanResponse page : dynamoDbClient.scanPaginator(request)) {
+      for (Map<String, AttributeValue> item : page.items()) {
+        rowGroup.add(PaymentRowFormat.exportRow(item));
+        if (rowGroup.size() == rowGroupSize) {
+          writer.writeRowGroup(rowGroup);
+          rowGroup.clear();
+        }
+      }
+
+      double consumed =
+          page.consumedCapacity() != null && page.consumedCapacity().capacityUnits() != null
+              ? page.consumedCapacity().capacityUnits()
+              : 0;
+      consumedCapacity.add(consumed);
+      rateLimiter.acquire(consumed);
+    }
+    writer.writeRowGroup(rowGroup);
+    logger.debug("Scan segment {} of {} finished", segment, segments);
+  }
+
+  private static Map<String, String> projectionNames() {
+    Map<String, String> names = new HashMap<>();
+    for (int i = 0; i < PaymentRowFormat.EXPORT_COLUMNS.size(); i++) {
+      names.put("#c" + i, PaymentRowFormat.EXPORT_COLUMNS.get(i));
+    }
+    return Map.copyOf(names);
+  }
+
+  private static void deleteQuietly(Path path) {
+    if (path == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      logger.warn("Could not delete export staging file {}", path, e);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.fiap.billing_service.infrastructure.adapter.out.persistence.export;
+
+import com.fiap.billing_service.infrastructure.adapter.out.persistence.entity.PaymentEntity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/** Column layout shared by payment exports and archives. */
+public final class PaymentRowFormat {
+
+  /** Attributes read by exports; the QR code payloads are never projected. */
+  public static final List<String> EXPORT_COLUMNS =
+      List.of(
+          "id",
+          "workOrderId",
+          "customerId",
+          "amount",
+          "status",
+          "externalPaymentId",
+          "orderPaymentId",
+          "paymentMethod",
+          "createdAtEpoch",
+          "processedAtEpoch",
+          "errorMessage");
+
+  /**
+   * Archived columns: export columns plus the PIX copy-and-paste code and the archival due time.
+   * The QR image (qrCodeBase64) is a rendering of qrCode and is not archived.
+   */
+  public static final List<String> ARCHIVE_COLUMNS = archiveColumns();
+
+  private PaymentRowFormat() {}
+
+  public static String[] exportRow(PaymentEntity item) {
+    return new String[] {
+      toString(item.getId()),
+      toString(item.getWorkOrderId()),
+      toString(item.getCustomerId()),
+      item.getAmount() != null ? item.getAmount().toPlainString() : null,
+      item.getStatus(),
+      item.getExternalPaymentId(),
+      item.getOrderPaymentId(),
+      item.getPaymentMethod(),
+      toString(item.getCreatedAtEpoch()),
+      toString(item.getProcessedAtEpoch()),
+      item.getErrorMessage()
+    };
+  }
+
+  /**
+   * Export row straight from a low-level Scan item, so exports need no bean schema (and therefore
+   * work in the native image). Numbers keep the representation stored in DynamoDB.
+   */
+  public static String[] exportRow(Map<String, AttributeValue> item) {
+    String[] row = new String[EXPORT_COLUMNS.size()];
+    for (int i = 0; i < row.length; i++) {
+      AttributeValue value = item.get(EXPORT_COLUMNS.get(i));
+      row[i] = value == null ? null : value.s() != null ? value.s() : value.n();
+    }
+    return row;
+  }
+
+  public static String[] archiveRow(PaymentEntity item) {
+    String[] exported = exportRow(item);
+    String[] row = new String[ARCHIVE_COLUMNS.size()];
+    System.arraycopy(exported, 0, row, 0, exported.length);
+    row[exported.length] = item.getQrCode();
+    row[exported.length + 1] = toString(item.getArchiveAtEpoch());
+    return row;
+  }
+
+  private static List<String> archiveColumns() {
+    List<String> columns = new ArrayList<>(EXPORT_COLUMNS);
+    columns.add("qrCode");
+    columns.add("archiveAtEpoch");
+    return List.copyOf(columns);
+  }
+
+  private static String toString(Object value) {
+    return value != null ? value.toString() : null;
+  }
+}
@@ -3,11 +3,70 @@ package com.fiap.billing_service.infrastructure.adapter.out.persistence.mapper;
 import com.fiap.billing_service.domain.entity.Payment;
 import com.fiap.billing_service.domain.valueobject.PaymentStatus;
 import com.fiap.billing_service.infrastructure.adapter.out.persistence.entity.PaymentEntity;
+import com.fiap.billing_service.infrastructure.adapter.out.persistence.entity.PaymentEntity.Attributes;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
+/**
+ * Maps payments between the domain and DynamoDB.
+ *
+ * <p>Two equivalent encodings are provided: {@link #toEntity}/{@link #toDomain} for the Enhanced
+ * Client bean schema, and {@link #toItem}/{@link #fromItem} that encode straight to the
+ * attribute map used by the plain {@code DynamoDbClient}, skipping the bean and its reflective
+ * schema. Both write the same attributes, so items are interchangeable between the two paths.
+ */
 @Component
 public class PaymentMapper {
 
+  private static final Duration DEFAULT_HOT_RETENTION = Duration.ofDays(90);
+
+  // Enough buckets for every attribute without rehashing
+  private static final int ITEM_CAPACITY = 24;
+
+  // Attribute values drawn from small closed sets are immutable and shared across items
+  private static final AttributeValue[] STATUS_VALUES =
+      new AttributeValue[PaymentStatus.values().length];
+  private static final AttributeValue[] OPEN_BUCKET_VALUES =
+      new AttributeValue[PaymentEntity.OPEN_BUCKET_SHARDS];
+  private static final AttributeValue[] ARCHIVE_BUCKET_VALUES =
+      new AttributeValue[PaymentEntity.ARCHIVE_BUCKET_SHARDS];
+
+  static {
+    for (PaymentStatus status : PaymentStatus.values()) {
+      STATUS_VALUES[status.ordinal()] = AttributeValue.fromS(status.name());
+    }
+    for (int shard = 0; shard < OPEN_BUCKET_VALUES.length; shard++) {
+      OPEN_BUCKET_VALUES[shard] = AttributeValue.fromS(PaymentEntity.openBucket(shard));
+    }
+    for (int shard = 0; shard < ARCHIVE_BUCKET_VALUES.length; shard++) {
+      ARCHIVE_BUCKET_VALUES[shard] = AttributeValue.fromS(PaymentEntity.archiveBucket(shard));
+    }
+  }
+
+  // How long terminal payments stay in the hot table before they are due for archival
+  private final long hotRetentionSeconds;
+  private final Clock clock;
+
+  public PaymentMapper() {
+    this(DEFAULT_HOT_RETENTION, Clock.systemUTC());
+  }
+
+  @Autowired
+  public PaymentMapper(
+      @Value("${payment.retention.hot-period:P90D}") Duration hotRetention, Clock clock) {
+    this.hotRetentionSeconds = hotRetention.toSeconds();
+    this.clock = clock;
+  }
+
   public PaymentEntity toEntity(Payment payment) {
     PaymentEntity entity = new PaymentEntity();
     entity.setId(payment.getId());
@@ -21,49 +80,203 @@ public class PaymentMapper {
     entity.setQrCode(payment.getQrCode());
     entity.setQrCodeBase64(payment.getQrCodeBase64());
 
-    // Ensure createdAt is set (required for DynamoDB sort key)
-    if (payment.getCreatedAt() != null) {
-      entity.setCreatedAt(payment.getCreatedAt());
-    } else {
-      // Default to now if not set
-      entity.setCreatedAt(java.time.LocalDateTime.now());
+    long createdAtEpoch = createdAtEpoch(payment);
+    entity.setCreatedAtEpoch(createdAtEpoch);
+    if (payment.getProcessedAt() != null) {
+      entity.setProcessedAtEpoch(payment.getProcessedAt().toEpochMilli());
     }
-
-    entity.setProcessedAt(payment.getProcessedAt());
     entity.setErrorMessage(payment.getErrorMessage());
+
+    if (!payment.getStatus().isTerminal()) {
+      // Only non-terminal payments carry openBucket, which keeps the open-payments GSI sparse
+      if (payment.getWorkOrderId() != null) {
+        entity.setOpenBucket(PaymentEntity.openBucketFor(payment.getWorkOrderId()));
+      }
+    } else {
+      // Terminal payments wait for archival; no TTL until the archiver replaces them by a tombstone
+      if (payment.getWorkOrderId() != null) {
+        entity.setArchiveBucket(PaymentEntity.archiveBucketFor(payment.getWorkOrderId()));
+        entity.setArchiveAtEpoch(archiveAtEpoch(payment, createdAtEpoch));
+      }
+    }
     return entity;
   }
 
+  /**
+   * Build the tombstone that replaces an archived payment.
+   *
+   * <p>The tombstone keeps identifiers, status and timestamps so idempotency lookups by workOrderId
+   * still see the final status, but drops the QR code payloads. It has no archiveBucket, so it
+   * leaves the archive-due index, and is the only item that carries the TTL attribute: it expires
+   * after {@code tombstoneExpiresAtEpoch}.
+   *
+   * @param archived the stored item that was archived
+   * @param tombstoneExpiresAtEpoch TTL of the tombstone in epoch seconds
+   * @return the tombstone item
+   */
+  public PaymentEntity toTombstone(PaymentEntity archived, long tombstoneExpiresAtEpoch) {
+    PaymentEntity tombstone = new PaymentEntity();
+    tombstone.setId(archived.getId());
+    tombstone.setWorkOrderId(archived.getWorkOrderId());
+    tombstone.setCustomerId(archived.getCustomerId());
+    tombstone.setAmount(archived.getAmount());
+    tombstone.setStatus(archived.getStatus());
+    tombstone.setExternalPaymentId(archived.getExternalPaymentId());
+    tombstone.setOrderPaymentId(archived.getOrderPaymentId());
+    tombstone.setPaymentMethod(archived.getPaymentMethod());
+    tombstone.setCreatedAtEpoch(archived.getCreatedAtEpoch());
+    tombstone.setProcessedAtEpoch(archived.getProcessedAtEpoch());
+    tombstone.setErrorMessage(archived.getErrorMessage());
+    tombstone.setExpiresAtEpoch(tombstoneExpiresAtEpoch);
+    tombstone.setArchived(Boolean.TRUE);
+    return tombstone;
+  }
+
   public Payment toDomain(PaymentEntity entity) {
-    Payment payment =
-        new Payment(
-            entity.getId(), entity.getWorkOrderId(), entity.getCustomerId(), entity.getAmount());
-
-    // Restore payment status and other fields
-    if (entity.getStatus() != null) {
-      PaymentStatus status = PaymentStatus.valueOf(entity.getStatus());
-      if (status == PaymentStatus.APPROVED) {
-        payment.markAsProcessing(
-            entity.getExternalPaymentId(),
-            entity.getOrderPaymentId(),
-            entity.getPaymentMethod(),
-            entity.getQrCode(),
-            entity.getQrCodeBase64());
-        payment.markAsApproved();
-      } else if (status == PaymentStatus.REJECTED) {
-        payment.markAsRejected(entity.getErrorMessage());
-      } else if (status == PaymentStatus.FAILED) {
-        payment.markAsFailed(entity.getErrorMessage());
-      } else if (status == PaymentStatus.PROCESSING) {
-        payment.markAsProcessing(
-            entity.getExternalPaymentId(),
-            entity.getOrderPaymentId(),
-            entity.getPaymentMethod(),
-            entity.getQrCode(),
-            entity.getQrCodeBase64());
+    // Rehydrate as stored; replaying markAsX() would re-stamp processedAt
+    return new Payment(
+        entity.getId(),
+        entity.getWorkOrderId(),
+        entity.getCustomerId(),
+        entity.getAmount(),
+        status(entity.getStatus()),
+        entity.getExternalPaymentId(),
+        entity.getOrderPaymentId(),
+        entity.getPaymentMethod(),
+        entity.getQrCode(),
+        entity.getQrCodeBase64(),
+        createdAt(entity.getCreatedAtEpoch()),
+        processedAt(entity.getProcessedAtEpoch()),
+        entity.getErrorMessage(),
+        clock);
+  }
+
+  /**
+   * Encode a payment directly as a DynamoDB item.
+   *
+   * <p>Produces the same attributes as {@link #toEntity} followed by the bean schema; null values
+   * are left out.
+   *
+   * @param payment the payment to store
+   * @return the item attribute map
+   */
+  public Map<String, AttributeValue> toItem(Payment payment) {
+    Map<String, AttributeValue> item = new HashMap<>(ITEM_CAPACITY);
+    putString(item, Attributes.ID, payment.getId());
+    putString(item, Attributes.WORK_ORDER_ID, payment.getWorkOrderId());
+    putString(item, Attributes.CUSTOMER_ID, payment.getCustomerId());
+    if (payment.getAmount() != null) {
+      item.put(Attributes.AMOUNT, AttributeValue.fromN(payment.getAmount().toString()));
+    }
+    item.put(Attributes.STATUS, STATUS_VALUES[payment.getStatus().ordinal()]);
+    putString(item, Attributes.EXTERNAL_PAYMENT_ID, payment.getExternalPaymentId());
+    putString(item, Attributes.ORDER_PAYMENT_ID, payment.getOrderPaymentId());
+    putString(item, Attributes.PAYMENT_METHOD, payment.getPaymentMethod());
+    putString(item, Attributes.QR_CODE, payment.getQrCode());
+    putString(item, Attributes.QR_CODE_BASE64, payment.getQrCodeBase64());
+
+    long createdAtEpoch = createdAtEpoch(payment);
+    item.put(Attributes.CREATED_AT_EPOCH, AttributeValue.fromN(Long.toString(createdAtEpoch)));
+    if (payment.getProcessedAt() != null) {
+      item.put(
+          Attributes.PROCESSED_AT_EPOCH,
+          AttributeValue.fromN(Long.toString(payment.getProcessedAt().toEpochMilli())));
+    }
+    putString(item, Attributes.ERROR_MESSAGE, payment.getErrorMessage());
+
+    if (!payment.getStatus().isTerminal()) {
+      if (payment.getWorkOrderId() != null) {
+        item.put(
+            Attributes.OPEN_BUCKET,
+            OPEN_BUCKET_VALUES[PaymentEntity.openShardFor(payment.getWorkOrderId())]);
       }
+    } else if (payment.getWorkOrderId() != null) {
+      item.put(
+          Attributes.ARCHIVE_BUCKET,
+          ARCHIVE_BUCKET_VALUES[PaymentEntity.archiveShardFor(payment.getWorkOrderId())]);
+      item.put(
+          Attributes.ARCHIVE_AT_EPOCH,
+          AttributeValue.fromN(Long.toString(archiveAtEpoch(payment, createdAtEpoch))));
     }
+    return item;
+  }
+
+  /**
+   * Decode a DynamoDB item straight into a payment, keeping its stored timestamps.
+   *
+   * @param item the item attribute map
+   * @return the rehydrated payment
+   */
+  public Payment fromItem(Map<String, AttributeValue> item) {
+    AttributeValue amount = item.get(Attributes.AMOUNT);
+    return new Payment(
+        uuid(item, Attributes.ID),
+        uuid(item, Attributes.WORK_ORDER_ID),
+        uuid(item, Attributes.CUSTOMER_ID),
+        amount != null && amount.n() != null ? new BigDecimal(amount.n()) : null,
+        status(string(item, Attributes.STATUS)),
+        string(item, Attributes.EXTERNAL_PAYMENT_ID),
+        string(item, Attributes.ORDER_PAYMENT_ID),
+        string(item, Attributes.PAYMENT_METHOD),
+        string(item, Attributes.QR_CODE),
+        string(item, Attributes.QR_CODE_BASE64),
+        createdAt(number(item, Attributes.CREATED_AT_EPOCH)),
+        processedAt(number(item, Attributes.PROCESSED_AT_EPOCH)),
+        string(item, Attributes.ERROR_MESSAGE),
+        clock);
+  }
+
+  /**
+   * Primary key of the item for a work order.
+   *
+   * @param workOrderId the work order ID (partition key)
+   * @return the key attribute map
+   */
+  public Map<String, AttributeValue> toKey(UUID workOrderId) {
+    return Map.of(Attributes.WORK_ORDER_ID, AttributeValue.fromS(workOrderId.toString()));
+  }
+
+  private long createdAtEpoch(Payment payment) {
+    // Ensure createdAt is set (required by the open-payments index)
+    return payment.getCreatedAt() != null ? payment.getCreatedAt().toEpochMilli() : clock.millis();
+  }
+
+  private long archiveAtEpoch(Payment payment, long createdAtEpoch) {
+    long terminalAtMillis =
+        payment.getProcessedAt() != null ? payment.getProcessedAt().toEpochMilli() : createdAtEpoch;
+    return terminalAtMillis / 1000 + hotRetentionSeconds;
+  }
+
+  private static PaymentStatus status(String status) {
+    return status != null ? PaymentStatus.valueOf(status) : PaymentStatus.PENDING;
+  }
+
+  private Instant createdAt(Long createdAtEpoch) {
+    return createdAtEpoch != null ? Instant.ofEpochMilli(createdAtEpoch) : clock.instant();
+  }
+
+  private static Instant processedAt(Long processedAtEpoch) {
+    return processedAtEpoch != null ? Instant.ofEpochMilli(processedAtEpoch) : null;
+  }
+
+  private static void putString(Map<String, AttributeValue> item, String name, Object value) {
+    if (value != null) {
+      item.put(name, AttributeValue.fromS(value.toString()));
+    }
+  }
+
+  private static String string(Map<String, AttributeValue> item, String name) {
+    AttributeValue value = item.get(name);
+    return value != null ? value.s() : null;
+  }
+
+  private static UUID uuid(Map<String, AttributeValue> item, String name) {
+    String value = string(item, name);
+    return value != null ? UUID.fromString(value) : null;
+  }
 
-    return payment;
+  private static Long number(Map<String, AttributeValue> item, String name) {
+    AttributeValue value = item.get(name);
+    return value != null && value.n() != null ? Long.valueOf(value.n()) : null;
   }
 }
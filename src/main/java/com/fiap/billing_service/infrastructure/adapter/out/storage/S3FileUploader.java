@@ -0,0 +1,68 @@
+package com.fiap.billing_service.infrastructure.adapter.out.storage;
+
+import com.fiap.billing_service.domain.exception.PaymentProcessingException;
+import java.nio.file.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.ServerSideEncryption;
+
+/**
+ * Uploads finished archive and export files to S3.
+ *
+ * <p>Files are staged on local disk first and only uploaded once complete, so a reader never sees
+ * a partial object. Objects are encrypted at rest with SSE-S3.
+ */
+@Component
+public class S3FileUploader {
+
+  private static final Logger logger = LoggerFactory.getLogger(S3FileUploader.class);
+
+  private final S3Client s3Client;
+
+  public S3FileUploader(S3Client s3Client) {
+    this.s3Client = s3Client;
+  }
+
+  /**
+   * Location of the object with the given key
+   *
+   * @param bucket target bucket
+   * @param key object key
+   * @return the s3:// URI of the object
+   */
+  public static String location(String bucket, String key) {
+    return "s3://" + bucket + "/" + key;
+  }
+
+  /**
+   * Upload a local file, blocking until S3 acknowledged the write
+   *
+   * @param bucket target bucket
+   * @param key object key
+   * @param file complete local file
+   * @return the s3:// URI of the uploaded object
+   * @throws PaymentProcessingException if the upload failed
+   */
+  public String upload(String bucket, String key, Path file) {
+    String location = location(bucket, key);
+    try {
+      s3Client.putObject(
+          PutObjectRequest.builder()
+              .bucket(bucket)
+              .key(key)
+              .contentType("application/gzip")
+              .serverSideEncryption(ServerSideEncryption.AES256)
+              .build(),
+          RequestBody.fromFile(file));
+      logger.debug("Uploaded {} to {}", file, location);
+      return location;
+    } catch (SdkException e) {
+      throw new PaymentProcessingException("Could not upload " + file + " to " + location, e);
+    }
+  }
+}
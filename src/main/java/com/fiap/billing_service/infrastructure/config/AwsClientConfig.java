@@ -0,0 +1,162 @@
+package com.fiap.billing_service.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+
+/**
+ * Infrastructure shared by every AWS SDK client (DynamoDB and SQS).
+ *
+ * <p>Each SDK client used to build its own credentials provider and HTTP client, which meant
+ * separate connection pools, separate credential refreshes and default timeouts everywhere. This
+ * configuration owns one credentials provider, one sync (Apache) and one async (Netty) HTTP client,
+ * and the retry/timeout/metrics overrides applied to all clients.
+ */
+@Configuration
+public class AwsClientConfig {
+
+  private static final Logger log = LoggerFactory.getLogger(AwsClientConfig.class);
+
+  @Value("${aws.credentials.access-key:${aws.access.key:}}")
+  private String accessKey;
+
+  @Value("${aws.credentials.secret-key:${aws.secret.key:}}")
+  private String secretKey;
+
+  @Value("${aws.client.http.max-connections:100}")
+  private int httpMaxConnections;
+
+  @Value("${aws.client.http.connection-timeout:PT2S}")
+  private Duration httpConnectionTimeout;
+
+  @Value("${aws.client.http.socket-timeout:PT30S}")
+  private Duration httpSocketTimeout;
+
+  @Value("${aws.client.http.connection-acquisition-timeout:PT5S}")
+  private Duration httpConnectionAcquisitionTimeout;
+
+  @Value("${aws.client.http.connection-max-idle-time:PT60S}")
+  private Duration httpConnectionMaxIdleTime;
+
+  @Value("${aws.client.async-http.max-concurrency:200}")
+  private int asyncMaxConcurrency;
+
+  @Value("${aws.client.async-http.max-pending-connection-acquires:10000}")
+  private int asyncMaxPendingConnectionAcquires;
+
+  @Value("${aws.client.async-http.connection-timeout:PT2S}")
+  private Duration asyncConnectionTimeout;
+
+  @Value("${aws.client.async-http.connection-acquisition-timeout:PT5S}")
+  private Duration asyncConnectionAcquisitionTimeout;
+
+  @Value("${aws.client.async-http.connection-max-idle-time:PT60S}")
+  private Duration asyncConnectionMaxIdleTime;
+
+  @Value("${aws.client.async-http.event-loop-threads:0}")
+  private int asyncEventLoopThreads;
+
+  @Value("${aws.client.retry.mode:adaptive}")
+  private String retryMode;
+
+  @Value("${aws.client.retry.max-retries:3}")
+  private int maxRetries;
+
+  /**
+   * Single credentials provider for all AWS clients.
+   *
+   * <p>Static credentials are used when an access key and secret key are configured (local
+   * development). Otherwise the default chain (IRSA, IAM role, environment) resolves and caches
+   * credentials once, refreshing them in the background before they expire so no request pays
+   * for the refresh.
+   *
+   * @return The shared credentials provider
+   */
+  @Bean
+  public AwsCredentialsProvider awsCredentialsProvider() {
+    if (!accessKey.isBlank() && !secretKey.isBlank()) {
+      log.info("Using static AWS credentials (access key: {}...)",
+          accessKey.substring(0, Math.min(4, accessKey.length())));
+      return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+    log.info("Using DefaultCredentialsProvider (IRSA, IAM Role, or environment variables)");
+    return DefaultCredentialsProvider.builder().asyncCredentialUpdateEnabled(true).build();
+  }
+
+  /**
+   * Shared Apache HTTP client for the sync AWS clients.
+   *
+   * <p>Connections are kept alive with TCP keepalive and reaped after the idle time, so
+   * long-lived pooled connections are not silently dropped by NAT gateways or load balancers.
+   *
+   * @return The shared sync HTTP client
+   */
+  @Bean(destroyMethod = "close")
+  public SdkHttpClient awsHttpClient() {
+    return ApacheHttpClient.builder()
+        .maxConnections(httpMaxConnections)
+        .connectionTimeout(httpConnectionTimeout)
+        .socketTimeout(httpSocketTimeout)
+        .connectionAcquisitionTimeout(httpConnectionAcquisitionTimeout)
+        .connectionMaxIdleTime(httpConnectionMaxIdleTime)
+        .useIdleConnectionReaper(true)
+        .tcpKeepAlive(true)
+        .build();
+  }
+
+  /**
+   * Shared Netty NIO HTTP client for the async AWS clients.
+   *
+   * <p>max-concurrency bounds the number of open connections (one in-flight request each on
+   * HTTP/1.1); requests beyond it wait in the acquire queue instead of blocking a thread.
+   *
+   * @return The shared async HTTP client
+   */
+  @Bean(destroyMethod = "close")
+  public SdkAsyncHttpClient awsAsyncHttpClient() {
+    NettyNioAsyncHttpClient.Builder builder = NettyNioAsyncHttpClient.builder()
+        .maxConcurrency(asyncMaxConcurrency)
+        .maxPendingConnectionAcquires(asyncMaxPendingConnectionAcquires)
+        .connectionTimeout(asyncConnectionTimeout)
+        .connectionAcquisitionTimeout(asyncConnectionAcquisitionTimeout)
+        .connectionMaxIdleTime(asyncConnectionMaxIdleTime)
+        .useIdleConnectionReaper(true)
+        .tcpKeepAlive(true);
+
+    // 0 keeps the SDK default (2 x available processors)
+    if (asyncEventLoopThreads > 0) {
+      builder.eventLoopGroup(
+          SdkEventLoopGroup.builder().numberOfThreads(asyncEventLoopThreads).build());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Retry, timeout and metrics overrides applied to every AWS client.
+   *
+   * <p>Adaptive retry adds client-side rate limiting on throttling errors on top of the standard
+   * exponential backoff with jitter, so a throttled table or queue is not hammered by retries.
+   *
+   * @param meterRegistry Registry receiving the SDK client metrics
+   * @return The override factory
+   */
+  @Bean
+  public AwsClientOverrides awsClientOverrides(MeterRegistry meterRegistry) {
+    return new AwsClientOverrides(RetryMode.valueOf(retryMode.trim().toUpperCase(Locale.ROOT)), maxRetries, meterRegistry);
+  }
+}
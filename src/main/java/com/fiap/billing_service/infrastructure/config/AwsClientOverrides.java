@@ -0,0 +1,43 @@
+package com.fiap.billing_service.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+
+/**
+ * Builds the per-client override configuration shared by every AWS SDK client: retry mode and
+ * budget, API-call and attempt timeouts, and a Micrometer metric publisher tagged with the client
+ * name.
+ */
+public class AwsClientOverrides {
+
+  private final RetryMode retryMode;
+  private final int maxRetries;
+  private final MeterRegistry meterRegistry;
+
+  public AwsClientOverrides(RetryMode retryMode, int maxRetries, MeterRegistry meterRegistry) {
+    this.retryMode = retryMode;
+    this.maxRetries = maxRetries;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Override configuration for one SDK client.
+   *
+   * @param clientName metric tag, unique per client (e.g. dynamodb, sqs-async)
+   * @param apiCallTimeout total time for a call including all retries
+   * @param apiCallAttemptTimeout time for a single HTTP attempt
+   * @return the override configuration
+   */
+  public ClientOverrideConfiguration forClient(
+      String clientName, Duration apiCallTimeout, Duration apiCallAttemptTimeout) {
+    return ClientOverrideConfiguration.builder()
+        .retryPolicy(RetryPolicy.builder(retryMode).numRetries(maxRetries).build())
+        .apiCallTimeout(apiCallTimeout)
+        .apiCallAttemptTimeout(apiCallAttemptTimeout)
+        .addMetricPublisher(new AwsSdkMetricPublisher(meterRegistry, clientName))
+        .build();
+  }
+}
@@ -1,18 +1,21 @@
 package com.fiap.billing_service.infrastructure.config;
 
+import java.net.URI;
+import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClientBuilder;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.SqsClientBuilder;
 
 @Configuration
 public class AwsConfig {
@@ -22,48 +25,51 @@ public class AwsConfig {
   @Value("${aws.region:us-east-2}")
   private String region;
 
-  @Value("${aws.credentials.access-key:#{null}}")
-  private String accessKey;
+  @Value("${aws.sqs.endpoint:}")
+  private String sqsEndpoint;
 
-  @Value("${aws.credentials.secret-key:#{null}}")
-  private String secretKey;
+  @Value("${aws.sqs.api-call-timeout:PT60S}")
+  private Duration apiCallTimeout;
 
-  /**
-   * Cria o provider de credenciais.
-   * Se accessKey e secretKey estiverem definidos, usa credenciais estáticas.
-   * Caso contrário, usa DefaultCredentialsProvider (IRSA, environment vars, etc).
-   */
-  private AwsCredentialsProvider credentialsProvider() {
-    if (accessKey != null && !accessKey.isEmpty() && 
-        secretKey != null && !secretKey.isEmpty()) {
-      log.info("Using static AWS credentials (access key: {}...)", 
-          accessKey.substring(0, Math.min(4, accessKey.length())));
-      return StaticCredentialsProvider.create(
-          AwsBasicCredentials.create(accessKey, secretKey)
-      );
-    } else {
-      log.info("Using DefaultCredentialsProvider (IRSA, IAM Role, or environment variables)");
-      return DefaultCredentialsProvider.create();
-    }
-  }
+  // Long polls wait up to 20s on the server, so the attempt timeout must stay above that
+  @Value("${aws.sqs.api-call-attempt-timeout:PT25S}")
+  private Duration apiCallAttemptTimeout;
 
   @Bean
   @Primary
-  public SqsClient sqsClient() {
+  public SqsClient sqsClient(
+      SdkHttpClient awsHttpClient,
+      AwsCredentialsProvider awsCredentialsProvider,
+      AwsClientOverrides awsClientOverrides) {
     log.info("Creating SqsClient with region: {}", region);
-    return SqsClient.builder()
+    SqsClientBuilder builder = SqsClient.builder()
         .region(Region.of(region))
-        .credentialsProvider(credentialsProvider())
-        .build();
+        .httpClient(awsHttpClient)
+        .credentialsProvider(awsCredentialsProvider)
+        .overrideConfiguration(
+            awsClientOverrides.forClient("sqs", apiCallTimeout, apiCallAttemptTimeout));
+    if (!sqsEndpoint.isBlank()) {
+      builder.endpointOverride(URI.create(sqsEndpoint));
+    }
+    return builder.build();
   }
 
   @Bean
   @Primary
-  public SqsAsyncClient sqsAsyncClient() {
+  public SqsAsyncClient sqsAsyncClient(
+      SdkAsyncHttpClient awsAsyncHttpClient,
+      AwsCredentialsProvider awsCredentialsProvider,
+      AwsClientOverrides awsClientOverrides) {
     log.info("Creating SqsAsyncClient with region: {}", region);
-    return SqsAsyncClient.builder()
+    SqsAsyncClientBuilder builder = SqsAsyncClient.builder()
         .region(Region.of(region))
-        .credentialsProvider(credentialsProvider())
-        .build();
+        .httpClient(awsAsyncHttpClient)
+        .credentialsProvider(awsCredentialsProvider)
+        .overrideConfiguration(
+            awsClientOverrides.forClient("sqs-async", apiCallTimeout, apiCallAttemptTimeout));
+    if (!sqsEndpoint.isBlank()) {
+      builder.endpointOverride(URI.create(sqsEndpoint));
+    }
+    return builder.build();
   }
 }
@@ -0,0 +1,111 @@
+package com.fiap.billing_service.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Publishes AWS SDK client metrics to Micrometer, one instance per SDK client.
+ *
+ * <p>Meters are registered once, tagged with the client name, when the publisher is created; each
+ * API call only updates them. Connection-pool gauges show the values the HTTP client reported on
+ * the most recent call:
+ *
+ * <ul>
+ *   <li>aws.sdk.http.pool.max - maximum connections (max concurrency)
+ *   <li>aws.sdk.http.pool.leased - connections in use
+ *   <li>aws.sdk.http.pool.available - idle connections ready for reuse
+ *   <li>aws.sdk.http.pool.pending - requests waiting for a connection
+ *   <li>aws.sdk.api.call - API call duration including retries
+ *   <li>aws.sdk.api.retries - retried attempts
+ * </ul>
+ */
+public class AwsSdkMetricPublisher implements MetricPublisher {
+
+  private static final String CLIENT_TAG = "client";
+
+  private final AtomicLong maxConcurrency = new AtomicLong();
+  private final AtomicLong leasedConcurrency = new AtomicLong();
+  private final AtomicLong availableConcurrency = new AtomicLong();
+  private final AtomicLong pendingAcquires = new AtomicLong();
+  private final Timer apiCallTimer;
+  private final Counter retryCounter;
+
+  public AwsSdkMetricPublisher(MeterRegistry registry, String clientName) {
+    gauge(registry, "aws.sdk.http.pool.max", clientName, maxConcurrency);
+    gauge(registry, "aws.sdk.http.pool.leased", clientName, leasedConcurrency);
+    gauge(registry, "aws.sdk.http.pool.available", clientName, availableConcurrency);
+    gauge(registry, "aws.sdk.http.pool.pending", clientName, pendingAcquires);
+    this.apiCallTimer =
+        Timer.builder("aws.sdk.api.call")
+            .description("AWS SDK API call duration including retries")
+            .tag(CLIENT_TAG, clientName)
+            .register(registry);
+    this.retryCounter =
+        Counter.builder("aws.sdk.api.retries")
+            .description("AWS SDK retried attempts")
+            .tag(CLIENT_TAG, clientName)
+            .register(registry);
+  }
+
+  private static void gauge(
+      MeterRegistry registry, String name, String clientName, AtomicLong value) {
+    Gauge.builder(name, value, AtomicLong::get).tag(CLIENT_TAG, clientName).register(registry);
+  }
+
+  @Override
+  public void publish(MetricCollection metrics) {
+    Duration duration = last(metrics, CoreMetric.API_CALL_DURATION);
+    if (duration != null) {
+      apiCallTimer.record(duration.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    Integer retries = last(metrics, CoreMetric.RETRY_COUNT);
+    if (retries != null && retries > 0) {
+      retryCounter.increment(retries);
+    }
+    update(maxConcurrency, last(metrics, HttpMetric.MAX_CONCURRENCY));
+    update(leasedConcurrency, last(metrics, HttpMetric.LEASED_CONCURRENCY));
+    update(availableConcurrency, last(metrics, HttpMetric.AVAILABLE_CONCURRENCY));
+    update(pendingAcquires, last(metrics, HttpMetric.PENDING_CONCURRENCY_ACQUIRES));
+  }
+
+  @Override
+  public void close() {
+    // Meters stay registered; nothing to release
+  }
+
+  private static void update(AtomicLong target, Integer value) {
+    if (value != null) {
+      target.set(value);
+    }
+  }
+
+  /**
+   * Last value of a metric in the collection tree. Pool metrics are reported by the HTTP client
+   * collection nested under each attempt, so the latest attempt wins.
+   */
+  private static <T> T last(MetricCollection collection, SdkMetric<T> metric) {
+    T found = null;
+    List<T> values = collection.metricValues(metric);
+    if (!values.isEmpty()) {
+      found = values.get(values.size() - 1);
+    }
+    for (MetricCollection child : collection.children()) {
+      T childValue = last(child, metric);
+      if (childValue != null) {
+        found = childValue;
+      }
+    }
+    return found;
+  }
+}
@@ -0,0 +1,18 @@
+package com.fiap.billing_service.infrastructure.config;
+
+import java.time.Clock;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Clock used for payment timestamps.
+ * Always UTC so stored epochs do not depend on the pod's time zone; tests replace it with a fixed clock.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
@@ -3,13 +3,14 @@ package com.fiap.billing_service.infrastructure.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
 import java.net.URI;
+import java.time.Duration;
 
 /**
  * DynamoDB Configuration for billing-service.
@@ -19,6 +20,8 @@ import java.net.URI;
  * - Production: Uses AWS managed DynamoDB region endpoint
  * - Development: Can point to local DynamoDB container (http://localhost:8000)
  * - Test: Points to test DynamoDB local container
+ * 
+ * Credentials, HTTP clients and retry policy are shared with the SQS clients (see AwsClientConfig).
  */
 @Configuration
 public class DatabaseConfig {
@@ -29,11 +32,11 @@ public class DatabaseConfig {
   @Value("${aws.dynamodb.endpoint:#{null}}")
   private String dynamoDbEndpoint;
 
-  @Value("${aws.access.key:#{null}}")
-  private String awsAccessKey;
+  @Value("${aws.dynamodb.api-call-timeout:PT10S}")
+  private Duration apiCallTimeout;
 
-  @Value("${aws.secret.key:#{null}}")
-  private String awsSecretKey;
+  @Value("${aws.dynamodb.api-call-attempt-timeout:PT2S}")
+  private Duration apiCallAttemptTimeout;
 
   /**
    * Creates a DynamoDB client configured for the current environment.
@@ -41,25 +44,28 @@ public class DatabaseConfig {
    * In production, credentials are obtained from IAM roles attached to the Pod/Lambda.
    * In development/test, endpoint can be overridden to point to local DynamoDB.
    * 
+   * @param awsHttpClient Shared sync HTTP client
+   * @param awsCredentialsProvider Shared credentials provider
+   * @param awsClientOverrides Shared retry, timeout and metrics configuration
    * @return Configured DynamoDbClient
    */
   @Bean
-  public DynamoDbClient dynamoDbClient() {
+  public DynamoDbClient dynamoDbClient(
+      SdkHttpClient awsHttpClient,
+      AwsCredentialsProvider awsCredentialsProvider,
+      AwsClientOverrides awsClientOverrides) {
     DynamoDbClientBuilder builder = DynamoDbClient.builder()
-        .region(Region.of(awsRegion));
+        .region(Region.of(awsRegion))
+        .httpClient(awsHttpClient)
+        .credentialsProvider(awsCredentialsProvider)
+        .overrideConfiguration(
+            awsClientOverrides.forClient("dynamodb", apiCallTimeout, apiCallAttemptTimeout));
 
     // Configure endpoint override for local development/testing
     if (dynamoDbEndpoint != null && !dynamoDbEndpoint.isBlank()) {
       builder.endpointOverride(URI.create(dynamoDbEndpoint));
     }
 
-    // Configure credentials for local development (in production, use IAM roles)
-    if (awsAccessKey != null && awsSecretKey != null && 
-        !awsAccessKey.isBlank() && !awsSecretKey.isBlank()) {
-      AwsBasicCredentials credentials = AwsBasicCredentials.create(awsAccessKey, awsSecretKey);
-      builder.credentialsProvider(StaticCredentialsProvider.create(credentials));
-    }
-
     return builder.build();
   }
 
@@ -0,0 +1,68 @@
+package com.fiap.billing_service.infrastructure.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.dto.PaymentRequestDto;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.dto.MercadoPagoOrderRequest;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.dto.MercadoPagoOrderResponse;
+import com.fiap.billing_service.infrastructure.config.logging.RateSamplingTurboFilter;
+import net.logstash.logback.encoder.LogstashEncoder;
+import net.logstash.logback.stacktrace.ShortenedThrowableConverter;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * GraalVM native image hints for types only reached through reflection at runtime.
+ *
+ * <p>Spring AOT already covers beans and controller payloads; these hints add the JSON payloads
+ * bound by Jackson outside of controllers (SQS messages and Mercado Pago calls), the Jackson
+ * modules found by {@code findAndRegisterModules()} in {@link JacksonConfig}, and the logging
+ * classes named in {@code logback-spring.xml}. Only used by the {@code native} build profile; on
+ * the JVM the hints are ignored.
+ *
+ * <p>DynamoDB in the native image: the Enhanced Client bean schema generates lambdas at runtime,
+ * which native images cannot run, so no bean-schema path is hinted here. The {@code native}
+ * profile fixes {@code dynamodb.repository.mode=low-level} at AOT time and leaves archival off (it
+ * is the only remaining bean-schema user); the table export reads with the low-level client and
+ * works in both images.
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfig.BillingRuntimeHints.class)
+public class NativeImageConfig {
+
+  static class BillingRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar =
+        new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+      // Jackson binding, including nested payer/transactions/payment types
+      bindingRegistrar.registerReflectionHints(
+          hints.reflection(),
+          PaymentRequestDto.class,
+          MercadoPagoOrderRequest.class,
+          MercadoPagoOrderResponse.class);
+
+      // ObjectMapper.findAndRegisterModules() uses the ServiceLoader
+      hints.resources().registerPattern("META-INF/services/com.fasterxml.jackson.databind.Module");
+
+      // logback-spring.xml instantiates these by class name and sets their properties
+      for (Class<?> type :
+          new Class<?>[] {
+            RateSamplingTurboFilter.class,
+            AsyncAppender.class,
+            LogstashEncoder.class,
+            ShortenedThrowableConverter.class
+          }) {
+        hints
+            .reflection()
+            .registerType(
+                type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+      }
+    }
+  }
+}
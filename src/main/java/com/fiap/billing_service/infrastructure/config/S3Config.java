@@ -0,0 +1,51 @@
+package com.fiap.billing_service.infrastructure.config;
+
+import java.net.URI;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+/**
+ * S3 client for the payment archive and export files.
+ *
+ * <p>Shares credentials, HTTP client and retry policy with the DynamoDB and SQS clients (see
+ * AwsClientConfig). An endpoint override (LocalStack) switches to path-style addressing.
+ */
+@Configuration
+public class S3Config {
+
+  @Value("${aws.region:us-east-2}")
+  private String awsRegion;
+
+  @Value("${aws.s3.endpoint:}")
+  private String s3Endpoint;
+
+  @Value("${aws.s3.api-call-timeout:PT120S}")
+  private Duration apiCallTimeout;
+
+  @Value("${aws.s3.api-call-attempt-timeout:PT60S}")
+  private Duration apiCallAttemptTimeout;
+
+  @Bean
+  public S3Client s3Client(
+      SdkHttpClient awsHttpClient,
+      AwsCredentialsProvider awsCredentialsProvider,
+      AwsClientOverrides awsClientOverrides) {
+    S3ClientBuilder builder = S3Client.builder()
+        .region(Region.of(awsRegion))
+        .httpClient(awsHttpClient)
+        .credentialsProvider(awsCredentialsProvider)
+        .overrideConfiguration(
+            awsClientOverrides.forClient("s3", apiCallTimeout, apiCallAttemptTimeout));
+    if (!s3Endpoint.isBlank()) {
+      builder.endpointOverride(URI.create(s3Endpoint)).forcePathStyle(true);
+    }
+    return builder.build();
+  }
+}
@@ -1,15 +1,19 @@
 package com.fiap.billing_service.infrastructure.config;
 
+import com.fiap.billing_service.infrastructure.context.MessageContext;
 import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
 import io.awspring.cloud.sqs.listener.acknowledgement.handler.AcknowledgementMode;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
 import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
 
 /**
@@ -18,6 +22,10 @@ import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
  * <p>Configures: - Acknowledgment mode: ON_SUCCESS (message only removed after successful
  * processing) - Visibility timeout: 5 minutes (enough time for Mercado Pago API calls) - Error
  * handling: Logs errors without silently failing
+ *
+ * <p>A request queue whose name ends in {@code .fifo} gets a FIFO container: messages of different
+ * groups (one per work order) are processed in parallel, messages of one group one at a time and
+ * in order. Standard queues keep the unordered container.
  */
 @Configuration
 public class SqsConfig {
@@ -28,11 +36,18 @@ public class SqsConfig {
    * Custom SQS listener factory with idempotency-friendly settings
    *
    * @param sqsAsyncClient the SQS async client
+   * @param drainTimeout how long a stopping container waits for dispatched messages
+   * @param acknowledgementFlushTimeout how long a stopping container flushes acknowledgements
+   * @param warmupEnabled when true containers are started by ConnectionWarmup, not on refresh
    * @return configured listener factory
    */
   @Bean
   public SqsMessageListenerContainerFactory<Object> defaultSqsListenerContainerFactory(
-      SqsAsyncClient sqsAsyncClient) {
+      SqsAsyncClient sqsAsyncClient,
+      @Value("${aws.sqs.shutdown.drain-timeout:PT25S}") Duration drainTimeout,
+      @Value("${aws.sqs.shutdown.acknowledgement-flush-timeout:PT5S}")
+          Duration acknowledgementFlushTimeout,
+      @Value("${startup.warmup.enabled:true}") boolean warmupEnabled) {
 
     log.info(
         "Configuring SQS listener with ON_SUCCESS acknowledgment and 5-minute visibility timeout");
@@ -47,8 +62,21 @@ public class SqsConfig {
                     // 5 minutes visibility timeout (enough for payment processing)
                     .queueAttributeNames(
                         Collections.singleton(QueueAttributeName.VISIBILITY_TIMEOUT))
+                    // SentTimestamp feeds the backlog age estimate (SqsQueueBacklogMonitor);
+                    // MessageGroupId lets a .fifo request queue run each group in order
+                    .messageSystemAttributeNames(
+                        List.of(
+                            MessageSystemAttributeName.SENT_TIMESTAMP,
+                            MessageSystemAttributeName.MESSAGE_GROUP_ID))
+                    // Only the correlation id travels as a message attribute (MessageContext)
+                    .messageAttributeNames(Collections.singleton(MessageContext.CORRELATION_ID))
                     // Poll duration
-                    .pollTimeout(Duration.ofSeconds(10)))
+                    .pollTimeout(Duration.ofSeconds(10))
+                    // Graceful drain on stop (PaymentListenerDrain)
+                    .listenerShutdownTimeout(drainTimeout)
+                    .acknowledgementShutdownTimeout(acknowledgementFlushTimeout)
+                    // Started once outbound connections are warm (ConnectionWarmup)
+                    .autoStartup(!warmupEnabled))
         .build();
   }
 
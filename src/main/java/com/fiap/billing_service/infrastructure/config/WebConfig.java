@@ -1,5 +1,6 @@
 package com.fiap.billing_service.infrastructure.config;
 
+import com.fiap.billing_service.infrastructure.config.interceptor.AdminTokenInterceptor;
 import com.fiap.billing_service.infrastructure.config.interceptor.CorrelationIdInterceptor;
 import com.fiap.billing_service.infrastructure.config.interceptor.LoggingInterceptor;
 import org.springframework.context.annotation.Bean;
@@ -14,10 +15,14 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final CorrelationIdInterceptor correlationIdInterceptor;
     private final LoggingInterceptor loggingInterceptor;
+    private final AdminTokenInterceptor adminTokenInterceptor;
 
-    public WebConfig(CorrelationIdInterceptor correlationIdInterceptor, LoggingInterceptor loggingInterceptor) {
+    public WebConfig(CorrelationIdInterceptor correlationIdInterceptor,
+                     LoggingInterceptor loggingInterceptor,
+                     AdminTokenInterceptor adminTokenInterceptor) {
         this.correlationIdInterceptor = correlationIdInterceptor;
         this.loggingInterceptor = loggingInterceptor;
+        this.adminTokenInterceptor = adminTokenInterceptor;
     }
 
     @Bean
@@ -31,6 +36,8 @@ public class WebConfig implements WebMvcConfigurer {
                 .addPathPatterns("/api/**");
         registry.addInterceptor(loggingInterceptor)
                 .addPathPatterns("/api/**");
+        registry.addInterceptor(adminTokenInterceptor)
+                .addPathPatterns("/api/v1/admin/**");
     }
 
     @Override
@@ -0,0 +1,52 @@
+package com.fiap.billing_service.infrastructure.config.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Interceptor guarding the admin endpoints with a shared token.
+ *
+ * <p>Requests must carry the configured token (payment.admin.token, from the Kubernetes secret)
+ * in the X-Admin-Token header. Without a configured token every admin request is refused.
+ */
+@Component
+public class AdminTokenInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminTokenInterceptor.class);
+    private static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final byte[] adminToken;
+
+    public AdminTokenInterceptor(@Value("${payment.admin.token:}") String adminToken) {
+        this.adminToken = adminToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (adminToken.length == 0) {
+            log.warn("Admin request refused, no admin token configured: {} {}",
+                request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return false;
+        }
+
+        String token = request.getHeader(ADMIN_TOKEN_HEADER);
+        // Constant-time comparison, the token must not leak through response timing
+        if (token == null
+            || !MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("Admin request refused, missing or invalid token: {} {}",
+                request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            return false;
+        }
+        return true;
+    }
+}
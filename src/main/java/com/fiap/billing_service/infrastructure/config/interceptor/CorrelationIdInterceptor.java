@@ -1,5 +1,6 @@
 package com.fiap.billing_service.infrastructure.config.interceptor;
 
+import com.fiap.billing_service.application.port.out.IdGeneratorPort;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
@@ -8,8 +9,6 @@ import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.util.UUID;
-
 /**
  * Interceptor to add correlation ID to all requests
  */
@@ -20,6 +19,12 @@ public class CorrelationIdInterceptor implements HandlerInterceptor {
     private static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
     private static final String CORRELATION_ID_MDC_KEY = "correlationId";
 
+    private final IdGeneratorPort idGenerator;
+
+    public CorrelationIdInterceptor(IdGeneratorPort idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
         // Check if correlation ID exists in request header
@@ -27,7 +32,7 @@ public class CorrelationIdInterceptor implements HandlerInterceptor {
         
         // If not present, generate a new one
         if (correlationId == null || correlationId.isEmpty()) {
-            correlationId = UUID.randomUUID().toString();
+            correlationId = idGenerator.newId().toString();
         }
         
         // Add to MDC for logging
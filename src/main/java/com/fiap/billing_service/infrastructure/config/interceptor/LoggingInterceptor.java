@@ -1,5 +1,6 @@
 package com.fiap.billing_service.infrastructure.config.interceptor;
 
+import com.fiap.billing_service.application.port.out.IdGeneratorPort;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
@@ -8,8 +9,6 @@ import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.util.UUID;
-
 /**
  * Interceptor for logging HTTP requests with structured logging.
  * Logs request details and execution time for Datadog integration.
@@ -21,10 +20,16 @@ public class LoggingInterceptor implements HandlerInterceptor {
     private static final String START_TIME_ATTRIBUTE = "startTime";
     private static final String REQUEST_ID_ATTRIBUTE = "requestId";
 
+    private final IdGeneratorPort idGenerator;
+
+    public LoggingInterceptor(IdGeneratorPort idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
         long startTime = System.currentTimeMillis();
-        String requestId = UUID.randomUUID().toString();
+        String requestId = idGenerator.newId().toString();
 
         request.setAttribute(START_TIME_ATTRIBUTE, startTime);
         request.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
@@ -0,0 +1,95 @@
+package com.fiap.billing_service.infrastructure.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.slf4j.Marker;
+
+/**
+ * Caps INFO events per second for the configured loggers, for the success-path messages logged on
+ * every payment.
+ *
+ * <p>Declared in {@code logback-spring.xml} with one {@code <logger>} element per logger name.
+ * Each of those loggers may emit {@code maxPerSecond} INFO events per second; further INFO events
+ * in the same second are denied before logback builds them. WARN and ERROR always pass, as does
+ * every other logger. Runs for every log call, so it only reads an immutable map and updates one
+ * atomic counter per sampled logger.
+ */
+public class RateSamplingTurboFilter extends TurboFilter {
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private final Map<String, Budget> budgets = new HashMap<>();
+  private final LongSupplier nanoTime;
+  private int maxPerSecond = 20;
+
+  public RateSamplingTurboFilter() {
+    this(System::nanoTime);
+  }
+
+  RateSamplingTurboFilter(LongSupplier nanoTime) {
+    this.nanoTime = nanoTime;
+  }
+
+  /** Adds a logger to sample; called by logback for each {@code <logger>} element */
+  public void addLogger(String loggerName) {
+    budgets.put(loggerName.trim(), new Budget());
+  }
+
+  public void setMaxPerSecond(int maxPerSecond) {
+    this.maxPerSecond = maxPerSecond;
+  }
+
+  @Override
+  public void start() {
+    if (maxPerSecond < 0) {
+      addError("maxPerSecond must not be negative: " + maxPerSecond);
+      return;
+    }
+    super.start();
+  }
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    // format is null when the caller only asks isInfoEnabled()
+    if (level != Level.INFO || format == null || !isStarted()) {
+      return FilterReply.NEUTRAL;
+    }
+    Budget budget = budgets.get(logger.getName());
+    if (budget == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+      return FilterReply.NEUTRAL;
+    }
+    return budget.tryAcquire(nanoTime.getAsLong() / NANOS_PER_SECOND, maxPerSecond)
+        ? FilterReply.NEUTRAL
+        : FilterReply.DENY;
+  }
+
+  /** Events of one logger in the current second: the second in the high half, the count below */
+  private static final class Budget {
+    private final AtomicLong state = new AtomicLong();
+
+    boolean tryAcquire(long second, int max) {
+      int window = (int) second;
+      while (true) {
+        long current = state.get();
+        long next;
+        if ((int) (current >>> 32) != window) {
+          next = ((long) window << 32) | 1;
+        } else if ((int) current >= max) {
+          return false;
+        } else {
+          next = current + 1;
+        }
+        if (state.compareAndSet(current, next)) {
+          return (int) next <= max;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.fiap.billing_service.infrastructure.context;
+
+import io.opentracing.Span;
+import io.opentracing.noop.NoopSpan;
+import io.opentracing.util.GlobalTracer;
+import org.slf4j.MDC;
+
+/**
+ * Correlation id and trace tags of the message being processed.
+ *
+ * <p>The listener opens a context once per SQS message with the {@value #CORRELATION_ID} message
+ * attribute, or a new id when the producer sent none. The id lives in the MDC under the same key
+ * the HTTP interceptor uses, so every log line of the payment carries it, and the response
+ * adapter copies it onto outbound messages. It is also set as the {@value #CORRELATION_ID_TAG} tag
+ * of the active span, so traces and logs of the same message can be joined; other span tags go
+ * through {@link #tag} so callers never look up the tracer themselves. Processing of a message
+ * stays on the listener thread, so the context is not carried to other threads.
+ */
+public final class MessageContext implements AutoCloseable {
+
+  /** SQS message attribute and MDC key holding the correlation id */
+  public static final String CORRELATION_ID = "correlationId";
+
+  /** Span tag holding the correlation id */
+  public static final String CORRELATION_ID_TAG = "correlation_id";
+
+  private final String previousCorrelationId;
+
+  private MessageContext(String previousCorrelationId) {
+    this.previousCorrelationId = previousCorrelationId;
+  }
+
+  /**
+   * Makes {@code correlationId} current on this thread until the returned context is closed, and
+   * tags the active span with it
+   *
+   * @param correlationId the id received with the message, or a new one
+   */
+  public static MessageContext open(String correlationId) {
+    String previous = correlationId();
+    if (correlationId != null) {
+      MDC.put(CORRELATION_ID, correlationId);
+    }
+    tag(CORRELATION_ID_TAG, correlationId);
+    return new MessageContext(previous);
+  }
+
+  /** Correlation id current on this thread, or null outside a message or request */
+  public static String correlationId() {
+    return MDC.get(CORRELATION_ID);
+  }
+
+  /**
+   * Sets a tag on the active span; does nothing without a span or when {@code value} is null
+   *
+   * @param key tag name
+   * @param value tag value
+   */
+  public static void tag(String key, String value) {
+    Span span = GlobalTracer.get().activeSpan();
+    if (span != null && !(span instanceof NoopSpan) && value != null) {
+      span.setTag(key, value);
+    }
+  }
+
+  /** Restores the correlation id that was current before */
+  @Override
+  public void close() {
+    if (previousCorrelationId != null) {
+      MDC.put(CORRELATION_ID, previousCorrelationId);
+    } else {
+      MDC.remove(CORRELATION_ID);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.fiap.billing_service.infrastructure.health;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+
+/**
+ * Health indicator that answers from the result of the last background check.
+ *
+ * <p>{@link #health()} never calls the dependency, so probes are answered from memory; {@link
+ * #refresh()} is driven by {@link DependencyHealthRefresher}. Until the first check completes
+ * the status is UNKNOWN.
+ */
+public abstract class CachedHealthIndicator implements HealthIndicator {
+
+  private static final Logger log = LoggerFactory.getLogger(CachedHealthIndicator.class);
+
+  private volatile Health cached = Health.unknown().withDetail("reason", "not checked yet").build();
+
+  @Override
+  public Health health() {
+    return cached;
+  }
+
+  /** Runs the check and replaces the cached result; a failing check is reported as DOWN */
+  public void refresh() {
+    Health result;
+    try {
+      result = check();
+    } catch (Exception e) {
+      log.warn("{} check failed: {}", getClass().getSimpleName(), e.getMessage());
+      result = Health.down().withDetail("error", e.getClass().getSimpleName() + ": " + e.getMessage()).build();
+    }
+    cached = result;
+  }
+
+  /**
+   * Calls the dependency
+   *
+   * @return current health of the dependency
+   */
+  protected abstract Health check();
+}
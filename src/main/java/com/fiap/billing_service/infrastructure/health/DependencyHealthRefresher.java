@@ -0,0 +1,150 @@
+package com.fiap.billing_service.infrastructure.health;
+
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.PaymentQueueListener;
+import io.awspring.cloud.sqs.listener.MessageListenerContainer;
+import io.awspring.cloud.sqs.listener.MessageListenerContainerRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refreshes the cached dependency health indicators in the background and drives readiness.
+ *
+ * <p>Checks run on a dedicated executor so a slow AWS call never blocks the scheduler or a probe.
+ * After every refresh, if any dependency is DOWN or OUT_OF_SERVICE the pod is marked
+ * REFUSING_TRAFFIC and the payment request listener is stopped, so no message is received that
+ * could not be processed; once every dependency is healthy again readiness returns to
+ * ACCEPTING_TRAFFIC and the listener is restarted.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "management.health.dependencies.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class DependencyHealthRefresher {
+
+  private static final Logger log = LoggerFactory.getLogger(DependencyHealthRefresher.class);
+
+  private final List<CachedHealthIndicator> cachedIndicators;
+  private final List<HealthIndicator> readinessIndicators;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ApplicationAvailability availability;
+  private final ObjectProvider<MessageListenerContainerRegistry> listenerRegistry;
+  private final ExecutorService executor;
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private volatile boolean dependenciesReady = true;
+  private volatile boolean suspended;
+  private volatile boolean listenerPaused;
+
+  public DependencyHealthRefresher(
+      List<CachedHealthIndicator> cachedIndicators,
+      GatewayCircuitHealthIndicator gatewayCircuitHealthIndicator,
+      ApplicationEventPublisher eventPublisher,
+      ApplicationAvailability availability,
+      ObjectProvider<MessageListenerContainerRegistry> listenerRegistry) {
+    this.cachedIndicators = cachedIndicators;
+    this.readinessIndicators = new ArrayList<>(cachedIndicators);
+    this.readinessIndicators.add(gatewayCircuitHealthIndicator);
+    this.eventPublisher = eventPublisher;
+    this.availability = availability;
+    this.listenerRegistry = listenerRegistry;
+    this.executor = Executors.newFixedThreadPool(Math.max(1, cachedIndicators.size()));
+  }
+
+  @Scheduled(
+      initialDelayString = "${management.health.dependencies.initial-delay:PT0S}",
+      fixedDelayString = "${management.health.dependencies.refresh-interval:PT10S}")
+  public void scheduledRefresh() {
+    refresh();
+  }
+
+  /**
+   * Refreshes every cached indicator concurrently, then updates readiness; skipped while the
+   * previous refresh is still running
+   *
+   * @return future completed once readiness was evaluated
+   */
+  public CompletableFuture<Void> refresh() {
+    if (!refreshing.compareAndSet(false, true)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<?>[] checks =
+        cachedIndicators.stream()
+            .map(indicator -> CompletableFuture.runAsync(indicator::refresh, executor))
+            .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(checks)
+        .thenRunAsync(this::updateReadiness, executor)
+        .whenComplete((ignored, e) -> refreshing.set(false));
+  }
+
+  /**
+   * Stops driving readiness and the listener, e.g. while the application shuts down
+   */
+  public void suspend() {
+    suspended = true;
+  }
+
+  public boolean isDependenciesReady() {
+    return dependenciesReady;
+  }
+
+  private void updateReadiness() {
+    if (suspended) {
+      return;
+    }
+    boolean ready = true;
+    for (HealthIndicator indicator : readinessIndicators) {
+      Status status = indicator.health().getStatus();
+      if (Status.DOWN.equals(status) || Status.OUT_OF_SERVICE.equals(status)) {
+        ready = false;
+        break;
+      }
+    }
+    dependenciesReady = ready;
+
+    ReadinessState target = ready ? ReadinessState.ACCEPTING_TRAFFIC : ReadinessState.REFUSING_TRAFFIC;
+    if (availability.getReadinessState() != target) {
+      log.warn("Dependencies {}, readiness changes to {}", ready ? "recovered" : "unhealthy", target);
+      AvailabilityChangeEvent.publish(eventPublisher, this, target);
+    }
+
+    MessageListenerContainerRegistry registry = listenerRegistry.getIfAvailable();
+    MessageListenerContainer<?> container =
+        registry != null ? registry.getContainerById(PaymentQueueListener.LISTENER_ID) : null;
+    if (container == null) {
+      return;
+    }
+    if (!ready && container.isRunning()) {
+      log.warn("Pausing listener {} until dependencies recover", PaymentQueueListener.LISTENER_ID);
+      listenerPaused = true;
+      container.stop();
+    } else if (ready && listenerPaused) {
+      // Only restart a listener this class stopped
+      log.info("Resuming listener {}", PaymentQueueListener.LISTENER_ID);
+      listenerPaused = false;
+      container.start();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    suspended = true;
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,36 @@
+package com.fiap.billing_service.infrastructure.health;
+
+import com.fiap.billing_service.infrastructure.adapter.out.payment.GatewayCircuit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mercado Pago gateway health from the circuit state; reads memory only, so it is not cached.
+ * An OPEN circuit is OUT_OF_SERVICE, HALF_OPEN is UP so the listener resumes and probes the
+ * gateway with real traffic.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "management.health.dependencies.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class GatewayCircuitHealthIndicator implements HealthIndicator {
+
+  private final GatewayCircuit gatewayCircuit;
+
+  public GatewayCircuitHealthIndicator(GatewayCircuit gatewayCircuit) {
+    this.gatewayCircuit = gatewayCircuit;
+  }
+
+  @Override
+  public Health health() {
+    GatewayCircuit.State state = gatewayCircuit.state();
+    Health.Builder builder = state == GatewayCircuit.State.OPEN ? Health.outOfService() : Health.up();
+    return builder
+        .withDetail("circuit", state.name())
+        .withDetail("consecutiveFailures", gatewayCircuit.getConsecutiveFailures())
+        .build();
+  }
+}
@@ -0,0 +1,68 @@
+package com.fiap.billing_service.infrastructure.health;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+
+/**
+ * Health of the request queue and the two response queues.
+ *
+ * <p>Queue URLs are resolved once; each check then reads the queue ARN, which proves the queue
+ * exists and the credentials can reach it. Any unreachable queue makes the indicator DOWN.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "management.health.dependencies.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class PaymentQueuesHealthIndicator extends CachedHealthIndicator {
+
+  private final SqsClient sqsClient;
+  private final List<String> queueNames;
+  private final Map<String, String> queueUrls = new ConcurrentHashMap<>();
+
+  public PaymentQueuesHealthIndicator(
+      SqsClient sqsClient,
+      @Value("${aws.sqs.payment-request-queue}") String requestQueue,
+      @Value("${aws.sqs.payment-response-success-queue}") String successQueue,
+      @Value("${aws.sqs.payment-response-failure-queue}") String failureQueue) {
+    this.sqsClient = sqsClient;
+    this.queueNames = List.of(requestQueue, successQueue, failureQueue);
+  }
+
+  @Override
+  protected Health check() {
+    Map<String, String> details = new LinkedHashMap<>();
+    boolean allUp = true;
+    for (String queueName : queueNames) {
+      try {
+        sqsClient.getQueueAttributes(
+            GetQueueAttributesRequest.builder()
+                .queueUrl(queueUrl(queueName))
+                .attributeNames(QueueAttributeName.QUEUE_ARN)
+                .build());
+        details.put(queueName, "UP");
+      } catch (RuntimeException e) {
+        queueUrls.remove(queueName);
+        details.put(queueName, "DOWN: " + e.getMessage());
+        allUp = false;
+      }
+    }
+    return (allUp ? Health.up() : Health.down()).withDetails(details).build();
+  }
+
+  private String queueUrl(String queueName) {
+    return queueUrls.computeIfAbsent(
+        queueName,
+        name -> sqsClient.getQueueUrl(GetQueueUrlRequest.builder().queueName(name).build()).queueUrl());
+  }
+}
@@ -0,0 +1,42 @@
+package com.fiap.billing_service.infrastructure.health;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+import software.amazon.awssdk.services.dynamodb.model.TableStatus;
+
+/** Payments table health from DescribeTable: UP while the table is ACTIVE or UPDATING */
+@Component
+@ConditionalOnProperty(
+    name = "management.health.dependencies.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class PaymentsTableHealthIndicator extends CachedHealthIndicator {
+
+  private final DynamoDbClient dynamoDbClient;
+  private final DescribeTableRequest request;
+
+  public PaymentsTableHealthIndicator(
+      DynamoDbClient dynamoDbClient, @Value("${dynamodb.table-name:payments}") String tableName) {
+    this.dynamoDbClient = dynamoDbClient;
+    this.request = DescribeTableRequest.builder().tableName(tableName).build();
+  }
+
+  @Override
+  protected Health check() {
+    TableDescription table = dynamoDbClient.describeTable(request).table();
+    TableStatus status = table.tableStatus();
+    Health.Builder builder =
+        status == TableStatus.ACTIVE || status == TableStatus.UPDATING
+            ? Health.up()
+            : Health.down();
+    return builder
+        .withDetail("table", table.tableName())
+        .withDetail("tableStatus", table.tableStatusAsString())
+        .build();
+  }
+}
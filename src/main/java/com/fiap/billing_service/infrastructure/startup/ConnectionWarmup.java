@@ -0,0 +1,193 @@
+package com.fiap.billing_service.infrastructure.startup;
+
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.PaymentListenerDrain;
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.PaymentQueueListener;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.MercadoPagoEndpoints;
+import io.awspring.cloud.sqs.listener.MessageListenerContainer;
+import io.awspring.cloud.sqs.listener.MessageListenerContainerRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+
+/**
+ * Warms up the outbound connections before the payment request listener starts.
+ *
+ * <p>The first call of each client pays for credential resolution, endpoint rules, marshaller
+ * initialization, DNS and the TLS handshake. Once the application is ready, one cheap call per
+ * dependency (DynamoDB, both SQS clients and the configured Mercado Pago host) runs concurrently,
+ * after the shared credentials were resolved once. The listener container is created with
+ * auto-startup disabled (see {@code SqsConfig}) and is started here when every call completed or
+ * the warm-up timeout expired; a failed call is only logged, so warm-up never keeps the listener
+ * stopped.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "startup.warmup.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class ConnectionWarmup {
+
+  private static final Logger log = LoggerFactory.getLogger(ConnectionWarmup.class);
+
+  private final AwsCredentialsProvider awsCredentialsProvider;
+  private final DynamoDbClient dynamoDbClient;
+  private final SqsClient sqsClient;
+  private final SqsAsyncClient sqsAsyncClient;
+  private final RestTemplate restTemplate;
+  private final ObjectProvider<MessageListenerContainerRegistry> listenerRegistry;
+  private final PaymentListenerDrain drain;
+  private final String tableName;
+  private final String requestQueue;
+  private final String responseQueue;
+  private final MercadoPagoEndpoints mercadoPagoEndpoints;
+  private final boolean gatewaySimulated;
+  private final long timeoutMillis;
+
+  public ConnectionWarmup(
+      AwsCredentialsProvider awsCredentialsProvider,
+      DynamoDbClient dynamoDbClient,
+      SqsClient sqsClient,
+      SqsAsyncClient sqsAsyncClient,
+      RestTemplate restTemplate,
+      ObjectProvider<MessageListenerContainerRegistry> listenerRegistry,
+      PaymentListenerDrain drain,
+      MercadoPagoEndpoints mercadoPagoEndpoints,
+      @Value("${dynamodb.table-name:payments}") String tableName,
+      @Value("${aws.sqs.payment-request-queue}") String requestQueue,
+      @Value("${aws.sqs.payment-response-success-queue}") String responseQueue,
+      @Value("${payment.gateway.mode:mercadopago}") String gatewayMode,
+      @Value("${startup.warmup.timeout:PT10S}") Duration timeout) {
+    this.awsCredentialsProvider = awsCredentialsProvider;
+    this.dynamoDbClient = dynamoDbClient;
+    this.sqsClient = sqsClient;
+    this.sqsAsyncClient = sqsAsyncClient;
+    this.restTemplate = restTemplate;
+    this.listenerRegistry = listenerRegistry;
+    this.drain = drain;
+    this.tableName = tableName;
+    this.requestQueue = requestQueue;
+    this.responseQueue = responseQueue;
+    this.mercadoPagoEndpoints = mercadoPagoEndpoints;
+    this.gatewaySimulated = "simulator".equals(gatewayMode);
+    this.timeoutMillis = timeout.toMillis();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    warmUp().whenComplete((ignored, e) -> startListener());
+  }
+
+  /**
+   * Runs the warm-up calls concurrently
+   *
+   * @return future completed when every call finished or the warm-up timeout expired; never fails
+   */
+  public CompletableFuture<Void> warmUp() {
+    long start = System.nanoTime();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    // Resolved once up front, otherwise every client below would resolve them concurrently
+    CompletableFuture<Void> credentials =
+        step("aws-credentials", awsCredentialsProvider::resolveCredentials, executor);
+    CompletableFuture<?>[] steps = {
+      credentials.thenCompose(
+          ignored ->
+              step(
+                  "dynamodb",
+                  () ->
+                      dynamoDbClient.describeTable(
+                          DescribeTableRequest.builder().tableName(tableName).build()),
+                  executor)),
+      credentials.thenCompose(
+          ignored ->
+              step(
+                  "sqs",
+                  () ->
+                      sqsClient.getQueueUrl(
+                          GetQueueUrlRequest.builder().queueName(responseQueue).build()),
+                  executor)),
+      credentials.thenCompose(
+          ignored ->
+              step(
+                  "sqs-async",
+                  () ->
+                      sqsAsyncClient
+                          .getQueueUrl(GetQueueUrlRequest.builder().queueName(requestQueue).build())
+                          .join(),
+                  executor)),
+      step("mercadopago", this::touchMercadoPago, executor)
+    };
+
+    return CompletableFuture.allOf(steps)
+        .completeOnTimeout(null, timeoutMillis, TimeUnit.MILLISECONDS)
+        .whenComplete(
+            (ignored, e) -> {
+              executor.shutdown();
+              log.info(
+                  "Connection warm-up finished in {} ms",
+                  TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            });
+  }
+
+  /** Starts the payment request listener unless the application is already shutting down */
+  public void startListener() {
+    if (drain.isDraining()) {
+      return;
+    }
+    MessageListenerContainerRegistry registry = listenerRegistry.getIfAvailable();
+    MessageListenerContainer<?> container =
+        registry != null ? registry.getContainerById(PaymentQueueListener.LISTENER_ID) : null;
+    if (container != null && !container.isRunning()) {
+      log.info("Starting listener {}", PaymentQueueListener.LISTENER_ID);
+      container.start();
+    }
+  }
+
+  private void touchMercadoPago() {
+    if (gatewaySimulated) {
+      // No Mercado Pago connection to warm up
+      return;
+    }
+    try {
+      restTemplate.headForHeaders(mercadoPagoEndpoints.getBaseUri());
+    } catch (RestClientResponseException e) {
+      // Any HTTP status means DNS, TCP and TLS are established
+    }
+  }
+
+  private static CompletableFuture<Void> step(
+      String name, Runnable call, ExecutorService executor) {
+    return CompletableFuture.runAsync(
+        () -> {
+          long start = System.nanoTime();
+          try {
+            call.run();
+            log.debug(
+                "Warm-up of {} took {} ms",
+                name,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+          } catch (RuntimeException e) {
+            log.warn("Warm-up of {} failed: {}", name, e.getMessage());
+          }
+        },
+        executor);
+  }
+}
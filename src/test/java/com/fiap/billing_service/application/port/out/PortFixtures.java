@@ -0,0 +1,35 @@
+package com.fiap.billing_service.application.port.out;
+
+import com.fiap.billing_service.application.port.out.PortFixtures;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import java.util.UUID;
+
+/** Output port implementations for tests that do not verify those ports */
+public final class PortFixtures {
+
+  /** Metrics port that records nothing */
+  public static final PaymentMetricsPort NO_METRICS =
+      new PaymentMetricsPort() {
+        @Override
+        public void paymentStarted() {}
+
+        @Override
+        public void paymentFinished(PaymentStatus outcome) {}
+
+        @Override
+        public void paymentCoalesced() {}
+
+        @Override
+        public long startStage(Stage stage) {
+          return 0L;
+        }
+
+        @Override
+        public void endStage(Stage stage, long startNanos) {}
+      };
+
+  /** Random (version 4) identifiers */
+  public static final IdGeneratorPort RANDOM_IDS = UUID::randomUUID;
+
+  private PortFixtures() {}
+}
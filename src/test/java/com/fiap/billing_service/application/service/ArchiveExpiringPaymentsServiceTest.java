@@ -0,0 +1,95 @@
+package com.fiap.billing_service.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fiap.billing_service.application.port.out.PaymentArchivePort;
+import com.fiap.billing_service.application.port.out.PaymentArchivePort.ArchiveBatch;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArchiveExpiringPaymentsService Tests")
+class ArchiveExpiringPaymentsServiceTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-15T12:00:00Z");
+
+  @Mock private PaymentArchivePort paymentArchive;
+
+  private ArchiveExpiringPaymentsService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new ArchiveExpiringPaymentsService(
+            paymentArchive, Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofDays(7), 100);
+  }
+
+  @Test
+  @DisplayName("Should keep archiving while full batches are returned")
+  void testArchive_FullBatches_Continues() {
+    // Arrange
+    when(paymentArchive.archiveExpiringBefore(any(), eq(100)))
+        .thenReturn(
+            new ArchiveBatch(100, 100), new ArchiveBatch(100, 100), new ArchiveBatch(42, 42));
+
+    // Act
+    int archived = service.archiveExpiringPayments();
+
+    // Assert
+    assertEquals(242, archived);
+    verify(paymentArchive, times(3)).archiveExpiringBefore(any(), eq(100));
+  }
+
+  @Test
+  @DisplayName("Should keep archiving after items were archived concurrently by another instance")
+  void testArchive_ConcurrentlyArchivedItems_Continues() {
+    // Arrange
+    when(paymentArchive.archiveExpiringBefore(any(), eq(100)))
+        .thenReturn(new ArchiveBatch(100, 99), new ArchiveBatch(10, 10));
+
+    // Act
+    int archived = service.archiveExpiringPayments();
+
+    // Assert
+    assertEquals(109, archived);
+    verify(paymentArchive, times(2)).archiveExpiringBefore(any(), eq(100));
+  }
+
+  @Test
+  @DisplayName("Should stop when a full batch could not archive anything")
+  void testArchive_NoProgress_Stops() {
+    // Arrange
+    when(paymentArchive.archiveExpiringBefore(any(), eq(100)))
+        .thenReturn(new ArchiveBatch(100, 0));
+
+    // Act
+    int archived = service.archiveExpiringPayments();
+
+    // Assert
+    assertEquals(0, archived);
+    verify(paymentArchive, times(1)).archiveExpiringBefore(any(), eq(100));
+  }
+
+  @Test
+  @DisplayName("Should archive payments expiring within the lead period")
+  void testArchive_UsesLeadPeriod() {
+    // Arrange
+    when(paymentArchive.archiveExpiringBefore(any(), anyInt())).thenReturn(new ArchiveBatch(0, 0));
+
+    // Act
+    int archived = service.archiveExpiringPayments();
+
+    // Assert
+    assertEquals(0, archived);
+    verify(paymentArchive).archiveExpiringBefore(NOW.plus(Duration.ofDays(7)), 100);
+  }
+}
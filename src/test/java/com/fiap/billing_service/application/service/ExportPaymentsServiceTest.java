@@ -0,0 +1,130 @@
+package com.fiap.billing_service.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fiap.billing_service.application.port.out.PaymentExportPort;
+import com.fiap.billing_service.domain.dto.PaymentExportResult;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportPaymentsService Tests")
+class ExportPaymentsServiceTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-15T12:00:00Z");
+
+  @Mock private PaymentExportPort paymentExport;
+
+  private ExportPaymentsService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new ExportPaymentsService(paymentExport, Clock.fixed(NOW, ZoneOffset.UTC));
+    when(paymentExport.locationFor(anyString()))
+        .thenAnswer(invocation -> "s3://exports/" + invocation.getArgument(0) + ".pcsv.gz");
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.shutdown();
+  }
+
+  private PaymentExportResult completed(String exportId) {
+    return new PaymentExportResult(
+        exportId,
+        PaymentExportResult.State.COMPLETED,
+        "s3://exports/" + exportId + ".pcsv.gz",
+        42,
+        12.5,
+        Instant.now(),
+        Instant.now(),
+        null);
+  }
+
+  @Test
+  @DisplayName("Should start export in background and expose the completed result")
+  void testStartExport_CompletesInBackground() throws Exception {
+    // Arrange
+    CountDownLatch exported = new CountDownLatch(1);
+    when(paymentExport.export(anyString()))
+        .thenAnswer(
+            invocation -> {
+              exported.countDown();
+              return completed(invocation.getArgument(0));
+            });
+
+    // Act
+    PaymentExportResult running = service.startExport();
+
+    // Assert
+    assertEquals(PaymentExportResult.State.RUNNING, running.getState());
+    assertTrue(running.getExportId().startsWith("payments-"));
+    assertTrue(exported.await(5, TimeUnit.SECONDS));
+    verify(paymentExport, timeout(5000)).export(running.getExportId());
+    awaitState(PaymentExportResult.State.COMPLETED);
+    assertEquals(42, service.getLastExport().orElseThrow().getRowCount());
+  }
+
+  @Test
+  @DisplayName("Should reject a second export while one is running")
+  void testStartExport_AlreadyRunning_Throws() throws Exception {
+    // Arrange
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(paymentExport.export(anyString()))
+        .thenAnswer(
+            invocation -> {
+              started.countDown();
+              release.await(5, TimeUnit.SECONDS);
+              return completed(invocation.getArgument(0));
+            });
+    service.startExport();
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> service.startExport());
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    release.countDown();
+  }
+
+  @Test
+  @DisplayName("Should record failed exports")
+  void testStartExport_Failure_RecordsFailedState() throws Exception {
+    // Arrange
+    when(paymentExport.export(anyString())).thenThrow(new RuntimeException("throttled"));
+
+    // Act
+    service.startExport();
+
+    // Assert
+    awaitState(PaymentExportResult.State.FAILED);
+    assertEquals("throttled", service.getLastExport().orElseThrow().getErrorMessage());
+  }
+
+  @Test
+  @DisplayName("Should return empty when no export was started")
+  void testGetLastExport_NoExport_Empty() {
+    reset(paymentExport);
+    assertTrue(service.getLastExport().isEmpty());
+  }
+
+  private void awaitState(PaymentExportResult.State state) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (service.getLastExport().orElseThrow().getState() != state
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(state, service.getLastExport().orElseThrow().getState());
+  }
+}
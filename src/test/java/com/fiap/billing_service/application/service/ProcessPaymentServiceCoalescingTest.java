@@ -0,0 +1,173 @@
+package com.fiap.billing_service.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fiap.billing_service.application.port.out.PaymentGatewayPort;
+import com.fiap.billing_service.application.port.out.PaymentMetricsPort;
+import com.fiap.billing_service.application.port.out.PaymentOrderQueryPort;
+import com.fiap.billing_service.application.port.out.PaymentRepositoryPort;
+import com.fiap.billing_service.application.port.out.PaymentResponseMessagePort;
+import com.fiap.billing_service.application.port.out.PortFixtures;
+import com.fiap.billing_service.domain.dto.PaymentResponse;
+import com.fiap.billing_service.domain.entity.Payment;
+import com.fiap.billing_service.domain.exception.PaymentProcessingException;
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.dto.PaymentRequestDto;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProcessPaymentService Coalescing Tests")
+class ProcessPaymentServiceCoalescingTest {
+
+  @Mock private PaymentRepositoryPort paymentRepository;
+  @Mock private PaymentGatewayPort paymentGateway;
+  @Mock private PaymentOrderQueryPort paymentOrderQuery;
+  @Mock private PaymentResponseMessagePort paymentResponseMessage;
+  @Mock private PaymentMetricsPort metrics;
+
+  private ProcessPaymentService service;
+  private PaymentRequestDto paymentRequest;
+  private ExecutorService executor;
+  private CountDownLatch gatewayEntered;
+  private CountDownLatch gatewayRelease;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new ProcessPaymentService(
+            paymentRepository,
+            paymentGateway,
+            paymentOrderQuery,
+            paymentResponseMessage,
+            Clock.systemUTC(),
+            metrics,
+            Duration.ZERO,
+            PortFixtures.RANDOM_IDS);
+
+    paymentRequest = new PaymentRequestDto();
+    paymentRequest.setWorkOrderId(UUID.randomUUID());
+    paymentRequest.setCustomerId(UUID.randomUUID());
+    PaymentRequestDto.OrderRequest orderRequest = paymentRequest.new OrderRequest();
+    orderRequest.setTotalAmount("100.00");
+    paymentRequest.setOrderRequest(orderRequest);
+
+    executor = Executors.newFixedThreadPool(2);
+    gatewayEntered = new CountDownLatch(1);
+    gatewayRelease = new CountDownLatch(1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("Should let a concurrent duplicate await the first request instead of reprocessing")
+  void testProcessPayment_ConcurrentDuplicate_AwaitsFirst() throws Exception {
+    // Arrange
+    stubPipeline();
+    when(paymentGateway.processPixPayment(any(), any(), any(), any()))
+        .thenAnswer(
+            inv -> {
+              gatewayEntered.countDown();
+              gatewayRelease.await(5, TimeUnit.SECONDS);
+              return new PaymentResponse(
+                  "ext-1", "order-1", "pix", PaymentStatus.PROCESSING, "qr", "qr64", null);
+            });
+
+    // Act
+    Future<Payment> first = executor.submit(() -> service.processPayment(paymentRequest));
+    assertTrue(gatewayEntered.await(5, TimeUnit.SECONDS));
+    Future<Payment> duplicate = executor.submit(() -> service.processPayment(paymentRequest));
+    verify(metrics, timeout(5000)).paymentCoalesced();
+    gatewayRelease.countDown();
+
+    // Assert
+    Payment result = first.get(5, TimeUnit.SECONDS);
+    assertSame(result, duplicate.get(5, TimeUnit.SECONDS));
+    assertEquals(PaymentStatus.APPROVED, result.getStatus());
+    verify(paymentRepository, times(1)).findByWorkOrderId(paymentRequest.getWorkOrderId());
+    verify(paymentGateway, times(1)).processPixPayment(any(), any(), any(), any());
+    verify(paymentResponseMessage, times(1)).sendPaymentResponse(any(Payment.class));
+    verify(metrics, times(1)).paymentStarted();
+  }
+
+  @Test
+  @DisplayName("Should fail a concurrent duplicate with the cause of the first request's failure")
+  void testProcessPayment_FirstFails_DuplicateFailsWithSameCause() throws Exception {
+    // Arrange
+    when(paymentRepository.findByWorkOrderId(any())).thenReturn(Optional.empty());
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
+    when(paymentGateway.processPixPayment(any(), any(), any(), any()))
+        .thenAnswer(
+            inv -> {
+              gatewayEntered.countDown();
+              gatewayRelease.await(5, TimeUnit.SECONDS);
+              throw new RuntimeException("gateway down");
+            });
+
+    // Act
+    Future<Payment> first = executor.submit(() -> service.processPayment(paymentRequest));
+    assertTrue(gatewayEntered.await(5, TimeUnit.SECONDS));
+    Future<Payment> duplicate = executor.submit(() -> service.processPayment(paymentRequest));
+    verify(metrics, timeout(5000)).paymentCoalesced();
+    gatewayRelease.countDown();
+
+    // Assert
+    ExecutionException firstError =
+        assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+    ExecutionException duplicateError =
+        assertThrows(ExecutionException.class, () -> duplicate.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(PaymentProcessingException.class, duplicateError.getCause());
+    assertSame(firstError.getCause(), duplicateError.getCause().getCause());
+    verify(paymentGateway, times(1)).processPixPayment(any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Should process a later duplicate normally once the first request finished")
+  void testProcessPayment_SequentialDuplicate_UsesIdempotencyRead() {
+    // Arrange
+    stubPipeline();
+    when(paymentGateway.processPixPayment(any(), any(), any(), any()))
+        .thenReturn(
+            new PaymentResponse(
+                "ext-1", "order-1", "pix", PaymentStatus.PROCESSING, "qr", "qr64", null));
+
+    // Act
+    service.processPayment(paymentRequest);
+    service.processPayment(paymentRequest);
+
+    // Assert
+    verify(paymentRepository, times(2)).findByWorkOrderId(paymentRequest.getWorkOrderId());
+    verify(metrics, never()).paymentCoalesced();
+    verify(metrics, times(2)).paymentStarted();
+  }
+
+  private void stubPipeline() {
+    when(paymentRepository.findByWorkOrderId(any())).thenReturn(Optional.empty());
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
+    when(paymentOrderQuery.getOrderStatus("order-1"))
+        .thenReturn(new OrderStatusSnapshot("order-1", "ext-1", PaymentStatus.APPROVED, null));
+  }
+}
@@ -8,12 +8,15 @@ import com.fiap.billing_service.application.port.out.PaymentGatewayPort;
 import com.fiap.billing_service.application.port.out.PaymentOrderQueryPort;
 import com.fiap.billing_service.application.port.out.PaymentRepositoryPort;
 import com.fiap.billing_service.application.port.out.PaymentResponseMessagePort;
+import com.fiap.billing_service.application.port.out.PortFixtures;
 import com.fiap.billing_service.domain.dto.PaymentResponse;
 import com.fiap.billing_service.domain.entity.Payment;
 import com.fiap.billing_service.domain.exception.PaymentProcessingException;
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
 import com.fiap.billing_service.domain.valueobject.PaymentStatus;
 import com.fiap.billing_service.infrastructure.adapter.in.messaging.dto.PaymentRequestDto;
-import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,7 +46,14 @@ class ProcessPaymentServiceExceptionHandlingTest {
   void setUp() {
     service =
         new ProcessPaymentService(
-            paymentRepository, paymentGateway, paymentOrderQuery, paymentResponseMessage);
+            paymentRepository,
+            paymentGateway,
+            paymentOrderQuery,
+            paymentResponseMessage,
+            Clock.systemUTC(),
+            PortFixtures.NO_METRICS,
+            Duration.ofSeconds(5),
+            PortFixtures.RANDOM_IDS);
 
     workOrderId = UUID.randomUUID();
     customerId = UUID.randomUUID();
@@ -64,10 +74,8 @@ class ProcessPaymentServiceExceptionHandlingTest {
     // Arrange
     when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
 
-    Payment savePayment =
-        new Payment(UUID.randomUUID(), workOrderId, customerId, new BigDecimal("100.00"));
-
-    when(paymentRepository.save(any(Payment.class))).thenReturn(savePayment);
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
 
     when(paymentGateway.processPixPayment(any(), any(), any(), any()))
         .thenThrow(new RuntimeException("Gateway unavailable"));
@@ -77,7 +85,8 @@ class ProcessPaymentServiceExceptionHandlingTest {
     // Act & Assert
     assertThrows(PaymentProcessingException.class, () -> service.processPayment(paymentRequest));
 
-    verify(paymentRepository, times(2)).save(paymentCaptor.capture());
+    verify(paymentRepository).insertIfAbsent(any(Payment.class));
+    verify(paymentRepository).save(paymentCaptor.capture());
     Payment failedPayment = paymentCaptor.getValue();
     assertEquals(PaymentStatus.FAILED, failedPayment.getStatus());
     assertTrue(failedPayment.getErrorMessage().contains("Gateway unavailable"));
@@ -89,14 +98,12 @@ class ProcessPaymentServiceExceptionHandlingTest {
     // Arrange
     when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
 
-    Payment newPayment =
-        new Payment(UUID.randomUUID(), workOrderId, customerId, new BigDecimal("100.00"));
-
     PaymentResponse gatewayResponse =
         new PaymentResponse(
             "ext123", "order123", "pix", PaymentStatus.APPROVED, "qr", "qr64", null);
 
-    when(paymentRepository.save(any(Payment.class))).thenReturn(newPayment);
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
     when(paymentGateway.processPixPayment(any(), any(), any(), any())).thenReturn(gatewayResponse);
 
     when(paymentOrderQuery.getOrderStatus(anyString()))
@@ -118,9 +125,6 @@ class ProcessPaymentServiceExceptionHandlingTest {
     // Arrange
     when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
 
-    Payment newPayment =
-        new Payment(UUID.randomUUID(), workOrderId, customerId, new BigDecimal("100.00"));
-
     PaymentResponse gatewayResponse =
         new PaymentResponse(
             "ext123",
@@ -131,7 +135,8 @@ class ProcessPaymentServiceExceptionHandlingTest {
             "qr64",
             "Insufficient funds");
 
-    when(paymentRepository.save(any(Payment.class))).thenReturn(newPayment);
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
     when(paymentGateway.processPixPayment(any(), any(), any(), any())).thenReturn(gatewayResponse);
 
     when(paymentOrderQuery.getOrderStatus(anyString()))
@@ -154,19 +159,16 @@ class ProcessPaymentServiceExceptionHandlingTest {
     // Arrange
     when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
 
-    Payment newPayment =
-        new Payment(UUID.randomUUID(), workOrderId, customerId, new BigDecimal("100.00"));
-
     PaymentResponse gatewayResponse =
         new PaymentResponse(
             "ext123", "order123", "pix", PaymentStatus.PROCESSING, "qr", "qr64", null);
 
-    when(paymentRepository.save(any(Payment.class))).thenReturn(newPayment);
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
     when(paymentGateway.processPixPayment(any(), any(), any(), any())).thenReturn(gatewayResponse);
 
-    Payment queryResult =
-        new Payment(newPayment.getId(), workOrderId, customerId, new BigDecimal("100.00"));
-    queryResult.markAsProcessing("ext123", "order123", "pix", "qr", "qr64");
+    OrderStatusSnapshot queryResult =
+        new OrderStatusSnapshot("order123", "ext123", PaymentStatus.PROCESSING, null);
     when(paymentOrderQuery.getOrderStatus(any())).thenReturn(queryResult);
 
     // Act
@@ -184,19 +186,17 @@ class ProcessPaymentServiceExceptionHandlingTest {
     // Arrange
     when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
 
-    Payment newPayment =
-        new Payment(UUID.randomUUID(), workOrderId, customerId, new BigDecimal("100.00"));
-
     PaymentResponse gatewayResponse =
         new PaymentResponse(
             "ext123", "order123", "pix", PaymentStatus.PROCESSING, "qr", "qr64", null);
 
-    when(paymentRepository.save(any(Payment.class))).thenReturn(newPayment);
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
     when(paymentGateway.processPixPayment(any(), any(), any(), any())).thenReturn(gatewayResponse);
 
-    Payment queryResult =
-        new Payment(newPayment.getId(), workOrderId, customerId, new BigDecimal("100.00"));
-    queryResult.markAsRejected("Payment limit exceeded");
+    OrderStatusSnapshot queryResult =
+        new OrderStatusSnapshot(
+            "order-123", "ext-123", PaymentStatus.REJECTED, "Payment limit exceeded");
     when(paymentOrderQuery.getOrderStatus(any())).thenReturn(queryResult);
 
     // Act
@@ -215,19 +215,16 @@ class ProcessPaymentServiceExceptionHandlingTest {
     // Arrange
     when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
 
-    Payment newPayment =
-        new Payment(UUID.randomUUID(), workOrderId, customerId, new BigDecimal("100.00"));
-
     PaymentResponse gatewayResponse =
         new PaymentResponse(
             "ext123", "order123", "pix", PaymentStatus.PROCESSING, "qr", "qr64", null);
 
-    when(paymentRepository.save(any(Payment.class))).thenReturn(newPayment);
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
     when(paymentGateway.processPixPayment(any(), any(), any(), any())).thenReturn(gatewayResponse);
 
-    Payment queryResult =
-        new Payment(newPayment.getId(), workOrderId, customerId, new BigDecimal("100.00"));
-    queryResult.markAsApproved();
+    OrderStatusSnapshot queryResult =
+        new OrderStatusSnapshot("order-123", "ext-123", PaymentStatus.APPROVED, null);
     when(paymentOrderQuery.getOrderStatus(any())).thenReturn(queryResult);
 
     // Act
@@ -236,7 +233,8 @@ class ProcessPaymentServiceExceptionHandlingTest {
     // Assert
     assertNotNull(result);
     assertEquals(PaymentStatus.APPROVED, result.getStatus());
-    verify(paymentRepository, atLeast(2)).save(any());
+    verify(paymentRepository).insertIfAbsent(any(Payment.class));
+    verify(paymentRepository).save(any());
     verify(paymentOrderQuery, times(1)).getOrderStatus(anyString());
   }
 
@@ -248,19 +246,16 @@ class ProcessPaymentServiceExceptionHandlingTest {
 
     when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
 
-    Payment newPayment =
-        new Payment(UUID.randomUUID(), workOrderId, customerId, new BigDecimal("100.00"));
-
     PaymentResponse gatewayResponse =
         new PaymentResponse(
             "ext123", "order123", "pix", PaymentStatus.APPROVED, "qr", "qr64", null);
 
-    when(paymentRepository.save(any(Payment.class))).thenReturn(newPayment);
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
     when(paymentGateway.processPixPayment(any(), any(), any(), any())).thenReturn(gatewayResponse);
 
-    Payment queryResult =
-        new Payment(newPayment.getId(), workOrderId, customerId, new BigDecimal("100.00"));
-    queryResult.markAsApproved();
+    OrderStatusSnapshot queryResult =
+        new OrderStatusSnapshot("order-123", "ext-123", PaymentStatus.APPROVED, null);
     when(paymentOrderQuery.getOrderStatus(any())).thenReturn(queryResult);
 
     ArgumentCaptor<String> descriptionCaptor = ArgumentCaptor.forClass(String.class);
@@ -280,19 +275,16 @@ class ProcessPaymentServiceExceptionHandlingTest {
     // Arrange
     when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
 
-    Payment newPayment =
-        new Payment(UUID.randomUUID(), workOrderId, customerId, new BigDecimal("100.00"));
-
     PaymentResponse gatewayResponse =
         new PaymentResponse(
             "ext123", "order123", "pix", PaymentStatus.APPROVED, "qr", "qr64", null);
 
-    when(paymentRepository.save(any(Payment.class))).thenReturn(newPayment);
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
     when(paymentGateway.processPixPayment(any(), any(), any(), any())).thenReturn(gatewayResponse);
 
-    Payment queryResult =
-        new Payment(newPayment.getId(), workOrderId, customerId, new BigDecimal("100.00"));
-    queryResult.markAsApproved();
+    OrderStatusSnapshot queryResult =
+        new OrderStatusSnapshot("order-123", "ext-123", PaymentStatus.APPROVED, null);
     when(paymentOrderQuery.getOrderStatus(any())).thenReturn(queryResult);
 
     // Act
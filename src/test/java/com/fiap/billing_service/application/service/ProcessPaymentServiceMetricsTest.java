@@ -0,0 +1,142 @@
+package com.fiap.billing_service.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fiap.billing_service.application.port.out.PaymentGatewayPort;
+import com.fiap.billing_service.application.port.out.PaymentMetricsPort;
+import com.fiap.billing_service.application.port.out.PaymentMetricsPort.Stage;
+import com.fiap.billing_service.application.port.out.PaymentOrderQueryPort;
+import com.fiap.billing_service.application.port.out.PaymentRepositoryPort;
+import com.fiap.billing_service.application.port.out.PaymentResponseMessagePort;
+import com.fiap.billing_service.application.port.out.PortFixtures;
+import com.fiap.billing_service.domain.dto.PaymentResponse;
+import com.fiap.billing_service.domain.entity.Payment;
+import com.fiap.billing_service.domain.exception.PaymentProcessingException;
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.dto.PaymentRequestDto;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProcessPaymentService Metrics Tests")
+class ProcessPaymentServiceMetricsTest {
+
+  @Mock private PaymentRepositoryPort paymentRepository;
+  @Mock private PaymentGatewayPort paymentGateway;
+  @Mock private PaymentOrderQueryPort paymentOrderQuery;
+  @Mock private PaymentResponseMessagePort paymentResponseMessage;
+  @Mock private PaymentMetricsPort metrics;
+
+  private ProcessPaymentService service;
+  private UUID workOrderId;
+  private PaymentRequestDto paymentRequest;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new ProcessPaymentService(
+            paymentRepository,
+            paymentGateway,
+            paymentOrderQuery,
+            paymentResponseMessage,
+            Clock.systemUTC(),
+            metrics,
+            Duration.ofSeconds(5),
+            PortFixtures.RANDOM_IDS);
+
+    workOrderId = UUID.randomUUID();
+    paymentRequest = new PaymentRequestDto();
+    paymentRequest.setWorkOrderId(workOrderId);
+    paymentRequest.setCustomerId(UUID.randomUUID());
+    paymentRequest.setFirstName("John");
+    PaymentRequestDto.OrderRequest orderRequest = paymentRequest.new OrderRequest();
+    orderRequest.setTotalAmount("100.00");
+    paymentRequest.setOrderRequest(orderRequest);
+  }
+
+  @Test
+  @DisplayName("Should time every stage in order and record the final status")
+  void testProcessPayment_Success_RecordsAllStagesAndOutcome() {
+    // Arrange
+    when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
+    when(paymentGateway.processPixPayment(any(), any(), any(), any()))
+        .thenReturn(
+            new PaymentResponse(
+                "ext-1", "order-1", "pix", PaymentStatus.PROCESSING, "qr", "qr64", null));
+    OrderStatusSnapshot queryResult =
+        new OrderStatusSnapshot("order-1", "ext-1", PaymentStatus.APPROVED, null);
+    when(paymentOrderQuery.getOrderStatus("order-1")).thenReturn(queryResult);
+
+    // Act
+    Payment result = service.processPayment(paymentRequest);
+
+    // Assert
+    assertEquals(PaymentStatus.APPROVED, result.getStatus());
+    InOrder inOrder = inOrder(metrics);
+    inOrder.verify(metrics).paymentStarted();
+    for (Stage stage :
+        new Stage[] {
+          Stage.IDEMPOTENCY_READ,
+          Stage.INSERT,
+          Stage.GATEWAY_CREATE,
+          Stage.STATUS_QUERY,
+          Stage.FINAL_SAVE,
+          Stage.PUBLISH
+        }) {
+      inOrder.verify(metrics).startStage(stage);
+      inOrder.verify(metrics).endStage(eq(stage), anyLong());
+    }
+    inOrder.verify(metrics).paymentFinished(PaymentStatus.APPROVED);
+    verify(metrics, never()).startStage(Stage.PARSE);
+  }
+
+  @Test
+  @DisplayName("Should close the open stage and record FAILED when the gateway throws")
+  void testProcessPayment_GatewayFailure_RecordsFailedOutcome() {
+    // Arrange
+    when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
+    when(paymentGateway.processPixPayment(any(), any(), any(), any()))
+        .thenThrow(new RuntimeException("gateway down"));
+
+    // Act & Assert
+    assertThrows(PaymentProcessingException.class, () -> service.processPayment(paymentRequest));
+    verify(metrics).endStage(eq(Stage.GATEWAY_CREATE), anyLong());
+    verify(metrics, never()).startStage(Stage.STATUS_QUERY);
+    verify(metrics).paymentFinished(PaymentStatus.FAILED);
+  }
+
+  @Test
+  @DisplayName("Should record the existing status for duplicate requests")
+  void testProcessPayment_Duplicate_RecordsExistingStatus() {
+    // Arrange
+    Payment existing =
+        new Payment(UUID.randomUUID(), workOrderId, UUID.randomUUID(), BigDecimal.TEN);
+    existing.markAsRejected("cc_rejected");
+    when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.of(existing));
+
+    // Act
+    service.processPayment(paymentRequest);
+
+    // Assert
+    verify(metrics).endStage(eq(Stage.IDEMPOTENCY_READ), anyLong());
+    verify(metrics, never()).startStage(Stage.INSERT);
+    verify(metrics).paymentFinished(PaymentStatus.REJECTED);
+  }
+}
@@ -8,11 +8,15 @@ import com.fiap.billing_service.application.port.out.PaymentGatewayPort;
 import com.fiap.billing_service.application.port.out.PaymentOrderQueryPort;
 import com.fiap.billing_service.application.port.out.PaymentRepositoryPort;
 import com.fiap.billing_service.application.port.out.PaymentResponseMessagePort;
+import com.fiap.billing_service.application.port.out.PortFixtures;
 import com.fiap.billing_service.domain.dto.PaymentResponse;
 import com.fiap.billing_service.domain.entity.Payment;
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
 import com.fiap.billing_service.domain.valueobject.PaymentStatus;
 import com.fiap.billing_service.infrastructure.adapter.in.messaging.dto.PaymentRequestDto;
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,7 +47,14 @@ class ProcessPaymentServiceSuccessTest {
   void setUp() {
     service =
         new ProcessPaymentService(
-            paymentRepository, paymentGateway, paymentOrderQuery, paymentResponseMessage);
+            paymentRepository,
+            paymentGateway,
+            paymentOrderQuery,
+            paymentResponseMessage,
+            Clock.systemUTC(),
+            PortFixtures.NO_METRICS,
+            Duration.ofSeconds(5),
+            () -> paymentId);
 
     workOrderId = UUID.randomUUID();
     customerId = UUID.randomUUID();
@@ -66,9 +77,6 @@ class ProcessPaymentServiceSuccessTest {
     // Arrange
     when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
 
-    Payment createdPayment =
-        new Payment(paymentId, workOrderId, customerId, new BigDecimal("100.00"));
-
     PaymentResponse gatewayResponse =
         new PaymentResponse(
             "ext-payment-123",
@@ -79,13 +87,13 @@ class ProcessPaymentServiceSuccessTest {
             "qr-code-base64",
             null);
 
-    when(paymentRepository.save(any(Payment.class))).thenReturn(createdPayment);
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
     when(paymentGateway.processPixPayment(any(), any(), any(), any()))
         .thenReturn(gatewayResponse);
 
-    Payment queryResult =
-        new Payment(paymentId, workOrderId, customerId, new BigDecimal("100.00"));
-    queryResult.markAsApproved();
+    OrderStatusSnapshot queryResult =
+        new OrderStatusSnapshot("order-123", "ext-123", PaymentStatus.APPROVED, null);
     when(paymentOrderQuery.getOrderStatus(anyString())).thenReturn(queryResult);
 
     // Act
@@ -101,7 +109,8 @@ class ProcessPaymentServiceSuccessTest {
 
     // Verify interactions
     verify(paymentRepository, times(1)).findByWorkOrderId(workOrderId);
-    verify(paymentRepository, times(2)).save(any(Payment.class));
+    verify(paymentRepository, times(1)).insertIfAbsent(any(Payment.class));
+    verify(paymentRepository, times(1)).save(any(Payment.class));
     verify(paymentGateway, times(1)).processPixPayment(any(), any(), any(), any());
     verify(paymentOrderQuery, times(1)).getOrderStatus("order-123");
     verify(paymentResponseMessage, times(1)).sendPaymentResponse(any(Payment.class));
@@ -113,9 +122,6 @@ class ProcessPaymentServiceSuccessTest {
     // Arrange
     when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
 
-    Payment createdPayment =
-        new Payment(paymentId, workOrderId, customerId, new BigDecimal("100.00"));
-
     PaymentResponse gatewayResponse =
         new PaymentResponse(
             "ext-payment-456",
@@ -126,14 +132,13 @@ class ProcessPaymentServiceSuccessTest {
             "qr-code-base64",
             null);
 
-    when(paymentRepository.save(any(Payment.class))).thenReturn(createdPayment);
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
     when(paymentGateway.processPixPayment(any(), any(), any(), any()))
         .thenReturn(gatewayResponse);
 
-    Payment queryResult =
-        new Payment(paymentId, workOrderId, customerId, new BigDecimal("100.00"));
-    queryResult.markAsProcessing(
-        "ext-payment-456", "order-456", "pix", "qr-code-data", "qr-code-base64");
+    OrderStatusSnapshot queryResult =
+        new OrderStatusSnapshot("order-456", "ext-payment-456", PaymentStatus.PROCESSING, null);
     when(paymentOrderQuery.getOrderStatus(anyString())).thenReturn(queryResult);
 
     // Act
@@ -147,7 +152,8 @@ class ProcessPaymentServiceSuccessTest {
     assertEquals("order-456", result.getOrderPaymentId());
 
     // Verify interactions
-    verify(paymentRepository, times(2)).save(any(Payment.class));
+    verify(paymentRepository, times(1)).insertIfAbsent(any(Payment.class));
+    verify(paymentRepository, times(1)).save(any(Payment.class));
     verify(paymentGateway, times(1)).processPixPayment(any(), any(), any(), any());
     verify(paymentOrderQuery, times(1)).getOrderStatus("order-456");
     verify(paymentResponseMessage, times(1)).sendPaymentResponse(any(Payment.class));
@@ -159,9 +165,6 @@ class ProcessPaymentServiceSuccessTest {
     // Arrange
     when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
 
-    Payment createdPayment =
-        new Payment(paymentId, workOrderId, customerId, new BigDecimal("100.00"));
-
     PaymentResponse gatewayResponse =
         new PaymentResponse(
             "ext-payment-789",
@@ -172,13 +175,14 @@ class ProcessPaymentServiceSuccessTest {
             "qr-code-base64",
             "Insufficient funds");
 
-    when(paymentRepository.save(any(Payment.class))).thenReturn(createdPayment);
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
     when(paymentGateway.processPixPayment(any(), any(), any(), any()))
         .thenReturn(gatewayResponse);
 
-    Payment queryResult =
-        new Payment(paymentId, workOrderId, customerId, new BigDecimal("100.00"));
-    queryResult.markAsRejected("Insufficient funds");
+    OrderStatusSnapshot queryResult =
+        new OrderStatusSnapshot(
+            "order-789", "ext-123", PaymentStatus.REJECTED, "Insufficient funds");
     when(paymentOrderQuery.getOrderStatus(anyString())).thenReturn(queryResult);
 
     // Act
@@ -190,7 +194,8 @@ class ProcessPaymentServiceSuccessTest {
     assertEquals("Insufficient funds", result.getErrorMessage());
 
     // Verify interactions
-    verify(paymentRepository, times(2)).save(any(Payment.class));
+    verify(paymentRepository, times(1)).insertIfAbsent(any(Payment.class));
+    verify(paymentRepository, times(1)).save(any(Payment.class));
     verify(paymentGateway, times(1)).processPixPayment(any(), any(), any(), any());
     verify(paymentOrderQuery, times(1)).getOrderStatus("order-789");
     verify(paymentResponseMessage, times(1)).sendPaymentResponse(any(Payment.class));
@@ -268,13 +273,14 @@ class ProcessPaymentServiceSuccessTest {
             "qr-code-base64",
             null);
 
-    when(paymentRepository.save(any(Payment.class))).thenReturn(pendingPayment);
+    when(paymentRepository.saveIfStatus(any(Payment.class), eq(PaymentStatus.PENDING)))
+        .thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
     when(paymentGateway.processPixPayment(any(), any(), any(), any()))
         .thenReturn(gatewayResponse);
 
-    Payment queryResult =
-        new Payment(paymentId, workOrderId, customerId, new BigDecimal("100.00"));
-    queryResult.markAsApproved();
+    OrderStatusSnapshot queryResult =
+        new OrderStatusSnapshot("order-123", "ext-123", PaymentStatus.APPROVED, null);
     when(paymentOrderQuery.getOrderStatus(anyString())).thenReturn(queryResult);
 
     // Act
@@ -287,6 +293,28 @@ class ProcessPaymentServiceSuccessTest {
     // Verify that gateway WAS called (not returning early)
     verify(paymentGateway, times(1)).processPixPayment(any(), any(), any(), any());
     verify(paymentResponseMessage, times(1)).sendPaymentResponse(any());
+    verify(paymentRepository, never()).insertIfAbsent(any());
+  }
+
+  @Test
+  @DisplayName("Should return the stored payment when another instance inserted it first")
+  void testProcessPayment_ConcurrentInsert_ReturnsStoredPayment() {
+    // Arrange
+    Payment stored =
+        new Payment(UUID.randomUUID(), workOrderId, customerId, new BigDecimal("100.00"));
+    when(paymentRepository.findByWorkOrderId(workOrderId))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(stored));
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(false);
+
+    // Act
+    Payment result = service.processPayment(paymentRequest);
+
+    // Assert
+    assertSame(stored, result);
+    verify(paymentRepository, never()).save(any());
+    verify(paymentGateway, never()).processPixPayment(any(), any(), any(), any());
+    verify(paymentResponseMessage, never()).sendPaymentResponse(any());
   }
 
   @Test
@@ -295,9 +323,6 @@ class ProcessPaymentServiceSuccessTest {
     // Arrange
     when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
 
-    Payment createdPayment =
-        new Payment(paymentId, workOrderId, customerId, new BigDecimal("100.00"));
-
     PaymentResponse gatewayResponse =
         new PaymentResponse(
             "external-payment-id-xyz",
@@ -308,13 +333,13 @@ class ProcessPaymentServiceSuccessTest {
             "iVBORw0KGgoAAAANSUhEUgAAAAUA...",
             null);
 
-    when(paymentRepository.save(any(Payment.class))).thenReturn(createdPayment);
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
     when(paymentGateway.processPixPayment(any(), any(), any(), any()))
         .thenReturn(gatewayResponse);
 
-    Payment queryResult =
-        new Payment(paymentId, workOrderId, customerId, new BigDecimal("100.00"));
-    queryResult.markAsApproved();
+    OrderStatusSnapshot queryResult =
+        new OrderStatusSnapshot("order-123", "ext-123", PaymentStatus.APPROVED, null);
     when(paymentOrderQuery.getOrderStatus(anyString())).thenReturn(queryResult);
 
     // Act
@@ -336,20 +361,17 @@ class ProcessPaymentServiceSuccessTest {
 
     when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
 
-    Payment createdPayment =
-        new Payment(paymentId, workOrderId, customerId, new BigDecimal("100.00"));
-
     PaymentResponse gatewayResponse =
         new PaymentResponse(
             "ext-123", "order-123", "pix", PaymentStatus.APPROVED, "qr", "qr64", null);
 
-    when(paymentRepository.save(any(Payment.class))).thenReturn(createdPayment);
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
     when(paymentGateway.processPixPayment(any(), any(), any(), any()))
         .thenReturn(gatewayResponse);
 
-    Payment queryResult =
-        new Payment(paymentId, workOrderId, customerId, new BigDecimal("100.00"));
-    queryResult.markAsApproved();
+    OrderStatusSnapshot queryResult =
+        new OrderStatusSnapshot("order-123", "ext-123", PaymentStatus.APPROVED, null);
     when(paymentOrderQuery.getOrderStatus(anyString())).thenReturn(queryResult);
 
     ArgumentCaptor<String> descriptionCaptor = ArgumentCaptor.forClass(String.class);
@@ -375,20 +397,17 @@ class ProcessPaymentServiceSuccessTest {
     // Arrange
     when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
 
-    Payment createdPayment =
-        new Payment(paymentId, workOrderId, customerId, new BigDecimal("100.00"));
-
     PaymentResponse gatewayResponse =
         new PaymentResponse(
             "ext-123", "order-123", "pix", PaymentStatus.APPROVED, "qr", "qr64", null);
 
-    when(paymentRepository.save(any(Payment.class))).thenReturn(createdPayment);
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
     when(paymentGateway.processPixPayment(any(), any(), any(), any()))
         .thenReturn(gatewayResponse);
 
-    Payment queryResult =
-        new Payment(paymentId, workOrderId, customerId, new BigDecimal("100.00"));
-    queryResult.markAsApproved();
+    OrderStatusSnapshot queryResult =
+        new OrderStatusSnapshot("order-123", "ext-123", PaymentStatus.APPROVED, null);
     when(paymentOrderQuery.getOrderStatus(anyString())).thenReturn(queryResult);
 
     ArgumentCaptor<Payment> messageCaptor = ArgumentCaptor.forClass(Payment.class);
@@ -404,4 +423,40 @@ class ProcessPaymentServiceSuccessTest {
     assertEquals(PaymentStatus.APPROVED, sentPayment.getStatus());
     assertNull(sentPayment.getErrorMessage());
   }
+
+  @Test
+  @DisplayName("Should query order status without waiting when the status query delay is zero")
+  void testProcessPayment_ZeroStatusQueryDelay_Success() {
+    // Arrange
+    service =
+        new ProcessPaymentService(
+            paymentRepository,
+            paymentGateway,
+            paymentOrderQuery,
+            paymentResponseMessage,
+            Clock.systemUTC(),
+            PortFixtures.NO_METRICS,
+            Duration.ZERO,
+            () -> paymentId);
+    when(paymentRepository.findByWorkOrderId(workOrderId)).thenReturn(Optional.empty());
+    when(paymentRepository.insertIfAbsent(any(Payment.class))).thenReturn(true);
+    when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> inv.getArgument(0));
+    when(paymentGateway.processPixPayment(any(), any(), any(), any()))
+        .thenReturn(
+            new PaymentResponse(
+                "ext-123", "order-123", "pix", PaymentStatus.PROCESSING, "qr", "qr64", null));
+
+    OrderStatusSnapshot queryResult =
+        new OrderStatusSnapshot("order-123", "ext-123", PaymentStatus.APPROVED, null);
+    when(paymentOrderQuery.getOrderStatus("order-123")).thenReturn(queryResult);
+
+    // Act
+    Payment result =
+        assertTimeoutPreemptively(
+            Duration.ofSeconds(2), () -> service.processPayment(paymentRequest));
+
+    // Assert
+    assertEquals(PaymentStatus.APPROVED, result.getStatus());
+    verify(paymentOrderQuery, times(1)).getOrderStatus("order-123");
+  }
 }
@@ -0,0 +1,198 @@
+package com.fiap.billing_service.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fiap.billing_service.application.port.out.PaymentOrderQueryPort;
+import com.fiap.billing_service.application.port.out.PaymentRepositoryPort;
+import com.fiap.billing_service.application.port.out.PaymentResponseMessagePort;
+import com.fiap.billing_service.domain.entity.Payment;
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReconcileOpenPaymentsService Tests")
+class ReconcileOpenPaymentsServiceTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-15T12:00:00Z");
+
+  @Mock private PaymentRepositoryPort paymentRepository;
+  @Mock private PaymentOrderQueryPort paymentOrderQuery;
+  @Mock private PaymentResponseMessagePort paymentResponseMessage;
+
+  private ReconcileOpenPaymentsService service;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new ReconcileOpenPaymentsService(
+            paymentRepository,
+            paymentOrderQuery,
+            paymentResponseMessage,
+            Clock.fixed(NOW, ZoneOffset.UTC),
+            Duration.ofMinutes(10),
+            2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.shutdown();
+  }
+
+  private Payment processingPayment(UUID workOrderId, String orderPaymentId) {
+    Payment payment =
+        new Payment(UUID.randomUUID(), workOrderId, UUID.randomUUID(), new BigDecimal("10.00"));
+    payment.markAsProcessing("ext-1", orderPaymentId, "pix", "qr", "qr64");
+    return payment;
+  }
+
+  private OrderStatusSnapshot queryResult(PaymentStatus status) {
+    return new OrderStatusSnapshot(
+        "order-1", "ext-1", status, status == PaymentStatus.REJECTED ? "cc_rejected" : null);
+  }
+
+  @Test
+  @DisplayName("Should query every shard and finalize approved and rejected payments")
+  void testReconcile_QueriesAllShards_FinalizesPayments() {
+    // Arrange
+    UUID approvedId = UUID.randomUUID();
+    UUID rejectedId = UUID.randomUUID();
+    when(paymentRepository.getOpenPaymentShardCount()).thenReturn(3);
+    when(paymentRepository.findOpenWorkOrderIds(eq(0), any())).thenReturn(List.of(approvedId));
+    when(paymentRepository.findOpenWorkOrderIds(eq(1), any())).thenReturn(List.of());
+    when(paymentRepository.findOpenWorkOrderIds(eq(2), any())).thenReturn(List.of(rejectedId));
+    when(paymentRepository.findByWorkOrderId(approvedId))
+        .thenReturn(Optional.of(processingPayment(approvedId, "order-a")));
+    when(paymentRepository.findByWorkOrderId(rejectedId))
+        .thenReturn(Optional.of(processingPayment(rejectedId, "order-r")));
+    when(paymentOrderQuery.getOrderStatus("order-a"))
+        .thenReturn(queryResult(PaymentStatus.APPROVED));
+    when(paymentOrderQuery.getOrderStatus("order-r"))
+        .thenReturn(queryResult(PaymentStatus.REJECTED));
+    when(paymentRepository.saveIfStatus(any(Payment.class), eq(PaymentStatus.PROCESSING)))
+        .thenReturn(true);
+
+    // Act
+    int reconciled = service.reconcileOpenPayments();
+
+    // Assert
+    assertEquals(2, reconciled);
+    verify(paymentRepository, times(3))
+        .findOpenWorkOrderIds(anyInt(), eq(NOW.minus(Duration.ofMinutes(10))));
+    verify(paymentRepository, times(2)).saveIfStatus(any(Payment.class), eq(PaymentStatus.PROCESSING));
+    verify(paymentResponseMessage, times(2)).sendPaymentResponse(any(Payment.class));
+  }
+
+  @Test
+  @DisplayName("Should leave payments that are still processing at the gateway untouched")
+  void testReconcile_StillProcessing_NotSaved() {
+    // Arrange
+    UUID workOrderId = UUID.randomUUID();
+    when(paymentRepository.getOpenPaymentShardCount()).thenReturn(1);
+    when(paymentRepository.findOpenWorkOrderIds(eq(0), any())).thenReturn(List.of(workOrderId));
+    when(paymentRepository.findByWorkOrderId(workOrderId))
+        .thenReturn(Optional.of(processingPayment(workOrderId, "order-p")));
+    when(paymentOrderQuery.getOrderStatus("order-p"))
+        .thenReturn(queryResult(PaymentStatus.PROCESSING));
+
+    // Act
+    int reconciled = service.reconcileOpenPayments();
+
+    // Assert
+    assertEquals(0, reconciled);
+    verify(paymentRepository, never()).saveIfStatus(any(), any());
+    verifyNoInteractions(paymentResponseMessage);
+  }
+
+  @Test
+  @DisplayName("Should skip payments without gateway order and already finished payments")
+  void testReconcile_SkipsUnpollablePayments() {
+    // Arrange
+    UUID pendingId = UUID.randomUUID();
+    UUID finishedId = UUID.randomUUID();
+    Payment finished =
+        new Payment(UUID.randomUUID(), finishedId, UUID.randomUUID(), BigDecimal.ONE);
+    finished.markAsApproved();
+    when(paymentRepository.getOpenPaymentShardCount()).thenReturn(1);
+    when(paymentRepository.findOpenWorkOrderIds(eq(0), any()))
+        .thenReturn(List.of(pendingId, finishedId));
+    when(paymentRepository.findByWorkOrderId(pendingId))
+        .thenReturn(
+            Optional.of(new Payment(UUID.randomUUID(), pendingId, UUID.randomUUID(), BigDecimal.ONE)));
+    when(paymentRepository.findByWorkOrderId(finishedId)).thenReturn(Optional.of(finished));
+
+    // Act
+    int reconciled = service.reconcileOpenPayments();
+
+    // Assert
+    assertEquals(0, reconciled);
+    verifyNoInteractions(paymentOrderQuery);
+    verify(paymentRepository, never()).saveIfStatus(any(), any());
+  }
+
+  @Test
+  @DisplayName("Should continue with other payments when the gateway query fails")
+  void testReconcile_GatewayFailure_ContinuesSweep() {
+    // Arrange
+    UUID failingId = UUID.randomUUID();
+    UUID approvedId = UUID.randomUUID();
+    when(paymentRepository.getOpenPaymentShardCount()).thenReturn(1);
+    when(paymentRepository.findOpenWorkOrderIds(eq(0), any()))
+        .thenReturn(List.of(failingId, approvedId));
+    when(paymentRepository.findByWorkOrderId(failingId))
+        .thenReturn(Optional.of(processingPayment(failingId, "order-f")));
+    when(paymentRepository.findByWorkOrderId(approvedId))
+        .thenReturn(Optional.of(processingPayment(approvedId, "order-a")));
+    when(paymentOrderQuery.getOrderStatus("order-f")).thenThrow(new RuntimeException("timeout"));
+    when(paymentOrderQuery.getOrderStatus("order-a"))
+        .thenReturn(queryResult(PaymentStatus.APPROVED));
+    when(paymentRepository.saveIfStatus(any(Payment.class), eq(PaymentStatus.PROCESSING)))
+        .thenReturn(true);
+
+    // Act
+    int reconciled = service.reconcileOpenPayments();
+
+    // Assert
+    assertEquals(1, reconciled);
+    verify(paymentRepository, times(1)).saveIfStatus(any(Payment.class), any());
+  }
+
+  @Test
+  @DisplayName("Should not publish when the payment changed after it was read")
+  void testReconcile_ConcurrentUpdate_NotPublished() {
+    // Arrange
+    UUID workOrderId = UUID.randomUUID();
+    when(paymentRepository.getOpenPaymentShardCount()).thenReturn(1);
+    when(paymentRepository.findOpenWorkOrderIds(eq(0), any())).thenReturn(List.of(workOrderId));
+    when(paymentRepository.findByWorkOrderId(workOrderId))
+        .thenReturn(Optional.of(processingPayment(workOrderId, "order-c")));
+    when(paymentOrderQuery.getOrderStatus("order-c"))
+        .thenReturn(queryResult(PaymentStatus.APPROVED));
+    when(paymentRepository.saveIfStatus(any(Payment.class), eq(PaymentStatus.PROCESSING)))
+        .thenReturn(false);
+
+    // Act
+    int reconciled = service.reconcileOpenPayments();
+
+    // Assert
+    assertEquals(0, reconciled);
+    verify(paymentRepository, never()).save(any());
+    verifyNoInteractions(paymentResponseMessage);
+  }
+}
@@ -2,9 +2,12 @@ package com.fiap.billing_service.domain.entity;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
 import com.fiap.billing_service.domain.valueobject.PaymentStatus;
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -45,8 +48,24 @@ class PaymentEntityTest {
   void testPaymentCreation_CreatedAtTimestamp_Set() {
     // Assert
     assertNotNull(payment.getCreatedAt());
-    assertTrue(payment.getCreatedAt().isBefore(LocalDateTime.now().plusSeconds(1)));
-    assertTrue(payment.getCreatedAt().isAfter(LocalDateTime.now().minusSeconds(1)));
+    assertTrue(payment.getCreatedAt().isBefore(Instant.now().plusSeconds(1)));
+    assertTrue(payment.getCreatedAt().isAfter(Instant.now().minusSeconds(1)));
+  }
+
+  @Test
+  @DisplayName("Should take createdAt and processedAt from the injected clock")
+  void testPaymentTimestamps_UseInjectedClock() {
+    // Arrange
+    Instant now = Instant.parse("2024-01-15T10:00:00Z");
+    Payment clocked =
+        new Payment(paymentId, workOrderId, customerId, amount, Clock.fixed(now, ZoneOffset.UTC));
+
+    // Act
+    clocked.markAsApproved();
+
+    // Assert
+    assertEquals(now, clocked.getCreatedAt());
+    assertEquals(now, clocked.getProcessedAt());
   }
 
   @Test
@@ -105,7 +124,7 @@ class PaymentEntityTest {
   void testMarkAsApproved_StateTransition_Success() {
     // Arrange
     payment.markAsProcessing("ext-123", "order-123", "pix", "qr", "qr64");
-    LocalDateTime timeBeforeTransition = LocalDateTime.now();
+    Instant timeBeforeTransition = Instant.now();
 
     // Act
     payment.markAsApproved();
@@ -114,14 +133,14 @@ class PaymentEntityTest {
     assertEquals(PaymentStatus.APPROVED, payment.getStatus());
     assertNotNull(payment.getProcessedAt());
     assertTrue(payment.getProcessedAt().isAfter(timeBeforeTransition.minusSeconds(1)));
-    assertTrue(payment.getProcessedAt().isBefore(LocalDateTime.now().plusSeconds(1)));
+    assertTrue(payment.getProcessedAt().isBefore(Instant.now().plusSeconds(1)));
   }
 
   @Test
   @DisplayName("Should transition from PENDING directly to APPROVED")
   void testMarkAsApproved_FromPending_Success() {
     // Arrange
-    LocalDateTime timeBeforeTransition = LocalDateTime.now();
+    Instant timeBeforeTransition = Instant.now();
 
     // Act
     payment.markAsApproved();
@@ -152,7 +171,7 @@ class PaymentEntityTest {
   void testMarkAsRejected_StateTransition_WithErrorMessage() {
     // Arrange
     String errorMessage = "Card declined";
-    LocalDateTime timeBeforeTransition = LocalDateTime.now();
+    Instant timeBeforeTransition = Instant.now();
 
     // Act
     payment.markAsRejected(errorMessage);
@@ -194,7 +213,7 @@ class PaymentEntityTest {
   void testMarkAsFailed_StateTransition_WithErrorMessage() {
     // Arrange
     String errorMessage = "Gateway timeout";
-    LocalDateTime timeBeforeTransition = LocalDateTime.now();
+    Instant timeBeforeTransition = Instant.now();
 
     // Act
     payment.markAsFailed(errorMessage);
@@ -286,7 +305,7 @@ class PaymentEntityTest {
   @DisplayName("Should maintain immutable createdAt timestamp")
   void testImmutableAttributes_CreatedAt_Unchanged() {
     // Arrange
-    LocalDateTime originalCreatedAt = payment.getCreatedAt();
+    Instant originalCreatedAt = payment.getCreatedAt();
 
     // Act - simulate time passing and state changes
     try {
@@ -308,7 +327,7 @@ class PaymentEntityTest {
     payment.markAsProcessing("ext-123", "order-123", "pix", "qr", "qr64");
     assertNull(payment.getProcessedAt());
 
-    LocalDateTime timeBeforeApproval = LocalDateTime.now();
+    Instant timeBeforeApproval = Instant.now();
 
     // Act
     payment.markAsApproved();
@@ -401,4 +420,40 @@ class PaymentEntityTest {
     assertEquals(qrCode, payment.getQrCode());
     assertEquals(qrCodeBase64, payment.getQrCodeBase64());
   }
+
+  @Test
+  @DisplayName("Should finish payment from a terminal order status snapshot")
+  void testApplyOrderStatus_Rejected_FinishesPayment() {
+    // Arrange
+    payment.markAsProcessing("ext-1", "order-1", "pix", "qr", "qr64");
+
+    // Act
+    boolean finished =
+        payment.applyOrderStatus(
+            new OrderStatusSnapshot("order-1", "ext-1", PaymentStatus.REJECTED, "cc_rejected"));
+
+    // Assert
+    assertTrue(finished);
+    assertEquals(PaymentStatus.REJECTED, payment.getStatus());
+    assertEquals("cc_rejected", payment.getErrorMessage());
+    assertNotNull(payment.getProcessedAt());
+    assertEquals("qr", payment.getQrCode());
+  }
+
+  @Test
+  @DisplayName("Should keep payment processing when the order is still processing")
+  void testApplyOrderStatus_Processing_KeepsState() {
+    // Arrange
+    payment.markAsProcessing("ext-1", "order-1", "pix", "qr", "qr64");
+
+    // Act
+    boolean finished =
+        payment.applyOrderStatus(
+            new OrderStatusSnapshot("order-1", "ext-1", PaymentStatus.PROCESSING, null));
+
+    // Assert
+    assertFalse(finished);
+    assertEquals(PaymentStatus.PROCESSING, payment.getStatus());
+    assertNull(payment.getProcessedAt());
+  }
 }
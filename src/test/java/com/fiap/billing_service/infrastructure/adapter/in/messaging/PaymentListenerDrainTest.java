@@ -0,0 +1,121 @@
+package com.fiap.billing_service.infrastructure.adapter.in.messaging;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fiap.billing_service.infrastructure.health.DependencyHealthRefresher;
+import io.awspring.cloud.sqs.listener.MessageListenerContainer;
+import io.awspring.cloud.sqs.listener.MessageListenerContainerRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentListenerDrain Tests")
+class PaymentListenerDrainTest {
+
+  @Mock private ObjectProvider<MessageListenerContainerRegistry> registryProvider;
+  @Mock private ObjectProvider<DependencyHealthRefresher> refresherProvider;
+  @Mock private MessageListenerContainerRegistry registry;
+  @Mock private MessageListenerContainer<Object> container;
+  @Mock private DependencyHealthRefresher refresher;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(registryProvider.getIfAvailable()).thenReturn(registry);
+    lenient().when(refresherProvider.getIfAvailable()).thenReturn(refresher);
+    lenient()
+        .doReturn(container)
+        .when(registry)
+        .getContainerById(PaymentQueueListener.LISTENER_ID);
+  }
+
+  private PaymentListenerDrain drain(Duration timeout) {
+    return new PaymentListenerDrain(registryProvider, refresherProvider, timeout);
+  }
+
+  @Test
+  @DisplayName("Should suspend readiness handling, then stop the listener container")
+  void testDrain_SuspendsRefresherAndStopsContainer() {
+    // Arrange
+    PaymentListenerDrain drain = drain(Duration.ofSeconds(1));
+    when(container.isRunning()).thenReturn(true);
+
+    // Act
+    int remaining = drain.drain();
+
+    // Assert
+    assertEquals(0, remaining);
+    assertTrue(drain.isDraining());
+    InOrder inOrder = inOrder(refresher, container);
+    inOrder.verify(refresher).suspend();
+    inOrder.verify(container).stop();
+  }
+
+  @Test
+  @DisplayName("Should refuse new payments once draining")
+  void testTryAcquire_AfterDrain_Refused() {
+    // Arrange
+    PaymentListenerDrain drain = drain(Duration.ofSeconds(1));
+
+    // Act
+    drain.drain();
+
+    // Assert
+    assertFalse(drain.tryAcquire());
+    assertEquals(0, drain.getInFlight());
+  }
+
+  @Test
+  @DisplayName("Should wait for an in-flight payment to finish")
+  void testDrain_WaitsForInFlightPayment() throws Exception {
+    // Arrange
+    PaymentListenerDrain drain = drain(Duration.ofSeconds(5));
+    assertTrue(drain.tryAcquire());
+    CompletableFuture.runAsync(
+        drain::release, CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+
+    // Act
+    int remaining = drain.drain();
+
+    // Assert
+    assertEquals(0, remaining);
+  }
+
+  @Test
+  @DisplayName("Should give up at the deadline and report payments still running")
+  void testDrain_DeadlineExpires_ReportsRemaining() {
+    // Arrange
+    PaymentListenerDrain drain = drain(Duration.ofMillis(50));
+    drain.tryAcquire();
+
+    // Act
+    int remaining = drain.drain();
+
+    // Assert
+    assertEquals(1, remaining);
+  }
+
+  @Test
+  @DisplayName("Should drain only once")
+  void testDrain_Twice_StopsContainerOnce() {
+    // Arrange
+    PaymentListenerDrain drain = drain(Duration.ofSeconds(1));
+    when(container.isRunning()).thenReturn(true);
+
+    // Act
+    drain.onContextClosed();
+    drain.drain();
+
+    // Assert
+    verify(container, times(1)).stop();
+  }
+}
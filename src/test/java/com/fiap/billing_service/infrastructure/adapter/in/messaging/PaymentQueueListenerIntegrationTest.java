@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.billing_service.application.port.in.ProcessPaymentUseCase;
+import com.fiap.billing_service.application.port.out.PortFixtures;
 import com.fiap.billing_service.infrastructure.adapter.in.messaging.dto.PaymentRequestDto;
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -28,6 +29,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class PaymentQueueListenerIntegrationTest {
 
   @Mock private ProcessPaymentUseCase processPaymentUseCase;
+  @Mock private SqsQueueBacklogMonitor backlogMonitor;
+  @Mock private PaymentListenerDrain drain;
 
   private PaymentQueueListener listener;
   private ObjectMapper objectMapper;
@@ -35,7 +38,15 @@ class PaymentQueueListenerIntegrationTest {
   @BeforeEach
   void setUp() {
     objectMapper = new ObjectMapper();
-    listener = new PaymentQueueListener(processPaymentUseCase, objectMapper);
+    lenient().when(drain.tryAcquire()).thenReturn(true);
+    listener =
+        new PaymentQueueListener(
+            processPaymentUseCase,
+            objectMapper,
+            PortFixtures.NO_METRICS,
+            backlogMonitor,
+            drain,
+            PortFixtures.RANDOM_IDS);
   }
 
   // ===========================
@@ -55,7 +66,7 @@ class PaymentQueueListenerIntegrationTest {
     String message = objectMapper.writeValueAsString(request);
 
     // Act
-    listener.receivePaymentRequest(message);
+    listener.receivePaymentRequest(message, null, null, null);
 
     // Assert
     verify(processPaymentUseCase).processPayment(any(PaymentRequestDto.class));
@@ -74,7 +85,7 @@ class PaymentQueueListenerIntegrationTest {
     String message = objectMapper.writeValueAsString(request);
 
     // Act
-    listener.receivePaymentRequest(message);
+    listener.receivePaymentRequest(message, null, null, null);
 
     // Assert
     verify(processPaymentUseCase).processPayment(any(PaymentRequestDto.class));
@@ -93,7 +104,7 @@ class PaymentQueueListenerIntegrationTest {
     String message = objectMapper.writeValueAsString(request);
 
     // Act
-    listener.receivePaymentRequest(message);
+    listener.receivePaymentRequest(message, null, null, null);
 
     // Assert
     verify(processPaymentUseCase).processPayment(any(PaymentRequestDto.class));
@@ -112,7 +123,7 @@ class PaymentQueueListenerIntegrationTest {
     String message = objectMapper.writeValueAsString(request);
 
     // Act
-    listener.receivePaymentRequest(message);
+    listener.receivePaymentRequest(message, null, null, null);
 
     // Assert
     verify(processPaymentUseCase).processPayment(any(PaymentRequestDto.class));
@@ -131,7 +142,7 @@ class PaymentQueueListenerIntegrationTest {
     String message = objectMapper.writeValueAsString(request);
 
     // Act
-    listener.receivePaymentRequest(message);
+    listener.receivePaymentRequest(message, null, null, null);
 
     // Assert
     verify(processPaymentUseCase).processPayment(any(PaymentRequestDto.class));
@@ -148,7 +159,7 @@ class PaymentQueueListenerIntegrationTest {
     String emptyMessage = "";
 
     // Act & Assert
-    assertThatThrownBy(() -> listener.receivePaymentRequest(emptyMessage))
+    assertThatThrownBy(() -> listener.receivePaymentRequest(emptyMessage, null, null, null))
         .isInstanceOf(RuntimeException.class);
     verify(processPaymentUseCase, never()).processPayment(any());
   }
@@ -157,7 +168,7 @@ class PaymentQueueListenerIntegrationTest {
   @DisplayName("Should handle null message gracefully")
   void testReceivePaymentRequest_NullMessage_ThrowsException() {
     // Act & Assert
-    assertThatThrownBy(() -> listener.receivePaymentRequest(null))
+    assertThatThrownBy(() -> listener.receivePaymentRequest(null, null, null, null))
         .isInstanceOf(RuntimeException.class);
     verify(processPaymentUseCase, never()).processPayment(any());
   }
@@ -169,7 +180,7 @@ class PaymentQueueListenerIntegrationTest {
     String invalidJson = "{invalid json format}";
 
     // Act & Assert
-    assertThatThrownBy(() -> listener.receivePaymentRequest(invalidJson))
+    assertThatThrownBy(() -> listener.receivePaymentRequest(invalidJson, null, null, null))
         .isInstanceOf(RuntimeException.class);
     verify(processPaymentUseCase, never()).processPayment(any());
   }
@@ -181,7 +192,7 @@ class PaymentQueueListenerIntegrationTest {
     String incompleteJson = "{\"firstName\": \"Test\"}"; // Missing required fields
 
     // Act - Should not throw, processPayment receives null/incomplete DTO
-    listener.receivePaymentRequest(incompleteJson);
+    listener.receivePaymentRequest(incompleteJson, null, null, null);
 
     // Assert - Verify processPayment was called (may with null/incomplete data)
     verify(processPaymentUseCase).processPayment(any());
@@ -203,7 +214,7 @@ class PaymentQueueListenerIntegrationTest {
             workOrderId, customerId, amount);
 
     // Act
-    listener.receivePaymentRequest(jsonWithExtra);
+    listener.receivePaymentRequest(jsonWithExtra, null, null, null);
 
     // Assert - Should still process despite extra fields
     verify(processPaymentUseCase).processPayment(any(PaymentRequestDto.class));
@@ -227,7 +238,7 @@ class PaymentQueueListenerIntegrationTest {
     String message = objectMapper.writeValueAsString(request);
 
     // Act
-    listener.receivePaymentRequest(message);
+    listener.receivePaymentRequest(message, null, null, null);
 
     // Assert
     verify(processPaymentUseCase).processPayment(any(PaymentRequestDto.class));
@@ -246,7 +257,7 @@ class PaymentQueueListenerIntegrationTest {
     String message = objectMapper.writeValueAsString(request);
 
     // Act
-    listener.receivePaymentRequest(message);
+    listener.receivePaymentRequest(message, null, null, null);
 
     // Assert
     verify(processPaymentUseCase).processPayment(any(PaymentRequestDto.class));
@@ -266,7 +277,7 @@ class PaymentQueueListenerIntegrationTest {
     String message = objectMapper.writeValueAsString(request);
 
     // Act
-    listener.receivePaymentRequest(message);
+    listener.receivePaymentRequest(message, null, null, null);
 
     // Assert
     verify(processPaymentUseCase).processPayment(any(PaymentRequestDto.class));
@@ -289,7 +300,7 @@ class PaymentQueueListenerIntegrationTest {
     String message = objectMapper.writeValueAsString(request);
 
     // Act
-    listener.receivePaymentRequest(message);
+    listener.receivePaymentRequest(message, null, null, null);
 
     // Assert
     verify(processPaymentUseCase).processPayment(any(PaymentRequestDto.class));
@@ -306,7 +317,7 @@ class PaymentQueueListenerIntegrationTest {
     String message = objectMapper.writeValueAsString(request);
 
     // Act
-    listener.receivePaymentRequest(message);
+    listener.receivePaymentRequest(message, null, null, null);
 
     // Assert
     verify(processPaymentUseCase).processPayment(any(PaymentRequestDto.class));
@@ -323,7 +334,7 @@ class PaymentQueueListenerIntegrationTest {
             UUID.randomUUID());
 
     // Act & Assert
-    assertThatThrownBy(() -> listener.receivePaymentRequest(jsonWithInvalidUUID))
+    assertThatThrownBy(() -> listener.receivePaymentRequest(jsonWithInvalidUUID, null, null, null))
         .isInstanceOf(RuntimeException.class);
   }
 
@@ -344,7 +355,7 @@ class PaymentQueueListenerIntegrationTest {
     String message = objectMapper.writeValueAsString(request);
 
     // Act
-    listener.receivePaymentRequest(message);
+    listener.receivePaymentRequest(message, null, null, null);
 
     // Assert
     verify(processPaymentUseCase).processPayment(any(PaymentRequestDto.class));
@@ -363,7 +374,7 @@ class PaymentQueueListenerIntegrationTest {
     String message = objectMapper.writeValueAsString(request);
 
     // Act
-    listener.receivePaymentRequest(message);
+    listener.receivePaymentRequest(message, null, null, null);
 
     // Assert
     verify(processPaymentUseCase).processPayment(any(PaymentRequestDto.class));
@@ -390,7 +401,7 @@ class PaymentQueueListenerIntegrationTest {
         .processPayment(any(PaymentRequestDto.class));
 
     // Act & Assert
-    assertThatThrownBy(() -> listener.receivePaymentRequest(message))
+    assertThatThrownBy(() -> listener.receivePaymentRequest(message, null, null, null))
         .isInstanceOf(RuntimeException.class)
         .hasMessage("Failed to process payment request");
   }
@@ -412,7 +423,7 @@ class PaymentQueueListenerIntegrationTest {
         .processPayment(any(PaymentRequestDto.class));
 
     // Act & Assert
-    assertThatThrownBy(() -> listener.receivePaymentRequest(message))
+    assertThatThrownBy(() -> listener.receivePaymentRequest(message, null, null, null))
         .isInstanceOf(RuntimeException.class)
         .hasMessageContaining("Failed to process payment request");
   }
@@ -435,7 +446,7 @@ class PaymentQueueListenerIntegrationTest {
       String message = objectMapper.writeValueAsString(request);
 
       // Act
-      listener.receivePaymentRequest(message);
+      listener.receivePaymentRequest(message, null, null, null);
     }
 
     // Assert
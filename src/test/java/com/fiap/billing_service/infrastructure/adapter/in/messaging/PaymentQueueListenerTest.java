@@ -6,10 +6,14 @@ import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.billing_service.application.port.in.ProcessPaymentUseCase;
+import com.fiap.billing_service.application.port.out.PortFixtures;
 import com.fiap.billing_service.domain.entity.Payment;
 import com.fiap.billing_service.infrastructure.adapter.in.messaging.dto.PaymentRequestDto;
+import com.fiap.billing_service.infrastructure.context.MessageContext;
+import io.awspring.cloud.sqs.listener.Visibility;
 import java.math.BigDecimal;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("PaymentQueueListener Tests")
@@ -26,11 +31,23 @@ class PaymentQueueListenerTest {
 
   @Mock private ObjectMapper objectMapper;
 
+  @Mock private SqsQueueBacklogMonitor backlogMonitor;
+
+  @Mock private PaymentListenerDrain drain;
+
   private PaymentQueueListener listener;
 
   @BeforeEach
   void setUp() {
-    listener = new PaymentQueueListener(processPaymentUseCase, objectMapper);
+    lenient().when(drain.tryAcquire()).thenReturn(true);
+    listener =
+        new PaymentQueueListener(
+            processPaymentUseCase,
+            objectMapper,
+            PortFixtures.NO_METRICS,
+            backlogMonitor,
+            drain,
+            PortFixtures.RANDOM_IDS);
   }
 
   @Test
@@ -54,7 +71,7 @@ class PaymentQueueListenerTest {
         .thenReturn(processedPayment);
 
     // Act
-    listener.receivePaymentRequest(jsonMessage);
+    listener.receivePaymentRequest(jsonMessage, null, null, null);
 
     // Assert
     ArgumentCaptor<PaymentRequestDto> captor = ArgumentCaptor.forClass(PaymentRequestDto.class);
@@ -72,7 +89,7 @@ class PaymentQueueListenerTest {
         .thenThrow(new com.fasterxml.jackson.core.JsonParseException(null, "Invalid JSON"));
 
     // Act & Assert
-    assertThatThrownBy(() -> listener.receivePaymentRequest(invalidJson))
+    assertThatThrownBy(() -> listener.receivePaymentRequest(invalidJson, null, null, null))
         .isInstanceOf(RuntimeException.class)
         .hasMessageContaining("Failed to process payment request");
   }
@@ -85,7 +102,7 @@ class PaymentQueueListenerTest {
         .thenThrow(new IllegalArgumentException("Message cannot be null"));
 
     // Act & Assert
-    assertThatThrownBy(() -> listener.receivePaymentRequest(null))
+    assertThatThrownBy(() -> listener.receivePaymentRequest(null, null, null, null))
         .isInstanceOf(RuntimeException.class)
         .hasMessageContaining("Failed to process payment request");
   }
@@ -103,7 +120,7 @@ class PaymentQueueListenerTest {
         .thenThrow(new RuntimeException("Payment processing failed"));
 
     // Act & Assert
-    assertThatThrownBy(() -> listener.receivePaymentRequest(jsonMessage))
+    assertThatThrownBy(() -> listener.receivePaymentRequest(jsonMessage, null, null, null))
         .isInstanceOf(RuntimeException.class)
         .hasMessageContaining("Failed to process payment request");
   }
@@ -119,7 +136,7 @@ class PaymentQueueListenerTest {
     when(processPaymentUseCase.processPayment(any(PaymentRequestDto.class))).thenReturn(null);
 
     // Act
-    listener.receivePaymentRequest(jsonMessage);
+    listener.receivePaymentRequest(jsonMessage, null, null, null);
 
     // Assert
     verify(objectMapper, times(1)).readValue(jsonMessage, PaymentRequestDto.class);
@@ -141,7 +158,7 @@ class PaymentQueueListenerTest {
         .thenThrow(originalException);
 
     // Act & Assert
-    assertThatThrownBy(() -> listener.receivePaymentRequest(jsonMessage))
+    assertThatThrownBy(() -> listener.receivePaymentRequest(jsonMessage, null, null, null))
         .isInstanceOf(RuntimeException.class)
         .hasMessageContaining("Failed to process payment request")
         .hasCause(originalException);
@@ -168,7 +185,7 @@ class PaymentQueueListenerTest {
     when(processPaymentUseCase.processPayment(any(PaymentRequestDto.class))).thenReturn(null);
 
     // Act
-    listener.receivePaymentRequest(jsonMessage);
+    listener.receivePaymentRequest(jsonMessage, null, null, null);
 
     // Assert
     ArgumentCaptor<PaymentRequestDto> captor = ArgumentCaptor.forClass(PaymentRequestDto.class);
@@ -179,4 +196,101 @@ class PaymentQueueListenerTest {
     assertThat(capturedRequest.getCustomerId()).isEqualTo(clientId);
     assertThat(capturedRequest.getDescription()).isEqualTo(description);
   }
+
+  @Test
+  @DisplayName("Should report the message SentTimestamp to the backlog monitor")
+  void testReceivePaymentRequest_WithSentTimestamp_ReportsQueueWait() throws Exception {
+    // Arrange
+    String jsonMessage = "{\"workOrderId\":\"" + UUID.randomUUID() + "\"}";
+    when(objectMapper.readValue(jsonMessage, PaymentRequestDto.class))
+        .thenReturn(new PaymentRequestDto());
+
+    // Act
+    listener.receivePaymentRequest(jsonMessage, "1700000000000", null, null);
+
+    // Assert
+    verify(backlogMonitor).messageReceived(1700000000000L);
+    verify(processPaymentUseCase).processPayment(any(PaymentRequestDto.class));
+  }
+
+  @Test
+  @DisplayName("Should release the message with zero visibility instead of processing while draining")
+  void testReceivePaymentRequest_Draining_ReleasesMessage() throws Exception {
+    // Arrange
+    Visibility visibility = mock(Visibility.class);
+    when(drain.tryAcquire()).thenReturn(false);
+
+    // Act & Assert
+    assertThatThrownBy(() -> listener.receivePaymentRequest("{}", null, null, visibility))
+        .isInstanceOf(IllegalStateException.class);
+    verify(visibility).changeTo(0);
+    verify(drain, never()).release();
+    verifyNoInteractions(processPaymentUseCase, objectMapper, backlogMonitor);
+  }
+
+  @Test
+  @DisplayName("Should release the drain slot even when processing fails")
+  void testReceivePaymentRequest_ProcessingFails_ReleasesDrainSlot() throws Exception {
+    // Arrange
+    when(objectMapper.readValue("bad", PaymentRequestDto.class))
+        .thenThrow(new RuntimeException("parse"));
+
+    // Act & Assert
+    assertThatThrownBy(() -> listener.receivePaymentRequest("bad", null, null, null))
+        .isInstanceOf(RuntimeException.class);
+    verify(drain).release();
+  }
+
+  @Test
+  @DisplayName("Should process with the received correlation id in the MDC and clear it afterwards")
+  void testReceivePaymentRequest_WithCorrelationId_SetsMdcDuringProcessing() throws Exception {
+    // Arrange
+    String jsonMessage = "{\"workOrderId\":\"" + UUID.randomUUID() + "\"}";
+    AtomicReference<String> seen = new AtomicReference<>();
+    when(objectMapper.readValue(jsonMessage, PaymentRequestDto.class))
+        .thenReturn(new PaymentRequestDto());
+    when(processPaymentUseCase.processPayment(any(PaymentRequestDto.class)))
+        .thenAnswer(
+            invocation -> {
+              seen.set(MDC.get(MessageContext.CORRELATION_ID));
+              return null;
+            });
+
+    // Act
+    listener.receivePaymentRequest(jsonMessage, null, "upstream-correlation-id", null);
+
+    // Assert
+    assertThat(seen.get()).isEqualTo("upstream-correlation-id");
+    assertThat(MDC.get(MessageContext.CORRELATION_ID)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should mint a correlation id when the message carries none")
+  void testReceivePaymentRequest_WithoutCorrelationId_GeneratesOne() throws Exception {
+    // Arrange
+    UUID generated = UUID.randomUUID();
+    PaymentQueueListener generatingListener =
+        new PaymentQueueListener(
+            processPaymentUseCase,
+            objectMapper,
+            PortFixtures.NO_METRICS,
+            backlogMonitor,
+            drain,
+            () -> generated);
+    AtomicReference<String> seen = new AtomicReference<>();
+    when(objectMapper.readValue("{}", PaymentRequestDto.class))
+        .thenReturn(new PaymentRequestDto());
+    when(processPaymentUseCase.processPayment(any(PaymentRequestDto.class)))
+        .thenAnswer(
+            invocation -> {
+              seen.set(MDC.get(MessageContext.CORRELATION_ID));
+              return null;
+            });
+
+    // Act
+    generatingListener.receivePaymentRequest("{}", null, null, null);
+
+    // Assert
+    assertThat(seen.get()).isEqualTo(generated.toString());
+  }
 }
@@ -0,0 +1,197 @@
+package com.fiap.billing_service.infrastructure.adapter.in.messaging;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.timgroup.statsd.StatsDClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SqsQueueBacklogMonitor Tests")
+class SqsQueueBacklogMonitorTest {
+
+  private static final String QUEUE = "payment-request-queue";
+  private static final String QUEUE_URL = "https://sqs/123/" + QUEUE;
+
+  @Mock private SqsAsyncClient sqsAsyncClient;
+  @Mock private StatsDClient statsDClient;
+
+  private SimpleMeterRegistry registry;
+  private AtomicLong nowMillis;
+  private SqsQueueBacklogMonitor monitor;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    nowMillis = new AtomicLong(1_000_000L);
+    Clock clock =
+        new Clock() {
+          @Override
+          public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+          }
+
+          @Override
+          public Clock withZone(java.time.ZoneId zone) {
+            return this;
+          }
+
+          @Override
+          public Instant instant() {
+            return Instant.ofEpochMilli(nowMillis.get());
+          }
+        };
+    monitor =
+        new SqsQueueBacklogMonitor(sqsAsyncClient, registry, statsDClient, clock, QUEUE, true);
+  }
+
+  private void stubQueue(String visible, String notVisible) {
+    lenient()
+        .when(sqsAsyncClient.getQueueUrl(any(GetQueueUrlRequest.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                GetQueueUrlResponse.builder().queueUrl(QUEUE_URL).build()));
+    when(sqsAsyncClient.getQueueAttributes(any(GetQueueAttributesRequest.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                GetQueueAttributesResponse.builder()
+                    .attributes(
+                        Map.of(
+                            QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES, visible,
+                            QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE,
+                                notVisible,
+                            QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_DELAYED, "0"))
+                    .build()));
+  }
+
+  private double gauge(String name) {
+    return registry.get(name).tag("queue", QUEUE).gauge().value();
+  }
+
+  @Test
+  @DisplayName("Should export queue depth and in-flight messages on both backends")
+  void testSample_ExportsQueueDepth() {
+    // Arrange
+    stubQueue("42", "7");
+
+    // Act
+    monitor.sample().join();
+
+    // Assert
+    assertEquals(42, gauge("sqs.queue.messages.visible"));
+    assertEquals(7, gauge("sqs.queue.messages.inflight"));
+    verify(statsDClient).gauge("sqs.queue.messages.visible", 42L, "queue:" + QUEUE);
+    verify(statsDClient).gauge("sqs.queue.messages.inflight", 7L, "queue:" + QUEUE);
+  }
+
+  @Test
+  @DisplayName("Should resolve the queue URL once and reuse it")
+  void testSample_ResolvesQueueUrlOnce() {
+    // Arrange
+    stubQueue("1", "0");
+
+    // Act
+    monitor.sample().join();
+    monitor.sample().join();
+
+    // Assert
+    verify(sqsAsyncClient, times(1)).getQueueUrl(any(GetQueueUrlRequest.class));
+    verify(sqsAsyncClient, times(2)).getQueueAttributes(any(GetQueueAttributesRequest.class));
+  }
+
+  @Test
+  @DisplayName("Should estimate oldest message age from received SentTimestamps")
+  void testSample_AgeFromReceivedMessages() {
+    // Arrange
+    stubQueue("5", "1");
+    monitor.messageReceived(nowMillis.get() - 30_000);
+    monitor.messageReceived(nowMillis.get() - 90_000);
+
+    // Act
+    monitor.sample().join();
+
+    // Assert
+    assertEquals(90, gauge("sqs.queue.oldest.message.age.seconds"));
+  }
+
+  @Test
+  @DisplayName("Should keep aging the backlog while nothing is received")
+  void testSample_NothingReceived_AgeGrows() {
+    // Arrange
+    stubQueue("5", "0");
+    monitor.messageReceived(nowMillis.get() - 10_000);
+    monitor.sample().join();
+
+    // Act
+    nowMillis.addAndGet(15_000);
+    monitor.sample().join();
+
+    // Assert
+    assertEquals(25, gauge("sqs.queue.oldest.message.age.seconds"));
+  }
+
+  @Test
+  @DisplayName("Should report zero age when the queue is empty")
+  void testSample_EmptyQueue_ZeroAge() {
+    // Arrange
+    stubQueue("0", "0");
+    monitor.messageReceived(nowMillis.get() - 10_000);
+
+    // Act
+    monitor.sample().join();
+
+    // Assert
+    assertEquals(0, gauge("sqs.queue.oldest.message.age.seconds"));
+  }
+
+  @Test
+  @DisplayName("Should swallow SQS failures and keep the previous values")
+  void testSample_SqsFailure_KeepsPreviousValues() {
+    // Arrange
+    when(sqsAsyncClient.getQueueUrl(any(GetQueueUrlRequest.class)))
+        .thenReturn(CompletableFuture.failedFuture(SdkClientException.create("unreachable")));
+
+    // Act
+    monitor.sample().join();
+
+    // Assert
+    assertEquals(0, gauge("sqs.queue.messages.visible"));
+    verifyNoInteractions(statsDClient);
+  }
+
+  @Test
+  @DisplayName("Should not call SQS when disabled")
+  void testSample_Disabled_NoCalls() {
+    // Arrange
+    SqsQueueBacklogMonitor disabled =
+        new SqsQueueBacklogMonitor(
+            sqsAsyncClient, new SimpleMeterRegistry(), statsDClient, Clock.systemUTC(), QUEUE,
+            false);
+
+    // Act
+    disabled.sample().join();
+
+    // Assert
+    verifyNoInteractions(sqsAsyncClient);
+  }
+}
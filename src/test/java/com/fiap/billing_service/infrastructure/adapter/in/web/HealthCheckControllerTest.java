@@ -50,7 +50,7 @@ class HealthCheckControllerTest {
 
   @Test
   void testGetReadinessEndpoint() {
-    Map<String, String> response = healthCheckController.getReadiness();
+    Map<String, String> response = healthCheckController.getReadiness().getBody();
     
     assertThat(response).isNotNull();
     assertThat(response).containsEntry("status", "UP");
@@ -1,18 +1,32 @@
 package com.fiap.billing_service.infrastructure.adapter.in.web;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
 
 import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("HealthCheckController - Unit Tests")
 class HealthCheckUnitTest {
 
-  private HealthCheckController controller = new HealthCheckController();
+  @Mock private ApplicationAvailability availability;
+
+  private HealthCheckController controller;
+
+  @BeforeEach
+  void setUp() {
+    controller = new HealthCheckController(availability);
+  }
 
   @Test
   @DisplayName("ping endpoint should return UP status with pong message")
@@ -48,18 +62,33 @@ class HealthCheckUnitTest {
   @Test
   @DisplayName("getReadiness should return UP status")
   void testReadinessProbeReturnsUp() {
-    Map<String, String> response = controller.getReadiness();
+    when(availability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
 
-    assertThat(response).isNotNull();
-    assertThat(response).containsEntry("status", "UP");
+    ResponseEntity<Map<String, String>> response = controller.getReadiness();
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).containsEntry("status", "UP");
+  }
+
+  @Test
+  @DisplayName("getReadiness should return 503 OUT_OF_SERVICE while refusing traffic")
+  void testReadinessProbeRefusingTrafficReturns503() {
+    when(availability.getReadinessState()).thenReturn(ReadinessState.REFUSING_TRAFFIC);
+
+    ResponseEntity<Map<String, String>> response = controller.getReadiness();
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    assertThat(response.getBody()).containsEntry("status", "OUT_OF_SERVICE");
   }
 
   @Test
   @DisplayName("All health endpoints should have consistent UP status")
   void testAllHealthEndpointsReturnUpStatus() {
+    when(availability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
+
     assertThat(controller.ping().get("status")).isEqualTo("UP");
     assertThat(controller.getHealth().get("status")).isEqualTo("UP");
     assertThat(controller.getLiveness().get("status")).isEqualTo("UP");
-    assertThat(controller.getReadiness().get("status")).isEqualTo("UP");
+    assertThat(controller.getReadiness().getBody().get("status")).isEqualTo("UP");
   }
 }
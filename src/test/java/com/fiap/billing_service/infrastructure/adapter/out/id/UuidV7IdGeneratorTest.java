@@ -0,0 +1,122 @@
+package com.fiap.billing_service.infrastructure.adapter.out.id;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UuidV7IdGenerator Tests")
+class UuidV7IdGeneratorTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-01T12:00:00.123Z");
+
+  @Test
+  @DisplayName("Should encode version 7, RFC variant and the clock's milliseconds")
+  void testNewId_Layout() {
+    // Arrange
+    UuidV7IdGenerator generator = new UuidV7IdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    // Act
+    UUID id = generator.newId();
+
+    // Assert
+    assertEquals(7, id.version());
+    assertEquals(2, id.variant());
+    assertEquals(NOW.toEpochMilli(), UuidV7IdGenerator.timestampMillis(id));
+  }
+
+  @Test
+  @DisplayName("Should keep ids strictly increasing within one millisecond and past the sequence")
+  void testNewId_SameMillisecond_Increasing() {
+    // Arrange
+    UuidV7IdGenerator generator = new UuidV7IdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+    UUID previous = generator.newId();
+
+    // Act / Assert - more ids than the 12-bit sequence holds
+    for (int i = 0; i < 10_000; i++) {
+      UUID next = generator.newId();
+      assertTrue(next.compareTo(previous) > 0, "id " + i + " is not after its predecessor");
+      previous = next;
+    }
+    assertTrue(UuidV7IdGenerator.timestampMillis(previous) > NOW.toEpochMilli());
+  }
+
+  @Test
+  @DisplayName("Should not go back in time when the clock steps back")
+  void testNewId_ClockStepsBack_StillIncreasing() {
+    // Arrange
+    long[] millis = {NOW.toEpochMilli()};
+    Clock clock =
+        new Clock() {
+          @Override
+          public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+          }
+
+          @Override
+          public Clock withZone(ZoneId zone) {
+            return this;
+          }
+
+          @Override
+          public Instant instant() {
+            return Instant.ofEpochMilli(millis[0]);
+          }
+        };
+    UuidV7IdGenerator generator = new UuidV7IdGenerator(clock);
+    UUID first = generator.newId();
+
+    // Act
+    millis[0] -= 1_000;
+    UUID second = generator.newId();
+
+    // Assert
+    assertTrue(second.compareTo(first) > 0);
+    assertEquals(NOW.toEpochMilli(), UuidV7IdGenerator.timestampMillis(second));
+  }
+
+  @Test
+  @DisplayName("Should mint unique ids across concurrent threads")
+  void testNewId_ConcurrentThreads_Unique() throws Exception {
+    // Arrange
+    UuidV7IdGenerator generator = new UuidV7IdGenerator(Clock.systemUTC());
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<Future<List<UUID>>> batches = new ArrayList<>();
+
+    // Act
+    try {
+      for (int t = 0; t < 8; t++) {
+        batches.add(
+            executor.submit(
+                () -> {
+                  List<UUID> ids = new ArrayList<>();
+                  for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.newId());
+                  }
+                  return ids;
+                }));
+      }
+      Set<UUID> unique = new HashSet<>();
+      for (Future<List<UUID>> batch : batches) {
+        unique.addAll(batch.get());
+      }
+
+      // Assert
+      assertEquals(8 * 20_000, unique.size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
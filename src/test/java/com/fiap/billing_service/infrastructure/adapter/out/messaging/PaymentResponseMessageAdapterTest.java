@@ -1,11 +1,13 @@
 package com.fiap.billing_service.infrastructure.adapter.out.messaging;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.billing_service.domain.entity.Payment;
 import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import com.fiap.billing_service.infrastructure.context.MessageContext;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -20,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.sqs.SqsClient;
 import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
 import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 
@@ -321,8 +324,89 @@ class PaymentResponseMessageAdapterTest {
         .isEqualTo(SUCCESS_QUEUE_URL);
   }
 
+  @Test
+  @DisplayName("Should copy the current correlation id onto the response message attributes")
+  void testSendPaymentResponse_WithCorrelationId_AddsMessageAttribute() throws Exception {
+    // Arrange
+    Payment payment = createPaymentWithStatus(PaymentStatus.APPROVED);
+    stubSqs(SUCCESS_QUEUE_URL);
+
+    // Act
+    try (MessageContext ignored = MessageContext.open("corr-123")) {
+      adapter.sendPaymentResponse(payment);
+    }
+
+    // Assert
+    ArgumentCaptor<SendMessageRequest> captor = ArgumentCaptor.forClass(SendMessageRequest.class);
+    verify(sqsClient).sendMessage(captor.capture());
+    MessageAttributeValue attribute =
+        captor.getValue().messageAttributes().get(MessageContext.CORRELATION_ID);
+    assertThat(attribute.dataType()).isEqualTo("String");
+    assertThat(attribute.stringValue()).isEqualTo("corr-123");
+  }
+
+  @Test
+  @DisplayName("Should send no message attributes outside a message context")
+  void testSendPaymentResponse_WithoutCorrelationId_SendsNoAttributes() throws Exception {
+    // Arrange
+    Payment payment = createPaymentWithStatus(PaymentStatus.APPROVED);
+    stubSqs(SUCCESS_QUEUE_URL);
+
+    // Act
+    adapter.sendPaymentResponse(payment);
+
+    // Assert
+    ArgumentCaptor<SendMessageRequest> captor = ArgumentCaptor.forClass(SendMessageRequest.class);
+    verify(sqsClient).sendMessage(captor.capture());
+    assertThat(captor.getValue().hasMessageAttributes()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should group FIFO responses by work order and deduplicate per payment outcome")
+  void testSendPaymentResponse_FifoQueue_SetsGroupAndDeduplicationIds() throws Exception {
+    // Arrange
+    setFieldValue(adapter, "successQueueName", SUCCESS_QUEUE_NAME + ".fifo");
+    Payment payment = createPaymentWithStatus(PaymentStatus.APPROVED);
+    stubSqs(SUCCESS_QUEUE_URL + ".fifo");
+
+    // Act
+    adapter.sendPaymentResponse(payment);
+
+    // Assert
+    ArgumentCaptor<SendMessageRequest> captor = ArgumentCaptor.forClass(SendMessageRequest.class);
+    verify(sqsClient).sendMessage(captor.capture());
+    assertThat(captor.getValue().messageGroupId()).isEqualTo(payment.getWorkOrderId().toString());
+    assertThat(captor.getValue().messageDeduplicationId())
+        .isEqualTo(payment.getId() + ":APPROVED");
+  }
+
+  @Test
+  @DisplayName("Should send no group or deduplication id to a standard queue")
+  void testSendPaymentResponse_StandardQueue_SendsNoGroupId() throws Exception {
+    // Arrange
+    Payment payment = createPaymentWithStatus(PaymentStatus.REJECTED);
+    stubSqs(FAILURE_QUEUE_URL);
+
+    // Act
+    adapter.sendPaymentResponse(payment);
+
+    // Assert
+    ArgumentCaptor<SendMessageRequest> captor = ArgumentCaptor.forClass(SendMessageRequest.class);
+    verify(sqsClient).sendMessage(captor.capture());
+    assertThat(captor.getValue().messageGroupId()).isNull();
+    assertThat(captor.getValue().messageDeduplicationId()).isNull();
+  }
+
   // Helper methods
 
+  private void stubSqs(String queueUrl) throws Exception {
+    when(sqsClient.getQueueUrl(any(GetQueueUrlRequest.class)))
+        .thenReturn(GetQueueUrlResponse.builder().queueUrl(queueUrl).build());
+    when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+    when(sqsClient.sendMessage(any(SendMessageRequest.class)))
+        .thenReturn(SendMessageResponse.builder().messageId("msg-123").build());
+  }
+
   private Payment createPaymentWithStatus(PaymentStatus status) {
     UUID paymentId = UUID.randomUUID();
     UUID workOrderId = UUID.randomUUID();
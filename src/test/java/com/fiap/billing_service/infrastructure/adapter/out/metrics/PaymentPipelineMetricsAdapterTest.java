@@ -0,0 +1,91 @@
+package com.fiap.billing_service.infrastructure.adapter.out.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fiap.billing_service.application.port.out.PaymentMetricsPort.Stage;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import com.timgroup.statsd.StatsDClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentPipelineMetricsAdapter Tests")
+class PaymentPipelineMetricsAdapterTest {
+
+  @Mock private StatsDClient statsDClient;
+
+  private SimpleMeterRegistry registry;
+  private PaymentPipelineMetricsAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    adapter = new PaymentPipelineMetricsAdapter(registry, statsDClient);
+  }
+
+  @Test
+  @DisplayName("Should pre-register one timer, gauge and counter per stage and status")
+  void testConstructor_PreRegistersAllMeters() {
+    // Assert
+    assertEquals(Stage.values().length, registry.find("payment.stage.duration").timers().size());
+    assertEquals(Stage.values().length, registry.find("payment.stage.inflight").gauges().size());
+    assertEquals(
+        PaymentStatus.values().length, registry.find("payment.outcome").counters().size());
+    assertEquals(0, registry.get("payment.inflight").gauge().value());
+  }
+
+  @Test
+  @DisplayName("Should track in-flight stage and record its latency on both backends")
+  void testStage_RecordsLatencyAndInFlight() {
+    // Act
+    long start = adapter.startStage(Stage.GATEWAY_CREATE);
+    double inFlightDuringStage =
+        registry.get("payment.stage.inflight").tag("stage", "gateway_create").gauge().value();
+    adapter.endStage(Stage.GATEWAY_CREATE, start);
+
+    // Assert
+    assertEquals(1, inFlightDuringStage);
+    assertEquals(
+        0, registry.get("payment.stage.inflight").tag("stage", "gateway_create").gauge().value());
+    assertEquals(
+        1, registry.get("payment.stage.duration").tag("stage", "gateway_create").timer().count());
+    verify(statsDClient)
+        .recordExecutionTime(eq("stage.duration"), anyLong(), eq("stage:gateway_create"));
+  }
+
+  @Test
+  @DisplayName("Should count outcomes by status and track payments in flight")
+  void testPayment_CountsOutcomeAndInFlight() {
+    // Act
+    adapter.paymentStarted();
+    adapter.paymentStarted();
+    adapter.paymentFinished(PaymentStatus.APPROVED);
+
+    // Assert
+    assertEquals(1, registry.get("payment.inflight").gauge().value());
+    assertEquals(1, registry.get("payment.outcome").tag("status", "approved").counter().count());
+    assertEquals(0, registry.get("payment.outcome").tag("status", "failed").counter().count());
+    verify(statsDClient).incrementCounter("outcome", "status:approved");
+    verify(statsDClient, times(2)).gauge("inflight", 1L);
+    verify(statsDClient).gauge("inflight", 2L);
+  }
+
+  @Test
+  @DisplayName("Should count requests coalesced into a payment already in progress")
+  void testPaymentCoalesced_IncrementsCounter() {
+    // Act
+    adapter.paymentCoalesced();
+
+    // Assert
+    assertEquals(1, registry.get("payment.coalesced").counter().count());
+    assertEquals(0, registry.get("payment.inflight").gauge().value());
+    verify(statsDClient).incrementCounter("coalesced");
+  }
+}
@@ -0,0 +1,100 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@DisplayName("GatewayCircuit Tests")
+class GatewayCircuitTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+  @Test
+  @DisplayName("Should open after consecutive failures and half-open after the open duration")
+  void testState_OpensThenHalfOpens() {
+    // Arrange
+    GatewayCircuit circuit =
+        new GatewayCircuit(3, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+    GatewayCircuit later =
+        new GatewayCircuit(
+            3, Duration.ofSeconds(30), Clock.offset(Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofSeconds(31)));
+
+    // Act
+    circuit.recordFailure();
+    circuit.recordFailure();
+    GatewayCircuit.State beforeThreshold = circuit.state();
+    circuit.recordFailure();
+
+    // Assert
+    assertEquals(GatewayCircuit.State.CLOSED, beforeThreshold);
+    assertEquals(GatewayCircuit.State.OPEN, circuit.state());
+    assertEquals(GatewayCircuit.State.CLOSED, later.state());
+  }
+
+  @Test
+  @DisplayName("Should report HALF_OPEN once the open duration elapsed")
+  void testState_HalfOpenAfterDuration() {
+    // Arrange
+    GatewayCircuit circuit = new GatewayCircuit(1, Duration.ZERO, Clock.systemUTC());
+
+    // Act
+    circuit.recordFailure();
+
+    // Assert
+    assertEquals(GatewayCircuit.State.HALF_OPEN, circuit.state());
+  }
+
+  @Test
+  @DisplayName("Should close again on success")
+  void testRecordSuccess_Closes() {
+    // Arrange
+    GatewayCircuit circuit =
+        new GatewayCircuit(1, Duration.ofMinutes(1), Clock.fixed(NOW, ZoneOffset.UTC));
+    circuit.recordFailure();
+
+    // Act
+    circuit.recordSuccess();
+
+    // Assert
+    assertEquals(GatewayCircuit.State.CLOSED, circuit.state());
+    assertEquals(0, circuit.getConsecutiveFailures());
+  }
+
+  @Test
+  @DisplayName("Should count transport errors as failures and 4xx responses as success")
+  void testRecord_ClassifiesOutcomes() {
+    // Arrange
+    GatewayCircuit circuit =
+        new GatewayCircuit(2, Duration.ofMinutes(1), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    // Act
+    assertThrows(
+        ResourceAccessException.class,
+        () ->
+            circuit.record(
+                () -> {
+                  throw new ResourceAccessException("timeout");
+                }));
+    int afterTransportError = circuit.getConsecutiveFailures();
+    assertThrows(
+        HttpClientErrorException.class,
+        () ->
+            circuit.record(
+                () -> {
+                  throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+                }));
+
+    // Assert
+    assertEquals(1, afterTransportError);
+    assertEquals(0, circuit.getConsecutiveFailures());
+    assertEquals("ok", circuit.record(() -> "ok"));
+  }
+}
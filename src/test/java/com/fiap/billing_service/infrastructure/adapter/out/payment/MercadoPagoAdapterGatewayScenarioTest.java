@@ -5,7 +5,10 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.fiap.billing_service.domain.dto.PaymentResponse;
+import com.fiap.billing_service.infrastructure.adapter.out.id.UuidV7IdGenerator;
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -33,7 +36,13 @@ class MercadoPagoAdapterGatewayScenarioTest {
 
   @BeforeEach
   void setUp() {
-    adapter = new MercadoPagoAdapter(restTemplate);
+    adapter =
+        new MercadoPagoAdapter(
+            restTemplate,
+            new GatewayCircuit(5, Duration.ofSeconds(30), Clock.systemUTC()),
+            new MercadoPagoEndpoints(
+                MercadoPagoEndpoints.DEFAULT_BASE_URL, MercadoPagoEndpoints.DEFAULT_ORDERS_PATH),
+            new UuidV7IdGenerator(Clock.systemUTC()));
     pixKey = "test-pix-key-" + UUID.randomUUID();
     amount = new BigDecimal("100.00");
   }
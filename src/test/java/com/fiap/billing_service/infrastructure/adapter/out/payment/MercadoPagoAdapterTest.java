@@ -4,10 +4,16 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.billing_service.domain.dto.PaymentResponse;
 import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import com.fiap.billing_service.infrastructure.adapter.out.id.UuidV7IdGenerator;
 import com.fiap.billing_service.infrastructure.adapter.out.payment.dto.MercadoPagoOrderResponse;
 import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,7 +37,13 @@ class MercadoPagoAdapterTest {
 
   @BeforeEach
   void setUp() {
-    adapter = new MercadoPagoAdapter(restTemplate);
+    adapter =
+        new MercadoPagoAdapter(
+            restTemplate,
+            new GatewayCircuit(5, Duration.ofSeconds(30), Clock.systemUTC()),
+            new MercadoPagoEndpoints(
+                MercadoPagoEndpoints.DEFAULT_BASE_URL, MercadoPagoEndpoints.DEFAULT_ORDERS_PATH),
+            new UuidV7IdGenerator(Clock.systemUTC()));
     ReflectionTestUtils.setField(adapter, "accessToken", "test-token-12345");
     adapter.init();
   }
@@ -47,14 +59,14 @@ class MercadoPagoAdapterTest {
 
     MercadoPagoOrderResponse response =
         createValidOrderResponse("approved", "qr_code_123", "qr_code_base64_xyz");
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -72,10 +84,10 @@ class MercadoPagoAdapterTest {
 
     verify(restTemplate, times(1))
         .exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class));
+            eq(byte[].class));
   }
 
   @Test
@@ -87,14 +99,14 @@ class MercadoPagoAdapterTest {
     String firstName = "APRO";
 
     MercadoPagoOrderResponse response = createValidOrderResponse("approved", null, null);
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -104,10 +116,10 @@ class MercadoPagoAdapterTest {
     assertEquals(PaymentStatus.APPROVED, result.getStatus());
     verify(restTemplate, times(1))
         .exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class));
+            eq(byte[].class));
   }
 
   @Test
@@ -117,14 +129,14 @@ class MercadoPagoAdapterTest {
     BigDecimal amount = new BigDecimal("50.00");
 
     MercadoPagoOrderResponse response = createValidOrderResponse("processed", null, null);
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -142,14 +154,14 @@ class MercadoPagoAdapterTest {
 
     MercadoPagoOrderResponse response =
         createOrderResponseWithRejection("rejected", "Insufficient funds");
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -167,14 +179,14 @@ class MercadoPagoAdapterTest {
     BigDecimal amount = new BigDecimal("100.00");
 
     MercadoPagoOrderResponse response = createValidOrderResponse("cancelled", null, null);
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -192,14 +204,14 @@ class MercadoPagoAdapterTest {
     BigDecimal amount = new BigDecimal("100.00");
 
     MercadoPagoOrderResponse response = createValidOrderResponse("pending", null, null);
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -216,14 +228,14 @@ class MercadoPagoAdapterTest {
     BigDecimal amount = new BigDecimal("100.00");
 
     MercadoPagoOrderResponse response = createValidOrderResponse("processing", null, null);
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -241,14 +253,14 @@ class MercadoPagoAdapterTest {
     BigDecimal amount = new BigDecimal("100.00");
 
     MercadoPagoOrderResponse response = createValidOrderResponse("unknown_status", null, null);
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -266,14 +278,14 @@ class MercadoPagoAdapterTest {
     BigDecimal amount = new BigDecimal("100.00");
 
     MercadoPagoOrderResponse response = createValidOrderResponse("approved", null, null);
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -291,14 +303,14 @@ class MercadoPagoAdapterTest {
     BigDecimal amount = new BigDecimal("100.00");
 
     MercadoPagoOrderResponse response = createValidOrderResponse("approved", null, null);
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -316,14 +328,14 @@ class MercadoPagoAdapterTest {
     BigDecimal amount = new BigDecimal("100.00");
 
     MercadoPagoOrderResponse response = createValidOrderResponse("approved", null, null);
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -339,14 +351,14 @@ class MercadoPagoAdapterTest {
   void testProcessPixPayment_NullResponse_ThrowsException() {
     // Arrange
     BigDecimal amount = new BigDecimal("100.00");
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
+    ResponseEntity<byte[]> httpResponse =
         ResponseEntity.status(HttpStatus.CREATED).build();
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act & Assert
@@ -364,10 +376,10 @@ class MercadoPagoAdapterTest {
     BigDecimal amount = new BigDecimal("100.00");
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenThrow(new RuntimeException("Connection timeout"));
 
     // Act & Assert
@@ -389,14 +401,14 @@ class MercadoPagoAdapterTest {
     response.setStatus("approved");
     response.setTransactions(null); // No transactions
 
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -424,14 +436,14 @@ class MercadoPagoAdapterTest {
     transactions.setPayments(new MercadoPagoOrderResponse.Payment[0]); // Empty array
     response.setTransactions(transactions);
 
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -463,14 +475,14 @@ class MercadoPagoAdapterTest {
     transactions.setPayments(new MercadoPagoOrderResponse.Payment[] {payment});
     response.setTransactions(transactions);
 
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -489,14 +501,14 @@ class MercadoPagoAdapterTest {
     BigDecimal amount = new BigDecimal("100.00");
 
     MercadoPagoOrderResponse response = createValidOrderResponse("approved", null, null);
-    ResponseEntity<MercadoPagoOrderResponse> httpResponse =
-        new ResponseEntity<MercadoPagoOrderResponse>(response, HttpStatus.CREATED);
+    ResponseEntity<byte[]> httpResponse =
+        new ResponseEntity<>(json(response), HttpStatus.CREATED);
 
     when(restTemplate.exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(httpResponse);
 
     // Act
@@ -505,10 +517,10 @@ class MercadoPagoAdapterTest {
     // Assert
     verify(restTemplate, times(1))
         .exchange(
-            anyString(),
+            any(URI.class),
             eq(HttpMethod.POST),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class));
+            eq(byte[].class));
     // Headers are validated implicitly since the mock returns successfully
   }
 
@@ -561,4 +573,12 @@ class MercadoPagoAdapterTest {
 
     return response;
   }
+
+  private static byte[] json(MercadoPagoOrderResponse response) {
+    try {
+      return new ObjectMapper().writeValueAsBytes(response);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
 }
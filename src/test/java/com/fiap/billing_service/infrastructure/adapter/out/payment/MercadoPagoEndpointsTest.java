@@ -0,0 +1,64 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MercadoPagoEndpoints Tests")
+class MercadoPagoEndpointsTest {
+
+  @Test
+  @DisplayName("Should default to the public Orders API")
+  void testDefaults() {
+    // Act
+    MercadoPagoEndpoints endpoints =
+        new MercadoPagoEndpoints(
+            MercadoPagoEndpoints.DEFAULT_BASE_URL, MercadoPagoEndpoints.DEFAULT_ORDERS_PATH);
+
+    // Assert
+    assertEquals(URI.create("https://api.mercadopago.com"), endpoints.getBaseUri());
+    assertEquals(URI.create("https://api.mercadopago.com/v1/orders"), endpoints.getOrdersUri());
+    assertEquals(
+        URI.create("https://api.mercadopago.com/v1/orders/ORD01ABC"),
+        endpoints.orderUri("ORD01ABC"));
+  }
+
+  @Test
+  @DisplayName("Should join a proxy base path and orders path without duplicate slashes")
+  void testProxyEndpoint() {
+    // Act
+    MercadoPagoEndpoints endpoints =
+        new MercadoPagoEndpoints("http://egress-proxy:8080/mercadopago/", "v1/orders/");
+
+    // Assert
+    assertEquals(URI.create("http://egress-proxy:8080/mercadopago"), endpoints.getBaseUri());
+    assertEquals(
+        URI.create("http://egress-proxy:8080/mercadopago/v1/orders"), endpoints.getOrdersUri());
+  }
+
+  @Test
+  @DisplayName("Should encode the order id as a single path segment")
+  void testOrderUri_EncodesId() {
+    // Arrange
+    MercadoPagoEndpoints endpoints =
+        new MercadoPagoEndpoints(
+            MercadoPagoEndpoints.DEFAULT_BASE_URL, MercadoPagoEndpoints.DEFAULT_ORDERS_PATH);
+
+    // Act
+    URI uri = endpoints.orderUri("a b/../c");
+
+    // Assert
+    assertEquals("/v1/orders/a%20b%2F..%2Fc", uri.getRawPath());
+  }
+
+  @Test
+  @DisplayName("Should reject a base URL without scheme or host")
+  void testConstructor_RelativeBaseUrl() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new MercadoPagoEndpoints("api.mercadopago.com", "/v1/orders"));
+  }
+}
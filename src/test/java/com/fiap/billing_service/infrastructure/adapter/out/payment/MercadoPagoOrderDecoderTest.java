@@ -0,0 +1,117 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.MercadoPagoOrderDecoder.DecodedOrder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MercadoPagoOrderDecoder Tests")
+class MercadoPagoOrderDecoderTest {
+
+  private static DecodedOrder decode(String json) throws IOException {
+    return MercadoPagoOrderDecoder.decode(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("Should read the first payment and its QR code, skipping other fields")
+  void testDecode_FirstPayment() throws IOException {
+    // Act
+    DecodedOrder order =
+        decode(
+            """
+            {
+              "id": "ORD01",
+              "status": "processed",
+              "payer": {"email": "a@b.com", "first_name": "APRO", "identification": {"id": "1"}},
+              "total_amount": "150.00",
+              "transactions": {
+                "refunds": [{"id": "R1"}],
+                "payments": [
+                  {
+                    "id": "PAY01",
+                    "status": "Accredited",
+                    "status_detail": "accredited",
+                    "payment_method": {"id": "pix", "type": "bank_transfer"},
+                    "point_of_interaction": {
+                      "type": "PIX",
+                      "transaction_data": {
+                        "qr_code": "000201",
+                        "qr_code_base64": "iVBOR",
+                        "ticket_url": "https://ticket"
+                      }
+                    }
+                  },
+                  {"id": "PAY02", "status": "cancelled", "status_detail": "expired"}
+                ]
+              }
+            }
+            """);
+
+    // Assert
+    assertEquals(
+        new DecodedOrder("ORD01", "PAY01", PaymentStatus.APPROVED, "accredited", "000201", "iVBOR"),
+        order);
+    assertNull(order.errorMessage());
+  }
+
+  @Test
+  @DisplayName("Should fall back to the order id and status without payments")
+  void testDecode_NoPayments() throws IOException {
+    // Act
+    DecodedOrder withoutTransactions = decode("{\"id\": \"ORD02\", \"status\": \"pending\"}");
+    DecodedOrder emptyPayments =
+        decode(
+            "{\"id\": \"ORD03\", \"status\": \"approved\", \"transactions\": {\"payments\": []}}");
+
+    // Assert
+    assertEquals("ORD02", withoutTransactions.paymentId());
+    assertEquals(PaymentStatus.PROCESSING, withoutTransactions.status());
+    assertEquals("ORD03", emptyPayments.paymentId());
+    assertEquals(PaymentStatus.APPROVED, emptyPayments.status());
+  }
+
+  @Test
+  @DisplayName("Should expose the status detail of a rejected payment as error message")
+  void testDecode_RejectedPayment() throws IOException {
+    // Act
+    DecodedOrder order =
+        decode(
+            """
+            {"id": "ORD04", "status": "processed", "transactions": {"payments": [
+              {"id": "PAY04", "status": "rejected", "status_detail": "insufficient_amount"}
+            ]}}
+            """);
+
+    // Assert
+    assertEquals(PaymentStatus.REJECTED, order.status());
+    assertEquals("insufficient_amount", order.errorMessage());
+  }
+
+  @Test
+  @DisplayName("Should treat a missing or non-text status as REJECTED")
+  void testDecode_MissingStatus() throws IOException {
+    // Act
+    DecodedOrder missing = decode("{\"id\": \"ORD05\"}");
+    DecodedOrder paymentWithoutStatus =
+        decode(
+            "{\"id\": \"ORD06\", \"status\": \"approved\","
+                + " \"transactions\": {\"payments\": [{\"id\": \"PAY06\", \"status\": null}]}}");
+
+    // Assert
+    assertEquals(PaymentStatus.REJECTED, missing.status());
+    assertEquals(PaymentStatus.REJECTED, paymentWithoutStatus.status());
+    assertEquals("PAY06", paymentWithoutStatus.paymentId());
+  }
+
+  @Test
+  @DisplayName("Should reject a body that is not a JSON object")
+  void testDecode_NotAnObject() {
+    // Act & Assert
+    assertThrows(IOException.class, () -> decode("[]"));
+    assertThrows(IOException.class, () -> decode("{\"id\": "));
+  }
+}
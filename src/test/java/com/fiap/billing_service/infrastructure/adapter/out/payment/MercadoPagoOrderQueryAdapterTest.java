@@ -4,10 +4,15 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import com.fiap.billing_service.domain.entity.Payment;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.billing_service.domain.exception.PaymentProcessingException;
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
 import com.fiap.billing_service.domain.valueobject.PaymentStatus;
 import com.fiap.billing_service.infrastructure.adapter.out.payment.dto.MercadoPagoOrderResponse;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,11 +38,17 @@ class MercadoPagoOrderQueryAdapterTest {
 
   private static final String ACCESS_TOKEN = "test-access-token-12345";
   private static final String ORDER_ID = "order_test_12345";
-  private static final String ORDERS_API_URL = "https://api.mercadopago.com/v1/orders";
+  private static final URI ORDER_URI =
+      URI.create("https://api.mercadopago.com/v1/orders/" + ORDER_ID);
 
   @BeforeEach
   void setUp() {
-    adapter = new MercadoPagoOrderQueryAdapter(restTemplate);
+    adapter =
+        new MercadoPagoOrderQueryAdapter(
+            restTemplate,
+            new GatewayCircuit(5, Duration.ofSeconds(30), Clock.systemUTC()),
+            new MercadoPagoEndpoints(
+                MercadoPagoEndpoints.DEFAULT_BASE_URL, MercadoPagoEndpoints.DEFAULT_ORDERS_PATH));
     ReflectionTestUtils.setField(adapter, "accessToken", ACCESS_TOKEN);
   }
 
@@ -46,28 +57,53 @@ class MercadoPagoOrderQueryAdapterTest {
   void testGetOrderStatusApproved() {
     // Arrange
     MercadoPagoOrderResponse response = createApprovedOrderResponse();
-    ResponseEntity<MercadoPagoOrderResponse> responseEntity =
-        new ResponseEntity<>(response, HttpStatus.OK);
+    ResponseEntity<byte[]> responseEntity =
+        new ResponseEntity<>(json(response), HttpStatus.OK);
 
     when(restTemplate.exchange(
-            eq(ORDERS_API_URL + "/" + ORDER_ID),
+            eq(ORDER_URI),
             eq(HttpMethod.GET),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(responseEntity);
 
     // Act
-    Payment result = adapter.getOrderStatus(ORDER_ID);
+    OrderStatusSnapshot result = adapter.getOrderStatus(ORDER_ID);
 
     // Assert
     assertNotNull(result);
-    assertEquals(PaymentStatus.APPROVED, result.getStatus());
+    assertEquals(PaymentStatus.APPROVED, result.status());
     verify(restTemplate, times(1))
         .exchange(
-            eq(ORDERS_API_URL + "/" + ORDER_ID),
+            eq(ORDER_URI),
             eq(HttpMethod.GET),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class));
+            eq(byte[].class));
+  }
+
+  @Test
+  @DisplayName("Should query the order on the configured endpoint")
+  void testGetOrderStatus_ConfiguredEndpoint() {
+    // Arrange
+    MercadoPagoOrderQueryAdapter regional =
+        new MercadoPagoOrderQueryAdapter(
+            restTemplate,
+            new GatewayCircuit(5, Duration.ofSeconds(30), Clock.systemUTC()),
+            new MercadoPagoEndpoints("http://mp-proxy.internal:8080", "/v1/orders"));
+    ReflectionTestUtils.setField(regional, "accessToken", ACCESS_TOKEN);
+    URI proxiedOrderUri = URI.create("http://mp-proxy.internal:8080/v1/orders/" + ORDER_ID);
+    when(restTemplate.exchange(
+            eq(proxiedOrderUri),
+            eq(HttpMethod.GET),
+            any(HttpEntity.class),
+            eq(byte[].class)))
+        .thenReturn(new ResponseEntity<>(json(createApprovedOrderResponse()), HttpStatus.OK));
+
+    // Act
+    OrderStatusSnapshot result = regional.getOrderStatus(ORDER_ID);
+
+    // Assert
+    assertEquals(PaymentStatus.APPROVED, result.status());
   }
 
   @Test
@@ -75,23 +111,23 @@ class MercadoPagoOrderQueryAdapterTest {
   void testGetOrderStatusRejected() {
     // Arrange
     MercadoPagoOrderResponse response = createRejectedOrderResponse();
-    ResponseEntity<MercadoPagoOrderResponse> responseEntity =
-        new ResponseEntity<>(response, HttpStatus.OK);
+    ResponseEntity<byte[]> responseEntity =
+        new ResponseEntity<>(json(response), HttpStatus.OK);
 
     when(restTemplate.exchange(
-            eq(ORDERS_API_URL + "/" + ORDER_ID),
+            eq(ORDER_URI),
             eq(HttpMethod.GET),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(responseEntity);
 
     // Act
-    Payment result = adapter.getOrderStatus(ORDER_ID);
+    OrderStatusSnapshot result = adapter.getOrderStatus(ORDER_ID);
 
     // Assert
     assertNotNull(result);
-    assertEquals(PaymentStatus.REJECTED, result.getStatus());
-    assertNotNull(result.getErrorMessage());
+    assertEquals(PaymentStatus.REJECTED, result.status());
+    assertNotNull(result.errorMessage());
   }
 
   @Test
@@ -99,22 +135,22 @@ class MercadoPagoOrderQueryAdapterTest {
   void testGetOrderStatusProcessing() {
     // Arrange
     MercadoPagoOrderResponse response = createProcessingOrderResponse();
-    ResponseEntity<MercadoPagoOrderResponse> responseEntity =
-        new ResponseEntity<>(response, HttpStatus.OK);
+    ResponseEntity<byte[]> responseEntity =
+        new ResponseEntity<>(json(response), HttpStatus.OK);
 
     when(restTemplate.exchange(
-            eq(ORDERS_API_URL + "/" + ORDER_ID),
+            eq(ORDER_URI),
             eq(HttpMethod.GET),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(responseEntity);
 
     // Act
-    Payment result = adapter.getOrderStatus(ORDER_ID);
+    OrderStatusSnapshot result = adapter.getOrderStatus(ORDER_ID);
 
     // Assert
     assertNotNull(result);
-    assertEquals(PaymentStatus.PROCESSING, result.getStatus());
+    assertEquals(PaymentStatus.PROCESSING, result.status());
   }
 
   @Test
@@ -122,10 +158,10 @@ class MercadoPagoOrderQueryAdapterTest {
   void testGetOrderStatusNotFound() {
     // Arrange
     when(restTemplate.exchange(
-            eq(ORDERS_API_URL + "/" + ORDER_ID),
+            eq(ORDER_URI),
             eq(HttpMethod.GET),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenThrow(
             new HttpClientErrorException(
                 HttpStatus.NOT_FOUND, "Not Found", "Order not found".getBytes(), null));
@@ -138,10 +174,10 @@ class MercadoPagoOrderQueryAdapterTest {
 
     verify(restTemplate, times(1))
         .exchange(
-            eq(ORDERS_API_URL + "/" + ORDER_ID),
+            eq(ORDER_URI),
             eq(HttpMethod.GET),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class));
+            eq(byte[].class));
   }
 
   @Test
@@ -149,10 +185,10 @@ class MercadoPagoOrderQueryAdapterTest {
   void testGetOrderStatusNetworkError() {
     // Arrange
     when(restTemplate.exchange(
-            eq(ORDERS_API_URL + "/" + ORDER_ID),
+            eq(ORDER_URI),
             eq(HttpMethod.GET),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenThrow(new RuntimeException("Network error"));
 
     // Act & Assert
@@ -167,16 +203,16 @@ class MercadoPagoOrderQueryAdapterTest {
   void testAuthorizationHeaderIsSet() {
     // Arrange
     MercadoPagoOrderResponse response = createApprovedOrderResponse();
-    ResponseEntity<MercadoPagoOrderResponse> responseEntity =
-        new ResponseEntity<>(response, HttpStatus.OK);
+    ResponseEntity<byte[]> responseEntity =
+        new ResponseEntity<>(json(response), HttpStatus.OK);
 
     ArgumentCaptor<HttpEntity<?>> captor = ArgumentCaptor.forClass(HttpEntity.class);
 
     when(restTemplate.exchange(
-            eq(ORDERS_API_URL + "/" + ORDER_ID),
+            eq(ORDER_URI),
             eq(HttpMethod.GET),
             any(HttpEntity.class),
-            eq(MercadoPagoOrderResponse.class)))
+            eq(byte[].class)))
         .thenReturn(responseEntity);
 
     // Act
@@ -185,10 +221,10 @@ class MercadoPagoOrderQueryAdapterTest {
     // Assert
     verify(restTemplate)
         .exchange(
-            eq(ORDERS_API_URL + "/" + ORDER_ID),
+            eq(ORDER_URI),
             eq(HttpMethod.GET),
             captor.capture(),
-            eq(MercadoPagoOrderResponse.class));
+            eq(byte[].class));
 
     HttpEntity<?> capturedEntity = captor.getValue();
     assertTrue(
@@ -200,24 +236,25 @@ class MercadoPagoOrderQueryAdapterTest {
   }
 
   @Test
-  @DisplayName("Should extract QR code from response")
-  void testExtractQrCodeFromResponse() {
+  @DisplayName("Should extract order and payment ids from response")
+  void testExtractIdsFromResponse() {
     // Arrange
     MercadoPagoOrderResponse response = createApprovedOrderResponse();
-    ResponseEntity<MercadoPagoOrderResponse> responseEntity =
-        new ResponseEntity<>(response, HttpStatus.OK);
+    ResponseEntity<byte[]> responseEntity =
+        new ResponseEntity<>(json(response), HttpStatus.OK);
 
     when(restTemplate.exchange(
-            anyString(), eq(HttpMethod.GET), any(HttpEntity.class), any(Class.class)))
+            any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), any(Class.class)))
         .thenReturn(responseEntity);
 
     // Act
-    Payment result = adapter.getOrderStatus(ORDER_ID);
+    OrderStatusSnapshot result = adapter.getOrderStatus(ORDER_ID);
 
     // Assert
     assertNotNull(result);
-    assertNotNull(result.getQrCode());
-    assertNotNull(result.getQrCodeBase64());
+    assertEquals(ORDER_ID, result.orderPaymentId());
+    assertEquals("payment_12345", result.externalPaymentId());
+    assertNull(result.errorMessage());
   }
 
   // Helper methods to create test response objects
@@ -279,4 +316,12 @@ class MercadoPagoOrderQueryAdapterTest {
     response.setTransactions(transactions);
     return response;
   }
+
+  private static byte[] json(MercadoPagoOrderResponse response) {
+    try {
+      return new ObjectMapper().writeValueAsBytes(response);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
 }
@@ -0,0 +1,58 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MercadoPagoStatusTable Tests")
+class MercadoPagoStatusTableTest {
+
+  @Test
+  @DisplayName("Should map known statuses regardless of case")
+  void testMap_KnownStatuses() {
+    // Act & Assert
+    assertEquals(PaymentStatus.APPROVED, MercadoPagoStatusTable.map("approved"));
+    assertEquals(PaymentStatus.APPROVED, MercadoPagoStatusTable.map("processed"));
+    assertEquals(PaymentStatus.APPROVED, MercadoPagoStatusTable.map("accredited"));
+    assertEquals(PaymentStatus.APPROVED, MercadoPagoStatusTable.map("APPROVED"));
+    assertEquals(PaymentStatus.APPROVED, MercadoPagoStatusTable.map("Accredited"));
+    assertEquals(PaymentStatus.REJECTED, MercadoPagoStatusTable.map("waiting_transfer"));
+    assertEquals(PaymentStatus.REJECTED, MercadoPagoStatusTable.map("cancelled"));
+    assertEquals(PaymentStatus.PROCESSING, MercadoPagoStatusTable.map("pending"));
+    assertEquals(PaymentStatus.PROCESSING, MercadoPagoStatusTable.map("Processing"));
+  }
+
+  @Test
+  @DisplayName("Should map unknown statuses and near misses to REJECTED")
+  void testMap_UnknownStatuses() {
+    // Act & Assert
+    assertEquals(PaymentStatus.REJECTED, MercadoPagoStatusTable.map("rejected"));
+    assertEquals(PaymentStatus.REJECTED, MercadoPagoStatusTable.map("action_required"));
+    assertEquals(PaymentStatus.REJECTED, MercadoPagoStatusTable.map("approve"));
+    assertEquals(PaymentStatus.REJECTED, MercadoPagoStatusTable.map("approved_"));
+    assertEquals(PaymentStatus.REJECTED, MercadoPagoStatusTable.map("pendinG "));
+    assertEquals(PaymentStatus.REJECTED, MercadoPagoStatusTable.map(""));
+  }
+
+  @Test
+  @DisplayName("Should map a status inside a larger buffer")
+  void testMap_BufferRange() {
+    // Arrange
+    char[] buffer = "{\"status\":\"pending\"}".toCharArray();
+
+    // Act
+    PaymentStatus status = MercadoPagoStatusTable.map(buffer, 11, 7);
+
+    // Assert
+    assertEquals(PaymentStatus.PROCESSING, status);
+  }
+
+  @Test
+  @DisplayName("Should map a missing status to REJECTED")
+  void testMap_Null() {
+    // Act & Assert
+    assertEquals(PaymentStatus.REJECTED, MercadoPagoStatusTable.map(null));
+  }
+}
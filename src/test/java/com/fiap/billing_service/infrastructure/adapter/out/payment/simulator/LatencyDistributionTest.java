@@ -0,0 +1,58 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment.simulator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LatencyDistribution Tests")
+class LatencyDistributionTest {
+
+  @Test
+  @DisplayName("Should sample around the configured median and p99")
+  void testSampleNanos_MatchesPercentiles() {
+    // Arrange
+    LatencyDistribution latency =
+        LatencyDistribution.of(Duration.ofMillis(100), Duration.ofMillis(400));
+    SplittableRandom random = new SplittableRandom(42);
+    long[] samples = new long[100_000];
+
+    // Act
+    for (int i = 0; i < samples.length; i++) {
+      samples[i] = latency.sampleNanos(random);
+    }
+    Arrays.sort(samples);
+
+    // Assert
+    assertEquals(100, samples[samples.length / 2] / 1_000_000.0, 3);
+    assertEquals(400, samples[(int) (samples.length * 0.99)] / 1_000_000.0, 25);
+  }
+
+  @Test
+  @DisplayName("Should use a fixed latency when p99 is not above the median")
+  void testSampleNanos_Fixed() {
+    // Arrange
+    LatencyDistribution latency =
+        LatencyDistribution.of(Duration.ofMillis(50), Duration.ofMillis(50));
+
+    // Act
+    long sample = latency.sampleNanos(new SplittableRandom(1));
+
+    // Assert
+    assertEquals(50_000_000L, sample, 1);
+  }
+
+  @Test
+  @DisplayName("Should sample no latency for a zero median")
+  void testSampleNanos_None() {
+    // Act
+    LatencyDistribution latency = LatencyDistribution.of(Duration.ZERO, Duration.ofSeconds(1));
+
+    // Assert
+    assertSame(LatencyDistribution.NONE, latency);
+    assertEquals(0, latency.sampleNanos(new SplittableRandom(1)));
+  }
+}
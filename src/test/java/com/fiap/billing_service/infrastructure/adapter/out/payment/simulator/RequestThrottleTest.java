@@ -0,0 +1,46 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment.simulator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RequestThrottle Tests")
+class RequestThrottleTest {
+
+  @Test
+  @DisplayName("Should admit a burst, throttle the excess and recover at the sustained rate")
+  void testTryAcquire_BurstThenSustainedRate() {
+    // Arrange
+    AtomicLong now = new AtomicLong(1_000_000_000L);
+    RequestThrottle throttle = new RequestThrottle(10, 3, now::get);
+
+    // Act
+    boolean first = throttle.tryAcquire();
+    boolean second = throttle.tryAcquire();
+    boolean third = throttle.tryAcquire();
+    boolean fourth = throttle.tryAcquire();
+    now.addAndGet(100_000_000L);
+    boolean afterInterval = throttle.tryAcquire();
+    boolean againTooSoon = throttle.tryAcquire();
+
+    // Assert
+    assertTrue(first && second && third);
+    assertFalse(fourth);
+    assertTrue(afterInterval);
+    assertFalse(againTooSoon);
+  }
+
+  @Test
+  @DisplayName("Should admit every call when no rate is configured")
+  void testTryAcquire_Unlimited() {
+    // Arrange
+    RequestThrottle throttle = new RequestThrottle(0, 0, () -> 0L);
+
+    // Act & Assert
+    for (int i = 0; i < 1_000; i++) {
+      assertTrue(throttle.tryAcquire());
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment.simulator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fiap.billing_service.infrastructure.adapter.out.payment.simulator.SimulatedOrderStore.Lookup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SimulatedOrderStore Tests")
+class SimulatedOrderStoreTest {
+
+  private static final long BASE = 1_767_225_600_000L;
+
+  @Test
+  @DisplayName("Should report PROCESSING until the settlement time, then the outcome")
+  void testLookup_SettlesAtSettlementTime() {
+    // Arrange
+    SimulatedOrderStore store = new SimulatedOrderStore(100, BASE);
+
+    // Act
+    String approved = store.create(BASE + 1_000, false);
+    String rejected = store.create(BASE + 2_000, true);
+
+    // Assert
+    assertEquals(Lookup.PROCESSING, store.lookup(approved, BASE + 999));
+    assertEquals(Lookup.APPROVED, store.lookup(approved, BASE + 1_000));
+    assertEquals(Lookup.PROCESSING, store.lookup(rejected, BASE + 1_999));
+    assertEquals(Lookup.REJECTED, store.lookup(rejected, BASE + 2_000));
+  }
+
+  @Test
+  @DisplayName("Should settle orders created with a past settlement time immediately")
+  void testLookup_PastSettlementTime() {
+    // Arrange
+    SimulatedOrderStore store = new SimulatedOrderStore(100, BASE);
+
+    // Act
+    String orderId = store.create(BASE - 5_000, false);
+
+    // Assert
+    assertEquals(Lookup.APPROVED, store.lookup(orderId, BASE));
+  }
+
+  @Test
+  @DisplayName("Should not find unknown, malformed or not yet created ids")
+  void testLookup_UnknownIds() {
+    // Arrange
+    SimulatedOrderStore store = new SimulatedOrderStore(100, BASE);
+    store.create(BASE, false);
+
+    // Act & Assert
+    assertEquals(Lookup.NOT_FOUND, store.lookup("SIM-1", BASE));
+    assertEquals(Lookup.NOT_FOUND, store.lookup("SIM-x", BASE));
+    assertEquals(Lookup.NOT_FOUND, store.lookup("ORD-0", BASE));
+    assertEquals(Lookup.NOT_FOUND, store.lookup(null, BASE));
+  }
+
+  @Test
+  @DisplayName("Should forget the oldest orders once the capacity is exceeded")
+  void testCreate_EvictsOldestBeyondCapacity() {
+    // Arrange
+    SimulatedOrderStore store = new SimulatedOrderStore(3, BASE);
+    String first = store.create(BASE, false);
+    store.create(BASE, false);
+    store.create(BASE, false);
+
+    // Act
+    String fourth = store.create(BASE, true);
+
+    // Assert
+    assertEquals(Lookup.NOT_FOUND, store.lookup(first, BASE));
+    assertEquals(Lookup.REJECTED, store.lookup(fourth, BASE));
+    assertEquals(3, store.size());
+  }
+
+  @Test
+  @DisplayName("Should spread orders over several pages")
+  void testCreate_AcrossPages() {
+    // Arrange
+    SimulatedOrderStore store = new SimulatedOrderStore(200_000, BASE);
+    String last = null;
+
+    // Act
+    for (int i = 0; i < 150_000; i++) {
+      last = store.create(BASE + i, i % 2 == 0);
+    }
+
+    // Assert
+    assertEquals("SIM-149999", last);
+    assertEquals(Lookup.APPROVED, store.lookup(last, BASE + 150_000));
+    assertEquals(Lookup.REJECTED, store.lookup("SIM-70000", BASE + 70_000));
+    assertEquals(150_000, store.size());
+  }
+
+  @Test
+  @DisplayName("Should reject an invalid capacity")
+  void testConstructor_InvalidCapacity() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> new SimulatedOrderStore(0, BASE));
+  }
+}
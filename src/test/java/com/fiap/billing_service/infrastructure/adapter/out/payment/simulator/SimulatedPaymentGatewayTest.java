@@ -0,0 +1,111 @@
+package com.fiap.billing_service.infrastructure.adapter.out.payment.simulator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fiap.billing_service.domain.dto.PaymentResponse;
+import com.fiap.billing_service.domain.exception.PaymentProcessingException;
+import com.fiap.billing_service.domain.valueobject.OrderStatusSnapshot;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SimulatedPaymentGateway Tests")
+class SimulatedPaymentGatewayTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+  private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+  private SimulatedPaymentGateway gateway(
+      Duration approvalDelay, double rejectionRate, RequestThrottle throttle) {
+    return new SimulatedPaymentGateway(
+        LatencyDistribution.NONE,
+        LatencyDistribution.NONE,
+        LatencyDistribution.of(approvalDelay, approvalDelay),
+        rejectionRate,
+        throttle,
+        new SimulatedOrderStore(1_000, NOW.toEpochMilli()),
+        CLOCK);
+  }
+
+  @Test
+  @DisplayName("Should create PROCESSING PIX orders that are approved once settled")
+  void testProcessPixPayment_ApprovedAfterDelay() {
+    // Arrange
+    SimulatedPaymentGateway gateway = gateway(Duration.ZERO, 0, RequestThrottle.UNLIMITED);
+
+    // Act
+    PaymentResponse response =
+        gateway.processPixPayment(new BigDecimal("150.00"), null, "Order", "John");
+    OrderStatusSnapshot status = gateway.getOrderStatus(response.getOrderPaymentId());
+
+    // Assert
+    assertEquals(PaymentStatus.PROCESSING, response.getStatus());
+    assertEquals("pix", response.getPaymentMethod());
+    assertNotNull(response.getQrCode());
+    assertEquals(PaymentStatus.APPROVED, status.status());
+    assertEquals(response.getOrderPaymentId(), status.orderPaymentId());
+    assertEquals(1, gateway.getOrderCount());
+  }
+
+  @Test
+  @DisplayName("Should keep the order PROCESSING during the approval delay")
+  void testGetOrderStatus_ProcessingDuringApprovalDelay() {
+    // Arrange
+    SimulatedPaymentGateway gateway = gateway(Duration.ofMinutes(1), 0, RequestThrottle.UNLIMITED);
+    String orderId =
+        gateway.processPixPayment(BigDecimal.TEN, null, "Order", null).getOrderPaymentId();
+
+    // Act
+    OrderStatusSnapshot status = gateway.getOrderStatus(orderId);
+
+    // Assert
+    assertEquals(PaymentStatus.PROCESSING, status.status());
+  }
+
+  @Test
+  @DisplayName("Should reject orders at the configured rejection rate")
+  void testGetOrderStatus_Rejected() {
+    // Arrange
+    SimulatedPaymentGateway gateway = gateway(Duration.ZERO, 1, RequestThrottle.UNLIMITED);
+    String orderId =
+        gateway.processPixPayment(BigDecimal.TEN, null, "Order", null).getOrderPaymentId();
+
+    // Act
+    OrderStatusSnapshot status = gateway.getOrderStatus(orderId);
+
+    // Assert
+    assertEquals(PaymentStatus.REJECTED, status.status());
+    assertEquals(SimulatedPaymentGateway.REJECTION_DETAIL, status.errorMessage());
+  }
+
+  @Test
+  @DisplayName("Should fail like the real adapters for unknown orders and throttled calls")
+  void testFailures_MirrorRealAdapters() {
+    // Arrange
+    SimulatedPaymentGateway gateway =
+        gateway(Duration.ZERO, 0, new RequestThrottle(1, 1, () -> 0L));
+    gateway.processPixPayment(BigDecimal.TEN, null, "Order", null);
+
+    // Act
+    RuntimeException createError =
+        assertThrows(
+            RuntimeException.class,
+            () -> gateway.processPixPayment(BigDecimal.TEN, null, "Order", null));
+    PaymentProcessingException queryError =
+        assertThrows(PaymentProcessingException.class, () -> gateway.getOrderStatus("SIM-0"));
+    PaymentProcessingException notFound =
+        assertThrows(
+            PaymentProcessingException.class,
+            () -> gateway(Duration.ZERO, 0, RequestThrottle.UNLIMITED).getOrderStatus("SIM-0"));
+
+    // Assert
+    assertTrue(createError.getMessage().startsWith("Mercado Pago API error: 429"));
+    assertTrue(queryError.getMessage().contains("429"));
+    assertTrue(notFound.getMessage().startsWith("Order not found in Mercado Pago"));
+  }
+}
@@ -0,0 +1,175 @@
+package com.fiap.billing_service.infrastructure.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fiap.billing_service.domain.entity.Payment;
+import com.fiap.billing_service.domain.valueobject.PaymentStatus;
+import com.fiap.billing_service.infrastructure.adapter.out.persistence.mapper.PaymentMapper;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LowLevelPaymentRepositoryAdapter Unit Tests")
+class LowLevelPaymentRepositoryAdapterTest {
+
+  @Mock private DynamoDbClient dynamoDbClient;
+
+  private final PaymentMapper mapper = new PaymentMapper();
+
+  private LowLevelPaymentRepositoryAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new LowLevelPaymentRepositoryAdapter(dynamoDbClient, mapper, "payments");
+  }
+
+  private Payment approvedPayment() {
+    Payment payment =
+        new Payment(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("80.00"));
+    payment.markAsProcessing("ext_1", "order_1", "pix", "qr", "qr64");
+    payment.markAsApproved();
+    return payment;
+  }
+
+  @Test
+  @DisplayName("Should put the encoded item into the payments table")
+  void testSave_PutsEncodedItem() {
+    // Arrange
+    Payment payment = approvedPayment();
+    when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+        .thenReturn(PutItemResponse.builder().build());
+
+    // Act
+    Payment result = adapter.save(payment);
+
+    // Assert
+    ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+    verify(dynamoDbClient).putItem(captor.capture());
+    assertThat(result).isSameAs(payment);
+    assertThat(captor.getValue().tableName()).isEqualTo("payments");
+    assertThat(captor.getValue().item()).isEqualTo(mapper.toItem(payment));
+  }
+
+  @Test
+  @DisplayName("Should decode the stored item when the work order exists")
+  @SuppressWarnings("unchecked")
+  void testFindByWorkOrderId_Found() {
+    // Arrange
+    Payment stored = approvedPayment();
+    Map<String, AttributeValue> item = mapper.toItem(stored);
+    when(dynamoDbClient.getItem(any(Consumer.class)))
+        .thenReturn(GetItemResponse.builder().item(item).build());
+
+    // Act
+    Optional<Payment> result = adapter.findByWorkOrderId(stored.getWorkOrderId());
+
+    // Assert
+    assertThat(result).isPresent();
+    assertThat(result.get().getStatus()).isEqualTo(PaymentStatus.APPROVED);
+    assertThat(result.get().getProcessedAt().toEpochMilli())
+        .isEqualTo(stored.getProcessedAt().toEpochMilli());
+  }
+
+  @Test
+  @DisplayName("Should return empty when the work order has no item")
+  @SuppressWarnings("unchecked")
+  void testFindByWorkOrderId_NotFound() {
+    // Arrange
+    when(dynamoDbClient.getItem(any(Consumer.class))).thenReturn(GetItemResponse.builder().build());
+
+    // Act & Assert
+    assertThat(adapter.findByWorkOrderId(UUID.randomUUID())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should propagate DynamoDB errors on save")
+  void testSave_DynamoDbError_Propagates() {
+    // Arrange
+    when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+        .thenThrow(DynamoDbException.builder().message("throttled").build());
+
+    // Act & Assert
+    assertThatThrownBy(() -> adapter.save(approvedPayment())).isInstanceOf(DynamoDbException.class);
+  }
+
+  @Test
+  @DisplayName("Should put the item conditioned on the status it was read with")
+  void testSaveIfStatus_PutsWithStatusCondition() {
+    // Arrange
+    Payment payment = approvedPayment();
+    when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+        .thenReturn(PutItemResponse.builder().build());
+
+    // Act
+    boolean saved = adapter.saveIfStatus(payment, PaymentStatus.PROCESSING);
+
+    // Assert
+    ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+    verify(dynamoDbClient).putItem(captor.capture());
+    assertThat(saved).isTrue();
+    assertThat(captor.getValue().conditionExpression()).isEqualTo("#status = :expected");
+    assertThat(captor.getValue().expressionAttributeValues())
+        .containsEntry(":expected", AttributeValue.fromS("PROCESSING"));
+  }
+
+  @Test
+  @DisplayName("Should report a lost race when the stored status changed")
+  void testSaveIfStatus_ConditionFailed_ReturnsFalse() {
+    // Arrange
+    when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+        .thenThrow(ConditionalCheckFailedException.builder().message("changed").build());
+
+    // Act & Assert
+    assertThat(adapter.saveIfStatus(approvedPayment(), PaymentStatus.PROCESSING)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should insert the item only if the work order has none yet")
+  void testInsertIfAbsent_PutsWithNotExistsCondition() {
+    // Arrange
+    when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+        .thenReturn(PutItemResponse.builder().build());
+
+    // Act
+    boolean inserted = adapter.insertIfAbsent(approvedPayment());
+
+    // Assert
+    ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+    verify(dynamoDbClient).putItem(captor.capture());
+    assertThat(inserted).isTrue();
+    assertThat(captor.getValue().conditionExpression())
+        .isEqualTo("attribute_not_exists(#workOrderId)");
+    assertThat(captor.getValue().expressionAttributeNames())
+        .containsEntry("#workOrderId", "workOrderId");
+  }
+
+  @Test
+  @DisplayName("Should report a lost race when the work order already has an item")
+  void testInsertIfAbsent_ConditionFailed_ReturnsFalse() {
+    // Arrange
+    when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+        .thenThrow(ConditionalCheckFailedException.builder().message("exists").build());
+
+    // Act & Assert
+    assertThat(adapter.insertIfAbsent(approvedPayment())).isFalse();
+  }
+}
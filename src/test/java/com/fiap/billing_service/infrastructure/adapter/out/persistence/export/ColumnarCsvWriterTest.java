@@ -0,0 +1,86 @@
+package com.fiap.billing_service.infrastructure.adapter.out.persistence.export;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ColumnarCsvWriter Tests")
+class ColumnarCsvWriterTest {
+
+  @TempDir Path tempDir;
+
+  private String readGzip(Path file) throws IOException {
+    try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  @Test
+  @DisplayName("Should write header and one line per column for each row group")
+  void testWriteRowGroup_WritesColumnsAsLines() throws IOException {
+    // Arrange
+    Path file = tempDir.resolve("export.pcsv.gz");
+
+    // Act
+    try (ColumnarCsvWriter writer = new ColumnarCsvWriter(file, List.of("id", "status"))) {
+      writer.writeRowGroup(
+          List.of(new String[] {"1", "APPROVED"}, new String[] {"2", "REJECTED"}));
+      writer.writeRowGroup(List.<String[]>of(new String[] {"3", "APPROVED"}));
+      assertThat(writer.getRowCount()).isEqualTo(3);
+    }
+
+    // Assert
+    assertThat(readGzip(file))
+        .isEqualTo(
+            "#columns,id,status\n"
+                + "#rows,2\n1,2\nAPPROVED,REJECTED\n"
+                + "#rows,1\n3\nAPPROVED\n");
+  }
+
+  @Test
+  @DisplayName("Should quote special characters and distinguish null from empty values")
+  void testWriteRowGroup_EscapesValues() throws IOException {
+    // Arrange
+    Path file = tempDir.resolve("escaped.pcsv.gz");
+
+    // Act
+    try (ColumnarCsvWriter writer = new ColumnarCsvWriter(file, List.of("errorMessage"))) {
+      writer.writeRowGroup(
+          List.of(
+              new String[] {"a,b"},
+              new String[] {"say \"hi\""},
+              new String[] {null},
+              new String[] {""},
+              new String[] {"#hash"}));
+    }
+
+    // Assert
+    assertThat(readGzip(file))
+        .isEqualTo(
+            "#columns,errorMessage\n#rows,5\n\"a,b\",\"say \"\"hi\"\"\",,\"\",\"#hash\"\n");
+  }
+
+  @Test
+  @DisplayName("Should ignore empty row groups")
+  void testWriteRowGroup_Empty_WritesNothing() throws IOException {
+    // Arrange
+    Path file = tempDir.resolve("empty.pcsv.gz");
+
+    // Act
+    try (ColumnarCsvWriter writer = new ColumnarCsvWriter(file, List.of("id"))) {
+      writer.writeRowGroup(List.of());
+    }
+
+    // Assert
+    assertThat(readGzip(file)).isEqualTo("#columns,id\n");
+  }
+}
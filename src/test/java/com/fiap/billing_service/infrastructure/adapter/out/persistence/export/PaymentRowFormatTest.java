@@ -0,0 +1,38 @@
+package com.fiap.billing_service.infrastructure.adapter.out.persistence.export;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+@DisplayName("PaymentRowFormat Tests")
+class PaymentRowFormatTest {
+
+  @Test
+  @DisplayName("Should build an export row from a low-level item in column order")
+  void testExportRow_FromItem() {
+    // Arrange
+    Map<String, AttributeValue> item =
+        Map.of(
+            "workOrderId", AttributeValue.fromS("wo-1"),
+            "amount", AttributeValue.fromN("150.00"),
+            "status", AttributeValue.fromS("PROCESSED"),
+            "createdAtEpoch", AttributeValue.fromN("1768478400000"),
+            "qrCode", AttributeValue.fromS("not exported"));
+
+    // Act
+    String[] row = PaymentRowFormat.exportRow(item);
+
+    // Assert
+    assertThat(row).hasSize(PaymentRowFormat.EXPORT_COLUMNS.size());
+    assertThat(row[PaymentRowFormat.EXPORT_COLUMNS.indexOf("workOrderId")]).isEqualTo("wo-1");
+    assertThat(row[PaymentRowFormat.EXPORT_COLUMNS.indexOf("amount")]).isEqualTo("150.00");
+    assertThat(row[PaymentRowFormat.EXPORT_COLUMNS.indexOf("status")]).isEqualTo("PROCESSED");
+    assertThat(row[PaymentRowFormat.EXPORT_COLUMNS.indexOf("createdAtEpoch")])
+        .isEqualTo("1768478400000");
+    assertThat(row[PaymentRowFormat.EXPORT_COLUMNS.indexOf("errorMessage")]).isNull();
+    assertThat(row).doesNotContain("not exported");
+  }
+}
@@ -6,12 +6,20 @@ import com.fiap.billing_service.domain.entity.Payment;
 import com.fiap.billing_service.domain.valueobject.PaymentStatus;
 import com.fiap.billing_service.infrastructure.adapter.out.persistence.entity.PaymentEntity;
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("PaymentMapper Tests")
@@ -55,7 +63,26 @@ class PaymentMapperTest {
     assertEquals("pix", entity.getPaymentMethod());
     assertEquals("qr_code_xyz", entity.getQrCode());
     assertEquals("qr_code_base64_abc", entity.getQrCodeBase64());
-    assertNotNull(entity.getCreatedAt());
+    assertEquals(payment.getCreatedAt().toEpochMilli(), entity.getCreatedAtEpoch());
+    assertEquals(payment.getProcessedAt().toEpochMilli(), entity.getProcessedAtEpoch());
+  }
+
+  @Test
+  @DisplayName("Should map timestamps to epoch millis independent of the JVM time zone")
+  void testToEntity_TimestampsAreEpochMillis() {
+    // Arrange
+    Instant created = Instant.parse("2024-03-10T01:30:00.123Z");
+    Clock clock = Clock.fixed(created, ZoneId.of("America/Sao_Paulo"));
+    Payment payment =
+        new Payment(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.ONE, clock);
+    payment.markAsApproved();
+
+    // Act
+    PaymentEntity entity = mapper.toEntity(payment);
+
+    // Assert
+    assertEquals(created.toEpochMilli(), entity.getCreatedAtEpoch());
+    assertEquals(created.toEpochMilli(), entity.getProcessedAtEpoch());
   }
 
   @Test
@@ -161,7 +188,7 @@ class PaymentMapperTest {
     assertNull(entity.getPaymentMethod());
     assertNull(entity.getQrCode());
     assertNull(entity.getQrCodeBase64());
-    assertNull(entity.getProcessedAt());
+    assertNull(entity.getProcessedAtEpoch());
     assertNull(entity.getErrorMessage());
   }
 
@@ -199,6 +226,112 @@ class PaymentMapperTest {
     assertEquals(customerId, entity.getCustomerId());
   }
 
+  @Test
+  @DisplayName("Should set openBucket for non-terminal payments")
+  void testToEntity_OpenPayment_SetsOpenBucket() {
+    // Arrange
+    UUID workOrderId = UUID.randomUUID();
+    Payment pending = new Payment(UUID.randomUUID(), workOrderId, UUID.randomUUID(), BigDecimal.TEN);
+    Payment processing =
+        new Payment(UUID.randomUUID(), workOrderId, UUID.randomUUID(), BigDecimal.TEN);
+    processing.markAsProcessing("ext", "order", "pix", "qr", "qr64");
+
+    // Act
+    PaymentEntity pendingEntity = mapper.toEntity(pending);
+    PaymentEntity processingEntity = mapper.toEntity(processing);
+
+    // Assert
+    assertEquals(PaymentEntity.openBucketFor(workOrderId), pendingEntity.getOpenBucket());
+    assertEquals(PaymentEntity.openBucketFor(workOrderId), processingEntity.getOpenBucket());
+    assertTrue(pendingEntity.getOpenBucket().startsWith("OPEN#"));
+  }
+
+  @Test
+  @DisplayName("Should not set openBucket for terminal payments")
+  void testToEntity_TerminalPayment_NoOpenBucket() {
+    // Arrange
+    Payment approved =
+        new Payment(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN);
+    approved.markAsApproved();
+    Payment rejected =
+        new Payment(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN);
+    rejected.markAsRejected("rejected");
+    Payment failed =
+        new Payment(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN);
+    failed.markAsFailed("failed");
+
+    // Act & Assert
+    assertNull(mapper.toEntity(approved).getOpenBucket());
+    assertNull(mapper.toEntity(rejected).getOpenBucket());
+    assertNull(mapper.toEntity(failed).getOpenBucket());
+  }
+
+  @Test
+  @DisplayName("Should set archiveBucket and archiveAtEpoch only for terminal payments")
+  void testToEntity_TerminalPayment_SetsArchiveDue() {
+    // Arrange
+    PaymentMapper retentionMapper = new PaymentMapper(Duration.ofDays(30), Clock.systemUTC());
+    UUID workOrderId = UUID.randomUUID();
+    Payment approved = new Payment(UUID.randomUUID(), workOrderId, UUID.randomUUID(), BigDecimal.TEN);
+    approved.markAsApproved();
+    Payment pending = new Payment(UUID.randomUUID(), workOrderId, UUID.randomUUID(), BigDecimal.TEN);
+
+    // Act
+    PaymentEntity approvedEntity = retentionMapper.toEntity(approved);
+    PaymentEntity pendingEntity = retentionMapper.toEntity(pending);
+
+    // Assert
+    assertEquals(
+        approvedEntity.getProcessedAtEpoch() / 1000 + Duration.ofDays(30).toSeconds(),
+        approvedEntity.getArchiveAtEpoch());
+    assertEquals(PaymentEntity.archiveBucketFor(workOrderId), approvedEntity.getArchiveBucket());
+    assertNull(pendingEntity.getArchiveAtEpoch());
+    assertNull(pendingEntity.getArchiveBucket());
+  }
+
+  @Test
+  @DisplayName("Should never put the TTL on a payment, so nothing expires while archival is off")
+  void testToEntity_TerminalPayment_HasNoTtl() {
+    // Arrange
+    Payment approved =
+        new Payment(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN);
+    approved.markAsApproved();
+    Payment failed =
+        new Payment(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.ONE);
+    failed.markAsFailed("gateway_error");
+
+    // Act & Assert
+    for (Payment payment : List.of(approved, failed)) {
+      assertNull(mapper.toEntity(payment).getExpiresAtEpoch());
+      assertFalse(mapper.toItem(payment).containsKey(PaymentEntity.Attributes.EXPIRES_AT_EPOCH));
+    }
+  }
+
+  @Test
+  @DisplayName("Should build tombstone without QR payloads or archiveBucket")
+  void testToTombstone_KeepsIdentityAndStatus() {
+    // Arrange
+    Payment approved =
+        new Payment(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN);
+    approved.markAsProcessing("ext-1", "order-1", "pix", "qr", "qr64");
+    approved.markAsApproved();
+    PaymentEntity stored = mapper.toEntity(approved);
+
+    // Act
+    PaymentEntity tombstone = mapper.toTombstone(stored, 12345L);
+
+    // Assert
+    assertEquals(stored.getWorkOrderId(), tombstone.getWorkOrderId());
+    assertEquals("APPROVED", tombstone.getStatus());
+    assertEquals("order-1", tombstone.getOrderPaymentId());
+    assertEquals(stored.getCreatedAtEpoch(), tombstone.getCreatedAtEpoch());
+    assertEquals(12345L, tombstone.getExpiresAtEpoch());
+    assertEquals(Boolean.TRUE, tombstone.getArchived());
+    assertNull(tombstone.getArchiveBucket());
+    assertNull(tombstone.getQrCode());
+    assertNull(tombstone.getQrCodeBase64());
+  }
+
   // ==================== toDomain() Tests ====================
 
   @Test
@@ -339,6 +472,7 @@ class PaymentMapperTest {
     entity.setCustomerId(UUID.randomUUID());
     entity.setAmount(new BigDecimal("100.00"));
     entity.setStatus("PENDING");
+    entity.setPaymentMethod(null);
 
     // Act
     Payment payment = mapper.toDomain(entity);
@@ -479,6 +613,72 @@ class PaymentMapperTest {
     assertEquals("Failure reason", payment.getErrorMessage());
   }
 
+  @Test
+  @DisplayName("Should keep stored timestamps in toDomain")
+  void testToDomain_PreservesStoredTimestamps() {
+    // Arrange
+    PaymentEntity entity = createEntityWithStatus("APPROVED");
+    entity.setCreatedAtEpoch(1_700_000_000_000L);
+    entity.setProcessedAtEpoch(1_700_000_005_000L);
+
+    // Act
+    Payment payment = mapper.toDomain(entity);
+
+    // Assert
+    assertEquals(Instant.ofEpochMilli(1_700_000_000_000L), payment.getCreatedAt());
+    assertEquals(Instant.ofEpochMilli(1_700_000_005_000L), payment.getProcessedAt());
+  }
+
+  // ==================== toItem() / fromItem() Tests ====================
+
+  @Test
+  @DisplayName("Should encode the same item as the Enhanced Client bean schema")
+  void testToItem_MatchesBeanSchema() {
+    // Arrange
+    TableSchema<PaymentEntity> schema = TableSchema.fromBean(PaymentEntity.class);
+    Payment approved =
+        new Payment(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("150.50"));
+    approved.markAsProcessing("ext_1", "order_1", "pix", "qr", "qr64");
+    approved.markAsApproved();
+    Payment pending =
+        new Payment(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN);
+    Payment rejected =
+        new Payment(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.ONE);
+    rejected.markAsRejected("cc_rejected");
+
+    // Act & Assert
+    for (Payment payment : List.of(approved, pending, rejected)) {
+      Map<String, AttributeValue> expected = schema.itemToMap(mapper.toEntity(payment), true);
+      assertEquals(expected, mapper.toItem(payment));
+    }
+  }
+
+  @Test
+  @DisplayName("Should round trip a payment through toItem and fromItem")
+  void testFromItem_RoundTrip() {
+    // Arrange
+    Payment payment =
+        new Payment(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("99.90"));
+    payment.markAsProcessing("ext_1", "order_1", "pix", "qr", "qr64");
+    payment.markAsRejected("cc_rejected");
+
+    // Act
+    Payment decoded = mapper.fromItem(mapper.toItem(payment));
+
+    // Assert
+    assertEquals(payment.getId(), decoded.getId());
+    assertEquals(payment.getWorkOrderId(), decoded.getWorkOrderId());
+    assertEquals(payment.getCustomerId(), decoded.getCustomerId());
+    assertEquals(payment.getAmount(), decoded.getAmount());
+    assertEquals(PaymentStatus.REJECTED, decoded.getStatus());
+    assertEquals("ext_1", decoded.getExternalPaymentId());
+    assertEquals("order_1", decoded.getOrderPaymentId());
+    assertEquals("qr64", decoded.getQrCodeBase64());
+    assertEquals("cc_rejected", decoded.getErrorMessage());
+    assertEquals(payment.getCreatedAt().toEpochMilli(), decoded.getCreatedAt().toEpochMilli());
+    assertEquals(payment.getProcessedAt().toEpochMilli(), decoded.getProcessedAt().toEpochMilli());
+  }
+
   // Helper method
   private PaymentEntity createEntityWithStatus(String status) {
     PaymentEntity entity = new PaymentEntity();
@@ -0,0 +1,34 @@
+package com.fiap.billing_service.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryMode;
+
+@DisplayName("AwsClientOverrides Tests")
+class AwsClientOverridesTest {
+
+  @Test
+  @DisplayName("Should apply retry mode, timeouts and a metric publisher per client")
+  void testForClient_AppliesRetryTimeoutsAndMetrics() {
+    // Arrange
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    AwsClientOverrides overrides = new AwsClientOverrides(RetryMode.ADAPTIVE, 4, registry);
+
+    // Act
+    ClientOverrideConfiguration config =
+        overrides.forClient("sqs", Duration.ofSeconds(60), Duration.ofSeconds(25));
+
+    // Assert
+    assertEquals(RetryMode.ADAPTIVE, config.retryPolicy().orElseThrow().retryMode());
+    assertEquals(4, config.retryPolicy().orElseThrow().numRetries());
+    assertEquals(Duration.ofSeconds(60), config.apiCallTimeout().orElseThrow());
+    assertEquals(Duration.ofSeconds(25), config.apiCallAttemptTimeout().orElseThrow());
+    assertEquals(1, config.metricPublishers().size());
+    assertNotNull(registry.find("aws.sdk.http.pool.leased").tag("client", "sqs").gauge());
+  }
+}
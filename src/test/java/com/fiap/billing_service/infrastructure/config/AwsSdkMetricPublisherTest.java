@@ -0,0 +1,85 @@
+package com.fiap.billing_service.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+@DisplayName("AwsSdkMetricPublisher Tests")
+class AwsSdkMetricPublisherTest {
+
+  private SimpleMeterRegistry registry;
+  private AwsSdkMetricPublisher publisher;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    publisher = new AwsSdkMetricPublisher(registry, "dynamodb");
+  }
+
+  private double gauge(String name) {
+    return registry.get(name).tag("client", "dynamodb").gauge().value();
+  }
+
+  @Test
+  @DisplayName("Should register every meter before the first call")
+  void testConstructor_PreRegistersMeters() {
+    // Assert
+    assertEquals(0, gauge("aws.sdk.http.pool.max"));
+    assertEquals(0, gauge("aws.sdk.http.pool.leased"));
+    assertEquals(0, gauge("aws.sdk.http.pool.available"));
+    assertEquals(0, gauge("aws.sdk.http.pool.pending"));
+    assertEquals(0, registry.get("aws.sdk.api.call").timer().count());
+    assertEquals(0, registry.get("aws.sdk.api.retries").counter().count());
+  }
+
+  @Test
+  @DisplayName("Should publish pool metrics reported by the nested HTTP collection")
+  void testPublish_NestedHttpMetrics_UpdatesGauges() {
+    // Arrange
+    MetricCollector call = MetricCollector.create("ApiCall");
+    call.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(12));
+    call.reportMetric(CoreMetric.RETRY_COUNT, 2);
+    MetricCollector attempt = call.createChild("ApiCallAttempt");
+    MetricCollector http = attempt.createChild("HttpClient");
+    http.reportMetric(HttpMetric.MAX_CONCURRENCY, 100);
+    http.reportMetric(HttpMetric.LEASED_CONCURRENCY, 7);
+    http.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, 3);
+    http.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, 1);
+
+    // Act
+    publisher.publish(call.collect());
+
+    // Assert
+    assertEquals(100, gauge("aws.sdk.http.pool.max"));
+    assertEquals(7, gauge("aws.sdk.http.pool.leased"));
+    assertEquals(3, gauge("aws.sdk.http.pool.available"));
+    assertEquals(1, gauge("aws.sdk.http.pool.pending"));
+    assertEquals(1, registry.get("aws.sdk.api.call").timer().count());
+    assertEquals(12, registry.get("aws.sdk.api.call").timer().totalTime(TimeUnit.MILLISECONDS));
+    assertEquals(2, registry.get("aws.sdk.api.retries").counter().count());
+  }
+
+  @Test
+  @DisplayName("Should keep previous gauge values when a call reports no pool metrics")
+  void testPublish_MissingMetrics_KeepsPreviousValues() {
+    // Arrange
+    MetricCollector first = MetricCollector.create("ApiCall");
+    first.reportMetric(HttpMetric.LEASED_CONCURRENCY, 5);
+    publisher.publish(first.collect());
+
+    // Act
+    publisher.publish(MetricCollector.create("ApiCall").collect());
+
+    // Assert
+    assertEquals(5, gauge("aws.sdk.http.pool.leased"));
+    assertEquals(0, registry.get("aws.sdk.api.retries").counter().count());
+  }
+}
@@ -0,0 +1,62 @@
+package com.fiap.billing_service.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.dto.PaymentRequestDto;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.dto.MercadoPagoOrderRequest;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.dto.MercadoPagoOrderResponse;
+import com.fiap.billing_service.infrastructure.config.logging.RateSamplingTurboFilter;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+@DisplayName("NativeImageConfig Tests")
+class NativeImageConfigTest {
+
+  private RuntimeHints hints;
+
+  @BeforeEach
+  void setUp() {
+    hints = new RuntimeHints();
+    new NativeImageConfig.BillingRuntimeHints()
+        .registerHints(hints, getClass().getClassLoader());
+  }
+
+  @Test
+  @DisplayName("Should register Jackson binding hints for the message and gateway payloads")
+  void testHints_JsonPayloads() {
+    assertThat(RuntimeHintsPredicates.reflection().onType(PaymentRequestDto.class))
+        .accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(MercadoPagoOrderRequest.class))
+        .accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(MercadoPagoOrderResponse.class))
+        .accepts(hints);
+    // Nested types are reached through the property types
+    assertThat(RuntimeHintsPredicates.reflection().onType(MercadoPagoOrderRequest.Payer.class))
+        .accepts(hints);
+  }
+
+  @Test
+  @DisplayName("Should include the Jackson module service files")
+  void testHints_JacksonModuleServices() {
+    assertThat(
+            RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/com.fasterxml.jackson.databind.Module"))
+        .accepts(hints);
+  }
+
+  @Test
+  @DisplayName("Should allow logback to instantiate the sampling filter and JSON encoder")
+  void testHints_LoggingClasses() {
+    assertThat(
+            RuntimeHintsPredicates.reflection()
+                .onType(RateSamplingTurboFilter.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS))
+        .accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(LogstashEncoder.class)).accepts(hints);
+  }
+}
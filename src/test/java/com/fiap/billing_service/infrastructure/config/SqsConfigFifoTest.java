@@ -0,0 +1,48 @@
+package com.fiap.billing_service.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import io.awspring.cloud.sqs.listener.FifoSqsComponentFactory;
+import io.awspring.cloud.sqs.listener.SqsContainerOptions;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SqsConfig FIFO Tests")
+class SqsConfigFifoTest {
+
+  private static final String FIFO_QUEUE = "payment-request-queue.fifo";
+
+  @Mock private SqsAsyncClient sqsAsyncClient;
+
+  @Test
+  @DisplayName("Should request MessageGroupId so a .fifo request queue passes FIFO validation")
+  void testListenerFactory_FifoQueue_PassesFifoValidation() {
+    // Arrange
+    SqsMessageListenerContainerFactory<Object> factory =
+        new SqsConfig()
+            .defaultSqsListenerContainerFactory(
+                sqsAsyncClient, Duration.ofSeconds(25), Duration.ofSeconds(5), true);
+    FifoSqsComponentFactory<Object> fifo = new FifoSqsComponentFactory<>();
+
+    // Act
+    SqsContainerOptions options = factory.createContainer(FIFO_QUEUE).getContainerOptions();
+
+    // Assert
+    assertThat(options.getMessageSystemAttributeNames())
+        .contains(
+            MessageSystemAttributeName.SENT_TIMESTAMP.toString(),
+            MessageSystemAttributeName.MESSAGE_GROUP_ID.toString());
+    assertThat(fifo.supports(List.of(FIFO_QUEUE), options)).isTrue();
+    assertThatCode(() -> fifo.createAcknowledgementProcessor(options)).doesNotThrowAnyException();
+  }
+}
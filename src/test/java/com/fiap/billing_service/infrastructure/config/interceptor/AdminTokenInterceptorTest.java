@@ -0,0 +1,58 @@
+package com.fiap.billing_service.infrastructure.config.interceptor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdminTokenInterceptor Tests")
+class AdminTokenInterceptorTest {
+
+  @Mock private HttpServletRequest request;
+
+  @Mock private HttpServletResponse response;
+
+  @Test
+  @DisplayName("Should let requests with the configured token through")
+  void testPreHandle_ValidToken_Allows() {
+    // Arrange
+    AdminTokenInterceptor interceptor = new AdminTokenInterceptor("s3cret");
+    when(request.getHeader("X-Admin-Token")).thenReturn("s3cret");
+
+    // Act & Assert
+    assertThat(interceptor.preHandle(request, response, null)).isTrue();
+    verifyNoInteractions(response);
+  }
+
+  @Test
+  @DisplayName("Should reject requests with a missing or wrong token with 401")
+  void testPreHandle_InvalidToken_Unauthorized() {
+    // Arrange
+    AdminTokenInterceptor interceptor = new AdminTokenInterceptor("s3cret");
+    when(request.getHeader("X-Admin-Token")).thenReturn(null, "other");
+
+    // Act & Assert
+    assertThat(interceptor.preHandle(request, response, null)).isFalse();
+    assertThat(interceptor.preHandle(request, response, null)).isFalse();
+    verify(response, times(2)).setStatus(401);
+  }
+
+  @Test
+  @DisplayName("Should refuse every request with 403 when no token is configured")
+  void testPreHandle_NoTokenConfigured_Forbidden() {
+    // Arrange
+    AdminTokenInterceptor interceptor = new AdminTokenInterceptor("");
+
+    // Act & Assert
+    assertThat(interceptor.preHandle(request, response, null)).isFalse();
+    verify(response).setStatus(403);
+    verify(request, never()).getHeader("X-Admin-Token");
+  }
+}
@@ -3,8 +3,11 @@ package com.fiap.billing_service.infrastructure.config.interceptor;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.fiap.billing_service.infrastructure.adapter.out.id.UuidV7IdGenerator;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.Clock;
+import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,7 +30,7 @@ class CorrelationIdInterceptorTest {
 
   @BeforeEach
   void setUp() {
-    interceptor = new CorrelationIdInterceptor();
+    interceptor = new CorrelationIdInterceptor(new UuidV7IdGenerator(Clock.systemUTC()));
     MDC.clear();
   }
 
@@ -52,6 +55,22 @@ class CorrelationIdInterceptorTest {
     verify(response).setHeader("X-Correlation-Id", MDC.get("correlationId"));
   }
 
+  @Test
+  @DisplayName("Should mint the correlation ID with the injected generator")
+  void testPreHandle_NoCorrelationIdHeader_UsesIdGenerator() {
+    // Arrange
+    UUID minted = UUID.fromString("019c0000-0000-7000-8000-000000000001");
+    interceptor = new CorrelationIdInterceptor(() -> minted);
+    when(request.getHeader("X-Correlation-Id")).thenReturn(null);
+
+    // Act
+    interceptor.preHandle(request, response, null);
+
+    // Assert
+    assertThat(MDC.get("correlationId")).isEqualTo(minted.toString());
+    verify(response).setHeader("X-Correlation-Id", minted.toString());
+  }
+
   @Test
   @DisplayName("Should use provided correlation ID from request header")
   void testPreHandle_WithCorrelationIdHeader_UsesProvided() {
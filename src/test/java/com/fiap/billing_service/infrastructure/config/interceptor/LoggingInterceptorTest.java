@@ -3,8 +3,10 @@ package com.fiap.billing_service.infrastructure.config.interceptor;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.fiap.billing_service.infrastructure.adapter.out.id.UuidV7IdGenerator;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.Clock;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,7 +37,7 @@ class LoggingInterceptorTest {
 
   @BeforeEach
   void setUp() {
-    interceptor = new LoggingInterceptor();
+    interceptor = new LoggingInterceptor(new UuidV7IdGenerator(Clock.systemUTC()));
     MDC.clear();
   }
 
@@ -0,0 +1,91 @@
+package com.fiap.billing_service.infrastructure.config.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RateSamplingTurboFilter Tests")
+class RateSamplingTurboFilterTest {
+
+  private static final String SAMPLED = "com.example.Listener";
+
+  private final AtomicLong nanoTime = new AtomicLong(5_000_000_000L);
+  private LoggerContext context;
+  private Logger sampled;
+  private RateSamplingTurboFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    context = new LoggerContext();
+    sampled = context.getLogger(SAMPLED);
+    sampled.setLevel(Level.INFO);
+    filter = new RateSamplingTurboFilter(nanoTime::get);
+    filter.setContext(context);
+    filter.addLogger(SAMPLED);
+    filter.setMaxPerSecond(3);
+    filter.start();
+  }
+
+  private FilterReply info(Logger logger) {
+    return filter.decide(null, logger, Level.INFO, "Payment processed: {}", null, null);
+  }
+
+  @Test
+  @DisplayName("Should deny INFO events beyond the per-second budget and allow them next second")
+  void testDecide_BudgetExhausted_DeniesUntilNextSecond() {
+    // Act
+    FilterReply first = info(sampled);
+    info(sampled);
+    FilterReply third = info(sampled);
+    FilterReply fourth = info(sampled);
+    nanoTime.addAndGet(1_000_000_000L);
+    FilterReply nextSecond = info(sampled);
+
+    // Assert
+    assertEquals(FilterReply.NEUTRAL, first);
+    assertEquals(FilterReply.NEUTRAL, third);
+    assertEquals(FilterReply.DENY, fourth);
+    assertEquals(FilterReply.NEUTRAL, nextSecond);
+  }
+
+  @Test
+  @DisplayName("Should never sample warnings, errors, enabled checks or other loggers")
+  void testDecide_NotSampled_Neutral() {
+    // Arrange
+    for (int i = 0; i < 3; i++) {
+      info(sampled);
+    }
+    Logger other = context.getLogger("com.example.Other");
+
+    // Act / Assert
+    assertEquals(FilterReply.DENY, info(sampled));
+    assertEquals(
+        FilterReply.NEUTRAL, filter.decide(null, sampled, Level.WARN, "Retrying", null, null));
+    assertEquals(
+        FilterReply.NEUTRAL,
+        filter.decide(null, sampled, Level.ERROR, "Failed", null, new RuntimeException()));
+    assertEquals(FilterReply.NEUTRAL, filter.decide(null, sampled, Level.INFO, null, null, null));
+    assertEquals(FilterReply.NEUTRAL, info(other));
+  }
+
+  @Test
+  @DisplayName("Should not spend the budget while the logger is above INFO")
+  void testDecide_InfoDisabled_BudgetKept() {
+    // Arrange
+    sampled.setLevel(Level.WARN);
+    for (int i = 0; i < 10; i++) {
+      info(sampled);
+    }
+    sampled.setLevel(Level.INFO);
+
+    // Act / Assert
+    assertEquals(FilterReply.NEUTRAL, info(sampled));
+  }
+}
@@ -0,0 +1,62 @@
+package com.fiap.billing_service.infrastructure.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+@DisplayName("MessageContext Tests")
+class MessageContextTest {
+
+  @BeforeEach
+  @AfterEach
+  void clearMdc() {
+    MDC.clear();
+  }
+
+  @Test
+  @DisplayName("Should expose the correlation id while open and remove it on close")
+  void testOpen_SetsAndRemovesCorrelationId() {
+    // Act
+    String inside;
+    try (MessageContext ignored = MessageContext.open("corr-1")) {
+      inside = MessageContext.correlationId();
+    }
+
+    // Assert
+    assertThat(inside).isEqualTo("corr-1");
+    assertThat(MessageContext.correlationId()).isNull();
+    assertThat(MDC.get(MessageContext.CORRELATION_ID)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should restore the enclosing correlation id when a nested context closes")
+  void testOpen_Nested_RestoresPreviousId() {
+    // Arrange
+    MDC.put(MessageContext.CORRELATION_ID, "request-id");
+
+    // Act
+    try (MessageContext ignored = MessageContext.open("message-id")) {
+      assertThat(MessageContext.correlationId()).isEqualTo("message-id");
+    }
+
+    // Assert
+    assertThat(MessageContext.correlationId()).isEqualTo("request-id");
+  }
+
+  @Test
+  @DisplayName("Should ignore tags when no tracer has an active span")
+  void testTag_NoActiveSpan_DoesNothing() {
+    // Act
+    try (MessageContext ignored = MessageContext.open("corr-2")) {
+      MessageContext.tag("payment.work_order_id", "wo-1");
+      MessageContext.tag("payment.customer_id", null);
+
+      // Assert
+      assertThat(MessageContext.correlationId()).isEqualTo("corr-2");
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.fiap.billing_service.infrastructure.health;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.PaymentQueueListener;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.GatewayCircuit;
+import io.awspring.cloud.sqs.listener.MessageListenerContainer;
+import io.awspring.cloud.sqs.listener.MessageListenerContainerRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DependencyHealthRefresher Tests")
+class DependencyHealthRefresherTest {
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private ApplicationAvailability availability;
+  @Mock private ObjectProvider<MessageListenerContainerRegistry> registryProvider;
+  @Mock private MessageListenerContainerRegistry registry;
+  @Mock private MessageListenerContainer<Object> container;
+
+  private final AtomicReference<Health> tableHealth = new AtomicReference<>(Health.up().build());
+  private GatewayCircuit gatewayCircuit;
+  private DependencyHealthRefresher refresher;
+
+  @BeforeEach
+  void setUp() {
+    CachedHealthIndicator table =
+        new CachedHealthIndicator() {
+          @Override
+          protected Health check() {
+            return tableHealth.get();
+          }
+        };
+    gatewayCircuit = new GatewayCircuit(1, Duration.ofMinutes(1), Clock.systemUTC());
+    refresher =
+        new DependencyHealthRefresher(
+            List.of(table),
+            new GatewayCircuitHealthIndicator(gatewayCircuit),
+            eventPublisher,
+            availability,
+            registryProvider);
+    lenient().when(registryProvider.getIfAvailable()).thenReturn(registry);
+    lenient()
+        .doReturn(container)
+        .when(registry)
+        .getContainerById(PaymentQueueListener.LISTENER_ID);
+  }
+
+  @AfterEach
+  void tearDown() {
+    refresher.shutdown();
+  }
+
+  @Test
+  @DisplayName("Should refuse traffic and pause the listener when a dependency is DOWN")
+  void testRefresh_DependencyDown_RefusesAndPauses() {
+    // Arrange
+    tableHealth.set(Health.down().build());
+    when(availability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
+    when(container.isRunning()).thenReturn(true);
+
+    // Act
+    refresher.refresh().join();
+
+    // Assert
+    ArgumentCaptor<AvailabilityChangeEvent<?>> event =
+        ArgumentCaptor.forClass(AvailabilityChangeEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertEquals(ReadinessState.REFUSING_TRAFFIC, event.getValue().getState());
+    verify(container).stop();
+    assertFalse(refresher.isDependenciesReady());
+  }
+
+  @Test
+  @DisplayName("Should accept traffic and resume the listener it paused once dependencies recover")
+  void testRefresh_Recovered_AcceptsAndResumes() {
+    // Arrange
+    tableHealth.set(Health.down().build());
+    when(availability.getReadinessState())
+        .thenReturn(ReadinessState.ACCEPTING_TRAFFIC, ReadinessState.REFUSING_TRAFFIC);
+    when(container.isRunning()).thenReturn(true);
+    refresher.refresh().join();
+
+    // Act
+    tableHealth.set(Health.up().build());
+    refresher.refresh().join();
+
+    // Assert
+    verify(eventPublisher, times(2)).publishEvent(any(AvailabilityChangeEvent.class));
+    verify(container).start();
+    assertTrue(refresher.isDependenciesReady());
+  }
+
+  @Test
+  @DisplayName("Should treat an open gateway circuit as not ready")
+  void testRefresh_GatewayCircuitOpen_NotReady() {
+    // Arrange
+    gatewayCircuit.recordFailure();
+    when(availability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
+    when(container.isRunning()).thenReturn(false);
+
+    // Act
+    refresher.refresh().join();
+
+    // Assert
+    assertFalse(refresher.isDependenciesReady());
+    verify(container, never()).stop();
+  }
+
+  @Test
+  @DisplayName("Should not start a listener it did not pause")
+  void testRefresh_Healthy_DoesNotStartForeignStoppedListener() {
+    // Arrange
+    when(availability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
+
+    // Act
+    refresher.refresh().join();
+
+    // Assert
+    verifyNoInteractions(eventPublisher);
+    verify(container, never()).start();
+  }
+
+  @Test
+  @DisplayName("Should leave readiness alone once suspended")
+  void testRefresh_Suspended_NoChanges() {
+    // Arrange
+    tableHealth.set(Health.down().build());
+    refresher.suspend();
+
+    // Act
+    refresher.refresh().join();
+
+    // Assert
+    verifyNoInteractions(eventPublisher, registry);
+  }
+}
@@ -0,0 +1,35 @@
+package com.fiap.billing_service.infrastructure.health;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fiap.billing_service.infrastructure.adapter.out.payment.GatewayCircuit;
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.Status;
+
+@DisplayName("GatewayCircuitHealthIndicator Tests")
+class GatewayCircuitHealthIndicatorTest {
+
+  @Test
+  @DisplayName("Should be UP while closed and OUT_OF_SERVICE while open")
+  void testHealth_FollowsCircuitState() {
+    // Arrange
+    GatewayCircuit circuit = new GatewayCircuit(2, Duration.ofMinutes(1), Clock.systemUTC());
+    GatewayCircuitHealthIndicator indicator = new GatewayCircuitHealthIndicator(circuit);
+
+    // Act
+    Health closed = indicator.health();
+    circuit.recordFailure();
+    circuit.recordFailure();
+    Health open = indicator.health();
+
+    // Assert
+    assertEquals(Status.UP, closed.getStatus());
+    assertEquals("CLOSED", closed.getDetails().get("circuit"));
+    assertEquals(Status.OUT_OF_SERVICE, open.getStatus());
+    assertEquals(2, open.getDetails().get("consecutiveFailures"));
+  }
+}
@@ -0,0 +1,78 @@
+package com.fiap.billing_service.infrastructure.health;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.health.contributor.Status;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.QueueDoesNotExistException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentQueuesHealthIndicator Tests")
+class PaymentQueuesHealthIndicatorTest {
+
+  @Mock private SqsClient sqsClient;
+
+  private PaymentQueuesHealthIndicator indicator;
+
+  @BeforeEach
+  void setUp() {
+    indicator = new PaymentQueuesHealthIndicator(sqsClient, "request", "success", "failure");
+  }
+
+  private void stubUrl(String queueName) {
+    when(sqsClient.getQueueUrl(GetQueueUrlRequest.builder().queueName(queueName).build()))
+        .thenReturn(GetQueueUrlResponse.builder().queueUrl("https://sqs/" + queueName).build());
+  }
+
+  @Test
+  @DisplayName("Should be UP when every queue answers, resolving URLs only once")
+  void testRefresh_AllQueuesUp() {
+    // Arrange
+    stubUrl("request");
+    stubUrl("success");
+    stubUrl("failure");
+    when(sqsClient.getQueueAttributes(any(GetQueueAttributesRequest.class)))
+        .thenReturn(GetQueueAttributesResponse.builder().build());
+
+    // Act
+    indicator.refresh();
+    indicator.refresh();
+
+    // Assert
+    assertEquals(Status.UP, indicator.health().getStatus());
+    verify(sqsClient, times(3)).getQueueUrl(any(GetQueueUrlRequest.class));
+    verify(sqsClient, times(6)).getQueueAttributes(any(GetQueueAttributesRequest.class));
+  }
+
+  @Test
+  @DisplayName("Should be DOWN with details when one queue is missing")
+  void testRefresh_MissingQueue_Down() {
+    // Arrange
+    stubUrl("request");
+    stubUrl("failure");
+    when(sqsClient.getQueueUrl(GetQueueUrlRequest.builder().queueName("success").build()))
+        .thenThrow(QueueDoesNotExistException.builder().message("no queue").build());
+    when(sqsClient.getQueueAttributes(any(GetQueueAttributesRequest.class)))
+        .thenReturn(GetQueueAttributesResponse.builder().build());
+
+    // Act
+    indicator.refresh();
+
+    // Assert
+    assertEquals(Status.DOWN, indicator.health().getStatus());
+    assertEquals("UP", indicator.health().getDetails().get("request"));
+    assertTrue(indicator.health().getDetails().get("success").toString().startsWith("DOWN"));
+  }
+}
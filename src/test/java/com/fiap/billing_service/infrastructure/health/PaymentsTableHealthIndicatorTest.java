@@ -0,0 +1,94 @@
+package com.fiap.billing_service.infrastructure.health;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.health.contributor.Status;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+import software.amazon.awssdk.services.dynamodb.model.TableStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentsTableHealthIndicator Tests")
+class PaymentsTableHealthIndicatorTest {
+
+  @Mock private DynamoDbClient dynamoDbClient;
+
+  private PaymentsTableHealthIndicator indicator;
+
+  @BeforeEach
+  void setUp() {
+    indicator = new PaymentsTableHealthIndicator(dynamoDbClient, "payments");
+  }
+
+  private void stubStatus(TableStatus status) {
+    when(dynamoDbClient.describeTable(any(DescribeTableRequest.class)))
+        .thenReturn(
+            DescribeTableResponse.builder()
+                .table(TableDescription.builder().tableName("payments").tableStatus(status).build())
+                .build());
+  }
+
+  @Test
+  @DisplayName("Should be UNKNOWN before the first refresh without calling DynamoDB")
+  void testHealth_BeforeRefresh_Unknown() {
+    // Assert
+    assertEquals(Status.UNKNOWN, indicator.health().getStatus());
+    verifyNoInteractions(dynamoDbClient);
+  }
+
+  @Test
+  @DisplayName("Should be UP for an ACTIVE table and serve the cached result")
+  void testRefresh_ActiveTable_UpAndCached() {
+    // Arrange
+    stubStatus(TableStatus.ACTIVE);
+
+    // Act
+    indicator.refresh();
+    indicator.health();
+    indicator.health();
+
+    // Assert
+    assertEquals(Status.UP, indicator.health().getStatus());
+    assertEquals("ACTIVE", indicator.health().getDetails().get("tableStatus"));
+    verify(dynamoDbClient, times(1)).describeTable(any(DescribeTableRequest.class));
+  }
+
+  @Test
+  @DisplayName("Should be DOWN while the table is being deleted")
+  void testRefresh_DeletingTable_Down() {
+    // Arrange
+    stubStatus(TableStatus.DELETING);
+
+    // Act
+    indicator.refresh();
+
+    // Assert
+    assertEquals(Status.DOWN, indicator.health().getStatus());
+  }
+
+  @Test
+  @DisplayName("Should be DOWN when DescribeTable fails")
+  void testRefresh_DescribeFails_Down() {
+    // Arrange
+    when(dynamoDbClient.describeTable(any(DescribeTableRequest.class)))
+        .thenThrow(ResourceNotFoundException.builder().message("missing").build());
+
+    // Act
+    indicator.refresh();
+
+    // Assert
+    assertEquals(Status.DOWN, indicator.health().getStatus());
+    assertTrue(indicator.health().getDetails().get("error").toString().contains("missing"));
+  }
+}
@@ -0,0 +1,174 @@
+package com.fiap.billing_service.infrastructure.startup;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.PaymentListenerDrain;
+import com.fiap.billing_service.infrastructure.adapter.in.messaging.PaymentQueueListener;
+import com.fiap.billing_service.infrastructure.adapter.out.payment.MercadoPagoEndpoints;
+import io.awspring.cloud.sqs.listener.MessageListenerContainer;
+import io.awspring.cloud.sqs.listener.MessageListenerContainerRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectionWarmup Tests")
+class ConnectionWarmupTest {
+
+  @Mock private AwsCredentialsProvider awsCredentialsProvider;
+  @Mock private DynamoDbClient dynamoDbClient;
+  @Mock private SqsClient sqsClient;
+  @Mock private SqsAsyncClient sqsAsyncClient;
+  @Mock private RestTemplate restTemplate;
+  @Mock private ObjectProvider<MessageListenerContainerRegistry> registryProvider;
+  @Mock private MessageListenerContainerRegistry registry;
+  @Mock private MessageListenerContainer<Object> container;
+  @Mock private PaymentListenerDrain drain;
+
+  @BeforeEach
+  void setUp() {
+    lenient()
+        .when(awsCredentialsProvider.resolveCredentials())
+        .thenReturn(AwsBasicCredentials.create("key", "secret"));
+    lenient()
+        .when(sqsAsyncClient.getQueueUrl(any(GetQueueUrlRequest.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                GetQueueUrlResponse.builder().queueUrl("https://sqs/request").build()));
+    lenient().when(registryProvider.getIfAvailable()).thenReturn(registry);
+    lenient()
+        .doReturn(container)
+        .when(registry)
+        .getContainerById(PaymentQueueListener.LISTENER_ID);
+  }
+
+  private ConnectionWarmup warmup(Duration timeout) {
+    return warmup(timeout, "mercadopago");
+  }
+
+  private ConnectionWarmup warmup(Duration timeout, String gatewayMode) {
+    return new ConnectionWarmup(
+        awsCredentialsProvider,
+        dynamoDbClient,
+        sqsClient,
+        sqsAsyncClient,
+        restTemplate,
+        registryProvider,
+        drain,
+        new MercadoPagoEndpoints("https://gateway.test", "/v1/orders"),
+        "payments",
+        "request",
+        "success",
+        gatewayMode,
+        timeout);
+  }
+
+  @Test
+  @DisplayName("Should call every dependency once")
+  void testWarmUp_TouchesEveryDependency() {
+    // Act
+    warmup(Duration.ofSeconds(5)).warmUp().join();
+
+    // Assert
+    verify(awsCredentialsProvider).resolveCredentials();
+    verify(dynamoDbClient)
+        .describeTable(DescribeTableRequest.builder().tableName("payments").build());
+    verify(sqsClient).getQueueUrl(GetQueueUrlRequest.builder().queueName("success").build());
+    verify(sqsAsyncClient).getQueueUrl(GetQueueUrlRequest.builder().queueName("request").build());
+    verify(restTemplate).headForHeaders(URI.create("https://gateway.test"));
+  }
+
+  @Test
+  @DisplayName("Should not call Mercado Pago when the gateway is simulated")
+  void testWarmUp_SimulatedGateway_SkipsMercadoPago() {
+    // Act
+    warmup(Duration.ofSeconds(5), "simulator").warmUp().join();
+
+    // Assert
+    verify(dynamoDbClient).describeTable(any(DescribeTableRequest.class));
+    verifyNoInteractions(restTemplate);
+  }
+
+  @Test
+  @DisplayName("Should complete normally when calls fail or the gateway answers with an error")
+  void testWarmUp_FailuresAreIgnored() {
+    // Arrange
+    when(dynamoDbClient.describeTable(any(DescribeTableRequest.class)))
+        .thenThrow(ResourceNotFoundException.builder().message("missing").build());
+    when(restTemplate.headForHeaders(URI.create("https://gateway.test")))
+        .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+    // Act & Assert
+    assertDoesNotThrow(() -> warmup(Duration.ofSeconds(5)).warmUp().join());
+    verify(sqsClient).getQueueUrl(any(GetQueueUrlRequest.class));
+  }
+
+  @Test
+  @DisplayName("Should stop waiting for a hanging call after the timeout")
+  void testWarmUp_HangingCall_CompletesAfterTimeout() throws Exception {
+    // Arrange
+    CountDownLatch release = new CountDownLatch(1);
+    when(restTemplate.headForHeaders(URI.create("https://gateway.test")))
+        .thenAnswer(
+            invocation -> {
+              release.await(5, TimeUnit.SECONDS);
+              return null;
+            });
+
+    // Act
+    CompletableFuture<Void> result = warmup(Duration.ofMillis(100)).warmUp();
+
+    // Assert
+    assertDoesNotThrow(() -> result.get(2, TimeUnit.SECONDS));
+    release.countDown();
+  }
+
+  @Test
+  @DisplayName("Should start the stopped listener container")
+  void testStartListener_StartsContainer() {
+    // Arrange
+    when(container.isRunning()).thenReturn(false);
+
+    // Act
+    warmup(Duration.ofSeconds(5)).startListener();
+
+    // Assert
+    verify(container).start();
+  }
+
+  @Test
+  @DisplayName("Should not start the listener once the drain started")
+  void testStartListener_Draining_DoesNotStart() {
+    // Arrange
+    when(drain.isDraining()).thenReturn(true);
+
+    // Act
+    warmup(Duration.ofSeconds(5)).startListener();
+
+    // Assert
+    verifyNoInteractions(registry);
+  }
+}
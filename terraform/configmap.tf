@@ -17,6 +17,8 @@ resource "kubernetes_config_map" "billing" {
     
     # SQS Queue (se configurado)
     #SQS_QUEUE_URL = var.sqs_queue_url
+    PAYMENT_REQUEST_QUEUE = var.payment_request_queue_name
+    AWS_SQS_DRAIN_TIMEOUT = "PT${var.sqs_drain_timeout_seconds}S"
     
     # Mercado Pago Public Key (não sensível)
     MERCADOPAGO_PUBLIC_KEY = var.mercadopago_public_key
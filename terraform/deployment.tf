@@ -45,6 +45,9 @@ resource "kubernetes_deployment" "billing" {
       }
 
       spec {
+        # SIGTERM drains the SQS listener (AWS_SQS_DRAIN_TIMEOUT) before SIGKILL
+        termination_grace_period_seconds = var.termination_grace_period_seconds
+
         # Volume for Datadog Java Agent
         volume {
           name = "dd-java-agent"
@@ -142,16 +145,16 @@ resource "kubernetes_deployment" "billing" {
             }
           }
 
-          # Startup Probe (Spring Boot demora para iniciar)
+          # Startup Probe (imagem com AppCDS inicia mais rápido; mesmo limite total de 5 minutos)
           startup_probe {
             http_get {
               path = "/actuator/health/liveness"
               port = var.app_port
             }
-            initial_delay_seconds = 60
-            period_seconds        = 10
+            initial_delay_seconds = 10
+            period_seconds        = 5
             timeout_seconds       = 5
-            failure_threshold     = 30
+            failure_threshold     = 58
           }
 
           # Liveness Probe
@@ -172,7 +175,7 @@ resource "kubernetes_deployment" "billing" {
               path = "/actuator/health/readiness"
               port = var.app_port
             }
-            initial_delay_seconds = 30
+            initial_delay_seconds = 5
             period_seconds        = 10
             timeout_seconds       = 5
             failure_threshold     = 3
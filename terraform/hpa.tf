@@ -40,6 +40,35 @@ resource "kubernetes_horizontal_pod_autoscaler_v2" "billing" {
       }
     }
 
+    # Backlog per replica: the listener is I/O bound, so CPU does not rise while the request
+    # queue backs up. AverageValue divides the queue depth sampled by the pods
+    # (SqsQueueBacklogMonitor, StatsD payment.sqs.queue.messages.visible) by the replica count.
+    # Served by the Datadog Cluster Agent external metrics provider.
+    dynamic "metric" {
+      for_each = var.hpa_backlog_enabled ? [1] : []
+
+      content {
+        type = "External"
+
+        external {
+          metric {
+            name = "payment.sqs.queue.messages.visible"
+
+            selector {
+              match_labels = {
+                queue = var.payment_request_queue_name
+              }
+            }
+          }
+
+          target {
+            type          = "AverageValue"
+            average_value = tostring(var.hpa_backlog_per_replica)
+          }
+        }
+      }
+    }
+
     behavior {
       scale_down {
         stabilization_window_seconds = 300
@@ -14,6 +14,9 @@ resource "kubernetes_secret" "billing" {
     
     # Mercado Pago
     MERCADOPAGO_ACCESS_TOKEN = var.mercadopago_access_token
+
+    # Admin endpoints (X-Admin-Token)
+    PAYMENT_ADMIN_TOKEN = var.payment_admin_token
   }
 
   type = "Opaque"
@@ -84,6 +84,13 @@ variable "mercadopago_access_token" {
   sensitive   = true
 }
 
+variable "payment_admin_token" {
+  description = "Shared token for the /api/v1/admin endpoints (empty disables them)"
+  type        = string
+  sensitive   = true
+  default     = ""
+}
+
 variable "mercadopago_public_key" {
   description = "Mercado Pago Public Key"
   type        = string
@@ -133,6 +140,36 @@ variable "hpa_cpu_target" {
   default     = 70
 }
 
+variable "hpa_backlog_enabled" {
+  description = "Scale on payment request queue backlog (requires the Datadog Cluster Agent external metrics provider)"
+  type        = bool
+  default     = true
+}
+
+variable "hpa_backlog_per_replica" {
+  description = "Target visible messages in the payment request queue per replica"
+  type        = number
+  default     = 10
+}
+
+variable "payment_request_queue_name" {
+  description = "Payment request SQS queue name (backlog metric selector)"
+  type        = string
+  default     = "payment-request-queue"
+}
+
+variable "sqs_drain_timeout_seconds" {
+  description = "Seconds the SQS listener waits for in-flight payments on shutdown"
+  type        = number
+  default     = 25
+}
+
+variable "termination_grace_period_seconds" {
+  description = "Pod termination grace period; must exceed the SQS drain timeout plus the acknowledgement flush (5s) and context shutdown"
+  type        = number
+  default     = 60
+}
+
 # DATADOG
 variable "datadog_agent_host" {
   description = "Hostname do Datadog Agent no cluster (ex.: datadog.datadog-agent.svc.cluster.local)"